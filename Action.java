@@ -0,0 +1,187 @@
+/**
+ * Action class
+ * 
+ * A move chosen by a player, ready to be applied by the GameEngine. Captures and square sabotages carry the
+ * coordinates of the target square; the other actions have no coordinates.
+ * 
+ * Actions cannot be changed once made, so the factory methods hand out shared instances for the actions without
+ * coordinates and for squares on grids of up to CACHED_GRID_SIZE, and a search listing actions at every node does
+ * not allocate them.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see ActionType
+ * @see GameEngine
+ * @see Strategy
+ */
+
+public class Action
+{
+    public static final int CACHED_GRID_SIZE = 16;
+
+    private static final Action DECREMENT_ATTACK = new Action(ActionType.DECREMENT_ATTACK, 0, 0);
+    private static final Action DECREMENT_DEFENCE = new Action(ActionType.DECREMENT_DEFENCE, 0, 0);
+    private static final Action STRIKE = new Action(ActionType.STRIKE, 0, 0);
+    private static final Action[] CAPTURES = createSquareActions(ActionType.CAPTURE);
+    private static final Action[] SQUARE_SABOTAGES = createSquareActions(ActionType.SABOTAGE_SQUARE);
+
+    private final ActionType type;
+    private final int xCoordinate;
+    private final int yCoordinate;
+
+    /**
+     * Constructor for objects of class Action
+     * 
+     * @param type The type of action
+     * @param xCoordinate The x coordinate of the target square, or 0 if the action has no target
+     * @param yCoordinate The y coordinate of the target square, or 0 if the action has no target
+     */
+    public Action(ActionType type, int xCoordinate, int yCoordinate)
+    {
+        this.type = type;
+        this.xCoordinate = xCoordinate;
+        this.yCoordinate = yCoordinate;
+    }
+
+    /**
+     * Creates the shared actions of one type for every square on a grid of CACHED_GRID_SIZE.
+     * 
+     * @param type CAPTURE or SABOTAGE_SQUARE
+     * @return Action[] The actions, indexed by (y - 1) * CACHED_GRID_SIZE + (x - 1)
+     */
+    private static Action[] createSquareActions(ActionType type)
+    {
+        Action[] actions = new Action[CACHED_GRID_SIZE * CACHED_GRID_SIZE];
+        for (int y = 1; y <= CACHED_GRID_SIZE; y++)
+        {
+            for (int x = 1; x <= CACHED_GRID_SIZE; x++)
+            {
+                actions[(y - 1) * CACHED_GRID_SIZE + (x - 1)] = new Action(type, x, y);
+            }
+        }
+        return actions;
+    }
+
+    /**
+     * Returns the action of one type for a square, shared if the square is in the cache.
+     * 
+     * @param cache The shared actions of the type
+     * @param type CAPTURE or SABOTAGE_SQUARE
+     * @param xCoordinate The x coordinate of the square
+     * @param yCoordinate The y coordinate of the square
+     * @return Action The action
+     */
+    private static Action getSquareAction(Action[] cache, ActionType type, int xCoordinate, int yCoordinate)
+    {
+        if (xCoordinate < 1 || xCoordinate > CACHED_GRID_SIZE || yCoordinate < 1 || yCoordinate > CACHED_GRID_SIZE)
+        {
+            return new Action(type, xCoordinate, yCoordinate);
+        }
+        return cache[(yCoordinate - 1) * CACHED_GRID_SIZE + (xCoordinate - 1)];
+    }
+
+    /**
+     * Creates an action to capture the square at the given coordinates.
+     * 
+     * @param xCoordinate The x coordinate of the square
+     * @param yCoordinate The y coordinate of the square
+     * @return Action The capture action
+     */
+    public static Action capture(int xCoordinate, int yCoordinate)
+    {
+        return getSquareAction(CAPTURES, ActionType.CAPTURE, xCoordinate, yCoordinate);
+    }
+
+    /**
+     * Creates an action to decrement the opponent's attack.
+     * 
+     * @return Action The sabotage action
+     */
+    public static Action decrementAttack()
+    {
+        return DECREMENT_ATTACK;
+    }
+
+    /**
+     * Creates an action to decrement the opponent's defence.
+     * 
+     * @return Action The sabotage action
+     */
+    public static Action decrementDefence()
+    {
+        return DECREMENT_DEFENCE;
+    }
+
+    /**
+     * Creates an action to take over one of the opponent's squares.
+     * 
+     * @param xCoordinate The x coordinate of the opponent's square
+     * @param yCoordinate The y coordinate of the opponent's square
+     * @return Action The sabotage action
+     */
+    public static Action sabotageSquare(int xCoordinate, int yCoordinate)
+    {
+        return getSquareAction(SQUARE_SABOTAGES, ActionType.SABOTAGE_SQUARE, xCoordinate, yCoordinate);
+    }
+
+    /**
+     * Creates an action to strike the opponent's heart.
+     * 
+     * @return Action The strike action
+     */
+    public static Action strike()
+    {
+        return STRIKE;
+    }
+
+    /**
+     * Getter method for the coordinates of the target square.
+     * 
+     * @return int[] The coordinates of the target square, in the format [x, y]
+     */
+    public int[] getCoordinates()
+    {
+        return new int[]{this.xCoordinate, this.yCoordinate};
+    }
+
+    /**
+     * Getter method for the type of action.
+     * 
+     * @return ActionType The type of action
+     */
+    public ActionType getType()
+    {
+        return this.type;
+    }
+
+    /**
+     * Getter method for the x coordinate of the target square.
+     * 
+     * @return int The x coordinate, or 0 if the action has no target
+     */
+    public int getXCoordinate()
+    {
+        return this.xCoordinate;
+    }
+
+    /**
+     * Getter method for the y coordinate of the target square.
+     * 
+     * @return int The y coordinate, or 0 if the action has no target
+     */
+    public int getYCoordinate()
+    {
+        return this.yCoordinate;
+    }
+
+    /**
+     * Checks whether this is one of the ways of sabotaging the opponent.
+     * 
+     * @return boolean indicating whether the action is a sabotage
+     */
+    public boolean isSabotage()
+    {
+        return this.type == ActionType.DECREMENT_ATTACK || this.type == ActionType.DECREMENT_DEFENCE
+            || this.type == ActionType.SABOTAGE_SQUARE;
+    }
+}
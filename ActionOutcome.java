@@ -0,0 +1,21 @@
+/**
+ * ActionOutcome enum
+ * 
+ * The result of applying an action. A capture that ties is not finished: the player must choose another square
+ * and try again.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see ActionResult
+ * @see GameEngine
+ */
+
+public enum ActionOutcome
+{
+    SUCCESS,
+    FAILED,
+    TIE,
+    REJECTED,
+    NOT_ENOUGH_COINS,
+    INVALID
+}
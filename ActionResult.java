@@ -0,0 +1,121 @@
+/**
+ * ActionResult class
+ * 
+ * Records what happened when an action was applied: who made it, whether it worked, the dice rolled for a
+ * capture and the coins charged for a sabotage. Results are returned by the GameEngine and passed to any
+ * GameListener, which is how the console game and the game log report each move.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameEngine
+ * @see GameListener
+ */
+
+public class ActionResult
+{
+    private final Action action;
+    private final int attackRoll;
+    private final int attackScore;
+    private final int cost;
+    private final int defenceRoll;
+    private final int defenceScore;
+    private final Player opponentPlayer;
+    private final ActionOutcome outcome;
+    private final Player player;
+
+    /**
+     * Constructor for objects of class ActionResult
+     * 
+     * @param action The action that was applied
+     * @param player The player who made the action
+     * @param opponentPlayer The player's opponent
+     * @param outcome The outcome of the action
+     * @param attackRoll The 3d6 roll of the capturing player, or 0 if no dice were rolled
+     * @param attackScore The attack roll plus the capturing player's damage
+     * @param defenceRoll The 2d6 roll of the defending player, or 0 if no dice were rolled
+     * @param defenceScore The defence roll plus the defending player's defence
+     * @param cost The coins the action cost, or was quoted to cost, or 0 if it had no cost
+     */
+    public ActionResult(Action action, Player player, Player opponentPlayer, ActionOutcome outcome,
+        int attackRoll, int attackScore, int defenceRoll, int defenceScore, int cost)
+    {
+        this.action = action;
+        this.player = player;
+        this.opponentPlayer = opponentPlayer;
+        this.outcome = outcome;
+        this.attackRoll = attackRoll;
+        this.attackScore = attackScore;
+        this.defenceRoll = defenceRoll;
+        this.defenceScore = defenceScore;
+        this.cost = cost;
+    }
+
+    /**
+     * Constructor for results of actions that did not roll any dice.
+     * 
+     * @param action The action that was applied
+     * @param player The player who made the action
+     * @param opponentPlayer The player's opponent
+     * @param outcome The outcome of the action
+     * @param cost The coins the action cost, or was quoted to cost, or 0 if it had no cost
+     */
+    public ActionResult(Action action, Player player, Player opponentPlayer, ActionOutcome outcome, int cost)
+    {
+        this(action, player, opponentPlayer, outcome, 0, 0, 0, 0, cost);
+    }
+
+    public Action getAction()
+    {
+        return this.action;
+    }
+
+    public int getAttackRoll()
+    {
+        return this.attackRoll;
+    }
+
+    public int getAttackScore()
+    {
+        return this.attackScore;
+    }
+
+    public int getCost()
+    {
+        return this.cost;
+    }
+
+    public int getDefenceRoll()
+    {
+        return this.defenceRoll;
+    }
+
+    public int getDefenceScore()
+    {
+        return this.defenceScore;
+    }
+
+    public Player getOpponentPlayer()
+    {
+        return this.opponentPlayer;
+    }
+
+    public ActionOutcome getOutcome()
+    {
+        return this.outcome;
+    }
+
+    public Player getPlayer()
+    {
+        return this.player;
+    }
+
+    /**
+     * Checks whether the action succeeded.
+     * 
+     * @return boolean indicating whether the outcome was SUCCESS
+     */
+    public boolean isSuccess()
+    {
+        return this.outcome == ActionOutcome.SUCCESS;
+    }
+}
@@ -0,0 +1,20 @@
+/**
+ * ActionType enum
+ * 
+ * The moves a player can make on their turn. Capturing a square and striking the opponent's heart are top-level
+ * choices; the other three are the ways a player can sabotage their opponent.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see Action
+ * @see GameEngine
+ */
+
+public enum ActionType
+{
+    CAPTURE,
+    DECREMENT_ATTACK,
+    DECREMENT_DEFENCE,
+    SABOTAGE_SQUARE,
+    STRIKE
+}
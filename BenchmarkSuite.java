@@ -0,0 +1,565 @@
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * BenchmarkSuite class
+ *
+ * Repeatable measurements of the hot paths of Grid, Player, Boosts and a whole computer vs computer game, each
+ * at grid sizes 3, 10, 100 and 1,000, in the style of a JMH run with its GC profiler. The Search benchmarks
+ * walk every line of a search tree two plies deep, once copying the game at every node and once making and
+ * unmaking each outcome with GameEngine.apply() and undo(), at grid sizes 3 and 10 only, as larger grids have too
+ * many lines to walk and do not fit in an undo record.
+ *
+ * Each benchmark runs in a JVM of its own, as JMH forks one per benchmark. It builds its state for the grid
+ * size, then calls its operation in batches: at least two seconds of warm-up batches to let the JIT compile it,
+ * then measured batches. For each benchmark the suite reports the average time of one
+ * operation with its standard deviation across batches, the bytes allocated per operation, measured from the
+ * thread's allocation counter, and the number and total time of garbage collections during the measured
+ * batches.
+ *
+ * The results are written to a CSV file. If a baseline file is given, or benchmark_baseline.csv exists, each
+ * result is also compared with the baseline's, so a change can be checked for regressions by running the suite
+ * before and after it.
+ *
+ * Run with "java BenchmarkSuite [results file] [baseline file]". Run with a fixed heap, e.g. "-Xms1g -Xmx1g",
+ * so that the GC figures are comparable between runs.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameBenchmark
+ * @see Grid
+ * @see Player
+ * @see ExpectimaxStrategy
+ */
+
+public class BenchmarkSuite
+{
+    private static final String DEFAULT_BASELINE_FILE_NAME = "benchmark_baseline.csv";
+    private static final String DEFAULT_RESULTS_FILE_NAME = "benchmark_results.csv";
+    private static final String FORK_OPTION = "--fork";
+    private static final int[] GRID_SIZES = {3, 10, 100, 1000};
+    private static final int MAX_TURNS = 1000;
+    private static final int MEASURED_BATCHES = 10;
+    private static final int MAX_OUTCOMES = 3;
+    private static final long MIN_BATCH_NANOS = 100_000_000;
+    private static final long MIN_WARMUP_NANOS = 2_000_000_000;
+    private static final String RESULT_PREFIX = "RESULT,";
+    private static final int SEARCH_DEPTH = 2;
+    private static final int[] SEARCH_GRID_SIZES = {3, 10};
+    // The turns played from a seeded game before the Search benchmarks walk the tree, so both players own squares
+    private static final int SEARCH_START_TURNS = 3;
+    private static final int WARMUP_BATCHES = 5;
+
+    // Written to by the benchmarks so the JIT cannot remove the work being timed
+    private static long sink;
+
+    private final HashMap<String, double[]> baseline;
+    private final ArrayList<String> results;
+
+    /**
+     * Constructor for objects of class BenchmarkSuite
+     *
+     * @param baseline The baseline results to compare with, by benchmark and grid size, or an empty map
+     */
+    public BenchmarkSuite(HashMap<String, double[]> baseline)
+    {
+        this.baseline = baseline;
+        this.results = new ArrayList<String>();
+    }
+
+    /**
+     * One operation to measure, set up for a grid size.
+     */
+    private interface Operation
+    {
+        /**
+         * Performs the operation once.
+         *
+         * @return long A value derived from the work, so that it cannot be optimised away
+         */
+        long run();
+    }
+
+    /**
+     * Runs every benchmark, prints the results and writes them to the results file.
+     *
+     * @param args The results file and the baseline file (both optional), or "--fork", a benchmark name and a
+     *        grid size to measure one benchmark in this JVM
+     */
+    public static void main(String[] args)
+    {
+        if (args.length == 3 && args[0].equals(FORK_OPTION))
+        {
+            int gridSize = args[2].equals("-") ? 0 : Integer.parseInt(args[2]);
+            System.out.println(RESULT_PREFIX + measure(args[1], gridSize, createBenchmarks().get(args[1])));
+            return;
+        }
+        String resultsFileName = (args.length > 0) ? args[0] : DEFAULT_RESULTS_FILE_NAME;
+        String baselineFileName = (args.length > 1) ? args[1] : DEFAULT_BASELINE_FILE_NAME;
+        BenchmarkSuite suite = new BenchmarkSuite(readResults(baselineFileName));
+        suite.runAll();
+        suite.writeResults(resultsFileName);
+        System.out.println("Results written to " + resultsFileName);
+    }
+
+    /**
+     * Returns every benchmark by name. Each one builds its operation for a grid size.
+     *
+     * @return LinkedHashMap<String, IntFunction<Operation>> The benchmarks, in the order they are run
+     */
+    private static LinkedHashMap<String, IntFunction<Operation>> createBenchmarks()
+    {
+        LinkedHashMap<String, IntFunction<Operation>> benchmarks = new LinkedHashMap<String, IntFunction<Operation>>();
+        benchmarks.put("Boosts.readBoostsFromFile", size -> {
+            Boosts boosts = new Boosts();
+            return () -> boosts.readBoostsFromFile().size();
+        });
+        benchmarks.put("Grid.createGrid", size -> {
+            Grid grid = new Grid(size, new GameRandom(4131));
+            ArrayList<int[]> boostCoordinates = grid.getBoostCoordinates();
+            return () -> {
+                grid.createGrid(boostCoordinates);
+                return grid.getNumPlacedBoosts();
+            };
+        });
+        benchmarks.put("Grid.getBoostCoordinates", size -> {
+            Grid grid = new Grid(size, new GameRandom(4131));
+            return () -> grid.getBoostCoordinates().size();
+        });
+        benchmarks.put("Grid.updateGridWithCapturedSquare", size -> {
+            Grid grid = new Grid(size, new GameRandom(4131));
+            Player[] players = {new HumanPlayer("Dan"), new ComputerPlayer()};
+            int[] coordinates = new int[2];
+            long[] numCaptures = new long[1];
+            // Walks over the grid one square at a time, alternating players, so squares change hands
+            return () -> {
+                long square = numCaptures[0]++ % ((long) size * size);
+                coordinates[0] = (int) (square % size) + 1;
+                coordinates[1] = (int) (square / size) + 1;
+                grid.updateGridWithCapturedSquare(players[(int) (numCaptures[0] & 1)], coordinates);
+                return coordinates[0];
+            };
+        });
+        benchmarks.put("Player.hasCompletePath", size -> {
+            Grid grid = new Grid(size, new GameRandom(4131));
+            Player[] players = {new HumanPlayer("Dan"), new ComputerPlayer()};
+            captureRow(grid, players[0], size - 1);
+            grid.registerPlayer(players[1]);
+            long[] numChecks = new long[1];
+            // Alternates between the two players, so the JIT cannot hoist the check out of the loop
+            return () -> players[(int) (numChecks[0]++ & 1)].hasCompletePath(grid) ? 1 : 0;
+        });
+        benchmarks.put("Player.getPlayerStats", size -> {
+            Grid grid = new Grid(size, new GameRandom(4131));
+            Player player = new HumanPlayer("Dan");
+            captureRow(grid, player, size);
+            return () -> player.getPlayerStats(grid).length();
+        });
+        benchmarks.put("GameEngine.playGame", size -> {
+            GameEngine engine = new GameEngine();
+            Strategy strategy = new ComputerStrategy();
+            // Replays the same seeded game each time, as games with different seeds differ widely in length
+            return () -> {
+                GameState state = new GameState(new Grid(size, new GameRandom(4131)),
+                    new HumanPlayer("Dan"), new ComputerPlayer());
+                engine.playGame(state, strategy, strategy, MAX_TURNS);
+                return state.getNumTurns();
+            };
+        });
+        benchmarks.put("Search.copyPerNode", size -> {
+            GameEngine engine = new GameEngine();
+            GameState state = createSearchState(engine, size);
+            return () -> walkCopyPerNode(engine, state, 0, SEARCH_DEPTH);
+        });
+        benchmarks.put("Search.makeUndo", size -> {
+            GameEngine engine = new GameEngine();
+            GameState state = createSearchState(engine, size);
+            SearchBuffers[] buffers = new SearchBuffers[SEARCH_DEPTH + 1];
+            for (int depth = 1; depth <= SEARCH_DEPTH; depth++)
+            {
+                buffers[depth] = new SearchBuffers(MctsStrategy.getMaxActions(state.getGrid()));
+            }
+            return () -> walkMakeUndo(engine, state, 0, SEARCH_DEPTH, buffers);
+        });
+        return benchmarks;
+    }
+
+    /**
+     * Runs every benchmark at each of its grid sizes, each in a JVM of its own, and prints each result as it arrives.
+     */
+    public void runAll()
+    {
+        System.out.printf("%-34s %6s %14s %10s %14s %8s %10s %10s%n", "benchmark", "size", "ns/op", "+/-", "bytes/op",
+            "gc", "gc ms", "vs base");
+        for (String name : createBenchmarks().keySet())
+        {
+            for (int gridSize : getGridSizes(name))
+            {
+                String result = runForked(name, gridSize);
+                if (result == null)
+                {
+                    continue;
+                }
+                this.results.add(result);
+                String[] fields = result.split(",");
+                double[] baselineResult = this.baseline.get(fields[0] + "," + fields[1]);
+                String comparison = (baselineResult == null) ? ""
+                    : String.format("%+.1f%%", (Double.parseDouble(fields[2]) / baselineResult[0] - 1) * 100);
+                System.out.printf("%-34s %6s %14s %10s %14s %8s %10s %10s%n", fields[0], fields[1], fields[2], fields[3],
+                    fields[4], fields[5], fields[6], comparison);
+            }
+        }
+    }
+
+    /**
+     * Returns the grid sizes a benchmark is run at. Boosts.readBoostsFromFile does not depend on the grid size, so
+     * it is only run once, and the Search benchmarks are only run on grids small enough to walk.
+     *
+     * @param name The name of the benchmark
+     * @return int[] The grid sizes, or {0} if the benchmark does not depend on the grid size
+     */
+    private static int[] getGridSizes(String name)
+    {
+        if (name.startsWith("Boosts."))
+        {
+            return new int[]{0};
+        }
+        return name.startsWith("Search.") ? SEARCH_GRID_SIZES : GRID_SIZES;
+    }
+
+    /**
+     * Measures one benchmark in a new JVM, started with the same class path and JVM options as this one. As in
+     * JMH, a fresh JVM per benchmark stops the JIT's profile of one benchmark from slowing down the next.
+     *
+     * @param name The name of the benchmark
+     * @param gridSize The grid size, or 0 if the benchmark does not depend on it
+     * @return String The result as a line of CSV, or null if the benchmark failed
+     */
+    private static String runForked(String name, int gridSize)
+    {
+        ArrayList<String> command = new ArrayList<String>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(BenchmarkSuite.class.getName());
+        command.add(FORK_OPTION);
+        command.add(name);
+        command.add((gridSize == 0) ? "-" : Integer.toString(gridSize));
+        try
+        {
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+            String result = null;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream())))
+            {
+                String line;
+                while ((line = reader.readLine()) != null)
+                {
+                    if (line.startsWith(RESULT_PREFIX))
+                    {
+                        result = line.substring(RESULT_PREFIX.length());
+                    }
+                }
+            }
+            if (process.waitFor() != 0 || result == null)
+            {
+                System.err.println("Error in benchmark " + name + " at grid size " + gridSize + ": the forked JVM failed.");
+                return null;
+            }
+            return result;
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in starting a JVM for benchmark " + name + ": " + e.getMessage());
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    /**
+     * Captures the first squares of the first row of a grid for a player.
+     *
+     * @param grid The grid
+     * @param player The player
+     * @param numSquares The number of squares to capture
+     */
+    private static void captureRow(Grid grid, Player player, int numSquares)
+    {
+        for (int x = 1; x <= numSquares; x++)
+        {
+            int[] coordinates = {x, 1};
+            grid.updateGridWithCapturedSquare(player, coordinates);
+            player.addSquareCaptured(coordinates);
+        }
+    }
+
+    /**
+     * Plays the first turns of a seeded computer vs computer game, for the Search benchmarks to walk from.
+     *
+     * @param engine The engine to play with
+     * @param gridSize The grid size
+     * @return GameState The game, with the first player to move
+     */
+    private static GameState createSearchState(GameEngine engine, int gridSize)
+    {
+        GameState state = new GameState(new Grid(gridSize, new GameRandom(4131)), new HumanPlayer("Dan"), new ComputerPlayer());
+        Strategy strategy = new ComputerStrategy();
+        engine.playGame(state, strategy, strategy, SEARCH_START_TURNS);
+        return state;
+    }
+
+    /**
+     * Walks every line of the search tree from a position, as ExpectimaxStrategy did before it made and unmade
+     * moves: each successful outcome is played on a copy of the game, with new arrays at every node.
+     *
+     * @param engine The engine
+     * @param state The game, which is not changed
+     * @param position The player to move, and whether they must capture
+     * @param depth The number of decision plies left to walk
+     * @return long The number of nodes walked plus the hashes of the positions at the end of each line
+     */
+    private static long walkCopyPerNode(GameEngine engine, GameState state, int position, int depth)
+    {
+        if (depth == 0 || state.isGameOver())
+        {
+            return 1 + state.hash();
+        }
+        int moverIndex = position & MctsStrategy.MOVER;
+        Player mover = state.getPlayer(moverIndex);
+        Action[] actions = MctsStrategy.listActions(state, moverIndex, (position & MctsStrategy.MUST_CAPTURE) != 0);
+        long total = 1;
+        for (Action action : actions)
+        {
+            ActionOutcome[] outcomes = new ActionOutcome[MAX_OUTCOMES];
+            double[] probabilities = new double[MAX_OUTCOMES];
+            int[] costs = new int[MAX_OUTCOMES];
+            int numOutcomes = ExpectimaxStrategy.listOutcomes(mover, state.getOpponent(mover), action, outcomes, probabilities, costs);
+            for (int i = 0; i < numOutcomes; i++)
+            {
+                int childPosition = (outcomes[i] == ActionOutcome.TIE) ? moverIndex | MctsStrategy.MUST_CAPTURE : 1 - moverIndex;
+                GameState child = state;
+                if (outcomes[i] == ActionOutcome.SUCCESS)
+                {
+                    child = state.copy(state.getRandom());
+                    engine.replayAction(child, child.getPlayer(moverIndex), action, outcomes[i], costs[i]);
+                }
+                total += walkCopyPerNode(engine, child, childPosition, depth - 1);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Walks every line of the search tree from a position, as walkCopyPerNode() does, but plays each successful
+     * outcome on the game itself with GameEngine.apply() and takes it back with undo(), reusing one set of
+     * buffers for each depth, so nothing is allocated.
+     *
+     * @param engine The engine
+     * @param state The game, which is changed during the walk and then put back
+     * @param position The player to move, and whether they must capture
+     * @param depth The number of decision plies left to walk
+     * @param buffers The buffers of each depth
+     * @return long The number of nodes walked plus the hashes of the positions at the end of each line
+     */
+    private static long walkMakeUndo(GameEngine engine, GameState state, int position, int depth, SearchBuffers[] buffers)
+    {
+        if (depth == 0 || state.isGameOver())
+        {
+            return 1 + state.hash();
+        }
+        int moverIndex = position & MctsStrategy.MOVER;
+        Player mover = state.getPlayer(moverIndex);
+        SearchBuffers buffer = buffers[depth];
+        int numActions = MctsStrategy.listActions(state, moverIndex, (position & MctsStrategy.MUST_CAPTURE) != 0, buffer.actions);
+        long total = 1;
+        for (int action = 0; action < numActions; action++)
+        {
+            int numOutcomes = ExpectimaxStrategy.listOutcomes(mover, state.getOpponent(mover), buffer.actions[action],
+                buffer.outcomes, buffer.probabilities, buffer.costs);
+            for (int i = 0; i < numOutcomes; i++)
+            {
+                int childPosition = (buffer.outcomes[i] == ActionOutcome.TIE) ? moverIndex | MctsStrategy.MUST_CAPTURE : 1 - moverIndex;
+                long undoRecord = engine.apply(state, mover, buffer.actions[action], buffer.outcomes[i], buffer.costs[i]);
+                total += walkMakeUndo(engine, state, childPosition, depth - 1, buffers);
+                engine.undo(state, undoRecord);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * The actions and outcomes walkMakeUndo() lists at one depth, reused by every node at that depth.
+     */
+    private static final class SearchBuffers
+    {
+        private final Action[] actions;
+        private final int[] costs = new int[MAX_OUTCOMES];
+        private final ActionOutcome[] outcomes = new ActionOutcome[MAX_OUTCOMES];
+        private final double[] probabilities = new double[MAX_OUTCOMES];
+
+        /**
+         * Constructor for objects of class SearchBuffers
+         *
+         * @param maxActions The most actions a node can have
+         */
+        private SearchBuffers(int maxActions)
+        {
+            this.actions = new Action[maxActions];
+        }
+    }
+
+    /**
+     * Measures one benchmark at one grid size.
+     *
+     * The number of operations in a batch is doubled during the warm-up until a batch takes at least
+     * MIN_BATCH_NANOS, so quick operations are not dominated by the cost of reading the clock.
+     *
+     * @param name The name of the benchmark
+     * @param gridSize The grid size, or 0 if the benchmark does not depend on it
+     * @param setUp Builds the operation for a grid size
+     * @return String The result as a line of CSV: name, size, ns/op, error, bytes/op, GC count and GC time
+     */
+    private static String measure(String name, int gridSize, IntFunction<Operation> setUp)
+    {
+        Operation operation = setUp.apply(gridSize);
+        long operationsPerBatch = 1;
+        long warmupStartTime = System.nanoTime();
+        for (int i = 0; i < WARMUP_BATCHES || System.nanoTime() - warmupStartTime < MIN_WARMUP_NANOS; i++)
+        {
+            // Batches keep growing during the warm-up, as the first ones are timed before the JIT has compiled anything
+            if (timeBatch(operation, operationsPerBatch) < MIN_BATCH_NANOS && operationsPerBatch < (1L << 40))
+            {
+                operationsPerBatch *= 2;
+            }
+        }
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] gcBefore = getGcTotals();
+        long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+        double[] nanosPerOperation = new double[MEASURED_BATCHES];
+        for (int i = 0; i < MEASURED_BATCHES; i++)
+        {
+            nanosPerOperation[i] = (double) timeBatch(operation, operationsPerBatch) / operationsPerBatch;
+        }
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        long[] gcAfter = getGcTotals();
+
+        double mean = 0;
+        for (double value : nanosPerOperation)
+        {
+            mean += value / MEASURED_BATCHES;
+        }
+        double variance = 0;
+        for (double value : nanosPerOperation)
+        {
+            variance += (value - mean) * (value - mean) / (MEASURED_BATCHES - 1);
+        }
+        double bytesPerOperation = (double) allocated / (operationsPerBatch * MEASURED_BATCHES);
+        String sizeText = (gridSize == 0) ? "-" : Integer.toString(gridSize);
+        return String.format("%s,%s,%.1f,%.1f,%.1f,%d,%d", name, sizeText, mean, Math.sqrt(variance), bytesPerOperation,
+            gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1]);
+    }
+
+    /**
+     * Times a batch of operations.
+     *
+     * @param operation The operation
+     * @param numOperations The number of times to perform it
+     * @return long The time taken, in nanoseconds
+     */
+    private static long timeBatch(Operation operation, long numOperations)
+    {
+        long total = 0;
+        long startTime = System.nanoTime();
+        for (long i = 0; i < numOperations; i++)
+        {
+            total += operation.run();
+        }
+        long elapsedTime = System.nanoTime() - startTime;
+        sink += total;
+        return elapsedTime;
+    }
+
+    /**
+     * Returns the number of garbage collections so far and the total time they took, across all collectors.
+     *
+     * @return long[] The number of collections and their total time in milliseconds
+     */
+    private static long[] getGcTotals()
+    {
+        long[] totals = new long[2];
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans())
+        {
+            totals[0] += Math.max(0, collector.getCollectionCount());
+            totals[1] += Math.max(0, collector.getCollectionTime());
+        }
+        return totals;
+    }
+
+    /**
+     * Reads a results file written by the suite.
+     *
+     * @param fileName The name of the file
+     * @return HashMap<String, double[]> The ns/op and bytes/op of each result, by "benchmark,size", or an empty
+     *         map if the file does not exist
+     */
+    private static HashMap<String, double[]> readResults(String fileName)
+    {
+        HashMap<String, double[]> results = new HashMap<String, double[]>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(fileName)))
+        {
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null)
+            {
+                String[] fields = line.split(",");
+                if (fields.length >= 5)
+                {
+                    results.put(fields[0] + "," + fields[1], new double[]{Double.parseDouble(fields[2]), Double.parseDouble(fields[4])});
+                }
+            }
+            System.out.println("Comparing with the baseline in " + fileName);
+        }
+        catch (IOException e)
+        {
+            // No baseline to compare with
+        }
+        catch (NumberFormatException e)
+        {
+            System.err.println("Error in reading the baseline " + fileName + ": " + e.getMessage());
+        }
+        return results;
+    }
+
+    /**
+     * Writes the results to a CSV file, with a header line.
+     *
+     * @param fileName The name of the file
+     */
+    public void writeResults(String fileName)
+    {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(fileName)))
+        {
+            writer.println("benchmark,size,ns/op,error ns/op,bytes/op,gc count,gc ms");
+            for (String result : this.results)
+            {
+                writer.println(result);
+            }
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in writing the results: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,480 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * BoostCatalog class
+ * 
+ * The boosts in a boosts file, held as three parallel arrays of damage, defence and coin values. A catalog is
+ * immutable once loaded, so one copy is shared by every grid in the process, whatever thread creates it.
+ * 
+ * get() returns the shared catalog for a file, parsing the file the first time it is asked for and again only
+ * if its modification time has changed since. A file that is missing or cannot be read gives an empty catalog,
+ * which is shared in the same way until the file appears or its modification time changes. Text files have one
+ * "damage,defence,coins" line per boost and are parsed in a single pass over the memory-mapped file. Very large
+ * catalogs can be converted once with writeBinary(), or "java BoostCatalog <text file> <binary file>", into a
+ * binary file that loads with a single mapped read.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see Boosts
+ * @see Grid
+ */
+
+public class BoostCatalog
+{
+    public static final String DEFAULT_FILE_NAME = "boosts.txt";
+    private static final byte[] BINARY_MAGIC = {'B', 'C', 'A', 'T'};
+    private static final int BINARY_HEADER_SIZE = 12;
+    private static final int BINARY_VERSION = 1;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int LINE_LENGTH_SAMPLE_SIZE = 64 * 1024;
+    private static final int MAX_SEGMENT_SIZE = 1 << 30;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+    private static final ConcurrentHashMap<String, BoostCatalog> catalogs = new ConcurrentHashMap<String, BoostCatalog>();
+
+    private final int[] coins;
+    private final int[] damages;
+    private final int[] defences;
+    private final String fileName;
+    private final FileTime lastModifiedTime;
+    private final int size;
+
+    /**
+     * Constructor for objects of class BoostCatalog
+     * 
+     * @param fileName The name of the file the boosts were read from
+     * @param lastModifiedTime The modification time of the file when it was read, or null if it did not exist
+     * @param damages The damage boost of each boost
+     * @param defences The defence boost of each boost
+     * @param coins The coin boost of each boost
+     */
+    public BoostCatalog(String fileName, FileTime lastModifiedTime, int[] damages, int[] defences, int[] coins)
+    {
+        this(fileName, lastModifiedTime, damages, defences, coins, damages.length);
+    }
+
+    /**
+     * Constructor for objects of class BoostCatalog, using the first entries of each array
+     * 
+     * @param fileName The name of the file the boosts were read from
+     * @param lastModifiedTime The modification time of the file when it was read, or null if it did not exist
+     * @param damages The damage boost of each boost
+     * @param defences The defence boost of each boost
+     * @param coins The coin boost of each boost
+     * @param size The number of boosts, which may be fewer than the arrays hold
+     */
+    private BoostCatalog(String fileName, FileTime lastModifiedTime, int[] damages, int[] defences, int[] coins, int size)
+    {
+        if (size > damages.length || size > defences.length || size > coins.length)
+        {
+            throw new IllegalArgumentException("Every boost needs a damage, defence and coin value.");
+        }
+        this.fileName = fileName;
+        this.lastModifiedTime = lastModifiedTime;
+        this.damages = damages;
+        this.defences = defences;
+        this.coins = coins;
+        this.size = size;
+    }
+
+    /**
+     * Converts a text boosts file into a binary catalog.
+     * 
+     * @param args The text file to read and the binary file to write
+     */
+    public static void main(String[] args)
+    {
+        if (args.length < 2)
+        {
+            System.out.println("Usage: java BoostCatalog <text file> <binary file>");
+            return;
+        }
+        BoostCatalog catalog = load(args[0]);
+        try
+        {
+            catalog.writeBinary(args[1]);
+            System.out.println("Wrote " + catalog.size() + " boosts to " + args[1] + ".");
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in writing file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the shared catalog for the default boosts file.
+     * 
+     * @return BoostCatalog The boosts in boosts.txt
+     */
+    public static BoostCatalog get()
+    {
+        return get(DEFAULT_FILE_NAME);
+    }
+
+    /**
+     * Returns the shared catalog for a boosts file, loading it if it has not been loaded yet or has been
+     * modified since it was. A file that cannot be read gives an empty catalog, which is kept, without trying the
+     * file again, until the file appears or is modified.
+     * 
+     * @param fileName The name of the boosts file
+     * @return BoostCatalog The boosts in the file
+     */
+    public static BoostCatalog get(String fileName)
+    {
+        FileTime lastModifiedTime = getLastModifiedTime(fileName);
+        BoostCatalog catalog = catalogs.get(fileName);
+        if (catalog != null && Objects.equals(lastModifiedTime, catalog.lastModifiedTime))
+        {
+            return catalog;
+        }
+        return catalogs.compute(fileName, (name, current) ->
+            (current != null && Objects.equals(lastModifiedTime, current.lastModifiedTime)) ? current : load(name));
+    }
+
+    /**
+     * Reads a boosts file, without using or updating the shared catalogs. The file may be a text file of
+     * "damage,defence,coins" lines or a binary catalog written by writeBinary().
+     * 
+     * @param fileName The name of the boosts file
+     * @return BoostCatalog The boosts in the file, or an empty catalog if it cannot be read
+     */
+    public static BoostCatalog load(String fileName)
+    {
+        BoostCatalogLoadEvent event = FlightRecorder.isInitialized() ? BoostCatalogLoadEvent.start() : null;
+        FileTime lastModifiedTime = getLastModifiedTime(fileName);
+        BoostCatalog catalog = null;
+        boolean binary = false;
+        long fileSize = 0;
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ))
+        {
+            fileSize = channel.size();
+            binary = isBinaryCatalog(channel);
+            catalog = binary ? loadBinary(fileName, lastModifiedTime, channel) : parse(fileName, lastModifiedTime, channel);
+        }
+        catch (NoSuchFileException e)
+        {
+            System.err.println(fileName + " not found: " + e.getMessage());
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in reading boosts file: " + e.getMessage());
+        }
+        if (catalog == null)
+        {
+            // The modification time is kept so that get() only tries the file again once it appears or changes
+            catalog = new BoostCatalog(fileName, lastModifiedTime, new int[0], new int[0], new int[0]);
+        }
+        if (event != null)
+        {
+            event.end(fileName, fileSize, binary, catalog.size());
+        }
+        return catalog;
+    }
+
+    /**
+     * Checks whether a file starts with the binary catalog header.
+     * 
+     * @param channel The file
+     * @return boolean indicating whether the file is a binary catalog
+     * @throws IOException if the file cannot be read
+     */
+    private static boolean isBinaryCatalog(FileChannel channel) throws IOException
+    {
+        if (channel.size() < BINARY_HEADER_SIZE)
+        {
+            return false;
+        }
+        ByteBuffer magic = ByteBuffer.allocate(BINARY_MAGIC.length);
+        while (magic.hasRemaining() && channel.read(magic, magic.position()) >= 0) {}
+        return Arrays.equals(magic.array(), BINARY_MAGIC);
+    }
+
+    /**
+     * Loads a binary catalog. The whole file is mapped into memory and each column is copied out of it in bulk.
+     * 
+     * @param fileName The name of the file
+     * @param lastModifiedTime The modification time of the file
+     * @param channel The file
+     * @return BoostCatalog The boosts
+     * @throws IOException if the file cannot be read or is not a complete binary catalog
+     */
+    private static BoostCatalog loadBinary(String fileName, FileTime lastModifiedTime, FileChannel channel) throws IOException
+    {
+        long fileSize = channel.size();
+        if (fileSize > Integer.MAX_VALUE)
+        {
+            throw new IOException("Binary catalog " + fileName + " is too large to map.");
+        }
+        ByteBuffer contents = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize).order(ByteOrder.LITTLE_ENDIAN);
+        int version = contents.getInt(BINARY_MAGIC.length);
+        int numBoosts = contents.getInt(BINARY_MAGIC.length + Integer.BYTES);
+        if (version != BINARY_VERSION || numBoosts < 0 || BINARY_HEADER_SIZE + 3L * Integer.BYTES * numBoosts != fileSize)
+        {
+            throw new IOException("Binary catalog " + fileName + " is damaged or from another version.");
+        }
+        IntBuffer columns = contents.position(BINARY_HEADER_SIZE).asIntBuffer();
+        int[] damages = new int[numBoosts];
+        int[] defences = new int[numBoosts];
+        int[] coins = new int[numBoosts];
+        columns.get(damages).get(defences).get(coins);
+        return new BoostCatalog(fileName, lastModifiedTime, damages, defences, coins);
+    }
+
+    /**
+     * Parses a text boosts file in a single pass. Each line holds the damage, defence and coin boosts separated by
+     * commas; spaces and blank lines are ignored, and a line that is not three whole numbers is reported and
+     * skipped.
+     * 
+     * The file is mapped into memory a segment at a time and parsed byte by byte, with the numbers written
+     * straight into the columns, so nothing is allocated per line. The columns are sized from the average line
+     * length at the start of the file and grown if that was an underestimate.
+     * 
+     * @param fileName The name of the file, for error messages
+     * @param lastModifiedTime The modification time of the file
+     * @param channel The file
+     * @return BoostCatalog The boosts
+     * @throws IOException if the file cannot be read
+     */
+    private static BoostCatalog parse(String fileName, FileTime lastModifiedTime, FileChannel channel) throws IOException
+    {
+        long fileSize = channel.size();
+        int capacity = INITIAL_CAPACITY;
+        int[] damages = null;
+        int[] defences = null;
+        int[] coins = null;
+        int numBoosts = 0;
+        int column = 0;
+        int value = 0;
+        boolean negative = false;
+        boolean hasDigits = false;
+        boolean valid = true;
+        boolean blank = true;
+        long lineNumber = 1;
+        for (long segmentStart = 0; segmentStart < fileSize; segmentStart += MAX_SEGMENT_SIZE)
+        {
+            int segmentSize = (int) Math.min(MAX_SEGMENT_SIZE, fileSize - segmentStart);
+            ByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentSize);
+            if (damages == null)
+            {
+                capacity = estimateNumLines(segment, fileSize);
+                damages = new int[capacity];
+                defences = new int[capacity];
+                coins = new int[capacity];
+            }
+            for (int position = 0; position <= segmentSize; position++)
+            {
+                // A file that does not end with a new line ends its last line at the end of the last segment
+                boolean endOfFile = position == segmentSize;
+                if (endOfFile && segmentStart + segmentSize < fileSize)
+                {
+                    break;
+                }
+                byte c = endOfFile ? (byte) '\n' : segment.get(position);
+                if (c >= '0' && c <= '9')
+                {
+                    if (value > (Integer.MAX_VALUE - (c - '0')) / 10)
+                    {
+                        valid = false;
+                    }
+                    value = value * 10 + (c - '0');
+                    hasDigits = true;
+                    blank = false;
+                }
+                else if (c == ',')
+                {
+                    if (!hasDigits || column >= 2)
+                    {
+                        valid = false;
+                    }
+                    else if (column == 0)
+                    {
+                        damages[numBoosts] = negative ? -value : value;
+                    }
+                    else
+                    {
+                        defences[numBoosts] = negative ? -value : value;
+                    }
+                    column++;
+                    value = 0;
+                    negative = false;
+                    hasDigits = false;
+                    blank = false;
+                }
+                else if (c == '\n')
+                {
+                    if (!blank)
+                    {
+                        if (valid && hasDigits && column == 2)
+                        {
+                            coins[numBoosts] = negative ? -value : value;
+                            numBoosts++;
+                            if (numBoosts == capacity)
+                            {
+                                capacity += capacity / 2 + 1;
+                                damages = Arrays.copyOf(damages, capacity);
+                                defences = Arrays.copyOf(defences, capacity);
+                                coins = Arrays.copyOf(coins, capacity);
+                            }
+                        }
+                        else
+                        {
+                            System.err.println("Error in reading boosts file: " + fileName + " line " + lineNumber + " is not damage,defence,coins.");
+                        }
+                    }
+                    lineNumber++;
+                    column = 0;
+                    value = 0;
+                    negative = false;
+                    hasDigits = false;
+                    valid = true;
+                    blank = true;
+                }
+                else if (c == '-' && !hasDigits && !negative)
+                {
+                    negative = true;
+                    blank = false;
+                }
+                else if (c != ' ' && c != '\r' && c != '\t')
+                {
+                    valid = false;
+                    blank = false;
+                }
+            }
+        }
+        if (damages == null)
+        {
+            return new BoostCatalog(fileName, lastModifiedTime, new int[0], new int[0], new int[0]);
+        }
+        return new BoostCatalog(fileName, lastModifiedTime, damages, defences, coins, numBoosts);
+    }
+
+    /**
+     * Estimates the number of lines in a file from the average length of the lines at its start, allowing a
+     * little extra so that the columns rarely need to grow.
+     * 
+     * @param firstSegment The start of the file
+     * @param fileSize The size of the file, in bytes
+     * @return int The estimated number of lines
+     */
+    private static int estimateNumLines(ByteBuffer firstSegment, long fileSize)
+    {
+        int sampleSize = Math.min(firstSegment.limit(), LINE_LENGTH_SAMPLE_SIZE);
+        int numLines = 1;
+        for (int position = 0; position < sampleSize; position++)
+        {
+            if (firstSegment.get(position) == '\n')
+            {
+                numLines++;
+            }
+        }
+        long estimate = fileSize * numLines / Math.max(1, sampleSize);
+        return (int) Math.min(Integer.MAX_VALUE - 8, Math.max(INITIAL_CAPACITY, estimate + estimate / 20 + 1));
+    }
+
+    /**
+     * Writes the catalog in the binary format, which load() and get() read with a single mapped read: the bytes
+     * "BCAT", the format version and the number of boosts, then the damage, defence and coin columns, all as
+     * little-endian 4-byte integers.
+     * 
+     * @param fileName The name of the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeBinary(String fileName) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.put(BINARY_MAGIC).putInt(BINARY_VERSION).putInt(this.size);
+            for (int[] values : new int[][]{this.damages, this.defences, this.coins})
+            {
+                for (int i = 0; i < this.size; i++)
+                {
+                    if (!buffer.hasRemaining())
+                    {
+                        writeFully(channel, buffer);
+                    }
+                    buffer.putInt(values[i]);
+                }
+            }
+            writeFully(channel, buffer);
+        }
+    }
+
+    /**
+     * Writes out and empties a buffer.
+     * 
+     * @param channel The file to write to
+     * @param buffer The buffer, ready to be filled
+     * @throws IOException if the file cannot be written
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException
+    {
+        buffer.flip();
+        while (buffer.hasRemaining())
+        {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Returns the modification time of a file.
+     * 
+     * @param fileName The name of the file
+     * @return FileTime The modification time, or null if the file cannot be read
+     */
+    private static FileTime getLastModifiedTime(String fileName)
+    {
+        try
+        {
+            return Files.getLastModifiedTime(Path.of(fileName));
+        }
+        catch (IOException e)
+        {
+            return null;
+        }
+    }
+
+    public int getCoins(int boostIndex)
+    {
+        return this.coins[boostIndex];
+    }
+
+    public int getDamage(int boostIndex)
+    {
+        return this.damages[boostIndex];
+    }
+
+    public int getDefence(int boostIndex)
+    {
+        return this.defences[boostIndex];
+    }
+
+    public String getFileName()
+    {
+        return this.fileName;
+    }
+
+    /**
+     * Returns the number of boosts in the catalog.
+     * 
+     * @return int The number of boosts
+     */
+    public int size()
+    {
+        return this.size;
+    }
+}
@@ -0,0 +1,70 @@
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * BoostCatalogLoadEvent class
+ *
+ * A Java Flight Recorder event spanning one load of a boosts file by BoostCatalog, whether parsed from text or
+ * read from the binary format. Boosts, and every grid, get their boosts from these catalogs.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see BoostCatalog
+ * @see Boosts
+ */
+
+@Name("ito4131.BoostCatalogLoad")
+@Label("Boost Catalog Load")
+@Category({"ITO4131 Field", "Boosts"})
+@Description("A boosts file being read into a BoostCatalog")
+public class BoostCatalogLoadEvent extends jdk.jfr.Event
+{
+    @Label("Binary")
+    private boolean binary;
+
+    @Label("Boosts")
+    private int boosts;
+
+    @Label("File Name")
+    private String fileName;
+
+    @Label("File Size")
+    @DataAmount
+    private long fileSize;
+
+    /**
+     * Begins an event.
+     *
+     * @return BoostCatalogLoadEvent The event
+     */
+    public static BoostCatalogLoadEvent start()
+    {
+        BoostCatalogLoadEvent event = new BoostCatalogLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event once the file has been read, and commits it if it is being recorded.
+     *
+     * @param fileName The name of the boosts file
+     * @param fileSize The size of the file in bytes, or 0 if it could not be read
+     * @param binary Whether the file was in the binary format
+     * @param boosts The number of boosts read
+     */
+    public void end(String fileName, long fileSize, boolean binary, int boosts)
+    {
+        if (!shouldCommit())
+        {
+            return;
+        }
+        this.binary = binary;
+        this.boosts = boosts;
+        this.fileName = fileName;
+        this.fileSize = fileSize;
+        commit();
+    }
+}
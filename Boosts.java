@@ -1,16 +1,18 @@
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Scanner;
 
 /**
  * Boosts class
  * 
  * This class is used to read boosts from file and store them in an ArrayList
  * 
+ * The file is parsed once and shared through BoostCatalog, so creating a Boosts object does not read the file
+ * again unless it has changed.
+ * 
  * @author Daniel Hardej
  * @version 1.0
  * @since 2023-12-02
  * @see Grid
+ * @see BoostCatalog
  * Last Updated: 2023-12-02
  * 
  */
@@ -19,6 +21,7 @@ public class Boosts {
 
     private ArrayList<int[]> boosts;
     private String BOOSTS_FILE_NAME;
+    private BoostCatalog catalog;
     private int numberOfBoosts;
     
     /**
@@ -26,9 +29,10 @@ public class Boosts {
      */
     public Boosts()
     {
-        this.BOOSTS_FILE_NAME = "boosts.txt";
+        this.BOOSTS_FILE_NAME = BoostCatalog.DEFAULT_FILE_NAME;
+        this.catalog = BoostCatalog.get(this.BOOSTS_FILE_NAME);
         this.numberOfBoosts = getNumberOfBoosts();
-        this.boosts = new ArrayList<int[]>();
+        this.boosts = readBoostsFromFile();
     }
 
     /**
@@ -59,9 +63,7 @@ public class Boosts {
      */
     public int getNumberOfBoosts()
     {
-        FileIO fileIO = new FileIO();
-        int numberOfBoosts = fileIO.getNumLines(this.BOOSTS_FILE_NAME);
-        return numberOfBoosts;
+        return this.catalog.size();
     }
 
     /**
@@ -71,26 +73,10 @@ public class Boosts {
      */
     public ArrayList<int[]> readBoostsFromFile()
     {
-        ArrayList<int[]> boosts = new ArrayList<int[]>();
-        FileIO fileIO = new FileIO();
-        try {
-            Scanner fileScanner = fileIO.getFileScanner(this.BOOSTS_FILE_NAME);
-            for (int i = 0; i < this.numberOfBoosts; i++) {
-                String[] boostLine = fileScanner.nextLine().split(",");
-                int currentDamageBoost = Integer.parseInt(boostLine[0]);
-                int currentDefenceBoost = Integer.parseInt(boostLine[1]);
-                int currentCoinBoost = Integer.parseInt(boostLine[2]);
-                int[] currentBoost = {currentDamageBoost, currentDefenceBoost, currentCoinBoost};
-                try {
-                    boosts.add(currentBoost);
-                } catch (Exception e) {
-                    System.err.println("Error in adding boost: " + e.getMessage());
-                }
-                
-            }
-            fileScanner.close();
-        } catch (Exception e) {
-            System.err.println("Error in reading boosts file: " + e.getMessage());
+        ArrayList<int[]> boosts = new ArrayList<int[]>(this.numberOfBoosts);
+        for (int i = 0; i < this.numberOfBoosts; i++) {
+            int[] currentBoost = {this.catalog.getDamage(i), this.catalog.getDefence(i), this.catalog.getCoins(i)};
+            boosts.add(currentBoost);
         }
         return boosts;
     }
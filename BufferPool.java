@@ -0,0 +1,90 @@
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * BufferPool class
+ *
+ * A pool of direct byte buffers of one size. Direct buffers are slow to allocate and are only freed when the
+ * garbage collector gets round to them, so NioGameServer borrows one for a connection only while it has bytes
+ * to read or write, and hands it back once the connection is idle again. The pool keeps at most a fixed number
+ * of spare buffers and lets any more go.
+ *
+ * A pool belongs to one event loop thread and is not safe to share between threads.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see NioGameServer
+ */
+
+public class BufferPool
+{
+    private final int bufferSize;
+    private final ArrayDeque<ByteBuffer> buffers;
+    private final int maxPooledBuffers;
+    private long numAllocated;
+
+    /**
+     * Constructor for objects of class BufferPool
+     *
+     * @param bufferSize The capacity of each buffer, in bytes
+     * @param maxPooledBuffers The most spare buffers the pool keeps
+     */
+    public BufferPool(int bufferSize, int maxPooledBuffers)
+    {
+        this.bufferSize = bufferSize;
+        this.maxPooledBuffers = maxPooledBuffers;
+        this.buffers = new ArrayDeque<ByteBuffer>();
+        this.numAllocated = 0;
+    }
+
+    /**
+     * Takes a cleared buffer from the pool, allocating a new one if the pool is empty.
+     *
+     * @return ByteBuffer A direct buffer, ready to be filled
+     */
+    public ByteBuffer acquire()
+    {
+        ByteBuffer buffer = this.buffers.pollFirst();
+        if (buffer == null)
+        {
+            buffer = ByteBuffer.allocateDirect(this.bufferSize);
+            this.numAllocated++;
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns the number of buffers the pool has had to allocate.
+     *
+     * @return long The number of buffers allocated
+     */
+    public long getNumAllocated()
+    {
+        return this.numAllocated;
+    }
+
+    /**
+     * Returns the number of spare buffers in the pool.
+     *
+     * @return int The number of spare buffers
+     */
+    public int getNumPooled()
+    {
+        return this.buffers.size();
+    }
+
+    /**
+     * Gives a buffer back to the pool. The most recently returned buffer is handed out first, as it is the most
+     * likely to still be in the CPU's cache.
+     *
+     * @param buffer A buffer taken from this pool
+     */
+    public void release(ByteBuffer buffer)
+    {
+        if (this.buffers.size() < this.maxPooledBuffers)
+        {
+            buffer.clear();
+            this.buffers.addFirst(buffer);
+        }
+    }
+}
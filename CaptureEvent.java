@@ -0,0 +1,83 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * CaptureEvent class
+ *
+ * A Java Flight Recorder event spanning one capture attempt in the GameEngine, with the dice rolled and the
+ * scores they gave. Attempts that tie are recorded one event each.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameEngine
+ * @see TurnEvent
+ */
+
+@Name("ito4131.Capture")
+@Label("Capture")
+@Category({"ITO4131 Field", "Actions"})
+@Description("A capture attempt and its dice")
+@StackTrace(false)
+public class CaptureEvent extends jdk.jfr.Event
+{
+    @Label("Attack Roll")
+    private int attackRoll;
+
+    @Label("Attack Score")
+    private int attackScore;
+
+    @Label("Defence Roll")
+    private int defenceRoll;
+
+    @Label("Defence Score")
+    private int defenceScore;
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("Player")
+    private String player;
+
+    @Label("X")
+    private int x;
+
+    @Label("Y")
+    private int y;
+
+    /**
+     * Begins an event.
+     *
+     * @return CaptureEvent The event
+     */
+    public static CaptureEvent start()
+    {
+        CaptureEvent event = new CaptureEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event with the result of the capture, and commits it if it is being recorded.
+     *
+     * @param result The result of the capture
+     */
+    public void end(ActionResult result)
+    {
+        if (!shouldCommit())
+        {
+            return;
+        }
+        this.attackRoll = result.getAttackRoll();
+        this.attackScore = result.getAttackScore();
+        this.defenceRoll = result.getDefenceRoll();
+        this.defenceScore = result.getDefenceScore();
+        this.outcome = result.getOutcome().name();
+        this.player = result.getPlayer().getName();
+        this.x = result.getAction().getXCoordinate();
+        this.y = result.getAction().getYCoordinate();
+        commit();
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * ChunkedGridStorage class
+ * 
+ * Grid storage for very large grids. The squares are split into fixed size chunks, and a chunk is only allocated
+ * the first time a square in it is given an owner or a boost. Reading a square in a chunk that was never written
+ * returns 0 (unowned, no boost) without allocating anything.
+ * 
+ * Owners cost at most one byte per square once every chunk is in use. Boosts are kept in separate chunks, so the
+ * handful of chunks that contain a boost are the only ones that pay for a boost index.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GridStorage
+ * @see Grid
+ */
+
+public class ChunkedGridStorage implements GridStorage
+{
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+    private int[][] boostChunks;
+    private long memoryUsage;
+    private byte[][] ownerChunks;
+
+    /**
+     * Constructor for objects of class ChunkedGridStorage
+     * 
+     * @param numSquares The number of squares on the grid
+     */
+    public ChunkedGridStorage(int numSquares)
+    {
+        int numChunks = (int) (((long) numSquares + CHUNK_SIZE - 1) >> CHUNK_BITS);
+        this.ownerChunks = new byte[numChunks][];
+        this.boostChunks = new int[numChunks][];
+        this.memoryUsage = 2L * numChunks * Long.BYTES;
+    }
+
+    public GridStorage copy()
+    {
+        ChunkedGridStorage copy = new ChunkedGridStorage(0);
+        copy.ownerChunks = new byte[this.ownerChunks.length][];
+        copy.boostChunks = new int[this.boostChunks.length][];
+        for (int chunkIndex = 0; chunkIndex < this.ownerChunks.length; chunkIndex++)
+        {
+            copy.ownerChunks[chunkIndex] = (this.ownerChunks[chunkIndex] == null) ? null : this.ownerChunks[chunkIndex].clone();
+            copy.boostChunks[chunkIndex] = (this.boostChunks[chunkIndex] == null) ? null : this.boostChunks[chunkIndex].clone();
+        }
+        copy.memoryUsage = this.memoryUsage;
+        return copy;
+    }
+
+    public int getBoost(int squareIndex)
+    {
+        int[] chunk = this.boostChunks[squareIndex >>> CHUNK_BITS];
+        return (chunk == null) ? 0 : chunk[squareIndex & CHUNK_MASK];
+    }
+
+    public long getMemoryUsage()
+    {
+        return this.memoryUsage;
+    }
+
+    public byte getOwner(int squareIndex)
+    {
+        byte[] chunk = this.ownerChunks[squareIndex >>> CHUNK_BITS];
+        return (chunk == null) ? 0 : chunk[squareIndex & CHUNK_MASK];
+    }
+
+    public void setBoost(int squareIndex, int boost)
+    {
+        int chunkIndex = squareIndex >>> CHUNK_BITS;
+        if (this.boostChunks[chunkIndex] == null)
+        {
+            if (boost == 0)
+            {
+                return;
+            }
+            this.boostChunks[chunkIndex] = new int[CHUNK_SIZE];
+            this.memoryUsage += (long) CHUNK_SIZE * Integer.BYTES;
+        }
+        this.boostChunks[chunkIndex][squareIndex & CHUNK_MASK] = boost;
+    }
+
+    public void setOwner(int squareIndex, byte ownerId)
+    {
+        int chunkIndex = squareIndex >>> CHUNK_BITS;
+        if (this.ownerChunks[chunkIndex] == null)
+        {
+            if (ownerId == 0)
+            {
+                return;
+            }
+            this.ownerChunks[chunkIndex] = new byte[CHUNK_SIZE];
+            this.memoryUsage += CHUNK_SIZE;
+        }
+        this.ownerChunks[chunkIndex][squareIndex & CHUNK_MASK] = ownerId;
+    }
+}
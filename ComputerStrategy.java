@@ -0,0 +1,92 @@
+/**
+ * ComputerStrategy class
+ * 
+ * The computer player's decisions, made with dice rolls. On the first turn the computer always captures a square.
+ * After that it strikes whenever it has a complete path, and otherwise rolls a D3 to capture, sabotage or strike.
+ * If the opponent has a complete path the computer always sabotages them. Sabotages are split 40/40/20 between
+ * decrementing attack, decrementing defence and taking a square; squares are only taken when the computer has a
+ * complete path of its own to protect. Captured squares are picked at random, and every cost is accepted.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see Strategy
+ * @see ComputerPlayer
+ */
+
+public class ComputerStrategy implements Strategy
+{
+    /**
+     * Default constructor for objects of class ComputerStrategy
+     */
+    public ComputerStrategy() {}
+
+    public boolean acceptCost(GameState state, Player currentPlayer, Action action, int cost)
+    {
+        return true;
+    }
+
+    public Action chooseAction(GameState state, Player currentPlayer, Player opponentPlayer)
+    {
+        Grid grid = state.getGrid();
+        int playerChoice = (state.getNumTurns() == 1) ? 1 : ( currentPlayer.hasCompletePath(grid) ? 3 : Dice.D3(state.getRandom()) );
+        if (opponentPlayer.hasCompletePath(grid))
+        {
+            playerChoice = 2;
+        }
+        switch (playerChoice)
+        {
+            case 1:
+                return chooseCapture(state, currentPlayer, opponentPlayer);
+            case 2:
+                return chooseSabotage(state, currentPlayer, opponentPlayer);
+            default:
+                return Action.strike();
+        }
+    }
+
+    /**
+     * Picks a random square that the opponent does not own. If the opponent owns every square there is nothing
+     * to capture, so the computer decrements the opponent's attack instead.
+     */
+    public Action chooseCapture(GameState state, Player currentPlayer, Player opponentPlayer)
+    {
+        int gridSize = state.getGrid().getGridSize();
+        if (opponentPlayer.getNumSquaresCaptured() >= gridSize * gridSize)
+        {
+            return Action.decrementAttack();
+        }
+        int[] capturedCoordinates = new int[2];
+        do
+        {
+            capturedCoordinates[0] = Dice.getRandomNumber(state.getRandom(), 1, gridSize);
+            capturedCoordinates[1] = Dice.getRandomNumber(state.getRandom(), 1, gridSize);
+        } while (opponentPlayer.hasCapturedSquare(capturedCoordinates, state.getGrid()));
+        return Action.capture(capturedCoordinates[0], capturedCoordinates[1]);
+    }
+
+    /**
+     * Chooses how to sabotage the opponent. Taking a square is only possible when the computer has a complete
+     * path, and falls back to decrementing attack if the opponent has no squares to take.
+     * 
+     * @param state The current state of the game
+     * @param currentPlayer The computer player
+     * @param opponentPlayer The player being sabotaged
+     * @return Action The chosen sabotage
+     */
+    private Action chooseSabotage(GameState state, Player currentPlayer, Player opponentPlayer)
+    {
+        int computerChoice = (currentPlayer.hasCompletePath(state.getGrid())) ? Dice.getRandomNumber(state.getRandom(), 1, 10) : Dice.getRandomNumber(state.getRandom(), 1, 8);
+        if (computerChoice <= 4) {        // 40% chance
+            return Action.decrementAttack();
+        } else if (computerChoice <= 8) { // 40% chance
+            return Action.decrementDefence();
+        }
+        CoordinateSet opponentSquaresCaptured = opponentPlayer.getSquaresCaptured();
+        if (opponentSquaresCaptured.isEmpty())
+        {
+            return Action.decrementAttack();
+        }
+        int randomSquare = Dice.getRandomNumber(state.getRandom(), 0, opponentSquaresCaptured.size() - 1);
+        return Action.sabotageSquare(opponentSquaresCaptured.getX(randomSquare), opponentSquaresCaptured.getY(randomSquare));
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * ConsoleStrategy class
+ * 
+ * Lets a person play by typing their moves at the console. Each turn the player chooses from the main menu, then
+ * the sabotage menu if they chose to sabotage, and enters the coordinates of any square they want to target.
+ * Sabotage costs are shown to the player to accept or reject.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see Strategy
+ * @see HumanPlayer
+ * @see Input
+ */
+
+public class ConsoleStrategy implements Strategy
+{
+    private Input playerInput;
+
+    /**
+     * Default constructor for objects of class ConsoleStrategy
+     */
+    public ConsoleStrategy()
+    {
+        this.playerInput = new Input();
+    }
+
+    public boolean acceptCost(GameState state, Player currentPlayer, Action action, int cost)
+    {
+        String acceptSabotageCost = playerInput.getStringInput("This will cost you " + cost + " coins. Do you accept? (Y/N): ");
+        return acceptSabotageCost.trim().equalsIgnoreCase("Y");
+    }
+
+    public Action chooseAction(GameState state, Player currentPlayer, Player opponentPlayer)
+    {
+        System.out.println("Which move would you like to make?");
+        System.out.println("\t1. Capture a grid spot");
+        System.out.println("\t2. Sabotage the your opponent");
+        System.out.println("\t3. Strike your opponent's heart");
+        int playerChoice = playerInput.getIntegerInput("Enter your choice: ");
+        while (playerChoice < 1 || playerChoice > 3)
+        {
+            playerChoice = playerInput.getIntegerInput("Please enter a valid choice: ");
+        }
+        switch (playerChoice)
+        {
+            case 1:
+                return chooseCapture(state, currentPlayer, opponentPlayer);
+            case 2:
+                return chooseSabotage(state, currentPlayer, opponentPlayer);
+            default:
+                return Action.strike();
+        }
+    }
+
+    public Action chooseCapture(GameState state, Player currentPlayer, Player opponentPlayer)
+    {
+        System.out.println("Enter the coordinates of the tile you would like to capture.");
+        int[] capturedCoordinates = getCoordinatesInput(state.getGrid());
+        while (opponentPlayer.hasCapturedSquare(capturedCoordinates, state.getGrid()))
+        {
+            System.out.println("You cannot capture a tile that has already been captured by your opponent.");
+            capturedCoordinates = getCoordinatesInput(state.getGrid());
+        }
+        return Action.capture(capturedCoordinates[0], capturedCoordinates[1]);
+    }
+
+    /**
+     * Asks the player how they would like to sabotage their opponent, and which square to take if they choose
+     * to sabotage a square.
+     * 
+     * @param state The current state of the game
+     * @param currentPlayer The player whose turn it is
+     * @param opponentPlayer The player being sabotaged
+     * @return Action The chosen sabotage
+     */
+    private Action chooseSabotage(GameState state, Player currentPlayer, Player opponentPlayer)
+    {
+        System.out.println("How would you like to sabotage your opponent?");
+        System.out.println("\t1. Decrement the opponent's attack by 2");
+        System.out.println("\t2. Decrement the opponent's defence by 2");
+        System.out.println("\t3. Sabotage an opponent's grid square");
+        int sabotageChoice = playerInput.getIntegerInput("Enter your choice: ");
+        while (sabotageChoice < 1 || sabotageChoice > 3 || (sabotageChoice == 3 && opponentPlayer.getSquaresCaptured().isEmpty()))
+        {
+            if (sabotageChoice == 3)
+            {
+                System.out.println("Your opponent has not captured any tiles yet.");
+            }
+            sabotageChoice = playerInput.getIntegerInput("Please enter a valid choice: ");
+        }
+        switch (sabotageChoice)
+        {
+            case 1:
+                return Action.decrementAttack();
+            case 2:
+                return Action.decrementDefence();
+            default:
+                System.out.println("Enter the coordinates of the tile you would like to capture.");
+                int[] capturedCoordinates = getCoordinatesInput(state.getGrid());
+                while (!opponentPlayer.hasCapturedSquare(capturedCoordinates, state.getGrid()))
+                {
+                    System.out.print("Please enter coordinates of a valid tile. Valid coordinates: ");
+                    CoordinateSet opponentSquaresCaptured = opponentPlayer.getSquaresCaptured();
+                    for (int i = 0; i < opponentSquaresCaptured.size(); i++)
+                    {
+                        System.out.print("(" + opponentSquaresCaptured.getX(i) + ", " + opponentSquaresCaptured.getY(i) + ") ");
+                    }
+                    System.out.println();
+                    capturedCoordinates = getCoordinatesInput(state.getGrid());
+                }
+                return Action.sabotageSquare(capturedCoordinates[0], capturedCoordinates[1]);
+        }
+    }
+
+    /**
+     * Prompts the player for the x and y coordinates of a square on the grid.
+     * 
+     * @param grid The grid
+     * @return int[] The coordinates, in the format [x, y]
+     */
+    private int[] getCoordinatesInput(Grid grid)
+    {
+        int[] coordinates = new int[2];
+        coordinates[0] = playerInput.getIntegerInput("Enter the x coordinate: ");
+        while (coordinates[0] < 1 || coordinates[0] > grid.getGridSize())
+        {
+            coordinates[0] = playerInput.getIntegerInput("Please enter a valid x coordinate: ");
+        }
+        coordinates[1] = playerInput.getIntegerInput("Enter the y coordinate: ");
+        while (coordinates[1] < 1 || coordinates[1] > grid.getGridSize())
+        {
+            coordinates[1] = playerInput.getIntegerInput("Please enter a valid y coordinate: ");
+        }
+        return coordinates;
+    }
+}
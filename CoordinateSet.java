@@ -0,0 +1,309 @@
+import java.util.Arrays;
+
+/**
+ * CoordinateSet class
+ * 
+ * A set of grid coordinates, stored without allocating an object per coordinate. Each coordinate is packed
+ * into a single long, and the coordinates are kept in a dense array so they can be iterated by position.
+ * An open-addressing hash table maps each packed coordinate to its position in the array, so adding,
+ * removing and checking for a coordinate all take constant time.
+ * 
+ * Removing a coordinate moves the last coordinate into its place, so positions are not stable across removals.
+ * Inserting the coordinate back at the position it was removed from puts every position back as it was, which
+ * lets the GameEngine undo a move exactly.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see Player
+ */
+
+public class CoordinateSet
+{
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] coordinates;
+    private int size;
+    // Positions in the coordinates array are stored plus one, so that 0 can mark an empty slot
+    private int[] slots;
+    private int slotMask;
+
+    /**
+     * Default constructor for objects of class CoordinateSet
+     */
+    public CoordinateSet()
+    {
+        this.coordinates = new long[MIN_CAPACITY];
+        this.slots = new int[MIN_CAPACITY * 2];
+        this.slotMask = this.slots.length - 1;
+        this.size = 0;
+    }
+
+    /**
+     * Adds a coordinate to the set.
+     * 
+     * @param xCoordinate The x coordinate
+     * @param yCoordinate The y coordinate
+     * @return boolean true if the coordinate was added, false if it was already in the set
+     */
+    public boolean add(int xCoordinate, int yCoordinate)
+    {
+        long coordinate = pack(xCoordinate, yCoordinate);
+        int slot = findSlot(coordinate);
+        if (this.slots[slot] != 0)
+        {
+            return false;
+        }
+        if (this.size == this.coordinates.length)
+        {
+            grow();
+            slot = findSlot(coordinate);
+        }
+        this.coordinates[this.size] = coordinate;
+        this.size++;
+        this.slots[slot] = this.size;
+        return true;
+    }
+
+    /**
+     * Creates a copy of the set, which can be changed without changing this set.
+     * 
+     * @return CoordinateSet The copy
+     */
+    public CoordinateSet copy()
+    {
+        CoordinateSet copy = new CoordinateSet();
+        copy.coordinates = this.coordinates.clone();
+        copy.slots = this.slots.clone();
+        copy.slotMask = this.slotMask;
+        copy.size = this.size;
+        return copy;
+    }
+
+    /**
+     * Removes every coordinate from the set.
+     */
+    public void clear()
+    {
+        Arrays.fill(this.slots, 0);
+        this.size = 0;
+    }
+
+    /**
+     * Checks whether a coordinate is in the set.
+     * 
+     * @param xCoordinate The x coordinate
+     * @param yCoordinate The y coordinate
+     * @return boolean indicating whether the coordinate is in the set
+     */
+    public boolean contains(int xCoordinate, int yCoordinate)
+    {
+        return this.slots[findSlot(pack(xCoordinate, yCoordinate))] != 0;
+    }
+
+    /**
+     * Returns the x coordinate at a position in the set.
+     * 
+     * @param position The position, between 0 and size() - 1
+     * @return int The x coordinate
+     */
+    public int getX(int position)
+    {
+        checkPosition(position);
+        return (int) (this.coordinates[position] >> 32);
+    }
+
+    /**
+     * Returns the y coordinate at a position in the set.
+     * 
+     * @param position The position, between 0 and size() - 1
+     * @return int The y coordinate
+     */
+    public int getY(int position)
+    {
+        checkPosition(position);
+        return (int) this.coordinates[position];
+    }
+
+    /**
+     * Returns the position of a coordinate in the set.
+     * 
+     * @param xCoordinate The x coordinate
+     * @param yCoordinate The y coordinate
+     * @return int The position, or -1 if the coordinate is not in the set
+     */
+    public int indexOf(int xCoordinate, int yCoordinate)
+    {
+        return this.slots[findSlot(pack(xCoordinate, yCoordinate))] - 1;
+    }
+
+    /**
+     * Adds a coordinate at a position, moving the coordinate at that position to the end. This undoes remove().
+     * 
+     * @param position The position, between 0 and size()
+     * @param xCoordinate The x coordinate
+     * @param yCoordinate The y coordinate
+     * @return boolean true if the coordinate was added, false if it was already in the set
+     */
+    public boolean insert(int position, int xCoordinate, int yCoordinate)
+    {
+        if (position < 0 || position > this.size)
+        {
+            throw new IndexOutOfBoundsException("Position " + position + " is out of bounds for a set of size " + this.size + ".");
+        }
+        if (!add(xCoordinate, yCoordinate))
+        {
+            return false;
+        }
+        int lastPosition = this.size - 1;
+        if (position != lastPosition)
+        {
+            long coordinate = this.coordinates[lastPosition];
+            long movedCoordinate = this.coordinates[position];
+            // The slots must be found before the swap, as finding a slot checks the coordinate at its position
+            int slot = findSlot(coordinate);
+            int movedSlot = findSlot(movedCoordinate);
+            this.coordinates[position] = coordinate;
+            this.coordinates[lastPosition] = movedCoordinate;
+            this.slots[slot] = position + 1;
+            this.slots[movedSlot] = lastPosition + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the set is empty.
+     * 
+     * @return boolean indicating whether the set is empty
+     */
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes a coordinate from the set.
+     * 
+     * @param xCoordinate The x coordinate
+     * @param yCoordinate The y coordinate
+     * @return boolean true if the coordinate was removed, false if it was not in the set
+     */
+    public boolean remove(int xCoordinate, int yCoordinate)
+    {
+        int slot = findSlot(pack(xCoordinate, yCoordinate));
+        if (this.slots[slot] == 0)
+        {
+            return false;
+        }
+        int position = this.slots[slot] - 1;
+        deleteSlot(slot);
+        this.size--;
+        if (position != this.size)
+        {
+            long lastCoordinate = this.coordinates[this.size];
+            this.coordinates[position] = lastCoordinate;
+            this.slots[findSlot(lastCoordinate)] = position + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of coordinates in the set.
+     * 
+     * @return int The number of coordinates
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Throws an exception if a position is outside the set.
+     * 
+     * @param position The position to check
+     */
+    private void checkPosition(int position)
+    {
+        if (position < 0 || position >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Position " + position + " is out of bounds for a set of size " + this.size + ".");
+        }
+    }
+
+    /**
+     * Empties a slot in the hash table, shifting later entries in the same probe sequence back so that they
+     * can still be found.
+     * 
+     * @param slot The slot to empty
+     */
+    private void deleteSlot(int slot)
+    {
+        this.slots[slot] = 0;
+        int emptySlot = slot;
+        int nextSlot = (slot + 1) & this.slotMask;
+        while (this.slots[nextSlot] != 0)
+        {
+            int homeSlot = hash(this.coordinates[this.slots[nextSlot] - 1]) & this.slotMask;
+            if (((nextSlot - homeSlot) & this.slotMask) >= ((nextSlot - emptySlot) & this.slotMask))
+            {
+                this.slots[emptySlot] = this.slots[nextSlot];
+                this.slots[nextSlot] = 0;
+                emptySlot = nextSlot;
+            }
+            nextSlot = (nextSlot + 1) & this.slotMask;
+        }
+    }
+
+    /**
+     * Returns the slot holding a coordinate, or the empty slot where it would be inserted.
+     * 
+     * @param coordinate The packed coordinate
+     * @return int The slot in the hash table
+     */
+    private int findSlot(long coordinate)
+    {
+        int slot = hash(coordinate) & this.slotMask;
+        while (this.slots[slot] != 0 && this.coordinates[this.slots[slot] - 1] != coordinate)
+        {
+            slot = (slot + 1) & this.slotMask;
+        }
+        return slot;
+    }
+
+    /**
+     * Doubles the capacity of the set and rebuilds the hash table.
+     */
+    private void grow()
+    {
+        this.coordinates = Arrays.copyOf(this.coordinates, this.coordinates.length * 2);
+        this.slots = new int[this.coordinates.length * 2];
+        this.slotMask = this.slots.length - 1;
+        for (int position = 0; position < this.size; position++)
+        {
+            this.slots[findSlot(this.coordinates[position])] = position + 1;
+        }
+    }
+
+    /**
+     * Mixes the bits of a packed coordinate so that neighbouring coordinates are spread across the table.
+     * 
+     * @param coordinate The packed coordinate
+     * @return int The hash of the coordinate
+     */
+    private static int hash(long coordinate)
+    {
+        long hash = coordinate * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * Packs a coordinate into a long, with the x coordinate in the high 32 bits.
+     * 
+     * @param xCoordinate The x coordinate
+     * @param yCoordinate The y coordinate
+     * @return long The packed coordinate
+     */
+    private static long pack(int xCoordinate, int yCoordinate)
+    {
+        return ((long) xCoordinate << 32) | (yCoordinate & 0xFFFFFFFFL);
+    }
+}
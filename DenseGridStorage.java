@@ -0,0 +1,61 @@
+/**
+ * DenseGridStorage class
+ * 
+ * Grid storage that keeps one byte for the owner and one int for the boost of every square, in two flat arrays.
+ * This is the fastest storage and is used for normal sized grids.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GridStorage
+ * @see Grid
+ */
+
+public class DenseGridStorage implements GridStorage
+{
+    private int[] boosts;
+    private byte[] owners;
+
+    /**
+     * Constructor for objects of class DenseGridStorage
+     * 
+     * @param numSquares The number of squares on the grid
+     */
+    public DenseGridStorage(int numSquares)
+    {
+        this.owners = new byte[numSquares];
+        this.boosts = new int[numSquares];
+    }
+
+    public GridStorage copy()
+    {
+        DenseGridStorage copy = new DenseGridStorage(0);
+        copy.owners = this.owners.clone();
+        copy.boosts = this.boosts.clone();
+        return copy;
+    }
+
+    public int getBoost(int squareIndex)
+    {
+        return this.boosts[squareIndex];
+    }
+
+    public long getMemoryUsage()
+    {
+        return (long) this.owners.length * (Byte.BYTES + Integer.BYTES);
+    }
+
+    public byte getOwner(int squareIndex)
+    {
+        return this.owners[squareIndex];
+    }
+
+    public void setBoost(int squareIndex, int boost)
+    {
+        this.boosts[squareIndex] = boost;
+    }
+
+    public void setOwner(int squareIndex, byte ownerId)
+    {
+        this.owners[squareIndex] = ownerId;
+    }
+}
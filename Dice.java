@@ -1,4 +1,5 @@
-import java.lang.Math;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Dice class
@@ -7,7 +8,9 @@ import java.lang.Math;
  * choosing a random move for the computer and also when determining the attack
  * stats of players when the sabotage enemy moves are chosen.
  * 
- * Java's Math class is used to generate random numbers.
+ * Each roll can be made with a given random number generator, normally the GameRandom of the game being played,
+ * so that the game can be replayed from its seed. Rolls made without one use the current thread's
+ * ThreadLocalRandom, which is never shared between threads.
  * 
  * @author Daniel Hardej
  * @version 1.0
@@ -25,7 +28,7 @@ public class Dice {
      */
     public static int D2()
     {
-        return (int) (Math.random() * 2 + 1);
+        return ThreadLocalRandom.current().nextInt(2) + 1;
     }
 
     /**
@@ -35,7 +38,18 @@ public class Dice {
      */
     public static int D3()
     {
-        return (int) (Math.random() * 3 + 1);
+        return D3(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Emulates a dice roll, returning a random number between 1 and 3.
+     * 
+     * @param random The random number generator to roll with
+     * @return A random number between 1 and 3
+     */
+    public static int D3(RandomGenerator random)
+    {
+        return random.nextInt(3) + 1;
     }
 
     /**
@@ -45,7 +59,18 @@ public class Dice {
      */
     public static int D6()
     {
-        return (int) (Math.random() * 6 + 1);
+        return D6(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Emulates a dice roll, returning a random number between 1 and 6.
+     * 
+     * @param random The random number generator to roll with
+     * @return A random number between 1 and 6
+     */
+    public static int D6(RandomGenerator random)
+    {
+        return random.nextInt(6) + 1;
     }
 
     /**
@@ -58,6 +83,17 @@ public class Dice {
         return D6() + D6();
     }
 
+    /**
+     * Emulates a roll of two six-sided dice, returning the sum of the two dice.
+     * 
+     * @param random The random number generator to roll with
+     * @return the sum of two six-sided dice
+     */
+    public static int twoD6(RandomGenerator random)
+    {
+        return D6(random) + D6(random);
+    }
+
     /**
      * Emulates a roll of three six-sided dice, returning the sum of the three dice.
      * 
@@ -69,6 +105,17 @@ public class Dice {
         return D6() + D6() + D6();
     }
 
+    /**
+     * Emulates a roll of three six-sided dice, returning the sum of the three dice.
+     * 
+     * @param random The random number generator to roll with
+     * @return the sum of three six-sided dice
+     */
+    public static int threeD6(RandomGenerator random)
+    {
+        return D6(random) + D6(random) + D6(random);
+    }
+
     /**
      * Generates a random number between a minimum and maximum value.
      * 
@@ -79,6 +126,20 @@ public class Dice {
      */
     public static int getRandomNumber(int min, int max)
     {
-        return (int) (Math.random() * (max - min + 1)) + min;
+        return getRandomNumber(ThreadLocalRandom.current(), min, max);
+    }
+
+    /**
+     * Generates a random number between a minimum and maximum value.
+     * 
+     * @param random The random number generator to draw from
+     * @param min The minimum value of the random number
+     * @param max The maximum value of the random number
+     * 
+     * @return A random number between the minimum and maximum values
+     */
+    public static int getRandomNumber(RandomGenerator random, int min, int max)
+    {
+        return random.nextInt(max - min + 1) + min;
     }
 }
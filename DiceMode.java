@@ -0,0 +1,22 @@
+/**
+ * DiceMode enum
+ * 
+ * How the GameEngine resolves the dice of a capture.
+ * - ROLL rolls each die separately, as the console game always has.
+ * - TABLE draws the 3d6 and 2d6 totals from their exact distributions, one random number per total.
+ * - ANALYTIC skips the dice and decides the capture with one draw, using the chance of winning a capture
+ *   that does not tie. Captures never tie in this mode, and the results carry no rolls.
+ * All three modes give the same chance of a capture eventually succeeding.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see DiceTable
+ * @see GameEngine
+ */
+
+public enum DiceMode
+{
+    ROLL,
+    TABLE,
+    ANALYTIC
+}
@@ -0,0 +1,170 @@
+import java.util.random.RandomGenerator;
+
+/**
+ * DiceTable class
+ * 
+ * The exact distributions of the dice rolled in a capture, worked out once when the class is loaded.
+ * 
+ * The 2d6 and 3d6 totals are drawn from alias tables, so a roll takes one random number instead of one per die.
+ * For the analytic dice mode, the class also counts, for every difference between the attacker's damage and the
+ * defender's defence, how many of the 7,776 ways the five dice can land win the capture and how many lose it.
+ * A capture that ties is rolled again, so the chance of a capture eventually succeeding is wins / (wins + losses),
+ * and one draw decides it.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see AliasTable
+ * @see DiceMode
+ */
+
+public class DiceTable
+{
+    // Outside this range of damage minus defence, every capture that does not tie is won, or every one is lost
+    private static final int MAX_DIFFERENCE = 10;
+    private static final int MIN_DIFFERENCE = -17;
+    private static final int SIDES = 6;
+    // The number of ways the three attacking and two defending dice can land
+    private static final int CAPTURE_ROLLS = SIDES * SIDES * SIDES * SIDES * SIDES;
+
+    private static final int[] TWO_D6_COUNTS = getSumCounts(2);
+    private static final int[] THREE_D6_COUNTS = getSumCounts(3);
+    private static final AliasTable TWO_D6 = new AliasTable(2, TWO_D6_COUNTS);
+    private static final AliasTable THREE_D6 = new AliasTable(3, THREE_D6_COUNTS);
+    private static final int[] CAPTURE_WIN_COUNTS = new int[MAX_DIFFERENCE - MIN_DIFFERENCE + 1];
+    private static final int[] CAPTURE_LOSS_COUNTS = new int[MAX_DIFFERENCE - MIN_DIFFERENCE + 1];
+
+    static
+    {
+        for (int difference = MIN_DIFFERENCE; difference <= MAX_DIFFERENCE; difference++)
+        {
+            for (int attack = 0; attack < THREE_D6_COUNTS.length; attack++)
+            {
+                for (int defence = 0; defence < TWO_D6_COUNTS.length; defence++)
+                {
+                    // The smallest 3d6 total is 3 and the smallest 2d6 total is 2
+                    int margin = (attack + 3 + difference) - (defence + 2);
+                    int ways = THREE_D6_COUNTS[attack] * TWO_D6_COUNTS[defence];
+                    if (margin > 0)
+                    {
+                        CAPTURE_WIN_COUNTS[difference - MIN_DIFFERENCE] += ways;
+                    }
+                    else if (margin < 0)
+                    {
+                        CAPTURE_LOSS_COUNTS[difference - MIN_DIFFERENCE] += ways;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts how many ways each total of a number of six-sided dice can be rolled.
+     * 
+     * @param numDice The number of dice
+     * @return int[] The number of ways of rolling each total, starting from a total of numDice
+     */
+    private static int[] getSumCounts(int numDice)
+    {
+        int[] counts = {1};
+        for (int die = 0; die < numDice; die++)
+        {
+            int[] nextCounts = new int[counts.length + SIDES - 1];
+            for (int total = 0; total < counts.length; total++)
+            {
+                for (int face = 0; face < SIDES; face++)
+                {
+                    nextCounts[total + face] += counts[total];
+                }
+            }
+            counts = nextCounts;
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the index into the capture tables for a damage and defence.
+     * 
+     * @param damage The attacking player's damage
+     * @param defence The defending player's defence
+     * @return int The index of the clamped difference
+     */
+    private static int getCaptureIndex(int damage, int defence)
+    {
+        long difference = (long) damage - defence;
+        return (int) (Math.max(MIN_DIFFERENCE, Math.min(MAX_DIFFERENCE, difference)) - MIN_DIFFERENCE);
+    }
+
+    /**
+     * Returns the chance of a capture succeeding, counting only rolls that do not tie.
+     * 
+     * @param damage The attacking player's damage
+     * @param defence The defending player's defence
+     * @return double The chance that 3d6 + damage beats 2d6 + defence, given that they are not equal
+     */
+    public static double getCaptureProbability(int damage, int defence)
+    {
+        int index = getCaptureIndex(damage, defence);
+        return (double) CAPTURE_WIN_COUNTS[index] / (CAPTURE_WIN_COUNTS[index] + CAPTURE_LOSS_COUNTS[index]);
+    }
+
+    /**
+     * Returns the exact chance of one roll of a capture having the given outcome, ties included, as a search that
+     * plays out ties needs.
+     *
+     * @param damage The attacking player's damage
+     * @param defence The defending player's defence
+     * @param outcome SUCCESS, FAILED or TIE
+     * @return double The chance of the outcome, out of the 7,776 ways the five dice can land
+     */
+    public static double getCaptureOutcomeProbability(int damage, int defence, ActionOutcome outcome)
+    {
+        int index = getCaptureIndex(damage, defence);
+        switch (outcome)
+        {
+            case SUCCESS:
+                return (double) CAPTURE_WIN_COUNTS[index] / CAPTURE_ROLLS;
+            case FAILED:
+                return (double) CAPTURE_LOSS_COUNTS[index] / CAPTURE_ROLLS;
+            case TIE:
+                return (double) (CAPTURE_ROLLS - CAPTURE_WIN_COUNTS[index] - CAPTURE_LOSS_COUNTS[index]) / CAPTURE_ROLLS;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Decides a capture with a single draw, with the same chance of success as rolling until there is no tie.
+     * 
+     * @param random The random number generator to draw with
+     * @param damage The attacking player's damage
+     * @param defence The defending player's defence
+     * @return boolean indicating whether the capture succeeds
+     */
+    public static boolean resolveCapture(RandomGenerator random, int damage, int defence)
+    {
+        int index = getCaptureIndex(damage, defence);
+        return random.nextInt(CAPTURE_WIN_COUNTS[index] + CAPTURE_LOSS_COUNTS[index]) < CAPTURE_WIN_COUNTS[index];
+    }
+
+    /**
+     * Rolls two six-sided dice, drawing the total from its distribution.
+     * 
+     * @param random The random number generator to draw with
+     * @return int The sum of two six-sided dice
+     */
+    public static int twoD6(RandomGenerator random)
+    {
+        return TWO_D6.sample(random);
+    }
+
+    /**
+     * Rolls three six-sided dice, drawing the total from its distribution.
+     * 
+     * @param random The random number generator to draw with
+     * @return int The sum of three six-sided dice
+     */
+    public static int threeD6(RandomGenerator random)
+    {
+        return THREE_D6.sample(random);
+    }
+}
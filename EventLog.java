@@ -0,0 +1,70 @@
+/**
+ * EventLog class
+ * 
+ * The layout of the binary game log written by EventLogWriter and read by EventLogReader.
+ * 
+ * Every number is written as a varint: seven bits per byte, lowest bits first, with the top bit of each byte set
+ * if another byte follows. Numbers that can be negative are zigzag encoded first (0, -1, 1, -2, ... become
+ * 0, 1, 2, 3, ...), so small negative numbers stay short too. Most events fit in under a dozen bytes.
+ * 
+ * A log starts with the bytes "FLOG" and the format version, followed by:
+ * - GAME_START: grid size, seed (zigzag), number of boosts, then x, y, damage, defence and coins (zigzag) for each
+ *   boost, then for each player the name (length and UTF-8 bytes), damage, defence, coins, hearts (zigzag) and
+ *   1 if the player is human or 0 if not.
+ * - TURN: the turn number, written when the first move of a turn starts.
+ * - ACTION: player id (1 or 2), action type, outcome, x and y (zigzag), attack roll, defence roll and cost.
+ * - GAME_OVER: the id of the winner.
+ * - SNAPSHOT: the whole state of the game at the end of a turn: the turn number; damage, defence, coins and
+ *   hearts (zigzag) of each player; for each player the number of squares they own and the square indexes
+ *   ((y - 1) * grid size + (x - 1)) in the order the player holds them; and the number of boosts collected, with
+ *   their indexes in ascending order, each written as the gap from the one before.
+ * Each event starts with its event type.
+ * 
+ * A log written with snapshots has a sidecar index file, named after the log with INDEX_SUFFIX added. It holds
+ * INDEX_MAGIC, the snapshot interval as a 4-byte integer, then the byte offset in the log of each snapshot as
+ * an 8-byte integer, in turn order. The snapshot at the end of turn k * interval is entry k - 1, so finding the
+ * nearest snapshot to a turn needs no search.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see EventLogWriter
+ * @see EventLogReader
+ */
+
+public class EventLog
+{
+    public static final int ACTION = 3;
+    public static final int GAME_OVER = 4;
+    public static final int GAME_START = 1;
+    public static final byte[] INDEX_MAGIC = {'F', 'I', 'D', 'X'};
+    public static final int INDEX_HEADER_SIZE = 8;
+    public static final String INDEX_SUFFIX = ".idx";
+    public static final byte[] MAGIC = {'F', 'L', 'O', 'G'};
+    public static final int SNAPSHOT = 5;
+    public static final int TURN = 2;
+    // Version 1 logs have no snapshots. Version 2 snapshots write each player's squares in ascending order, as
+    // gaps, rather than in the order the player holds them. Both are otherwise the same as version 3
+    public static final int VERSION = 3;
+
+    /**
+     * Zigzag encodes a number, so that numbers near zero of either sign become small positive numbers.
+     * 
+     * @param value The number to encode
+     * @return long The encoded number
+     */
+    public static long encodeZigzag(long value)
+    {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Decodes a zigzag encoded number.
+     * 
+     * @param value The encoded number
+     * @return long The original number
+     */
+    public static long decodeZigzag(long value)
+    {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
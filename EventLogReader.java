@@ -0,0 +1,551 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * EventLogReader class
+ * 
+ * Reads a game recorded by an EventLogWriter. The reader rebuilds the game's starting position from the log,
+ * then replays the recorded actions into it with GameEngine.replayAction(), so the state of the game at the
+ * end of any turn can be reconstructed without rolling any dice. It can also convert the log into the same
+ * kind of text as the console game's game_log.txt.
+ * 
+ * If the log was written with snapshots, seek() finds the nearest snapshot at or before a turn through the index
+ * file, restores it and replays only the turns after it.
+ * 
+ * Run with "java EventLogReader <log file> [turn]" to print the players and grid at the end of a turn (the
+ * end of the game by default, found with seek()), or "java EventLogReader <log file> text" to print the whole
+ * game as text.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see EventLog
+ * @see EventLogWriter
+ */
+
+public class EventLogReader
+{
+    private int[][] boosts;
+    private byte[] data;
+    private int eventsStart;
+    private int gridSize;
+    // The snapshot index, or null if the log has none
+    private ByteBuffer index;
+    private boolean[] playersHuman;
+    private String[] playerNames;
+    // Damage, defence, coins and hearts of each player at the start of the game
+    private int[][] playerStats;
+    private int position;
+    private long seed;
+    private int version;
+
+    /**
+     * Constructor for objects of class EventLogReader, which reads the whole log file into memory.
+     * 
+     * @param fileName The name of the log file
+     * @throws IOException if the file cannot be read or is not an event log
+     */
+    public EventLogReader(String fileName) throws IOException
+    {
+        this(Files.readAllBytes(Path.of(fileName)), readIndexFile(fileName));
+    }
+
+    /**
+     * Constructor for objects of class EventLogReader, for a log without an index.
+     * 
+     * @param data The contents of the log
+     * @throws IOException if the data is not an event log
+     */
+    public EventLogReader(byte[] data) throws IOException
+    {
+        this(data, null);
+    }
+
+    /**
+     * Constructor for objects of class EventLogReader
+     * 
+     * @param data The contents of the log
+     * @param indexData The contents of the log's snapshot index, or null if it has none
+     * @throws IOException if the data is not an event log, or the index is not a snapshot index
+     */
+    public EventLogReader(byte[] data, byte[] indexData) throws IOException
+    {
+        this.data = data;
+        if (indexData != null)
+        {
+            this.index = ByteBuffer.wrap(indexData);
+            for (byte magicByte : EventLog.INDEX_MAGIC)
+            {
+                if (this.index.remaining() < EventLog.INDEX_HEADER_SIZE || this.index.get() != magicByte)
+                {
+                    throw new IOException("Not an event log index.");
+                }
+            }
+        }
+        for (byte magicByte : EventLog.MAGIC)
+        {
+            if (this.position >= data.length || data[this.position++] != magicByte)
+            {
+                throw new IOException("Not an event log.");
+            }
+        }
+        this.version = (int) readVarint();
+        if (this.version < 1 || this.version > EventLog.VERSION)
+        {
+            throw new IOException("Unsupported event log version: " + this.version);
+        }
+        if (readVarint() != EventLog.GAME_START)
+        {
+            throw new IOException("The event log does not start with the start of a game.");
+        }
+        this.gridSize = (int) readVarint();
+        this.seed = readSigned();
+        this.boosts = new int[(int) readVarint()][];
+        for (int i = 0; i < this.boosts.length; i++)
+        {
+            this.boosts[i] = new int[]{(int) readVarint(), (int) readVarint(), (int) readSigned(), (int) readSigned(), (int) readSigned()};
+        }
+        this.playerNames = new String[2];
+        this.playerStats = new int[2][];
+        this.playersHuman = new boolean[2];
+        for (int i = 0; i < 2; i++)
+        {
+            int nameLength = (int) readVarint();
+            this.playerNames[i] = new String(data, this.position, nameLength, StandardCharsets.UTF_8);
+            this.position += nameLength;
+            this.playerStats[i] = new int[]{(int) readSigned(), (int) readSigned(), (int) readSigned(), (int) readSigned()};
+            this.playersHuman[i] = readVarint() == 1;
+        }
+        this.eventsStart = this.position;
+    }
+
+    /**
+     * Prints the state of a recorded game at the end of a turn, or the game as text.
+     * 
+     * @param args The log file name, and either a turn number or "text" (optional)
+     */
+    public static void main(String[] args)
+    {
+        if (args.length == 0)
+        {
+            System.out.println("Usage: java EventLogReader <log file> [turn | text]");
+            return;
+        }
+        try
+        {
+            EventLogReader reader = new EventLogReader(args[0]);
+            if (args.length > 1 && args[1].equals("text"))
+            {
+                StringBuilder text = new StringBuilder();
+                reader.writeText(text);
+                System.out.print(text);
+                return;
+            }
+            int turn = (args.length > 1) ? Integer.parseInt(args[1]) : Integer.MAX_VALUE;
+            GameState state = reader.seek(turn);
+            Grid grid = state.getGrid();
+            System.out.println("Turn " + state.getNumTurns() + ((state.getWinner() != null) ? ", won by " + state.getWinner().getName() : ""));
+            System.out.print(state.getPlayer(0).getPlayerStats(grid));
+            System.out.print(state.getPlayer(1).getPlayerStats(grid));
+            grid.displayGrid();
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in reading the event log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Creates the game as it was before its first turn.
+     * 
+     * @return GameState The starting position of the recorded game
+     */
+    public GameState createGameState()
+    {
+        Grid grid = new Grid(this.gridSize, this.boosts, new GameRandom(this.seed));
+        Player firstPlayer = createPlayer(0);
+        Player secondPlayer = createPlayer(1);
+        return new GameState(grid, firstPlayer, secondPlayer);
+    }
+
+    /**
+     * Replays the recorded game up to the end of a turn.
+     * 
+     * @param lastTurn The turn to stop after; a turn past the end of the game replays the whole game
+     * @return GameState The state of the game at the end of the turn
+     * @throws IOException if the log is damaged
+     */
+    public GameState replay(int lastTurn) throws IOException
+    {
+        GameState state = createGameState();
+        replay(state, new GameEngine(), lastTurn);
+        return state;
+    }
+
+    /**
+     * Replays the recorded actions into a game, from the start of the log up to the end of a turn.
+     * 
+     * @param state A game in the recorded starting position, as made by createGameState()
+     * @param engine The engine to replay the actions with
+     * @param lastTurn The turn to stop after
+     * @return int The number of events replayed
+     * @throws IOException if the log is damaged
+     */
+    public int replay(GameState state, GameEngine engine, int lastTurn) throws IOException
+    {
+        return replayEvents(state, engine, this.eventsStart, lastTurn);
+    }
+
+    /**
+     * Rebuilds the game at the end of a turn, starting from the nearest snapshot at or before the turn if the log
+     * has a snapshot index, and from the start of the game otherwise.
+     * 
+     * @param turn The turn; a turn past the end of the game gives the final state
+     * @return GameState The state of the game at the end of the turn
+     * @throws IOException if the log or its index is damaged
+     */
+    public GameState seek(int turn) throws IOException
+    {
+        GameState state = createGameState();
+        GameEngine engine = new GameEngine();
+        if (this.index != null)
+        {
+            int snapshotInterval = this.index.getInt(EventLog.MAGIC.length);
+            int numSnapshots = (this.index.capacity() - EventLog.INDEX_HEADER_SIZE) / Long.BYTES;
+            int snapshotNumber = Math.min(turn / snapshotInterval, numSnapshots);
+            if (snapshotNumber > 0)
+            {
+                long offset = this.index.getLong(EventLog.INDEX_HEADER_SIZE + (snapshotNumber - 1) * Long.BYTES);
+                this.position = (int) offset;
+                if (readVarint() != EventLog.SNAPSHOT)
+                {
+                    throw new IOException("The index does not point to a snapshot at byte " + offset + ".");
+                }
+                readSnapshot(state);
+                replayEvents(state, engine, this.position, turn);
+                return state;
+            }
+        }
+        replayEvents(state, engine, this.eventsStart, turn);
+        return state;
+    }
+
+    /**
+     * Replays the recorded actions into a game, from a point in the log up to the end of a turn.
+     * 
+     * @param state The game, in the state it was in at the point in the log
+     * @param engine The engine to replay the actions with
+     * @param start The offset in the log of the first event to replay
+     * @param lastTurn The turn to stop after
+     * @return int The number of events replayed
+     * @throws IOException if the log is damaged
+     */
+    private int replayEvents(GameState state, GameEngine engine, int start, int lastTurn) throws IOException
+    {
+        ActionType[] actionTypes = ActionType.values();
+        ActionOutcome[] outcomes = ActionOutcome.values();
+        this.position = start;
+        int numEvents = 0;
+        while (this.position < this.data.length)
+        {
+            int eventStart = this.position;
+            int eventType = (int) readVarint();
+            if (eventType == EventLog.TURN)
+            {
+                int turn = (int) readVarint();
+                if (turn > lastTurn)
+                {
+                    this.position = eventStart;
+                    break;
+                }
+                while (state.getNumTurns() < turn)
+                {
+                    state.nextTurn();
+                }
+            }
+            else if (eventType == EventLog.ACTION)
+            {
+                Player player = state.getPlayer((int) readVarint() - 1);
+                ActionType type = actionTypes[(int) readVarint()];
+                ActionOutcome outcome = outcomes[(int) readVarint()];
+                int xCoordinate = (int) readSigned();
+                int yCoordinate = (int) readSigned();
+                readVarint();
+                readVarint();
+                int cost = (int) readVarint();
+                engine.replayAction(state, player, new Action(type, xCoordinate, yCoordinate), outcome, cost);
+            }
+            else if (eventType == EventLog.GAME_OVER)
+            {
+                readVarint();
+            }
+            else if (eventType == EventLog.SNAPSHOT)
+            {
+                skipSnapshot();
+            }
+            else
+            {
+                throw new IOException("Unknown event type " + eventType + " at byte " + eventStart + ".");
+            }
+            numEvents++;
+        }
+        return numEvents;
+    }
+
+    /**
+     * Restores a game in its starting position to the state recorded in a snapshot. The snapshot's event type
+     * has already been read.
+     * 
+     * @param state A game in the recorded starting position, as made by createGameState()
+     * @throws IOException if the log is damaged
+     */
+    private void readSnapshot(GameState state) throws IOException
+    {
+        int turn = (int) readVarint();
+        while (state.getNumTurns() < turn)
+        {
+            state.nextTurn();
+        }
+        for (int playerIndex = 0; playerIndex < 2; playerIndex++)
+        {
+            Player player = state.getPlayer(playerIndex);
+            player.setDamage((int) readSigned());
+            player.setDefence((int) readSigned());
+            player.setCoins((int) readSigned());
+            player.setHearts((int) readSigned());
+        }
+        Grid grid = state.getGrid();
+        int[] coordinates = new int[2];
+        for (int playerIndex = 0; playerIndex < 2; playerIndex++)
+        {
+            Player player = state.getPlayer(playerIndex);
+            int numSquares = (int) readVarint();
+            int squareIndex = 0;
+            for (int i = 0; i < numSquares; i++)
+            {
+                // Version 2 logs wrote the squares in ascending order, as gaps, so their order is not restored
+                squareIndex = (this.version >= 3) ? (int) readVarint() : squareIndex + (int) readVarint();
+                coordinates[0] = squareIndex % this.gridSize + 1;
+                coordinates[1] = squareIndex / this.gridSize + 1;
+                grid.updateGridWithSabotagedSquare(player, coordinates);
+                player.addSquareCaptured(coordinates);
+            }
+        }
+        int numCollected = (int) readVarint();
+        int boostIndex = 0;
+        for (int i = 0; i < numCollected; i++)
+        {
+            boostIndex += (int) readVarint();
+            grid.removePlacedBoost(boostIndex);
+        }
+    }
+
+    /**
+     * Reads past a snapshot. The snapshot's event type has already been read.
+     * 
+     * @throws IOException if the log is damaged
+     */
+    private void skipSnapshot() throws IOException
+    {
+        // The turn and four stats for each player, then the two lists of squares and the list of boosts
+        for (int i = 0; i < 9; i++)
+        {
+            readVarint();
+        }
+        for (int list = 0; list < 3; list++)
+        {
+            long count = readVarint();
+            for (long i = 0; i < count; i++)
+            {
+                readVarint();
+            }
+        }
+    }
+
+    /**
+     * Writes the recorded game as text, in the style of the console game's log, with the players' stats
+     * at the end of every turn.
+     * 
+     * @param text Where to write the text
+     * @throws IOException if the log is damaged or the text cannot be written
+     */
+    public void writeText(Appendable text) throws IOException
+    {
+        GameState state = createGameState();
+        GameEngine engine = new GameEngine();
+        Grid grid = state.getGrid();
+        ActionType[] actionTypes = ActionType.values();
+        ActionOutcome[] outcomes = ActionOutcome.values();
+        text.append("Game Start\n");
+        text.append("Players using a " + this.gridSize + "x" + this.gridSize + " grid\n");
+        text.append("Random seed: " + this.seed + "\n");
+        text.append("Starting stats:");
+        text.append(state.getPlayer(0).getPlayerStats(grid));
+        text.append(state.getPlayer(1).getPlayerStats(grid));
+        this.position = this.eventsStart;
+        while (this.position < this.data.length)
+        {
+            int eventStart = this.position;
+            int eventType = (int) readVarint();
+            if (eventType == EventLog.TURN)
+            {
+                int turn = (int) readVarint();
+                if (turn > 1)
+                {
+                    text.append(state.getPlayer(0).getPlayerStats(grid));
+                    text.append(state.getPlayer(1).getPlayerStats(grid));
+                }
+                while (state.getNumTurns() < turn)
+                {
+                    state.nextTurn();
+                }
+                text.append("Turn: " + turn + "\n");
+            }
+            else if (eventType == EventLog.ACTION)
+            {
+                Player player = state.getPlayer((int) readVarint() - 1);
+                Player opponent = state.getOpponent(player);
+                ActionType type = actionTypes[(int) readVarint()];
+                ActionOutcome outcome = outcomes[(int) readVarint()];
+                int xCoordinate = (int) readSigned();
+                int yCoordinate = (int) readSigned();
+                int attackRoll = (int) readVarint();
+                int defenceRoll = (int) readVarint();
+                int cost = (int) readVarint();
+                String tile = "(" + xCoordinate + ", " + yCoordinate + ")";
+                switch (type)
+                {
+                    case CAPTURE:
+                        text.append(player.getName() + " attempts to capture the tile at " + tile + ". ");
+                        if (outcome == ActionOutcome.INVALID)
+                        {
+                            text.append("The tile cannot be captured.\n");
+                            break;
+                        }
+                        if (attackRoll > 0)
+                        {
+                            text.append(player.getName() + " has rolled " + (attackRoll + player.getDamage()) + " and "
+                                + opponent.getName() + " has rolled " + (defenceRoll + opponent.getDefence()) + ". ");
+                        }
+                        text.append((outcome == ActionOutcome.SUCCESS) ? "Captured!\n" : (outcome == ActionOutcome.TIE) ? "Tied.\n" : "Failed.\n");
+                        break;
+                    case DECREMENT_ATTACK:
+                    case DECREMENT_DEFENCE:
+                        String stat = (type == ActionType.DECREMENT_ATTACK) ? "attack" : "defence";
+                        text.append(player.getName() + " attempts to decrement their opponent's " + stat + " by 2. ");
+                        text.append(getSabotageText(outcome, cost));
+                        break;
+                    case SABOTAGE_SQUARE:
+                        text.append(player.getName() + " attempts to sabotage " + opponent.getName() + "'s grid at " + tile + ". ");
+                        text.append(getSabotageText(outcome, cost));
+                        break;
+                    case STRIKE:
+                        text.append((outcome == ActionOutcome.SUCCESS) ? player.getName() + " has struck " + opponent.getName() + "'s heart!\n"
+                            : player.getName() + "'s strike failed - does not have a complete path across the grid.\n");
+                        break;
+                }
+                engine.replayAction(state, player, new Action(type, xCoordinate, yCoordinate), outcome, cost);
+            }
+            else if (eventType == EventLog.GAME_OVER)
+            {
+                text.append("Game Over!\n");
+                text.append("Winner: " + state.getPlayer((int) readVarint() - 1).getName() + "\n");
+            }
+            else if (eventType == EventLog.SNAPSHOT)
+            {
+                skipSnapshot();
+            }
+            else
+            {
+                throw new IOException("Unknown event type " + eventType + " at byte " + eventStart + ".");
+            }
+        }
+        text.append("Total number of turns: " + state.getNumTurns() + "\n");
+    }
+
+    /**
+     * Reads the snapshot index file of a log, if there is one.
+     * 
+     * @param fileName The name of the log file
+     * @return byte[] The contents of the index, or null if the log has no index
+     * @throws IOException if the index exists but cannot be read
+     */
+    private static byte[] readIndexFile(String fileName) throws IOException
+    {
+        Path indexPath = Path.of(fileName + EventLog.INDEX_SUFFIX);
+        return Files.exists(indexPath) ? Files.readAllBytes(indexPath) : null;
+    }
+
+    /**
+     * Creates one of the players with their recorded starting stats.
+     * 
+     * @param playerIndex 0 for the player who moves first, or 1 for the other player
+     * @return Player The player
+     */
+    private Player createPlayer(int playerIndex)
+    {
+        int[] stats = this.playerStats[playerIndex];
+        return new Player(this.playerNames[playerIndex], stats[0], stats[1], stats[2], stats[3], this.playersHuman[playerIndex]);
+    }
+
+    /**
+     * Describes the outcome of a sabotage.
+     * 
+     * @param outcome The outcome
+     * @param cost The cost of the sabotage
+     * @return String The description
+     */
+    private static String getSabotageText(ActionOutcome outcome, int cost)
+    {
+        switch (outcome)
+        {
+            case SUCCESS:
+                return "Sabotage successful. Cost of sabotage: " + cost + " coins.\n";
+            case REJECTED:
+                return "Declined the cost of " + cost + " coins.\n";
+            case NOT_ENOUGH_COINS:
+                return "Not enough coins for the cost of " + cost + " coins.\n";
+            default:
+                return "The sabotage is not possible.\n";
+        }
+    }
+
+    /**
+     * Reads a varint.
+     * 
+     * @return long The number
+     * @throws IOException if the log ends in the middle of the number
+     */
+    private long readVarint() throws IOException
+    {
+        long value = 0;
+        int shift = 0;
+        while (true)
+        {
+            if (this.position >= this.data.length)
+            {
+                throw new IOException("The event log ends in the middle of an event.");
+            }
+            byte b = this.data[this.position++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0)
+            {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    /**
+     * Reads a zigzag encoded varint.
+     * 
+     * @return long The number
+     * @throws IOException if the log ends in the middle of the number
+     */
+    private long readSigned() throws IOException
+    {
+        return EventLog.decodeZigzag(readVarint());
+    }
+}
@@ -0,0 +1,118 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * EventLogTest.java
+ *
+ * This class tests the EventLogWriter and EventLogReader classes, by recording seeded computer vs computer games
+ * and comparing the game the reader rebuilds at the end of each turn with the game as it was played.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see EventLogWriter
+ * @see EventLogReader
+ */
+
+public class EventLogTest {
+    public static void main(String[] args) throws IOException {
+        // Record games on grids of every playable size, with no snapshots, a snapshot every turn and a snapshot every
+        // seven turns, and compare replaying and seeking to the end of every turn, including the turns before the
+        // first snapshot and the final turn, with the game as it was at the end of that turn
+        int[] snapshotIntervals = {0, 1, 7};
+        int numTurnsChecked = 0;
+        int numReplayMismatches = 0;
+        int numSeekMismatches = 0;
+        int numFinalMismatches = 0;
+        for (int snapshotInterval : snapshotIntervals) {
+            for (int game = 0; game < 40; game++) {
+                GameState state = new GameState(new Grid(3 + game % 8, GameRandom.forStream(4131, game)), new HumanPlayer("Player 1"), new ComputerPlayer());
+                GameEngine engine = new GameEngine();
+                ByteArrayOutputStream logBytes = new ByteArrayOutputStream();
+                ByteArrayOutputStream indexBytes = (snapshotInterval > 0) ? new ByteArrayOutputStream() : null;
+                EventLogWriter eventLog = new EventLogWriter(logBytes, indexBytes, snapshotInterval);
+                engine.addListener(eventLog);
+                eventLog.writeGameStart(state);
+                ArrayList<GameState> turnStates = playGame(engine, state, 300);
+                eventLog.close();
+                EventLogReader reader = new EventLogReader(logBytes.toByteArray(), (indexBytes == null) ? null : indexBytes.toByteArray());
+                for (int turn = 1; turn <= turnStates.size(); turn++) {
+                    numTurnsChecked++;
+                    if (!isSameTurn(reader.replay(turn), turnStates.get(turn - 1))) {
+                        numReplayMismatches++;
+                    }
+                    if (!isSameTurn(reader.seek(turn), turnStates.get(turn - 1))) {
+                        numSeekMismatches++;
+                    }
+                }
+                if (!isSameTurn(reader.seek(turnStates.size() + 10), state)) {
+                    numFinalMismatches++;
+                }
+            }
+        }
+        System.out.println("Turns Checked: " + (numTurnsChecked > 3_000)); // Should print "true"
+        System.out.println("Replay Mismatches: " + numReplayMismatches); // Should print "0"
+        System.out.println("Seek Mismatches: " + numSeekMismatches); // Should print "0"
+        System.out.println("Seek Past The End Mismatches: " + numFinalMismatches); // Should print "0"
+    }
+
+    /**
+     * Plays a computer vs computer game as GameEngine.playGame() does, keeping a copy of the game at the end of
+     * each turn.
+     *
+     * @param engine The engine to play the game on, with the event log attached
+     * @param state The game to play
+     * @param maxTurns The turn limit
+     * @return ArrayList<GameState> The game at the end of each turn, the first turn first
+     */
+    private static ArrayList<GameState> playGame(GameEngine engine, GameState state, int maxTurns) {
+        Strategy strategy = new ComputerStrategy();
+        ArrayList<GameState> turnStates = new ArrayList<>();
+        while (true) {
+            engine.takeTurn(state, state.getPlayer(0), strategy);
+            if (!state.isGameOver()) {
+                engine.takeTurn(state, state.getPlayer(1), strategy);
+            }
+            turnStates.add(state.copy(state.getRandom()));
+            if (state.isGameOver() || state.getNumTurns() >= maxTurns) {
+                return turnStates;
+            }
+            state.nextTurn();
+        }
+    }
+
+    /**
+     * Checks whether a rebuilt game matches the game as it was played: the turn, the hash and both players'
+     * hearts, damage, defence, coins and captured squares in the order they hold them.
+     *
+     * @param state The rebuilt game
+     * @param expected The game as it was played
+     * @return boolean indicating whether the games match
+     */
+    private static boolean isSameTurn(GameState state, GameState expected) {
+        if (state.getNumTurns() != expected.getNumTurns() || state.hash() != expected.hash()) {
+            return false;
+        }
+        for (int playerIndex = 0; playerIndex < 2; playerIndex++) {
+            Player player = state.getPlayer(playerIndex);
+            Player expectedPlayer = expected.getPlayer(playerIndex);
+            if (player.getNumHearts() != expectedPlayer.getNumHearts()
+                || player.getDamage() != expectedPlayer.getDamage()
+                || player.getDefence() != expectedPlayer.getDefence()
+                || player.getCoins() != expectedPlayer.getCoins()) {
+                return false;
+            }
+            CoordinateSet squares = player.getSquaresCaptured();
+            CoordinateSet expectedSquares = expectedPlayer.getSquaresCaptured();
+            if (squares.size() != expectedSquares.size()) {
+                return false;
+            }
+            for (int position = 0; position < squares.size(); position++) {
+                if (squares.getX(position) != expectedSquares.getX(position) || squares.getY(position) != expectedSquares.getY(position)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,352 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * EventLogWriter class
+ * 
+ * Records a game in the binary EventLog format. Register it with the GameEngine as a listener and call
+ * writeGameStart() before the first turn; every turn, action and the end of the game is then recorded.
+ * Events are encoded into a buffer in memory, which is written to the file whenever it fills and when the
+ * writer is closed.
+ * 
+ * With a snapshot interval, the writer also records a snapshot of the whole game at the end of every
+ * interval-th turn, and the offset of each snapshot in the sidecar index file, so that EventLogReader.seek()
+ * only has to replay the turns since the nearest snapshot.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see EventLog
+ * @see EventLogReader
+ */
+
+public class EventLogWriter implements GameListener, AutoCloseable
+{
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // The longest a varint can be
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private byte[] buffer;
+    private int bufferPosition;
+    private long bytesFlushed;
+    private DataOutputStream indexOutput;
+    private int lastTurn;
+    private OutputStream output;
+    private int snapshotInterval;
+
+    /**
+     * Constructor for objects of class EventLogWriter. Any existing file with the same name is replaced.
+     * 
+     * @param fileName The name of the log file
+     * @throws IOException if the file cannot be opened
+     */
+    public EventLogWriter(String fileName) throws IOException
+    {
+        this(new FileOutputStream(fileName));
+    }
+
+    /**
+     * Constructor for objects of class EventLogWriter, which also writes snapshots and their index file.
+     * Any existing files with the same names are replaced.
+     * 
+     * @param fileName The name of the log file; the index file has the same name with EventLog.INDEX_SUFFIX added
+     * @param snapshotInterval The number of turns between snapshots
+     * @throws IOException if either file cannot be opened
+     */
+    public EventLogWriter(String fileName, int snapshotInterval) throws IOException
+    {
+        this(new FileOutputStream(fileName), new FileOutputStream(fileName + EventLog.INDEX_SUFFIX), snapshotInterval);
+    }
+
+    /**
+     * Constructor for objects of class EventLogWriter, which writes no snapshots.
+     * 
+     * @param output The stream to write the log to, which is closed when the writer is closed
+     */
+    public EventLogWriter(OutputStream output)
+    {
+        this(output, null, 0);
+    }
+
+    /**
+     * Constructor for objects of class EventLogWriter
+     * 
+     * @param output The stream to write the log to, which is closed when the writer is closed
+     * @param indexOutput The stream to write the snapshot index to, or null if there are no snapshots
+     * @param snapshotInterval The number of turns between snapshots, or 0 for none
+     */
+    public EventLogWriter(OutputStream output, OutputStream indexOutput, int snapshotInterval)
+    {
+        if (snapshotInterval < 0 || (snapshotInterval > 0 && indexOutput == null))
+        {
+            throw new IllegalArgumentException("Snapshots need a positive interval and an index stream.");
+        }
+        this.snapshotInterval = snapshotInterval;
+        if (snapshotInterval > 0)
+        {
+            this.indexOutput = new DataOutputStream(new BufferedOutputStream(indexOutput));
+            try
+            {
+                this.indexOutput.write(EventLog.INDEX_MAGIC);
+                this.indexOutput.writeInt(snapshotInterval);
+            }
+            catch (IOException e)
+            {
+                throw new IllegalStateException("Error in writing the event log index: " + e.getMessage(), e);
+            }
+        }
+        this.output = output;
+        this.buffer = new byte[BUFFER_SIZE];
+        for (byte magicByte : EventLog.MAGIC)
+        {
+            this.buffer[this.bufferPosition++] = magicByte;
+        }
+        writeVarint(EventLog.VERSION);
+    }
+
+    /**
+     * Records the starting position of a game: the grid, its boosts and the players' starting stats.
+     * 
+     * @param state The game, before its first turn
+     */
+    public void writeGameStart(GameState state)
+    {
+        Grid grid = state.getGrid();
+        writeVarint(EventLog.GAME_START);
+        writeVarint(grid.getGridSize());
+        writeSigned(grid.getRandom().getSeed());
+        int numBoosts = grid.getNumPlacedBoosts();
+        writeVarint(numBoosts);
+        for (int boostIndex = 0; boostIndex < numBoosts; boostIndex++)
+        {
+            int[] boost = grid.getPlacedBoost(boostIndex);
+            writeVarint(boost[0]);
+            writeVarint(boost[1]);
+            writeSigned(boost[2]);
+            writeSigned(boost[3]);
+            writeSigned(boost[4]);
+        }
+        for (int playerIndex = 0; playerIndex < 2; playerIndex++)
+        {
+            Player player = state.getPlayer(playerIndex);
+            byte[] name = player.getName().getBytes(StandardCharsets.UTF_8);
+            writeVarint(name.length);
+            ensureCapacity(name.length);
+            System.arraycopy(name, 0, this.buffer, this.bufferPosition, name.length);
+            this.bufferPosition += name.length;
+            writeSigned(player.getDamage());
+            writeSigned(player.getDefence());
+            writeSigned(player.getCoins());
+            writeSigned(player.getNumHearts());
+            writeVarint(player.getIsHuman() ? 1 : 0);
+        }
+    }
+
+    @Override
+    public void turnStarted(GameState state, Player currentPlayer)
+    {
+        if (state.getNumTurns() != this.lastTurn)
+        {
+            if (this.snapshotInterval > 0 && this.lastTurn > 0 && this.lastTurn % this.snapshotInterval == 0)
+            {
+                writeSnapshot(state, this.lastTurn);
+            }
+            this.lastTurn = state.getNumTurns();
+            writeVarint(EventLog.TURN);
+            writeVarint(this.lastTurn);
+        }
+    }
+
+    @Override
+    public void actionApplied(GameState state, ActionResult result)
+    {
+        Action action = result.getAction();
+        writeVarint(EventLog.ACTION);
+        writeVarint(getPlayerId(state, result.getPlayer()));
+        writeVarint(action.getType().ordinal());
+        writeVarint(result.getOutcome().ordinal());
+        writeSigned(action.getXCoordinate());
+        writeSigned(action.getYCoordinate());
+        writeVarint(result.getAttackRoll());
+        writeVarint(result.getDefenceRoll());
+        writeVarint(result.getCost());
+    }
+
+    @Override
+    public void gameOver(GameState state, Player winner)
+    {
+        writeVarint(EventLog.GAME_OVER);
+        writeVarint(getPlayerId(state, winner));
+    }
+
+    /**
+     * Writes out anything still in the buffer and closes the file.
+     * 
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException
+    {
+        flush();
+        this.output.close();
+        if (this.indexOutput != null)
+        {
+            this.indexOutput.close();
+        }
+    }
+
+    /**
+     * Writes out everything in the buffer.
+     * 
+     * @throws IOException if the file cannot be written
+     */
+    public void flush() throws IOException
+    {
+        this.output.write(this.buffer, 0, this.bufferPosition);
+        this.bytesFlushed += this.bufferPosition;
+        this.bufferPosition = 0;
+        this.output.flush();
+        if (this.indexOutput != null)
+        {
+            this.indexOutput.flush();
+        }
+    }
+
+    /**
+     * Makes room in the buffer, writing it out if it is too full. A single entry larger than the buffer grows it.
+     * 
+     * @param numBytes The number of bytes about to be written
+     */
+    private void ensureCapacity(int numBytes)
+    {
+        if (this.bufferPosition + numBytes <= this.buffer.length)
+        {
+            return;
+        }
+        try
+        {
+            this.output.write(this.buffer, 0, this.bufferPosition);
+            this.bytesFlushed += this.bufferPosition;
+            this.bufferPosition = 0;
+        }
+        catch (IOException e)
+        {
+            throw new IllegalStateException("Error in writing the event log: " + e.getMessage(), e);
+        }
+        if (numBytes > this.buffer.length)
+        {
+            this.buffer = Arrays.copyOf(this.buffer, numBytes);
+        }
+    }
+
+    /**
+     * Returns the id of a player in the log: 1 for the player who moves first, 2 for the other player.
+     * 
+     * @param state The game
+     * @param player One of the players
+     * @return int The player's id
+     */
+    private int getPlayerId(GameState state, Player player)
+    {
+        return (player == state.getPlayer(0)) ? 1 : 2;
+    }
+
+    /**
+     * Records a snapshot of the game and adds its offset to the index.
+     * 
+     * @param state The game, at the end of the turn
+     * @param turn The turn that has just ended
+     */
+    private void writeSnapshot(GameState state, int turn)
+    {
+        try
+        {
+            this.indexOutput.writeLong(this.bytesFlushed + this.bufferPosition);
+        }
+        catch (IOException e)
+        {
+            throw new IllegalStateException("Error in writing the event log index: " + e.getMessage(), e);
+        }
+        Grid grid = state.getGrid();
+        int gridSize = grid.getGridSize();
+        writeVarint(EventLog.SNAPSHOT);
+        writeVarint(turn);
+        for (int playerIndex = 0; playerIndex < 2; playerIndex++)
+        {
+            Player player = state.getPlayer(playerIndex);
+            writeSigned(player.getDamage());
+            writeSigned(player.getDefence());
+            writeSigned(player.getCoins());
+            writeSigned(player.getNumHearts());
+        }
+        for (int playerIndex = 0; playerIndex < 2; playerIndex++)
+        {
+            // The squares are written in the order the player holds them, so a restored game picks squares by
+            // position, such as for a sabotage, the same as the game that was recorded
+            CoordinateSet squaresCaptured = state.getPlayer(playerIndex).getSquaresCaptured();
+            writeVarint(squaresCaptured.size());
+            for (int i = 0; i < squaresCaptured.size(); i++)
+            {
+                writeVarint((squaresCaptured.getY(i) - 1) * gridSize + (squaresCaptured.getX(i) - 1));
+            }
+        }
+        int numBoosts = grid.getNumPlacedBoosts();
+        int[] collectedBoosts = new int[numBoosts];
+        int numCollected = 0;
+        for (int boostIndex = 0; boostIndex < numBoosts; boostIndex++)
+        {
+            if (grid.isPlacedBoostCollected(boostIndex))
+            {
+                collectedBoosts[numCollected++] = boostIndex;
+            }
+        }
+        writeGaps(collectedBoosts, numCollected);
+    }
+
+    /**
+     * Writes a count followed by ascending numbers, each as the gap from the number before.
+     * 
+     * @param values The numbers, in ascending order
+     * @param count How many of the numbers to write
+     */
+    private void writeGaps(int[] values, int count)
+    {
+        writeVarint(count);
+        int previous = 0;
+        for (int i = 0; i < count; i++)
+        {
+            writeVarint(values[i] - previous);
+            previous = values[i];
+        }
+    }
+
+    /**
+     * Writes a number that cannot be negative as a varint.
+     * 
+     * @param value The number
+     */
+    private void writeVarint(long value)
+    {
+        ensureCapacity(MAX_VARINT_BYTES);
+        while ((value & ~0x7FL) != 0)
+        {
+            this.buffer[this.bufferPosition++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.buffer[this.bufferPosition++] = (byte) value;
+    }
+
+    /**
+     * Writes a number that can be negative as a zigzag encoded varint.
+     * 
+     * @param value The number
+     */
+    private void writeSigned(long value)
+    {
+        writeVarint(EventLog.encodeZigzag(value));
+    }
+}
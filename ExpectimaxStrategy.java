@@ -0,0 +1,825 @@
+import java.util.Arrays;
+
+/**
+ * ExpectimaxStrategy class
+ *
+ * A computer strategy that chooses each move by expectiminimax search, for grids small enough to search, such as
+ * 3x3 to 5x5. The search looks at the same actions as MctsStrategy. Its decision nodes are the moves of either
+ * player, and after each action comes a chance node with a child for each outcome, weighted by its exact chance:
+ * a capture succeeds, fails or ties as often as 3d6 plus damage beats, loses to or equals 2d6 plus defence over
+ * all 7,776 rolls, and a sabotage goes ahead as often as its drawn cost is one the player can afford. A tie leaves
+ * the same player to move, with only captures to choose from, as in GameEngine.takeTurn(). Every value is the
+ * score of the player who moves first, from -1 for a loss to 1 for a win, so the first player's nodes maximise it
+ * and the second player's minimise it. Positions at the search's depth are scored between the two by hearts, the
+ * players' fullest rows or columns and their chances of winning a capture.
+ *
+ * Decision nodes are cut off by alpha-beta. Chance nodes are cut off by Star1, which stops searching a chance node's
+ * outcomes as soon as the rest of them, at their best or worst, could no longer bring its value inside the window,
+ * and by Star2, which first searches only the first move of each outcome, giving each a bound, in the hope that the
+ * bounds alone show the chance node is outside the window. Positions are stored in a transposition table, keyed by
+ * the game's Zobrist hash, GameState.hash(), and the player to move. The table has a fixed memory budget and is
+ * split into buckets of two entries: one kept for the deepest search of a position made this move, and one always
+ * replaced.
+ *
+ * Each move is searched by iterative deepening: one decision ply deeper each time, with the best move found so far
+ * searched first, until the time budget or the depth limit runs out. A search cut short by the time limit is thrown
+ * away and the move from the last complete search is made. The strategy keeps count of the nodes it searches and
+ * how often the table holds the position searched, so that getNodesPerSecond() and getTableHitRate() can report
+ * them. One strategy should only be used by one game at a time.
+ *
+ * The search copies the game once for each move and plays every line out on that copy, making each outcome with
+ * GameEngine.apply() and taking it back with GameEngine.undo(). The actions, outcomes and bounds of each depth are
+ * kept in a Ply that is reused by every node at that depth, so searching a node allocates nothing.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see Strategy
+ * @see MctsStrategy
+ * @see ZobristKeys
+ * @see DiceTable
+ */
+
+public class ExpectimaxStrategy implements Strategy
+{
+    // The depth is stored in eight bits of a table entry
+    private static final int MAX_DEPTH = 255;
+    // Positions at the search's depth are scored inside this limit, so they never look as good as a win
+    private static final double MAX_HEURISTIC = 0.9;
+    private static final int MAX_OUTCOMES = 3;
+    private static final ActionOutcome[] CAPTURE_OUTCOMES = {ActionOutcome.SUCCESS, ActionOutcome.FAILED, ActionOutcome.TIE};
+    // The deadline is checked once every this many nodes, which must be a power of two
+    private static final int TIME_CHECK_INTERVAL = 1024;
+    private static final double WIN = 1;
+
+    private boolean aborted;
+    private boolean canAbort;
+    private long deadline;
+    private long depthTotal;
+    private final GameEngine engine;
+    private int generation;
+    private boolean horizonReached;
+    private final int maxDepth;
+    private long moves;
+    private final long moveTimeNanos;
+    private long nodes;
+    // The buffers of each depth, indexed by the number of decision plies left to search
+    private Ply[] plies;
+    private long searchNanos;
+    private final TranspositionTable table;
+    private long tableHits;
+    private long tableProbes;
+
+    /**
+     * Constructor for objects of class ExpectimaxStrategy
+     *
+     * @param moveTimeMillis The time to search each move for, in milliseconds, or 0 for no time limit
+     * @param maxDepth The number of decision plies to search each move to, or 0 for no limit
+     * @param tableMegabytes The memory budget of the transposition table, in megabytes
+     */
+    public ExpectimaxStrategy(long moveTimeMillis, int maxDepth, int tableMegabytes)
+    {
+        if (moveTimeMillis <= 0 && maxDepth <= 0)
+        {
+            throw new IllegalArgumentException("The search needs a time limit or a depth limit.");
+        }
+        if (tableMegabytes < 1)
+        {
+            throw new IllegalArgumentException("The transposition table needs at least one megabyte.");
+        }
+        this.moveTimeNanos = (moveTimeMillis > 0) ? moveTimeMillis * 1_000_000 : Long.MAX_VALUE;
+        this.maxDepth = (maxDepth > 0) ? Math.min(maxDepth, MAX_DEPTH) : MAX_DEPTH;
+        this.table = new TranspositionTable((long) tableMegabytes << 20);
+        this.engine = new GameEngine();
+        this.plies = new Ply[0];
+    }
+
+    /**
+     * Accepts the cost of every sabotage, as the search only chooses a sabotage for the chance the player can
+     * afford it.
+     *
+     * @param state The game
+     * @param currentPlayer The player making the sabotage
+     * @param action The sabotage
+     * @param cost The cost drawn for the sabotage
+     * @return boolean true
+     */
+    public boolean acceptCost(GameState state, Player currentPlayer, Action action, int cost)
+    {
+        return true;
+    }
+
+    /**
+     * Chooses the player's action by searching the game.
+     *
+     * @param state The game
+     * @param currentPlayer The player whose turn it is
+     * @param opponentPlayer The opponent player
+     * @return Action The action with the best value in the deepest complete search
+     */
+    public Action chooseAction(GameState state, Player currentPlayer, Player opponentPlayer)
+    {
+        return search(state, currentPlayer, false);
+    }
+
+    /**
+     * Chooses a square to capture after a tie by searching the game.
+     *
+     * @param state The game
+     * @param currentPlayer The player whose turn it is
+     * @param opponentPlayer The opponent player
+     * @return Action The capture with the best value in the deepest complete search
+     */
+    public Action chooseCapture(GameState state, Player currentPlayer, Player opponentPlayer)
+    {
+        return search(state, currentPlayer, true);
+    }
+
+    /**
+     * Returns the average depth of the last complete search of each move.
+     *
+     * @return double The average depth, in decision plies, or 0 if no move has been chosen
+     */
+    public double getAverageDepth()
+    {
+        return (this.moves == 0) ? 0 : (double) this.depthTotal / this.moves;
+    }
+
+    /**
+     * Returns the number of moves chosen by searching, leaving out moves with only one action to choose from.
+     *
+     * @return long The number of moves
+     */
+    public long getMoves()
+    {
+        return this.moves;
+    }
+
+    /**
+     * Returns the number of decision nodes searched, across every move.
+     *
+     * @return long The number of nodes
+     */
+    public long getNodes()
+    {
+        return this.nodes;
+    }
+
+    /**
+     * Returns the number of decision nodes searched per second of time spent choosing moves.
+     *
+     * @return double The nodes per second, or 0 if no move has been chosen
+     */
+    public double getNodesPerSecond()
+    {
+        return (this.searchNanos == 0) ? 0 : this.nodes / (this.searchNanos / 1e9);
+    }
+
+    /**
+     * Returns how often the transposition table held the position being searched.
+     *
+     * @return double The fraction of table lookups that found the position, from 0 to 1
+     */
+    public double getTableHitRate()
+    {
+        return (this.tableProbes == 0) ? 0 : (double) this.tableHits / this.tableProbes;
+    }
+
+    /**
+     * Searches the game from the player's move by iterative deepening and returns the best action found by the
+     * deepest search that finished in time.
+     *
+     * @param state The game
+     * @param currentPlayer The player whose turn it is
+     * @param mustCapture Whether the player must capture, after a tie
+     * @return Action The action to make
+     */
+    private Action search(GameState state, Player currentPlayer, boolean mustCapture)
+    {
+        long startTime = System.nanoTime();
+        int moverIndex = (currentPlayer == state.getPlayer(0)) ? 0 : 1;
+        int position = moverIndex | (mustCapture ? MctsStrategy.MUST_CAPTURE : 0);
+        Action[] actions = MctsStrategy.listActions(state, moverIndex, mustCapture);
+        if (actions.length == 1)
+        {
+            return actions[0];
+        }
+        this.deadline = (this.moveTimeNanos == Long.MAX_VALUE) ? Long.MAX_VALUE : startTime + this.moveTimeNanos;
+        this.generation = (this.generation + 1) & TranspositionTable.GENERATION_MASK;
+        this.aborted = false;
+        // Every line is played out on this copy and taken back, so the game itself is never changed
+        GameState game = state.copy(state.getRandom());
+        boolean maximising = (moverIndex == 0);
+        int bestAction = 0;
+        int completedDepth = 0;
+        for (int depth = 1; depth <= this.maxDepth; depth++)
+        {
+            // The first search always finishes, so there is always a move to make
+            this.canAbort = (completedDepth > 0);
+            this.horizonReached = false;
+            ensurePlies(depth, game.getGrid());
+            int iterationBestAction = bestAction;
+            double iterationBestValue = maximising ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            for (int i = 0; i < actions.length && !this.aborted; i++)
+            {
+                int action = getOrderedAction(i, bestAction);
+                double value = maximising ? searchChance(game, position, actions[action], depth, iterationBestValue, Double.POSITIVE_INFINITY)
+                    : searchChance(game, position, actions[action], depth, Double.NEGATIVE_INFINITY, iterationBestValue);
+                if (maximising ? value > iterationBestValue : value < iterationBestValue)
+                {
+                    iterationBestValue = value;
+                    iterationBestAction = action;
+                }
+            }
+            if (this.aborted)
+            {
+                break;
+            }
+            bestAction = iterationBestAction;
+            completedDepth = depth;
+            // A search that never reached its depth, or found a certain result, would find the same deeper down
+            if (!this.horizonReached || Math.abs(iterationBestValue) >= WIN || System.nanoTime() >= this.deadline)
+            {
+                break;
+            }
+        }
+        this.moves++;
+        this.depthTotal += completedDepth;
+        this.searchNanos += System.nanoTime() - startTime;
+        return actions[bestAction];
+    }
+
+    /**
+     * Makes sure there is a Ply for every depth up to the given one, with room for every action on the grid.
+     *
+     * @param depth The deepest depth to be searched
+     * @param grid The grid being searched
+     */
+    private void ensurePlies(int depth, Grid grid)
+    {
+        if (this.plies.length <= depth)
+        {
+            this.plies = Arrays.copyOf(this.plies, depth + 1);
+        }
+        int maxActions = MctsStrategy.getMaxActions(grid);
+        for (int i = 0; i <= depth; i++)
+        {
+            if (this.plies[i] == null || this.plies[i].actions.length < maxActions)
+            {
+                this.plies[i] = new Ply(maxActions);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the action to search in the given place, with the best action from the last search first
+     * and the others in the order they are listed.
+     *
+     * @param place The place in the search order
+     * @param firstAction The index of the action to search first
+     * @return int The index of the action
+     */
+    private static int getOrderedAction(int place, int firstAction)
+    {
+        if (place == 0)
+        {
+            return firstAction;
+        }
+        return (place <= firstAction) ? place - 1 : place;
+    }
+
+    /**
+     * Searches a decision node: a position with one player to move.
+     *
+     * @param game The game, which is changed while it is searched and then put back
+     * @param position The player to move, and whether they must capture
+     * @param depth The number of decision plies left to search
+     * @param alpha The value the first player is already sure of
+     * @param beta The value the second player is already sure of
+     * @param probe Whether to search only the first action, for a bound on the node's value
+     * @return double The value of the position, or a bound on it if it is outside the window
+     */
+    private double searchDecision(GameState game, int position, int depth, double alpha, double beta, boolean probe)
+    {
+        this.nodes++;
+        if (this.canAbort && (this.nodes & (TIME_CHECK_INTERVAL - 1)) == 0 && System.nanoTime() >= this.deadline)
+        {
+            this.aborted = true;
+        }
+        if (this.aborted)
+        {
+            return 0;
+        }
+        if (game.isGameOver())
+        {
+            return (game.getWinner() == game.getPlayer(0)) ? WIN : -WIN;
+        }
+        if (depth == 0)
+        {
+            this.horizonReached = true;
+            return evaluate(game);
+        }
+        int moverIndex = position & MctsStrategy.MOVER;
+        boolean mustCapture = (position & MctsStrategy.MUST_CAPTURE) != 0;
+        long hash = game.hash() ^ game.getZobristKeys().getTurnKey(moverIndex, mustCapture);
+        Action[] actions = this.plies[depth].actions;
+        int numListedActions = MctsStrategy.listActions(game, moverIndex, mustCapture, actions);
+        int firstAction = 0;
+        this.tableProbes++;
+        long entry = this.table.probe(hash);
+        if (entry != 0)
+        {
+            this.tableHits++;
+            firstAction = TranspositionTable.getBestAction(entry);
+            if (firstAction >= numListedActions)
+            {
+                firstAction = 0;
+            }
+            if (!probe && TranspositionTable.getDepth(entry) >= depth)
+            {
+                double value = TranspositionTable.getValue(entry);
+                int bound = TranspositionTable.getBound(entry);
+                if (bound == TranspositionTable.EXACT || (bound == TranspositionTable.LOWER && value >= beta)
+                    || (bound == TranspositionTable.UPPER && value <= alpha))
+                {
+                    // The stored search may have stopped at its own depth
+                    this.horizonReached = true;
+                    return value;
+                }
+            }
+        }
+        boolean maximising = (moverIndex == 0);
+        double bestValue = maximising ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        int bestAction = firstAction;
+        double nodeAlpha = alpha;
+        double nodeBeta = beta;
+        int numActions = probe ? 1 : numListedActions;
+        for (int i = 0; i < numActions; i++)
+        {
+            int action = getOrderedAction(i, firstAction);
+            double value = searchChance(game, position, actions[action], depth, nodeAlpha, nodeBeta);
+            if (this.aborted)
+            {
+                return 0;
+            }
+            if (maximising ? value > bestValue : value < bestValue)
+            {
+                bestValue = value;
+                bestAction = action;
+            }
+            if (maximising)
+            {
+                nodeAlpha = Math.max(nodeAlpha, value);
+            }
+            else
+            {
+                nodeBeta = Math.min(nodeBeta, value);
+            }
+            if (nodeAlpha >= nodeBeta)
+            {
+                break;
+            }
+        }
+        if (!probe)
+        {
+            int bound = (bestValue <= alpha) ? TranspositionTable.UPPER : (bestValue >= beta) ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+            this.table.store(hash, depth, bound, bestValue, bestAction, this.generation);
+        }
+        return bestValue;
+    }
+
+    /**
+     * Searches a chance node: an action made by the player to move, whose value is the chance-weighted value of
+     * its outcomes. Outcomes are cut off by Star2 probing and then by Star1. Outcomes past the number the action can
+     * have are given no chance, so sums over all of the Ply's outcomes only count the ones that can happen.
+     *
+     * @param game The game, which is changed while it is searched and then put back
+     * @param position The player to move, and whether they must capture
+     * @param action The action
+     * @param depth The number of decision plies left to search, including this one
+     * @param alpha The value the first player is already sure of
+     * @param beta The value the second player is already sure of
+     * @return double The value of the action, or a bound on it if it is outside the window
+     */
+    private double searchChance(GameState game, int position, Action action, int depth, double alpha, double beta)
+    {
+        int moverIndex = position & MctsStrategy.MOVER;
+        Player mover = game.getPlayer(moverIndex);
+        Player opponent = game.getOpponent(mover);
+        Ply ply = this.plies[depth];
+        ActionOutcome[] outcomes = ply.outcomes;
+        double[] probabilities = ply.probabilities;
+        int[] costs = ply.costs;
+        int numOutcomes = listOutcomes(mover, opponent, action, outcomes, probabilities, costs);
+
+        int[] childPositions = ply.childPositions;
+        double[] lower = ply.lower;
+        double[] upper = ply.upper;
+        for (int i = 0; i < MAX_OUTCOMES; i++)
+        {
+            if (i >= numOutcomes)
+            {
+                probabilities[i] = 0;
+                lower[i] = 0;
+                upper[i] = 0;
+                continue;
+            }
+            childPositions[i] = (outcomes[i] == ActionOutcome.TIE) ? moverIndex | MctsStrategy.MUST_CAPTURE : 1 - moverIndex;
+            lower[i] = -WIN;
+            upper[i] = WIN;
+            // Only a success changes the game, and the turn number plays no part in the search
+            if (outcomes[i] == ActionOutcome.SUCCESS)
+            {
+                long undoRecord = this.engine.apply(game, mover, action, outcomes[i], costs[i]);
+                if (game.isGameOver())
+                {
+                    lower[i] = (game.getWinner() == game.getPlayer(0)) ? WIN : -WIN;
+                    upper[i] = lower[i];
+                }
+                this.engine.undo(game, undoRecord);
+            }
+        }
+
+        // Star2: a probe of one move of each outcome bounds the outcome from the side of the player moving there
+        if (numOutcomes > 1 && depth > 1)
+        {
+            for (int i = 0; i < numOutcomes; i++)
+            {
+                if (lower[i] == upper[i])
+                {
+                    continue;
+                }
+                double probeAlpha = Math.max(getWindowAlpha(i, 0, alpha, probabilities, upper), lower[i]);
+                double probeBeta = Math.min(getWindowBeta(i, 0, beta, probabilities, lower), upper[i]);
+                double value = searchOutcome(game, mover, action, outcomes[i], costs[i], childPositions[i], depth - 1, probeAlpha, probeBeta, true);
+                if (this.aborted)
+                {
+                    return 0;
+                }
+                // One move's value is only a bound on the outcome if the probe did not fail on that side of its window
+                if ((childPositions[i] & MctsStrategy.MOVER) == 0)
+                {
+                    if (value <= probeAlpha)
+                    {
+                        continue;
+                    }
+                    lower[i] = Math.max(lower[i], Math.min(value, upper[i]));
+                    double lowerValue = getExpectedValue(0, 0, probabilities, lower);
+                    if (lowerValue >= beta)
+                    {
+                        return lowerValue;
+                    }
+                }
+                else
+                {
+                    if (value >= probeBeta)
+                    {
+                        continue;
+                    }
+                    upper[i] = Math.min(upper[i], Math.max(value, lower[i]));
+                    double upperValue = getExpectedValue(0, 0, probabilities, upper);
+                    if (upperValue <= alpha)
+                    {
+                        return upperValue;
+                    }
+                }
+            }
+        }
+
+        // Star1: search each outcome with the window that would still leave the chance node inside its own
+        double searched = 0;
+        for (int i = 0; i < numOutcomes; i++)
+        {
+            double childAlpha = getWindowAlpha(i, searched, alpha, probabilities, upper);
+            double childBeta = getWindowBeta(i, searched, beta, probabilities, lower);
+            if (lower[i] >= childBeta)
+            {
+                return searched + probabilities[i] * lower[i] + getExpectedValue(i + 1, 0, probabilities, lower);
+            }
+            if (upper[i] <= childAlpha)
+            {
+                return searched + probabilities[i] * upper[i] + getExpectedValue(i + 1, 0, probabilities, upper);
+            }
+            double value = searchOutcome(game, mover, action, outcomes[i], costs[i], childPositions[i], depth - 1,
+                Math.max(childAlpha, lower[i]), Math.min(childBeta, upper[i]), false);
+            if (this.aborted)
+            {
+                return 0;
+            }
+            if (value <= childAlpha)
+            {
+                return searched + probabilities[i] * value + getExpectedValue(i + 1, 0, probabilities, upper);
+            }
+            if (value >= childBeta)
+            {
+                return searched + probabilities[i] * value + getExpectedValue(i + 1, 0, probabilities, lower);
+            }
+            searched += probabilities[i] * Math.max(lower[i], Math.min(upper[i], value));
+        }
+        return searched;
+    }
+
+    /**
+     * Makes one outcome of an action, searches the decision node it leads to and takes the outcome back.
+     *
+     * @param game The game
+     * @param mover The player making the action
+     * @param action The action
+     * @param outcome The outcome to make
+     * @param cost The coins the outcome costs
+     * @param position The player to move after the outcome, and whether they must capture
+     * @param depth The number of decision plies left to search after the outcome
+     * @param alpha The value the first player is already sure of
+     * @param beta The value the second player is already sure of
+     * @param probe Whether to search only the first action, for a bound on the node's value
+     * @return double The value of the outcome, or a bound on it if it is outside the window
+     */
+    private double searchOutcome(GameState game, Player mover, Action action, ActionOutcome outcome, int cost, int position, int depth,
+        double alpha, double beta, boolean probe)
+    {
+        if (outcome != ActionOutcome.SUCCESS)
+        {
+            return searchDecision(game, position, depth, alpha, beta, probe);
+        }
+        long undoRecord = this.engine.apply(game, mover, action, outcome, cost);
+        double value = searchDecision(game, position, depth, alpha, beta, probe);
+        this.engine.undo(game, undoRecord);
+        return value;
+    }
+
+    /**
+     * Returns the chance-weighted sum of the values of the outcomes from the given one on.
+     *
+     * @param firstOutcome The first outcome to add
+     * @param searched The value already added for earlier outcomes
+     * @param probabilities The chance of each outcome
+     * @param values The value, or a bound on the value, of each outcome
+     * @return double The sum
+     */
+    private static double getExpectedValue(int firstOutcome, double searched, double[] probabilities, double[] values)
+    {
+        double sum = searched;
+        for (int i = firstOutcome; i < values.length; i++)
+        {
+            sum += probabilities[i] * values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the value an outcome must be above for its chance node to be above alpha, if the outcomes after it
+     * are at their upper bounds.
+     *
+     * @param outcome The outcome
+     * @param searched The chance-weighted value of the outcomes before it
+     * @param alpha The chance node's alpha
+     * @param probabilities The chance of each outcome
+     * @param upper The upper bound on each outcome's value
+     * @return double The outcome's alpha
+     */
+    private static double getWindowAlpha(int outcome, double searched, double alpha, double[] probabilities, double[] upper)
+    {
+        return (alpha - getExpectedValue(outcome + 1, searched, probabilities, upper)) / probabilities[outcome];
+    }
+
+    /**
+     * Returns the value an outcome must be below for its chance node to be below beta, if the outcomes after it
+     * are at their lower bounds.
+     *
+     * @param outcome The outcome
+     * @param searched The chance-weighted value of the outcomes before it
+     * @param beta The chance node's beta
+     * @param probabilities The chance of each outcome
+     * @param lower The lower bound on each outcome's value
+     * @return double The outcome's beta
+     */
+    private static double getWindowBeta(int outcome, double searched, double beta, double[] probabilities, double[] lower)
+    {
+        return (beta - getExpectedValue(outcome + 1, searched, probabilities, lower)) / probabilities[outcome];
+    }
+
+    /**
+     * Lists the outcomes an action can have, with their chances. A capture succeeds, fails or ties with the exact
+     * chances of the dice. A sabotage's cost is drawn evenly from its range, so it goes ahead with the chance that
+     * the cost is one the player can afford, and is taken to cost the average of those costs when it does.
+     *
+     * @param mover The player making the action
+     * @param opponent The opponent player
+     * @param action The action
+     * @param outcomes Filled in with the outcomes that can happen
+     * @param probabilities Filled in with the chance of each outcome
+     * @param costs Filled in with the coins each outcome costs
+     * @return int The number of outcomes
+     */
+    static int listOutcomes(Player mover, Player opponent, Action action, ActionOutcome[] outcomes, double[] probabilities, int[] costs)
+    {
+        int numOutcomes = 0;
+        switch (action.getType())
+        {
+            case CAPTURE:
+                for (ActionOutcome outcome : CAPTURE_OUTCOMES)
+                {
+                    double probability = DiceTable.getCaptureOutcomeProbability(mover.getDamage(), opponent.getDefence(), outcome);
+                    if (probability > 0)
+                    {
+                        outcomes[numOutcomes] = outcome;
+                        costs[numOutcomes] = 0;
+                        probabilities[numOutcomes++] = probability;
+                    }
+                }
+                return numOutcomes;
+            case SABOTAGE_SQUARE:
+                return listSabotageOutcomes(mover.getCoins(), GameEngine.MIN_SQUARE_SABOTAGE_COST, GameEngine.MAX_SQUARE_SABOTAGE_COST,
+                    outcomes, probabilities, costs);
+            case STRIKE:
+                outcomes[0] = ActionOutcome.SUCCESS;
+                probabilities[0] = 1;
+                costs[0] = 0;
+                return 1;
+            default:
+                return listSabotageOutcomes(mover.getCoins(), GameEngine.MIN_SABOTAGE_COST, GameEngine.MAX_SABOTAGE_COST,
+                    outcomes, probabilities, costs);
+        }
+    }
+
+    /**
+     * Lists the outcomes of a sabotage whose cost is drawn evenly from minCost to maxCost - 1.
+     *
+     * @param coins The coins of the player making the sabotage
+     * @param minCost The lowest cost
+     * @param maxCost The cost the sabotage is always cheaper than
+     * @param outcomes Filled in with the outcomes that can happen
+     * @param probabilities Filled in with the chance of each outcome
+     * @param costs Filled in with the coins each outcome costs
+     * @return int The number of outcomes
+     */
+    private static int listSabotageOutcomes(int coins, int minCost, int maxCost, ActionOutcome[] outcomes, double[] probabilities, int[] costs)
+    {
+        int numCosts = maxCost - minCost;
+        int affordableCosts = Math.max(0, Math.min(numCosts, coins - minCost + 1));
+        int numOutcomes = 0;
+        if (affordableCosts > 0)
+        {
+            outcomes[numOutcomes] = ActionOutcome.SUCCESS;
+            probabilities[numOutcomes] = (double) affordableCosts / numCosts;
+            costs[numOutcomes++] = minCost + (affordableCosts - 1) / 2;
+        }
+        if (affordableCosts < numCosts)
+        {
+            outcomes[numOutcomes] = ActionOutcome.NOT_ENOUGH_COINS;
+            costs[numOutcomes] = 0;
+            probabilities[numOutcomes++] = (double) (numCosts - affordableCosts) / numCosts;
+        }
+        return numOutcomes;
+    }
+
+    /**
+     * Scores a game that is still going for the first player, by the difference in the players' hearts, in the
+     * fullest row or column each holds, and in their chances of winning a capture against the other.
+     *
+     * @param game The game
+     * @return double The score, inside MAX_HEURISTIC of 0
+     */
+    private static double evaluate(GameState game)
+    {
+        Player first = game.getPlayer(0);
+        Player second = game.getPlayer(1);
+        Grid grid = game.getGrid();
+        double hearts = (first.getNumHearts() - second.getNumHearts()) / 3.0;
+        double lines = (grid.getLongestLine(first) - grid.getLongestLine(second)) / (double) grid.getGridSize();
+        double captures = DiceTable.getCaptureProbability(first.getDamage(), second.getDefence())
+            - DiceTable.getCaptureProbability(second.getDamage(), first.getDefence());
+        double score = 0.5 * hearts + 0.25 * lines + 0.15 * captures;
+        return Math.max(-MAX_HEURISTIC, Math.min(MAX_HEURISTIC, score));
+    }
+
+    /**
+     * The buffers a decision node and a chance node at one depth fill in, reused by every node at that depth.
+     */
+    private static final class Ply
+    {
+        private final Action[] actions;
+        private final int[] childPositions = new int[MAX_OUTCOMES];
+        private final int[] costs = new int[MAX_OUTCOMES];
+        private final double[] lower = new double[MAX_OUTCOMES];
+        private final ActionOutcome[] outcomes = new ActionOutcome[MAX_OUTCOMES];
+        private final double[] probabilities = new double[MAX_OUTCOMES];
+        private final double[] upper = new double[MAX_OUTCOMES];
+
+        /**
+         * Constructor for objects of class Ply
+         *
+         * @param maxActions The most actions a decision node can have
+         */
+        private Ply(int maxActions)
+        {
+            this.actions = new Action[maxActions];
+        }
+    }
+
+    /**
+     * A transposition table with a fixed number of entries, held in two arrays of longs. Each entry packs the
+     * value of a position as a float, the depth it was searched to, whether the value is exact or a bound, the
+     * generation (the move being searched when it was stored) and the best action found. Entries are grouped in
+     * buckets of two: the first is only replaced by a search at least as deep, or once it is from an earlier
+     * move, and the second is always replaced, so that deep results survive and recent ones are still kept.
+     */
+    private static final class TranspositionTable
+    {
+        private static final int EXACT = 1;
+        private static final int GENERATION_MASK = 0xFF;
+        private static final int LOWER = 2;
+        private static final int UPPER = 3;
+
+        private static final int ACTION_SHIFT = 50;
+        private static final int BOUND_SHIFT = 40;
+        private static final int DEPTH_SHIFT = 32;
+        private static final int GENERATION_SHIFT = 42;
+
+        private final long[] entries;
+        private final long[] keys;
+        private final int mask;
+
+        private TranspositionTable(long budgetBytes)
+        {
+            // Each entry is a key and a packed entry, and the number of buckets is a power of two
+            long buckets = Long.highestOneBit(Math.max(1, budgetBytes / (2 * 2 * Long.BYTES)));
+            buckets = Math.min(buckets, 1 << 29);
+            this.keys = new long[(int) buckets * 2];
+            this.entries = new long[(int) buckets * 2];
+            this.mask = (int) buckets - 1;
+        }
+
+        /**
+         * Returns the entry stored for a position.
+         *
+         * @param hash The hash of the position
+         * @return long The packed entry, or 0 if the position is not stored
+         */
+        private long probe(long hash)
+        {
+            int slot = ((int) hash & this.mask) << 1;
+            if (this.entries[slot] != 0 && this.keys[slot] == hash)
+            {
+                return this.entries[slot];
+            }
+            if (this.entries[slot + 1] != 0 && this.keys[slot + 1] == hash)
+            {
+                return this.entries[slot + 1];
+            }
+            return 0;
+        }
+
+        /**
+         * Stores the result of searching a position.
+         *
+         * @param hash The hash of the position
+         * @param depth The depth the position was searched to
+         * @param bound EXACT, LOWER or UPPER
+         * @param value The value found
+         * @param bestAction The index of the best action found
+         * @param generation The generation of the search
+         */
+        private void store(long hash, int depth, int bound, double value, int bestAction, int generation)
+        {
+            long entry = (Float.floatToRawIntBits((float) value) & 0xFFFFFFFFL) | ((long) depth << DEPTH_SHIFT)
+                | ((long) bound << BOUND_SHIFT) | ((long) generation << GENERATION_SHIFT) | ((long) bestAction << ACTION_SHIFT);
+            int slot = ((int) hash & this.mask) << 1;
+            long stored = this.entries[slot];
+            if (stored == 0 || this.keys[slot] == hash || getGeneration(stored) != generation || depth >= getDepth(stored))
+            {
+                this.keys[slot] = hash;
+                this.entries[slot] = entry;
+            }
+            else
+            {
+                this.keys[slot + 1] = hash;
+                this.entries[slot + 1] = entry;
+            }
+        }
+
+        private static int getBestAction(long entry)
+        {
+            return (int) (entry >>> ACTION_SHIFT);
+        }
+
+        private static int getBound(long entry)
+        {
+            return (int) (entry >>> BOUND_SHIFT) & 0x3;
+        }
+
+        private static int getDepth(long entry)
+        {
+            return (int) (entry >>> DEPTH_SHIFT) & 0xFF;
+        }
+
+        private static int getGeneration(long entry)
+        {
+            return (int) (entry >>> GENERATION_SHIFT) & GENERATION_MASK;
+        }
+
+        private static double getValue(long entry)
+        {
+            return Float.intBitsToFloat((int) entry);
+        }
+    }
+}
@@ -1,10 +1,4 @@
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.PrintWriter;
-import java.util.Scanner;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Random;
+import java.io.IOException;
 
 /**
  * Field class
@@ -15,230 +9,158 @@ import java.util.Random;
  * which continues and controls the turns until the game is over when one of the players wins. The game is won
  * when one of the players has hit all three hearts of the other player.
  * 
+ * The rules themselves are applied by the GameEngine. Field is the console front end: the human player's moves
+ * come from a ConsoleStrategy, the computer's from a ComputerStrategy (or an MctsStrategy when the game is
+ * started with "java Field mcts", or an ExpectimaxStrategy with "java Field expectimax"), and Field listens to
+ * the engine to print each move and write it to the game log. The game is also recorded in a binary EventLog,
+ * game_log.bin, which EventLogReader can replay or turn back into text.
+ * 
+ * Every part of the game, including its logs, belongs to the Field object rather than the class, so nothing
+ * stops more than one game running in the same JVM. GameServer hosts many games at once as GameSessions.
+ * 
  * @author Daniel Hardej
  * @version 1.0
  * @since 2023-11-25
  * @see Grid
  * @see Player
- * @see Dice
+ * @see GameEngine
  * @see FileIO
+ * @see GameLog
  * @see Input
  * Last Modified: 2023-12-02
  */
 
-public class Field
+public class Field implements GameListener
 {
     private Player computerPlayer;
-    private Dice dice;
-    private static FileIO fileIO;
-    private static boolean gameOver;
-    private static Grid grid;
+    private Strategy computerStrategy;
+    private GameEngine engine;
+    private EventLogWriter eventLog;
+    private static final String eventLogFileName = "game_log.bin";
+    private static final int EXPECTIMAX_TABLE_MEGABYTES = 64;
+    private GameLog gameLog;
+    private static final long SEARCH_MOVE_TIME_MILLIS = 500;
+    private GameState gameState;
     private Player humanPlayer;
+    private Strategy humanStrategy;
+    private static final LogDurability logDurability = LogDurability.PER_TURN;
     private static final String outputFileName = "game_log.txt";
-    private static int numTurns;
 
     /**
      * Default constructor for the Field class.
      */
     public Field()
     {
-        this.grid = new Grid();
+        Grid grid = new Grid();
         this.humanPlayer = initialiseHumanPlayer();
         this.computerPlayer = initialiseComputerPlayer();
-        this.fileIO = new FileIO();
-        this.dice = new Dice();
-        this.numTurns = 1;
-        this.gameOver = false;
+        this.gameState = new GameState(grid, this.humanPlayer, this.computerPlayer);
+        this.humanStrategy = new ConsoleStrategy();
+        this.computerStrategy = new ComputerStrategy();
+        this.engine = new GameEngine();
+        this.engine.addListener(this);
     }
 
     /**
-     * Method to capture a grid spot. Prompts the user for the coordinates of the grid spot they would like to capture,
-     * then rolls the dice to determine whether the capture is successful. If the capture is successful, the grid is
-     * updated to reflect the capture, and the player's captured squares are updated. If the capture is unsuccessful,
-     * the player's attempt fails and the turn ends.
-     * 
-     * @param currentPlayer The current player.
-     * @param opponentPlayer The opponent player.
+     * Prints the outcome of an action and records it in the game log.
      * 
-     * @see Player#addSquareCaptured(int[])
+     * @param state The state of the game after the action
+     * @param result The result of the action
      */
-    public void captureGridSpot(Player currentPlayer, Player opponentPlayer)
+    public void actionApplied(GameState state, ActionResult result)
     {
-        Input playerInput = new Input();
-        int[] capturedCoordinates = new int[2];
-        if (currentPlayer.getIsHuman())
+        Player currentPlayer = result.getPlayer();
+        Player opponentPlayer = result.getOpponentPlayer();
+        Action action = result.getAction();
+        String tile = "(" + action.getXCoordinate() + ", " + action.getYCoordinate() + ")";
+        switch (action.getType())
         {
-            System.out.println("Enter the coordinates of the tile you would like to capture.");
-            capturedCoordinates[0] = playerInput.getIntegerInput("Enter the x coordinate: ");
-            while (capturedCoordinates[0] < 0 || capturedCoordinates[0] > grid.getGridSize())
-            {
-                capturedCoordinates[0] = playerInput.getIntegerInput("Please enter a valid x coordinate: ");
-            }
-            capturedCoordinates[1] = playerInput.getIntegerInput("Enter the y coordinate: ");
-            while (capturedCoordinates[1] < 0 || capturedCoordinates[1] > grid.getGridSize())
-            {
-                capturedCoordinates[1] = playerInput.getIntegerInput("Please enter a valid y coordinate: ");
-            }
-            while (opponentPlayer.hasCapturedSquare(capturedCoordinates, this.grid))
-            {
-                System.out.println("You cannot capture a tile that has already been captured by your opponent.");
-                capturedCoordinates[0] = playerInput.getIntegerInput("Enter the x coordinate: ");
-                while (capturedCoordinates[0] < 0 || capturedCoordinates[0] > grid.getGridSize())
+            case CAPTURE:
+                System.out.println(currentPlayer.getName() + " chooses: Capture a grid spot");
+                gameLog.log(currentPlayer.getName() + " attempts to capture a grid spot.\n");
+                if (result.getOutcome() == ActionOutcome.INVALID)
                 {
-                    capturedCoordinates[0] = playerInput.getIntegerInput("Please enter a valid x coordinate: ");
+                    System.out.println("You cannot capture the tile at " + tile + ".");
+                    break;
                 }
-                capturedCoordinates[1] = playerInput.getIntegerInput("Enter the y coordinate: ");
-                while (capturedCoordinates[1] < 0 || capturedCoordinates[1] > grid.getGridSize())
+                if (!currentPlayer.getIsHuman())
                 {
-                    capturedCoordinates[1] = playerInput.getIntegerInput("Please enter a valid y coordinate: ");
+                    System.out.println("The computer is attempting to capture the tile at " + tile + "!");
                 }
-            }
-            fileIO.updateFile(outputFileName, currentPlayer.getName() + " is attempting to capture the tile at (" + capturedCoordinates[0] + ", " + capturedCoordinates[1] + ")!\n");
-        }
-        else if (!currentPlayer.getIsHuman())
-        {
-            capturedCoordinates[0] = dice.getRandomNumber(1, grid.getGridSize());
-            capturedCoordinates[1] = dice.getRandomNumber(1, grid.getGridSize());
-            while (opponentPlayer.hasCapturedSquare(capturedCoordinates, this.grid))
-            {
-                capturedCoordinates[0] = dice.getRandomNumber(1, grid.getGridSize());
-                capturedCoordinates[1] = dice.getRandomNumber(1, grid.getGridSize());
-            }
-            System.out.println("The computer is attempting to capture the tile at (" + capturedCoordinates[0] + ", " + capturedCoordinates[1] + ")!");
-            fileIO.updateFile(outputFileName, currentPlayer.getName() + " is attempting to capture the tile at (" + capturedCoordinates[0] + ", " + capturedCoordinates[1] + ")!\n");
-        }
-        else
-        {
-            System.out.println("Error: Invalid player type.");
-        }
-        int currentPlayerAttack = dice.threeD6() + currentPlayer.getDamage();
-        int opponentPlayerAttack = dice.twoD6() + opponentPlayer.getDefence();
-        System.out.println(currentPlayer.getName() + " has rolled " + currentPlayerAttack +  " and " +
-        opponentPlayer.getName() + " has rolled " + opponentPlayerAttack + "!");
-        if (currentPlayerAttack > opponentPlayerAttack)
-        {
-            System.out.println("You have captured the tile!");
-            grid.updateGridWithCapturedSquare(currentPlayer, capturedCoordinates);
-            currentPlayer.addSquareCaptured(capturedCoordinates);
-            opponentPlayer.removeSquareCaptured(capturedCoordinates);
-            fileIO.updateFile(outputFileName, currentPlayer.getName() + " has captured the tile at (" + capturedCoordinates[0] + ", " + capturedCoordinates[1] + ")!\n");
-        }
-        else if (currentPlayerAttack < opponentPlayerAttack)
-        {
-            System.out.println("You have failed to capture the tile!");
-            fileIO.updateFile(outputFileName, currentPlayer.getName() + " has failed to capture the tile at (" + capturedCoordinates[0] + ", " + capturedCoordinates[1] + ")!\n");
-        }
-        else
-        {
-            System.out.println("You have tied with your opponent!");
-            captureGridSpot(currentPlayer, opponentPlayer);
-        }
-    }
-
-    /**
-     * Method to decrement the opponent's attack by 2 if the current player has chosed to sabotage their opponent.
-     * 
-     * Note: This method is called by the sabotageOpponent method. It differs from the Player method to update the
-     * opponent's attack, as it also includes a calculation of the cost of the sabotage, and the logic to determine
-     * how to execute the sabotage based on whether it is the human player's or the computer player's turn.
-     * 
-     * @param currentPlayer The current player.
-     * @param opponentPlayer The opponent player.
-     * 
-     * @see Player#updateDamage()
-     */
-    public void decrementOpponentAttack(Player currentPlayer, Player opponentPlayer)
-    {
-        Input playerInput = new Input();
-        System.out.println(currentPlayer.getName() + " has chosen to decrement their opponent's attack by 2.\n");
-        fileIO.updateFile(outputFileName, currentPlayer.getName() + " has chosen to decrement their opponent's attack by 2.\n");
-        int actionCost = getActionCost(500, 1500);
-        String acceptSabotageCost = "";
-        if (currentPlayer.getIsHuman())
-        {
-            acceptSabotageCost = playerInput.getStringInput("This will cost you " + actionCost + " coins. Do you accept? (Y/N): ");
-        }
-        else if (!currentPlayer.getIsHuman())
-        {
-            acceptSabotageCost = "Y";
-        }
-        if (acceptSabotageCost.equalsIgnoreCase("Y"))
-        {
-            if (currentPlayer.getCoins() < actionCost)
-            {
-                System.out.println("You do not have enough coins to sabotage your opponent's attack.");
-                fileIO.updateFile(outputFileName, "Sabotage unsuccessful. " + currentPlayer.getName() + " does not have enough coins to sabotage their opponent's grid.\n");
-            }
-            else if (currentPlayer.getCoins() >= actionCost)
-            {
-                opponentPlayer.updateDamage(-2);
-                currentPlayer.updateCoins(-actionCost);
-                System.out.println("Sabotage successful. " + currentPlayer.getName() + " has decremented their opponent's attack by 2.\n");
-                fileIO.updateFile(outputFileName, "Sabotage successful. " + currentPlayer.getName() + " has decremented their opponent's attack by 2.");
-                fileIO.updateFile(outputFileName, " Cost of sabotage: " + actionCost + " coins.\n");
-            }
-            else
-            {
-                System.out.println("Error: Invalid input.");
-            }
-        }
-        else
-        {
-            System.out.println("Sabotage unsuccessful. " + currentPlayer.getName() + " has chosen not to sabotage their opponent's grid.\n");
-        }
-    }
-
-    /**
-     * Method to decrement the opponent's defence by 2 if the current player has chosed to sabotage their opponent
-     * by decrementing their defence.
-     * 
-     * Note: This method is called by the sabotageOpponent method. It differs from the Player method to update the
-     * player's defence as it includes a calculation to determine the cost of the sabotage and the logic to determine
-     * how the sabotage should be done based on whether it is a human or computer player.
-     * 
-     * @param currentPlayer The current player.
-     * @param opponentPlayer The opponent player.
-     * 
-     * @see Player#updateDefence()
-     */
-    public void decrementOpponentDefence(Player currentPlayer, Player opponentPlayer)
-    {
-        Input playerInput = new Input();
-        System.out.println(currentPlayer.getName() + " has chosen to decrement their opponent's defence by 2.\n");
-        fileIO.updateFile(outputFileName, currentPlayer.getName() + " has chosen to decrement their opponent's defence by 2.\n");
-        int actionCost = getActionCost(500, 1500);
-        String acceptSabotageCost = "";
-        if (currentPlayer.getIsHuman())
-        {
-            acceptSabotageCost = playerInput.getStringInput("This will cost you " + actionCost + " coins. Do you accept? (Y/N): ");
-        }
-        else if (!currentPlayer.getIsHuman())
-        {
-            acceptSabotageCost = "Y";
-        }
-        if (acceptSabotageCost.equalsIgnoreCase("Y"))
-        {
-            if (currentPlayer.getCoins() < actionCost)
-            {
-                System.out.println("You do not have enough coins to sabotage your opponent's defence.");
-                fileIO.updateFile(outputFileName, "Sabotage unsuccessful. " + currentPlayer.getName() + " does not have enough coins to sabotage their opponent's grid.\n");
-            }
-            else if (currentPlayer.getCoins() >= actionCost)
-            {
-                opponentPlayer.updateDefence(-2);
-                currentPlayer.updateCoins(-actionCost);
-                System.out.println("Sabotage successful. " + currentPlayer.getName() + " has decremented their opponent's defence by 2.\n");
-                fileIO.updateFile(outputFileName, "Sabotage successful. " + currentPlayer.getName() + " has decremented their opponent's defence by 2.");
-                fileIO.updateFile(outputFileName, " Cost of sabotage: " + actionCost + " coins.\n");
-            }
-            else
-            {
-                System.out.println("Error: Invalid input.");
-            }
-        }
-        else
-        {
-            System.out.println(currentPlayer.getName() + " has rejected the cost of " + actionCost + " coins to sabotage their opponent's defence.\n");
+                gameLog.log(currentPlayer.getName() + " is attempting to capture the tile at " + tile + "!\n");
+                System.out.println(currentPlayer.getName() + " has rolled " + result.getAttackScore() +  " and " +
+                    opponentPlayer.getName() + " has rolled " + result.getDefenceScore() + "!");
+                if (result.getOutcome() == ActionOutcome.SUCCESS)
+                {
+                    System.out.println("You have captured the tile!");
+                    gameLog.log(currentPlayer.getName() + " has captured the tile at " + tile + "!\n");
+                }
+                else if (result.getOutcome() == ActionOutcome.FAILED)
+                {
+                    System.out.println("You have failed to capture the tile!");
+                    gameLog.log(currentPlayer.getName() + " has failed to capture the tile at " + tile + "!\n");
+                }
+                else
+                {
+                    System.out.println("You have tied with your opponent!");
+                }
+                break;
+            case DECREMENT_ATTACK:
+            case DECREMENT_DEFENCE:
+                String stat = (action.getType() == ActionType.DECREMENT_ATTACK) ? "attack" : "defence";
+                System.out.println(currentPlayer.getName() + " chooses: Sabotage the enemy");
+                gameLog.log(currentPlayer.getName() + " attempts to sabotage the opponent.\n");
+                System.out.println(currentPlayer.getName() + " has chosen to decrement their opponent's " + stat + " by 2.\n");
+                gameLog.log(currentPlayer.getName() + " has chosen to decrement their opponent's " + stat + " by 2.\n");
+                if (result.getOutcome() == ActionOutcome.SUCCESS)
+                {
+                    System.out.println("Sabotage successful. " + currentPlayer.getName() + " has decremented their opponent's " + stat + " by 2.\n");
+                    gameLog.log("Sabotage successful. " + currentPlayer.getName() + " has decremented their opponent's " + stat + " by 2.");
+                    gameLog.log(" Cost of sabotage: " + result.getCost() + " coins.\n");
+                }
+                else
+                {
+                    printSabotageFailure(result, "your opponent's " + stat);
+                }
+                break;
+            case SABOTAGE_SQUARE:
+                System.out.println(currentPlayer.getName() + " chooses: Sabotage the enemy");
+                gameLog.log(currentPlayer.getName() + " attempts to sabotage the opponent.\n");
+                System.out.println(currentPlayer.getName() + " has chosen to sabotage an opponent's grid square.\n");
+                gameLog.log(currentPlayer.getName() + " has chosen to sabotage an opponent's grid square.\n");
+                if (result.getOutcome() == ActionOutcome.SUCCESS)
+                {
+                    if (currentPlayer.getIsHuman())
+                    {
+                        gameLog.log(currentPlayer.getName() + " is attempting to capture the tile at " + tile + "!\n");
+                        System.out.println("You have captured the tile!");
+                        gameLog.log(currentPlayer.getName() + " has captured the tile at " + tile + "!\n");
+                    }
+                    else
+                    {
+                        gameLog.log(currentPlayer.getName() + " has sabotaged " + opponentPlayer.getName() + "'s grid at " + tile + ". ");
+                    }
+                    gameLog.log("Cost of sabotage: " + result.getCost() + " coins.\n");
+                }
+                else
+                {
+                    printSabotageFailure(result, "your opponent's grid");
+                }
+                break;
+            case STRIKE:
+                System.out.println(currentPlayer.getName() + " chooses: Strike opponent's heart");
+                gameLog.log(currentPlayer.getName() + " attempts to strike the opponent's heart.\n");
+                if (result.getOutcome() == ActionOutcome.SUCCESS)
+                {
+                    System.out.println("You have a complete path across the grid! You can now strike your opponent's heart!");
+                    gameLog.log(currentPlayer.getName() + " has struck " + opponentPlayer.getName() + "'s heart!\n");
+                }
+                else
+                {
+                    System.out.println("You do not have a complete path across the grid. You cannot strike your opponent's heart yet.");
+                    gameLog.log(currentPlayer.getName() + "'s strike failed - does not have a complete path across the grid.\n");
+                }
+                break;
         }
     }
 
@@ -288,24 +210,6 @@ public class Field
         return false;
     }
 
-    /**
-     * Method to calculate the cost of an action, such as an attack or sabotage.
-     * 
-     * The cost is a random number between the minCost and maxCost.
-     * 
-     * @param minCost The minimum cost of an action.
-     * @param maxCost The maximum cost of an action.
-     * 
-     * @return The cost of an action.
-     */
-    public int getActionCost(int minCost, int maxCost)
-    {
-        Random random = new Random();
-        Input playerInput = new Input();
-        int actionCost = random.nextInt(maxCost - minCost) + minCost;
-        return actionCost;
-    }
-
     /**
      * Method to initialise the computer player.
      * 
@@ -338,213 +242,54 @@ public class Field
     }
 
 
-
-    /**
-     * This method allows the current player to sabotage the opponent player if the option is available and 
-     * chosen during the current player's turn.
-     * 
-     * @param currentPlayer The player whose turn it is.
-     * @param opponentPlayer The opponent player, who is not taking their turn.
-     * 
-     * @return void
-     */
-    public void sabotageOpponent(Player currentPlayer, Player opponentPlayer)
-    {   
-        Input playerInput = new Input();
-        int sabotageChoice;
-        System.out.println("How would you like to sabotage your opponent?");
-        System.out.println("\t1. Decrement the opponent's attack by 2");
-        System.out.println("\t2. Decrement the opponent's defence by 2");
-        System.out.println("\t3. Sabotage an opponent's grid square");
-        if (currentPlayer.getIsHuman())
-        {
-            sabotageChoice = playerInput.getIntegerInput("Enter your choice: ");
-        }
-        else if (!currentPlayer.getIsHuman())
-        {
-            int computerChoice = (currentPlayer.hasCompletePath(grid)) ? dice.getRandomNumber(1, 10) : dice.getRandomNumber(1, 8);
-            if (computerChoice <= 4) {        // 40% chance
-                sabotageChoice = 1;
-            } else if (computerChoice <= 8) { // 40% chance
-                sabotageChoice = 2;
-            } else {                          // 20% chance
-                sabotageChoice = 3;
-            }
-        }
-        else
-        {
-            System.out.println("Error: Invalid player type.");
-            return;
-        }
-        while (sabotageChoice < 1 || sabotageChoice > 3)
-        {
-            sabotageChoice = playerInput.getIntegerInput("Please enter a valid choice: ");
-        
-        }
-        switch (sabotageChoice)
-        {
-            case 1:
-                decrementOpponentAttack(currentPlayer, opponentPlayer);
-                break;
-            case 2:
-                decrementOpponentDefence(currentPlayer, opponentPlayer);
-                break;
-            case 3:
-                sabotageOpponentCapturedSquare(currentPlayer, opponentPlayer);
-                break;
-        }
-    }
-
     /**
-     * Method to sabotage an opponent's captured square.
-     * 
-     * Note: This method is called by the sabotageOpponent method.
+     * Prints why a sabotage did not go ahead, and records it in the game log if the player could not afford it.
      * 
-     * @param currentPlayer The player whose turn it is.
-     * @param opponentPlayer The opponent player, who is not taking their turn.
-     * 
-     * @return void
+     * @param result The result of the sabotage
+     * @param target A description of what was being sabotaged, e.g. "your opponent's attack"
      */
-    public void sabotageOpponentCapturedSquare(Player currentPlayer, Player opponentPlayer)
+    private void printSabotageFailure(ActionResult result, String target)
     {
-        Input playerInput = new Input();
-        System.out.println(currentPlayer.getName() + " has chosen to sabotage an opponent's grid square.\n");
-        fileIO.updateFile(outputFileName, currentPlayer.getName() + " has chosen to sabotage an opponent's grid square.\n");
-        String acceptSabotageCost = "";
-        int actionCost = getActionCost(1000, 2500);
-        if (currentPlayer.getIsHuman())
+        Player currentPlayer = result.getPlayer();
+        if (result.getOutcome() == ActionOutcome.NOT_ENOUGH_COINS)
         {
-            acceptSabotageCost = playerInput.getStringInput("This will cost you " + actionCost + " coins. Do you accept? (Y/N): ");
+            System.out.println("You do not have enough coins to sabotage " + target + ".");
+            gameLog.log("Sabotage unsuccessful. " + currentPlayer.getName() + " does not have enough coins to sabotage their opponent's grid.\n");
         }
-        else if (!currentPlayer.getIsHuman())
+        else if (result.getOutcome() == ActionOutcome.REJECTED)
         {
-            acceptSabotageCost = "Y";
-        }
-        if (acceptSabotageCost.equalsIgnoreCase("Y"))
-        {
-            if (currentPlayer.getCoins() < actionCost)
-            {
-                System.out.println("You do not have enough coins to sabotage your opponent's grid.");
-                fileIO.updateFile(outputFileName, "Sabotage unsuccessful. " + currentPlayer.getName() + " does not have enough coins to sabotage their opponent's grid.\n");
-            }
-            else if (currentPlayer.getCoins() >= actionCost)
-            {
-                if (currentPlayer.getIsHuman())
-                {
-                    playerInput = new Input();
-                    int[] capturedCoordinates = new int[2];
-                    System.out.println("Enter the coordinates of the tile you would like to capture.");
-                    capturedCoordinates[0] = playerInput.getIntegerInput("Enter the x coordinate: ");
-                    while (capturedCoordinates[0] < 0 || capturedCoordinates[0] > grid.getGridSize())
-                    {
-                        capturedCoordinates[0] = playerInput.getIntegerInput("Please enter a valid x coordinate: ");
-                    }
-                    capturedCoordinates[1] = playerInput.getIntegerInput("Enter the y coordinate: ");
-                    while (capturedCoordinates[1] < 0 || capturedCoordinates[1] > grid.getGridSize())
-                    {
-                        capturedCoordinates[1] = playerInput.getIntegerInput("Please enter a valid y coordinate: ");
-                    }
-                    while (!opponentPlayer.hasCapturedSquare(capturedCoordinates, this.grid))
-                    {
-                        System.out.print("Please enter coordinates of a valid tile. Valid coordinates: ");
-                        for (int[] square : opponentPlayer.getSquaresCaptured())
-                        {
-                            System.out.print("(" + square[0] + ", " + square[1] + ") ");
-                        }
-                        System.out.println();
-                        capturedCoordinates[0] = playerInput.getIntegerInput("Enter the x coordinate: ");
-                        while (capturedCoordinates[0] < 0 || capturedCoordinates[0] > grid.getGridSize())
-                        {
-                            capturedCoordinates[0] = playerInput.getIntegerInput("Please enter a valid x coordinate: ");
-                        }
-                        capturedCoordinates[1] = playerInput.getIntegerInput("Enter the y coordinate: ");
-                        while (capturedCoordinates[1] < 0 || capturedCoordinates[1] > grid.getGridSize())
-                        {
-                            capturedCoordinates[1] = playerInput.getIntegerInput("Please enter a valid y coordinate: ");
-                        }
-                    }
-                    fileIO.updateFile(outputFileName, currentPlayer.getName() + " is attempting to capture the tile at (" + capturedCoordinates[0] + ", " + capturedCoordinates[1] + ")!\n");
-                    System.out.println("You have captured the tile!");
-                    grid.updateGridWithCapturedSquare(currentPlayer, capturedCoordinates);
-                    currentPlayer.addSquareCaptured(capturedCoordinates);
-                    opponentPlayer.removeSquareCaptured(capturedCoordinates);
-                    fileIO.updateFile(outputFileName, currentPlayer.getName() + " has captured the tile at (" + capturedCoordinates[0] + ", " + capturedCoordinates[1] + ")!\n");
-
-                }
-                else if (!currentPlayer.getIsHuman())
-                {
-                    ArrayList<int[]> opponentSquaresCaptured = opponentPlayer.getSquaresCaptured();
-                    int randomSquare = dice.getRandomNumber(0, opponentSquaresCaptured.size() - 1);
-                    int[] capturedCoordinates = opponentSquaresCaptured.get(randomSquare);
-                    grid.updateGridWithCapturedSquare(currentPlayer, capturedCoordinates);
-                    currentPlayer.addSquareCaptured(capturedCoordinates);
-                    opponentPlayer.removeSquareCaptured(capturedCoordinates);
-                    fileIO.updateFile(outputFileName, currentPlayer.getName() + " has sabotaged " + opponentPlayer.getName() + "'s grid at (" + capturedCoordinates[0] + ", " + capturedCoordinates[1] + "). ");
-                }
-                currentPlayer.updateCoins(-actionCost);
-                fileIO.updateFile(outputFileName, "Cost of sabotage: " + actionCost + " coins.\n");
-            }
-            else
-            {
-                System.out.println("Error: Invalid input.");
-            }
+            System.out.println(currentPlayer.getName() + " has rejected the cost of " + result.getCost() + " coins to sabotage " + target + ".\n");
         }
         else
         {
-            System.out.println(currentPlayer.getName() + " has chosen not to sabotage an opponent's grid square.\n");
+            System.out.println("Sabotage unsuccessful. That tile does not belong to your opponent.\n");
         }
     }
 
     /**
-     * Method to strike an opponent's heart if the current player has a complete path across the grid.
+     * Method to to initiate and manage each player's turn. The move is chosen by the player's strategy
+     * and applied by the game engine.
      * 
      * @param currentPlayer The player whose turn it is.
-     * @param opponentPlayer The opponent player, who is not taking their turn.
      * 
      * @return void
      */
-    public void strikeOpponentHeart(Player currentPlayer, Player opponentPlayer)
+    public void takeTurn(Player currentPlayer)
     {
-        if (currentPlayer.hasCompletePath(grid))
-        {
-            System.out.println("You have a complete path across the grid! You can now strike your opponent's heart!");
-            opponentPlayer.updateHearts(-1);
-            fileIO.updateFile(outputFileName, currentPlayer.getName() + " has struck " + opponentPlayer.getName() + "'s heart!\n");
-        }
-        else
-        {
-            System.out.println("You do not have a complete path across the grid. You cannot strike your opponent's heart yet.");
-            fileIO.updateFile(outputFileName, currentPlayer.getName() + "'s strike failed - does not have a complete path across the grid.\n");
-        }
+        Strategy strategy = currentPlayer.getIsHuman() ? this.humanStrategy : this.computerStrategy;
+        engine.takeTurn(this.gameState, currentPlayer, strategy);
     }
-    
+
     /**
-     * Method to to initiate and manage each player's turn.
+     * Announces the start of a player's turn. The computer takes a moment to "think" before it moves.
      * 
-     * @param currentPlayer The player whose turn it is.
-     * @param opponentPlayer The player who is not taking their turn.
-     * @param grid The grid object that the game is being played on.
-     * 
-     * @return void
+     * @param state The current state of the game
+     * @param currentPlayer The player whose turn it is
      */
-    public void takeTurn(Player currentPlayer, Player opponentPlayer, Grid grid)
+    public void turnStarted(GameState state, Player currentPlayer)
     {
-        Input playerInput = new Input();
-        int playerChoice = 0;
         System.out.println("It is " + currentPlayer.getName() + "'s turn.");
-        System.out.println("Which move would you like to make?");
-        System.out.println("\t1. Capture a grid spot");
-        System.out.println("\t2. Sabotage the your opponent");
-        System.out.println("\t3. Strike your opponent's heart");
-        if (currentPlayer.getIsHuman())
-        {
-            playerChoice = playerInput.getIntegerInput("Enter your choice: ");
-            while (playerChoice < 1 || playerChoice > 3)
-            {
-                playerChoice = playerInput.getIntegerInput("Please enter a valid choice: ");
-            }
-        }
-        else if (!currentPlayer.getIsHuman())
+        if (!currentPlayer.getIsHuman())
         {
             System.out.print(currentPlayer.getName() + " is thinking");
             for (int i = 0; i < 3; i++)
@@ -559,30 +304,7 @@ public class Field
                     System.out.println("Error: Thread interrupted.");
                 }
             }
-            playerChoice = (numTurns == 1) ? 1 : ( currentPlayer.hasCompletePath(grid) ? 3 : dice.D3() );
-            if (opponentPlayer.hasCompletePath(grid))
-            {
-                playerChoice = 2;
-            }
-        }
-        System.out.print(currentPlayer.getName() + " chooses: ");
-        switch (playerChoice)
-        {
-            case 1:
-                System.out.println("Capture a grid spot");
-                fileIO.updateFile(outputFileName, currentPlayer.getName() + " attempts to capture a grid spot.\n");
-                captureGridSpot(currentPlayer, opponentPlayer);
-                break;
-            case 2:
-                System.out.println("Sabotage the enemy");
-                fileIO.updateFile(outputFileName, currentPlayer.getName() + " attempts to sabotage the opponent.\n");
-                sabotageOpponent(currentPlayer, opponentPlayer);
-                break;
-            case 3:
-                System.out.println("Strike opponent's heart");
-                fileIO.updateFile(outputFileName, currentPlayer.getName() + " attempts to strike the opponent's heart.\n");
-                strikeOpponentHeart(currentPlayer, opponentPlayer);
-                break;
+            System.out.println();
         }
     }
 
@@ -591,7 +313,7 @@ public class Field
      */
     public static void welcomeGame()
     {
-        fileIO = new FileIO();
+        FileIO fileIO = new FileIO();
         String welcomeMessageFile = "welcome.txt";
         String welcomeMessage = fileIO.readFile(welcomeMessageFile);
         System.out.println(welcomeMessage);
@@ -600,39 +322,77 @@ public class Field
     /**
      * The main method of the game. This is where the game runs from!
      * 
-     * @param args
+     * @param args "mcts" to play against the MctsStrategy, or "expectimax" to play against the ExpectimaxStrategy,
+     *        instead of the ComputerStrategy (optional)
      * @return void
      */
     public static void main(String[] args)
     {
         welcomeGame();
         Field gameField = new Field();
-        gameField.grid.displayGrid();
-        fileIO.writeFile(outputFileName, "Game Start\n");
-        fileIO.updateFile(outputFileName, "Players using a " + gameField.grid.getGridSize() + "x" + gameField.grid.getGridSize() + " grid\n");
-        fileIO.updateFile(outputFileName, "Starting stats:");
-        fileIO.updateFile(outputFileName, gameField.humanPlayer.getPlayerStats(gameField.grid));
-        fileIO.updateFile(outputFileName, gameField.computerPlayer.getPlayerStats(gameField.grid));
+        if (args.length > 0 && args[0].equals("mcts"))
+        {
+            gameField.computerStrategy = new MctsStrategy(Runtime.getRuntime().availableProcessors(), SEARCH_MOVE_TIME_MILLIS, 0, new GameRandom());
+        }
+        else if (args.length > 0 && args[0].equals("expectimax"))
+        {
+            gameField.computerStrategy = new ExpectimaxStrategy(SEARCH_MOVE_TIME_MILLIS, 0, EXPECTIMAX_TABLE_MEGABYTES);
+        }
+        GameState gameState = gameField.gameState;
+        Grid grid = gameState.getGrid();
+        grid.displayGrid();
+        try
+        {
+            gameField.gameLog = new GameLog(outputFileName, logDurability);
+            gameField.eventLog = new EventLogWriter(eventLogFileName);
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in opening the game log: " + e.getMessage());
+            return;
+        }
+        gameField.engine.addListener(gameField.eventLog);
+        gameField.eventLog.writeGameStart(gameState);
+        gameField.gameLog.log("Game Start\n");
+        gameField.gameLog.log("Players using a " + grid.getGridSize() + "x" + grid.getGridSize() + " grid\n");
+        gameField.gameLog.log("Random seed: " + gameState.getRandom().getSeed() + "\n");
+        gameField.gameLog.log("Starting stats:");
+        gameField.gameLog.log(gameField.humanPlayer.getPlayerStats(grid));
+        gameField.gameLog.log(gameField.computerPlayer.getPlayerStats(grid));
+        boolean gameOver = false;
         while (!gameOver)
         {
-            fileIO.updateFile(outputFileName, "Turn: " + numTurns + "\n");
-            gameField.takeTurn(gameField.humanPlayer, gameField.computerPlayer, gameField.grid);
+            gameField.gameLog.log("Turn: " + gameState.getNumTurns() + "\n");
+            gameField.takeTurn(gameField.humanPlayer);
             gameOver = gameField.gameOver(gameField.humanPlayer, gameField.computerPlayer);
             if (gameOver) break;
-            gameField.takeTurn(gameField.computerPlayer, gameField.humanPlayer, gameField.grid);
+            gameField.takeTurn(gameField.computerPlayer);
             gameOver = gameField.gameOver(gameField.humanPlayer, gameField.computerPlayer);
             if (gameOver) break;
-            fileIO.updateFile(outputFileName, gameField.humanPlayer.getPlayerStats(gameField.grid));
-            fileIO.updateFile(outputFileName, gameField.computerPlayer.getPlayerStats(gameField.grid));
-            gameField.humanPlayer.displayPlayerStats(gameField.grid);
-            gameField.computerPlayer.displayPlayerStats(gameField.grid);
+            gameField.gameLog.log(gameField.humanPlayer.getPlayerStats(grid));
+            gameField.gameLog.log(gameField.computerPlayer.getPlayerStats(grid));
+            gameField.humanPlayer.displayPlayerStats(grid);
+            gameField.computerPlayer.displayPlayerStats(grid);
             grid.displayGrid();
-            numTurns++;
+            gameField.gameLog.endTurn();
+            gameState.nextTurn();
         }
         String winner = (gameField.humanPlayer.getNumHearts() == 0) ? gameField.computerPlayer.getName() : gameField.humanPlayer.getName();
-        fileIO.updateFile(outputFileName, "Game Over!\n");
-        fileIO.updateFile(outputFileName, "Winner: " + winner + "\n");
-        fileIO.updateFile(outputFileName, "Total number of turns: " + numTurns);
+        gameField.gameLog.log("Game Over!\n");
+        gameField.gameLog.log("Winner: " + winner + "\n");
+        gameField.gameLog.log("Total number of turns: " + gameState.getNumTurns());
+        gameField.gameLog.close();
+        if (gameField.computerStrategy instanceof MctsStrategy mctsStrategy)
+        {
+            mctsStrategy.close();
+        }
+        try
+        {
+            gameField.eventLog.close();
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in writing the event log: " + e.getMessage());
+        }
     }
 }
-
@@ -115,29 +115,26 @@ import java.io.IOException;
      */
     public void writeFile(String fileName, String fileContents)
     {
-        try {
-            FileWriter fileWriter = new FileWriter(fileName);
+        try (FileWriter fileWriter = new FileWriter(fileName)) {
             fileWriter.write(fileContents);
         } catch (IOException e) {
             System.err.println("Error in writing file: " + e.getMessage());
         } catch (Exception e) {
             System.err.println("Error in writing file: " + e.getMessage());
-        } finally {
-            fileWriter.close();
         }
     }
 
     /** 
      * Method to append to a file. Used to update an existing file, without over-
-     * writing its existing contents.
+     * writing its existing contents. The file is opened and closed on every call, so
+     * frequent small writes should go through a GameLog instead.
      * 
      * @param fileName The name of the file to be appended to
      * @param newFileContents The contents to be appended to the file
     */
     public void updateFile(String fileName, String newFileContents)
     {
-        try {
-            FileWriter fileWriter = new FileWriter(fileName, true);
+        try (FileWriter fileWriter = new FileWriter(fileName, true)) {
             fileWriter.write(newFileContents);
         } catch (IOException e) {
             System.err.println("Error in writing file: " + e.getMessage());
@@ -145,8 +142,6 @@ import java.io.IOException;
         } catch (Exception e) {
             System.err.println("Error in writing file: " + e.getMessage());
             e.printStackTrace();
-        } finally {
-            fileWriter.close();
         }
     }
 }
@@ -0,0 +1,970 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Scanner;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * GameBenchmark class
+ *
+ * Simple timing harness for the hot paths in the game. Each benchmark warms up the code first, then
+ * times a fixed number of iterations and prints the average cost of one operation.
+ *
+ * Run all benchmarks with "java GameBenchmark", or a single one by passing its name, e.g.
+ * "java GameBenchmark ownership".
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see Grid
+ * @see Player
+ * @see GameRandom
+ * @see DiceTable
+ * @see GameLog
+ * @see EventLogReader
+ * @see EventLogWriter
+ * @see BoostCatalog
+ * @see GameMetrics
+ * @see MctsStrategy
+ * @see ExpectimaxStrategy
+ */
+
+public class GameBenchmark
+{
+    private static final int EXPECTIMAX_TABLE_MEGABYTES = 16;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final String TOURNAMENT_OPTION = "--tournament";
+
+    // Written to by the benchmarks so the JIT cannot remove the work being timed
+    private static long sink;
+
+    /**
+     * Runs the benchmark named by the first argument, or every benchmark if no name is given.
+     *
+     * @param args The name of the benchmark to run (optional)
+     */
+    public static void main(String[] args)
+    {
+        if (args.length == 4 && args[0].equals(TOURNAMENT_OPTION))
+        {
+            benchmarkTournament(Boolean.parseBoolean(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]));
+            return;
+        }
+        String benchmarkName = (args.length > 0) ? args[0] : "all";
+        boolean runAll = benchmarkName.equals("all");
+        if (runAll || benchmarkName.equals("ownership"))
+        {
+            benchmarkOwnershipQueries();
+        }
+        if (runAll || benchmarkName.equals("scaling"))
+        {
+            benchmarkGridScaling(new int[]{10, 100, 1000, 5000, 20000});
+        }
+        if (runAll || benchmarkName.equals("dice"))
+        {
+            benchmarkCaptureDice(7, 5);
+        }
+        if (runAll || benchmarkName.equals("log"))
+        {
+            benchmarkGameLog(20_000, 8);
+        }
+        if (runAll || benchmarkName.equals("replay"))
+        {
+            benchmarkEventLogReplay(1000, 500_000);
+        }
+        if (runAll || benchmarkName.equals("seek"))
+        {
+            benchmarkEventLogSeek(1000, 100_000, 1000);
+        }
+        if (runAll || benchmarkName.equals("boosts"))
+        {
+            benchmarkBoostCatalog(BoostCatalog.DEFAULT_FILE_NAME);
+        }
+        if (runAll || benchmarkName.equals("catalog"))
+        {
+            benchmarkLargeBoostCatalog(5_000_000, 500_000);
+        }
+        if (runAll || benchmarkName.equals("random"))
+        {
+            benchmarkRandomContention(new int[]{1, 2, 4, 8});
+        }
+        if (runAll || benchmarkName.equals("metrics"))
+        {
+            benchmarkMetricsOverhead(10_000, 5, 7);
+        }
+        if (runAll || benchmarkName.equals("mcts"))
+        {
+            benchmarkMctsStrategy(5, 50, 5);
+        }
+        if (runAll || benchmarkName.equals("expectimax"))
+        {
+            benchmarkExpectimaxStrategy(new int[]{3, 4, 5}, 50, 5);
+        }
+    }
+
+    /**
+     * Compares checking square ownership through the grid's owner id array against the old approach of
+     * searching the formatted square text for the player's name.
+     */
+    public static void benchmarkOwnershipQueries()
+    {
+        int gridSize = 10;
+        Grid grid = new Grid(gridSize);
+        Player humanPlayer = new HumanPlayer("Dan");
+        Player computerPlayer = new ComputerPlayer();
+        for (int y = 1; y <= gridSize; y++)
+        {
+            for (int x = 1; x <= gridSize; x++)
+            {
+                if ((x + y) % 3 == 0)
+                {
+                    grid.updateGridWithCapturedSquare(humanPlayer, new int[]{x, y});
+                }
+                else if ((x + y) % 3 == 1)
+                {
+                    grid.updateGridWithCapturedSquare(computerPlayer, new int[]{x, y});
+                }
+            }
+        }
+        int queriesPerRound = 200_000;
+        double nameSearchNanos = timePerOperation(queriesPerRound, () -> {
+            long owned = 0;
+            for (int i = 0; i < queriesPerRound; i++)
+            {
+                int x = i % gridSize + 1;
+                int y = (i / gridSize) % gridSize + 1;
+                if (grid.getGridSquare(x, y).contains(humanPlayer.getName()))
+                {
+                    owned++;
+                }
+            }
+            sink += owned;
+        });
+        double ownerIdNanos = timePerOperation(queriesPerRound, () -> {
+            long owned = 0;
+            for (int i = 0; i < queriesPerRound; i++)
+            {
+                int x = i % gridSize + 1;
+                int y = (i / gridSize) % gridSize + 1;
+                if (grid.isSquareOwnedBy(x, y, humanPlayer))
+                {
+                    owned++;
+                }
+            }
+            sink += owned;
+        });
+        System.out.println("Ownership query (" + gridSize + "x" + gridSize + " grid)");
+        printResult("name search in square text", nameSearchNanos);
+        printResult("owner id lookup", ownerIdNanos);
+        System.out.printf("    speedup: %.1fx%n", nameSearchNanos / ownerIdNanos);
+    }
+
+    /**
+     * Measures how grid generation and a game scale with the size of the grid.
+     *
+     * The game is a scripted race: the human player captures the first row from left to right while the
+     * computer player captures the second row, checking for a complete path after every capture, until
+     * the human player completes their row. This takes one turn per column and exercises capturing and
+     * path checking without depending on the dice.
+     *
+     * @param gridSizes The grid sizes to measure
+     */
+    public static void benchmarkGridScaling(int[] gridSizes)
+    {
+        System.out.println("Grid scaling");
+        System.out.printf("    %8s %14s %12s %14s %12s %14s  %s%n", "size", "squares", "create ms", "game turns", "ns/turn", "storage bytes", "storage");
+        for (int gridSize : gridSizes)
+        {
+            long squares = (long) gridSize * gridSize;
+            Grid grid;
+            long startTime = System.nanoTime();
+            try
+            {
+                grid = new Grid(gridSize);
+            }
+            catch (IllegalArgumentException e)
+            {
+                System.out.printf("    %8d %14d  skipped: %s%n", gridSize, squares, e.getMessage());
+                continue;
+            }
+            long createTime = System.nanoTime() - startTime;
+            Player humanPlayer = new HumanPlayer("Dan");
+            Player computerPlayer = new ComputerPlayer();
+            int[] coordinates = new int[2];
+            int turns = 0;
+            startTime = System.nanoTime();
+            while (!humanPlayer.hasCompletePath(grid))
+            {
+                turns++;
+                coordinates[0] = turns;
+                coordinates[1] = 1;
+                grid.updateGridWithCapturedSquare(humanPlayer, coordinates);
+                if (gridSize > 1 && !humanPlayer.hasCompletePath(grid))
+                {
+                    coordinates[1] = 2;
+                    grid.updateGridWithCapturedSquare(computerPlayer, coordinates);
+                    sink += computerPlayer.hasCompletePath(grid) ? 1 : 0;
+                }
+            }
+            long gameTime = System.nanoTime() - startTime;
+            System.out.printf("    %8d %14d %12.2f %14d %12.1f %14d  %s%n", gridSize, squares, createTime / 1e6, turns,
+                (double) gameTime / turns, grid.getMemoryUsage(), grid.getStorageType());
+        }
+    }
+
+    /**
+     * Compares the cost of resolving a capture in each dice mode, rolling again after a tie as the engine does,
+     * and checks that each mode succeeds as often as the exact chance says.
+     * 
+     * @param damage The attacking player's damage
+     * @param defence The defending player's defence
+     */
+    public static void benchmarkCaptureDice(int damage, int defence)
+    {
+        int capturesPerRound = 1_000_000;
+        GameRandom random = new GameRandom(4131);
+        long[] successes = new long[3];
+        double rollNanos = timePerOperation(capturesPerRound, () -> {
+            long won = 0;
+            for (int i = 0; i < capturesPerRound; i++)
+            {
+                int margin;
+                do
+                {
+                    margin = Dice.threeD6(random) + damage - Dice.twoD6(random) - defence;
+                }
+                while (margin == 0);
+                won += (margin > 0) ? 1 : 0;
+            }
+            successes[0] = won;
+        });
+        double tableNanos = timePerOperation(capturesPerRound, () -> {
+            long won = 0;
+            for (int i = 0; i < capturesPerRound; i++)
+            {
+                int margin;
+                do
+                {
+                    margin = DiceTable.threeD6(random) + damage - DiceTable.twoD6(random) - defence;
+                }
+                while (margin == 0);
+                won += (margin > 0) ? 1 : 0;
+            }
+            successes[1] = won;
+        });
+        double analyticNanos = timePerOperation(capturesPerRound, () -> {
+            long won = 0;
+            for (int i = 0; i < capturesPerRound; i++)
+            {
+                won += DiceTable.resolveCapture(random, damage, defence) ? 1 : 0;
+            }
+            successes[2] = won;
+        });
+        sink += successes[0] + successes[1] + successes[2];
+        System.out.printf("Capture dice (damage %d vs defence %d, exact success chance %.4f)%n", damage, defence,
+            DiceTable.getCaptureProbability(damage, defence));
+        printResult(String.format("roll each die (success %.4f)", (double) successes[0] / capturesPerRound), rollNanos);
+        printResult(String.format("alias tables (success %.4f)", (double) successes[1] / capturesPerRound), tableNanos);
+        printResult(String.format("analytic (success %.4f)", (double) successes[2] / capturesPerRound), analyticNanos);
+    }
+
+    /**
+     * Compares logging events by appending each one with FileIO.updateFile, which opens and closes the file
+     * every time, against a GameLog in each durability mode. The GameLog times include closing the log, so
+     * every event has been written before the clock stops.
+     * 
+     * @param numEvents The number of events to log
+     * @param eventsPerTurn The number of events logged between the ends of turns
+     */
+    public static void benchmarkGameLog(int numEvents, int eventsPerTurn)
+    {
+        String event = "Dan is attempting to capture the tile at (4, 3)!\n";
+        File logFile;
+        try
+        {
+            logFile = File.createTempFile("benchmark_log", ".txt");
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in creating the benchmark log: " + e.getMessage());
+            return;
+        }
+        System.out.println("Game log (" + numEvents + " events, " + eventsPerTurn + " per turn)");
+        FileIO fileIO = new FileIO();
+        fileIO.writeFile(logFile.getPath(), "");
+        long startTime = System.nanoTime();
+        for (int i = 0; i < numEvents; i++)
+        {
+            fileIO.updateFile(logFile.getPath(), event);
+        }
+        printEventRate("FileIO.updateFile", numEvents, System.nanoTime() - startTime);
+        for (LogDurability durability : LogDurability.values())
+        {
+            startTime = System.nanoTime();
+            try (GameLog gameLog = new GameLog(logFile.getPath(), durability))
+            {
+                for (int i = 0; i < numEvents; i++)
+                {
+                    gameLog.log(event);
+                    if (i % eventsPerTurn == eventsPerTurn - 1)
+                    {
+                        gameLog.endTurn();
+                    }
+                }
+            }
+            catch (IOException e)
+            {
+                System.err.println("Error in opening the benchmark log: " + e.getMessage());
+                continue;
+            }
+            printEventRate("GameLog " + durability, numEvents, System.nanoTime() - startTime);
+        }
+        sink += logFile.length();
+        logFile.delete();
+    }
+
+    /**
+     * Records a long computer vs computer game in the binary event log, then times replaying the whole log
+     * into a fresh game.
+     * 
+     * @param gridSize The size of the grid; on a large grid random captures rarely complete a path, so the
+     * game runs to the turn limit
+     * @param maxTurns The turn limit of the game
+     */
+    public static void benchmarkEventLogReplay(int gridSize, int maxTurns)
+    {
+        GameState state = new GameState(new Grid(gridSize, new GameRandom(4131)), new HumanPlayer("Dan"), new ComputerPlayer());
+        GameEngine engine = new GameEngine();
+        ByteArrayOutputStream logBytes = new ByteArrayOutputStream();
+        EventLogWriter eventLog = new EventLogWriter(logBytes);
+        engine.addListener(eventLog);
+        eventLog.writeGameStart(state);
+        long startTime = System.nanoTime();
+        engine.playGame(state, new ComputerStrategy(), new ComputerStrategy(), maxTurns);
+        long recordTime = System.nanoTime() - startTime;
+        try
+        {
+            eventLog.close();
+            EventLogReader reader = new EventLogReader(logBytes.toByteArray());
+            int numEvents = 0;
+            for (int i = 0; i < WARMUP_ROUNDS; i++)
+            {
+                numEvents = reader.replay(reader.createGameState(), new GameEngine(), Integer.MAX_VALUE);
+            }
+            startTime = System.nanoTime();
+            for (int i = 0; i < MEASURED_ROUNDS; i++)
+            {
+                GameState replayedState = reader.replay(Integer.MAX_VALUE);
+                sink += replayedState.getNumTurns();
+            }
+            double replayMillis = (System.nanoTime() - startTime) / 1e6 / MEASURED_ROUNDS;
+            System.out.println("Event log replay (" + gridSize + "x" + gridSize + " grid, " + state.getNumTurns() + " turns)");
+            System.out.printf("    %-40s %12d%n", "events", numEvents);
+            System.out.printf("    %-40s %12d bytes (%.1f bytes/event)%n", "binary log", logBytes.size(), (double) logBytes.size() / numEvents);
+            System.out.printf("    %-40s %12.1f ms%n", "play and record", recordTime / 1e6);
+            System.out.printf("    %-40s %12.1f ms (%.1f ns/event)%n", "replay", replayMillis, replayMillis * 1e6 / numEvents);
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in replaying the event log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records a long computer vs computer game with snapshots, then compares rebuilding the game at a spread of
+     * turns by replaying from the start against seeking from the nearest snapshot.
+     * 
+     * @param gridSize The size of the grid
+     * @param maxTurns The turn limit of the game
+     * @param snapshotInterval The number of turns between snapshots
+     */
+    public static void benchmarkEventLogSeek(int gridSize, int maxTurns, int snapshotInterval)
+    {
+        GameState state = new GameState(new Grid(gridSize, new GameRandom(4131)), new HumanPlayer("Dan"), new ComputerPlayer());
+        GameEngine engine = new GameEngine();
+        ByteArrayOutputStream logBytes = new ByteArrayOutputStream();
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        EventLogWriter eventLog = new EventLogWriter(logBytes, indexBytes, snapshotInterval);
+        engine.addListener(eventLog);
+        eventLog.writeGameStart(state);
+        engine.playGame(state, new ComputerStrategy(), new ComputerStrategy(), maxTurns);
+        int numTargets = 20;
+        int[] targetTurns = new int[numTargets];
+        for (int i = 0; i < numTargets; i++)
+        {
+            // Spread over the game, and off the snapshot turns so that seeking has some turns to replay
+            targetTurns[i] = (int) ((long) state.getNumTurns() * (i + 1) / numTargets) - snapshotInterval / 2;
+        }
+        try
+        {
+            eventLog.close();
+            EventLogReader reader = new EventLogReader(logBytes.toByteArray(), indexBytes.toByteArray());
+            double replayMillis = timeRebuilds(targetTurns, turn -> reader.replay(turn));
+            double seekMillis = timeRebuilds(targetTurns, turn -> reader.seek(turn));
+            System.out.println("Event log seek (" + gridSize + "x" + gridSize + " grid, " + state.getNumTurns()
+                + " turns, snapshot every " + snapshotInterval + " turns)");
+            System.out.printf("    %-40s %12d bytes%n", "log with snapshots", logBytes.size());
+            System.out.printf("    %-40s %12d bytes%n", "index", indexBytes.size());
+            System.out.printf("    %-40s %12.2f ms/turn%n", "replay from the start", replayMillis);
+            System.out.printf("    %-40s %12.2f ms/turn%n", "seek from the nearest snapshot", seekMillis);
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in seeking in the event log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A way of rebuilding a recorded game at the end of a turn.
+     */
+    private interface GameRebuilder
+    {
+        GameState rebuild(int turn) throws IOException;
+    }
+
+    /**
+     * Times rebuilding a game at each of a list of turns, after rebuilding at them all once to warm up.
+     * 
+     * @param turns The turns to rebuild the game at
+     * @param rebuilder How to rebuild the game
+     * @return double The average time of one rebuild, in milliseconds
+     * @throws IOException if the log is damaged
+     */
+    private static double timeRebuilds(int[] turns, GameRebuilder rebuilder) throws IOException
+    {
+        for (int turn : turns)
+        {
+            sink += rebuilder.rebuild(turn).getNumTurns();
+        }
+        long startTime = System.nanoTime();
+        for (int turn : turns)
+        {
+            sink += rebuilder.rebuild(turn).getNumTurns();
+        }
+        return (System.nanoTime() - startTime) / 1e6 / turns.length;
+    }
+
+    /**
+     * Measures loading the boosts and creating boards: parsing the boosts file into a BoostCatalog, creating a
+     * board from the shared catalog, and the old way of reading the boosts for each board, which counted the
+     * lines of the file with FileIO.getNumLines for each of the two Boosts objects a grid made and then read it
+     * again with a Scanner.
+     * 
+     * @param fileName The boosts file
+     */
+    public static void benchmarkBoostCatalog(String fileName)
+    {
+        int loadsPerRound = 1000;
+        double parseNanos = timePerOperation(loadsPerRound, () -> {
+            for (int i = 0; i < loadsPerRound; i++)
+            {
+                sink += BoostCatalog.load(fileName).size();
+            }
+        });
+        double oldBoardNanos = timePerOperation(loadsPerRound, () -> {
+            FileIO fileIO = new FileIO();
+            for (int i = 0; i < loadsPerRound; i++)
+            {
+                int numberOfBoosts = fileIO.getNumLines(fileName);
+                numberOfBoosts = fileIO.getNumLines(fileName);
+                Scanner fileScanner = fileIO.getFileScanner(fileName);
+                ArrayList<int[]> boosts = new ArrayList<int[]>();
+                for (int j = 0; j < numberOfBoosts; j++)
+                {
+                    String[] boostLine = fileScanner.nextLine().split(",");
+                    boosts.add(new int[]{Integer.parseInt(boostLine[0]), Integer.parseInt(boostLine[1]), Integer.parseInt(boostLine[2])});
+                }
+                fileScanner.close();
+                sink += boosts.size();
+            }
+        });
+        GameRandom random = new GameRandom(4131);
+        double boardNanos = timePerOperation(loadsPerRound, () -> {
+            for (int i = 0; i < loadsPerRound; i++)
+            {
+                sink += new Grid(10, random).getNumPlacedBoosts();
+            }
+        });
+        System.out.println("Boost catalog (" + fileName + ", " + BoostCatalog.get(fileName).size() + " boosts)");
+        printResult("parse file into a catalog", parseNanos);
+        printResult("read boosts for a board, old way", oldBoardNanos);
+        printResult("create 10x10 board from shared catalog", boardNanos);
+    }
+
+    /**
+     * Measures reading a large generated boosts file: the mapped text parser, the binary catalog format, and
+     * the old Scanner and String.split approach, which is timed on a shorter file as it is much slower.
+     * 
+     * @param numLines The number of boosts in the large file
+     * @param numOldLines The number of boosts in the file read the old way
+     */
+    public static void benchmarkLargeBoostCatalog(int numLines, int numOldLines)
+    {
+        File textFile = null;
+        File oldTextFile = null;
+        File binaryFile = null;
+        try
+        {
+            textFile = File.createTempFile("boosts", ".txt");
+            oldTextFile = File.createTempFile("boosts-old", ".txt");
+            binaryFile = File.createTempFile("boosts", ".bin");
+            writeBoostsFile(textFile, numLines);
+            writeBoostsFile(oldTextFile, numOldLines);
+            String textFileName = textFile.getPath();
+            String oldTextFileName = oldTextFile.getPath();
+            String binaryFileName = binaryFile.getPath();
+            System.out.println("Large boost catalog (" + numLines + " boosts, " + textFile.length() / (1024 * 1024) + " MB of text)");
+
+            for (int i = 0; i < 2; i++)
+            {
+                sink += BoostCatalog.load(textFileName).size();
+            }
+            long startTime = System.nanoTime();
+            BoostCatalog catalog = BoostCatalog.load(textFileName);
+            printLineRate("parse mapped text file", catalog.size(), System.nanoTime() - startTime);
+
+            startTime = System.nanoTime();
+            catalog.writeBinary(binaryFileName);
+            printLineRate("write binary catalog", catalog.size(), System.nanoTime() - startTime);
+
+            for (int i = 0; i < 2; i++)
+            {
+                sink += BoostCatalog.load(binaryFileName).size();
+            }
+            startTime = System.nanoTime();
+            BoostCatalog binaryCatalog = BoostCatalog.load(binaryFileName);
+            printLineRate("load binary catalog", binaryCatalog.size(), System.nanoTime() - startTime);
+            if (binaryCatalog.size() != catalog.size()
+                || binaryCatalog.getCoins(catalog.size() - 1) != catalog.getCoins(catalog.size() - 1))
+            {
+                System.err.println("Error in binary catalog: it does not match the text file.");
+            }
+
+            FileIO fileIO = new FileIO();
+            startTime = System.nanoTime();
+            int numberOfBoosts = fileIO.getNumLines(oldTextFileName);
+            Scanner fileScanner = fileIO.getFileScanner(oldTextFileName);
+            ArrayList<int[]> boosts = new ArrayList<int[]>();
+            for (int j = 0; j < numberOfBoosts; j++)
+            {
+                String[] boostLine = fileScanner.nextLine().split(",");
+                boosts.add(new int[]{Integer.parseInt(boostLine[0]), Integer.parseInt(boostLine[1]), Integer.parseInt(boostLine[2])});
+            }
+            fileScanner.close();
+            printLineRate("Scanner and split, old way", boosts.size(), System.nanoTime() - startTime);
+            sink += boosts.size();
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in large boost catalog benchmark: " + e.getMessage());
+        }
+        finally
+        {
+            for (File file : new File[]{textFile, oldTextFile, binaryFile})
+            {
+                if (file != null)
+                {
+                    file.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a boosts file of random "damage,defence,coins" lines.
+     * 
+     * @param file The file to write
+     * @param numLines The number of boosts
+     * @throws IOException if the file cannot be written
+     */
+    private static void writeBoostsFile(File file, int numLines) throws IOException
+    {
+        GameRandom random = new GameRandom(4131);
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file)))
+        {
+            for (int i = 0; i < numLines; i++)
+            {
+                writer.write(random.nextInt(-5, 11) + "," + random.nextInt(-5, 11) + "," + random.nextInt(0, 101) + "\n");
+            }
+        }
+    }
+
+    /**
+     * Prints how many lines were read or written per second.
+     * 
+     * @param label A description of how the lines were handled
+     * @param numLines The number of lines
+     * @param elapsedTime The time taken, in nanoseconds
+     */
+    private static void printLineRate(String label, int numLines, long elapsedTime)
+    {
+        System.out.printf("    %-40s %12.0f lines/s%n", label, numLines / (elapsedTime / 1e9));
+    }
+
+    /**
+     * Prints how many events were logged per second.
+     * 
+     * @param label A description of how the events were logged
+     * @param numEvents The number of events logged
+     * @param elapsedTime The time taken, in nanoseconds
+     */
+    private static void printEventRate(String label, int numEvents, long elapsedTime)
+    {
+        System.out.printf("    %-40s %12.0f events/s%n", label, numEvents / (elapsedTime / 1e9));
+    }
+
+    /**
+     * Measures dice rolls from several threads at once, comparing one generator shared by every thread, as
+     * Math.random() uses, with a GameRandom split off for each thread.
+     * 
+     * Each thread rolls 3d6 a fixed number of times. With a shared generator every draw updates the same seed,
+     * so adding threads slows each roll down; with a stream per thread the rolls per second should grow with the
+     * number of cores.
+     * 
+     * @param threadCounts The numbers of threads to measure
+     */
+    public static void benchmarkRandomContention(int[] threadCounts)
+    {
+        int rollsPerThread = 2_000_000;
+        Random sharedRandom = new Random();
+        GameRandom masterRandom = new GameRandom(4131);
+        System.out.println("Random number contention (3d6 rolls, " + Runtime.getRuntime().availableProcessors() + " cores)");
+        System.out.printf("    %8s %22s %22s%n", "threads", "shared Random rolls/s", "GameRandom rolls/s");
+        for (int numThreads : threadCounts)
+        {
+            double sharedRate = rollsPerSecond(numThreads, rollsPerThread, thread -> sharedRandom);
+            double splitRate = rollsPerSecond(numThreads, rollsPerThread, thread -> masterRandom.split());
+            System.out.printf("    %8d %22.0f %22.0f%n", numThreads, sharedRate, splitRate);
+        }
+    }
+
+    /**
+     * Measures what recording GameMetrics costs a single threaded tournament, the headless simulation, by playing
+     * the same games with and without metrics, timing one turn in every GameMetrics.DEFAULT_SAMPLE_INTERVAL.
+     * 
+     * A headless turn takes well under a microsecond and the recorder adds a few nanoseconds to it, less than
+     * the difference the JIT's choices make from one JVM to the next, so each tournament is played in a JVM of its own, alternating with and without
+     * metrics, and the median of each is compared. Playing both in one JVM would give the JIT a profile that
+     * mixes them and slows both down.
+     * 
+     * @param numGames The number of games in each tournament
+     * @param gridSize The grid size
+     * @param numForks The number of JVMs to play each tournament in
+     */
+    public static void benchmarkMetricsOverhead(int numGames, int gridSize, int numForks)
+    {
+        String[] labels = {"no metrics", "metrics, 1 in " + GameMetrics.DEFAULT_SAMPLE_INTERVAL + " turns timed"};
+        double[][] rates = new double[labels.length][numForks];
+        for (int fork = 0; fork < numForks; fork++)
+        {
+            for (int i = 0; i < labels.length; i++)
+            {
+                rates[i][fork] = runForkedTournament(i == 1, numGames, gridSize);
+            }
+        }
+        System.out.println("Metrics overhead (" + numGames + " games on a " + gridSize + "x" + gridSize + " grid, 1 thread, "
+            + numForks + " JVMs each)");
+        System.out.printf("    %-40s %12s %12s %12s %10s%n", "", "min games/s", "median", "max", "overhead");
+        double[] medians = new double[labels.length];
+        for (int i = 0; i < labels.length; i++)
+        {
+            Arrays.sort(rates[i]);
+            medians[i] = (rates[i][(numForks - 1) / 2] + rates[i][numForks / 2]) / 2;
+            System.out.printf("    %-40s %12.0f %12.0f %12.0f %9.2f%%%n", labels[i], rates[i][0], medians[i], rates[i][numForks - 1],
+                100.0 * (medians[0] - medians[i]) / medians[i]);
+        }
+    }
+
+    /**
+     * Plays a single threaded tournament in this JVM, after warming it up, and prints its fastest rate. Called in
+     * a forked JVM by benchmarkMetricsOverhead().
+     * 
+     * @param withMetrics Whether to record GameMetrics
+     * @param numGames The number of games in the tournament
+     * @param gridSize The grid size
+     */
+    private static void benchmarkTournament(boolean withMetrics, int numGames, int gridSize)
+    {
+        HumanPlayer humanPlayer = new HumanPlayer("Human");
+        ComputerPlayer computerPlayer = new ComputerPlayer();
+        Tournament tournament = new Tournament(gridSize,
+            new int[]{humanPlayer.getDamage(), humanPlayer.getDefence(), humanPlayer.getCoins()},
+            new int[]{computerPlayer.getDamage(), computerPlayer.getDefence(), computerPlayer.getCoins()}, 1000);
+        tournament.setMetrics(withMetrics ? new GameMetrics() : null);
+        long fastestTime = Long.MAX_VALUE;
+        for (int round = -WARMUP_ROUNDS; round < MEASURED_ROUNDS; round++)
+        {
+            long startTime = System.nanoTime();
+            sink += tournament.run(numGames, 1, 4131).getReport().length();
+            long elapsedTime = System.nanoTime() - startTime;
+            if (round >= 0)
+            {
+                fastestTime = Math.min(fastestTime, elapsedTime);
+            }
+        }
+        System.out.println(numGames / (fastestTime / 1e9));
+    }
+
+    /**
+     * Plays a tournament in a new JVM, started with the same class path and JVM options as this one.
+     * 
+     * @param withMetrics Whether to record GameMetrics
+     * @param numGames The number of games in the tournament
+     * @param gridSize The grid size
+     * @return double The fastest rate of the tournament, in games per second, or 0 if the JVM failed
+     */
+    private static double runForkedTournament(boolean withMetrics, int numGames, int gridSize)
+    {
+        ArrayList<String> command = new ArrayList<String>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(GameBenchmark.class.getName());
+        command.add(TOURNAMENT_OPTION);
+        command.add(Boolean.toString(withMetrics));
+        command.add(Integer.toString(numGames));
+        command.add(Integer.toString(gridSize));
+        try
+        {
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+            String lastLine = null;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream())))
+            {
+                String line;
+                while ((line = reader.readLine()) != null)
+                {
+                    lastLine = line;
+                }
+            }
+            if (process.waitFor() != 0 || lastLine == null)
+            {
+                System.err.println("Error in the metrics overhead benchmark: the forked JVM failed.");
+                return 0;
+            }
+            return Double.parseDouble(lastLine);
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in starting a JVM for the metrics overhead benchmark: " + e.getMessage());
+            return 0;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    /**
+     * Plays MctsStrategy against the ComputerStrategy, with the human player's starting stats against the
+     * computer's, and compares its win rate with the ComputerStrategy's own from the same seat over the same
+     * games. MCTS plays each seat once for each thread count from 1 up to the number of available processors,
+     * doubling each time, with the same time for each move, so the iterations per second show how the search
+     * scales and the win rates show what the extra iterations are worth at equal wall-clock time.
+     * 
+     * @param gridSize The grid size
+     * @param numGames The number of games in each row
+     * @param moveTimeMillis The time MCTS searches each move for, in milliseconds
+     */
+    public static void benchmarkMctsStrategy(int gridSize, int numGames, long moveTimeMillis)
+    {
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        System.out.println("MCTS vs ComputerStrategy (" + numGames + " games per row on a " + gridSize + "x" + gridSize
+            + " grid, " + moveTimeMillis + " ms per move)");
+        System.out.printf("    %-20s %8s %14s %10s %18s%n", "seat", "threads", "iterations/s", "win rate", "95% CI");
+        try (MctsStrategy warmupStrategy = new MctsStrategy(1, moveTimeMillis, 0, new GameRandom(4131)))
+        {
+            playStrategyGames(gridSize, 4, 0, warmupStrategy);
+        }
+        for (int seat = 0; seat < 2; seat++)
+        {
+            String seatName = (seat == 0) ? "first (human stats)" : "second";
+            TournamentStats baseline = playStrategyGames(gridSize, numGames, seat, null);
+            double[] interval = baseline.getWinRateConfidenceInterval(seat);
+            System.out.printf("    %-20s %8s %14s %9.1f%% %8.1f%% - %5.1f%%%n", seatName, "bot", "-", 100 * baseline.getWinRate(seat),
+                100 * interval[0], 100 * interval[1]);
+            for (int numThreads = 1; numThreads <= maxThreads; numThreads = (numThreads == maxThreads) ? maxThreads + 1 : Math.min(numThreads * 2, maxThreads))
+            {
+                try (MctsStrategy strategy = new MctsStrategy(numThreads, moveTimeMillis, 0, new GameRandom(4131)))
+                {
+                    TournamentStats stats = playStrategyGames(gridSize, numGames, seat, strategy);
+                    interval = stats.getWinRateConfidenceInterval(seat);
+                    System.out.printf("    %-20s %8d %14.0f %9.1f%% %8.1f%% - %5.1f%%%n", seatName, numThreads, strategy.getIterationsPerSecond(),
+                        100 * stats.getWinRate(seat), 100 * interval[0], 100 * interval[1]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Plays ExpectimaxStrategy against the ComputerStrategy on small grids, with the human player's starting stats
+     * against the computer player's, and compares its win rate with the ComputerStrategy's own in the same seat and
+     * games. Prints the nodes it searches per second, how often its transposition table held the position searched
+     * and the average depth of its deepest complete search of each move.
+     *
+     * @param gridSizes The grid sizes to play on
+     * @param numGames The number of games for each seat on each grid size
+     * @param moveTimeMillis The time expectiminimax searches each move for, in milliseconds
+     */
+    public static void benchmarkExpectimaxStrategy(int[] gridSizes, int numGames, long moveTimeMillis)
+    {
+        System.out.println("Expectiminimax vs ComputerStrategy (" + numGames + " games per row, " + moveTimeMillis + " ms per move, "
+            + EXPECTIMAX_TABLE_MEGABYTES + " MB table)");
+        System.out.printf("    %4s %-20s %10s %12s %10s %8s %10s %18s%n", "size", "seat", "bot wins", "nodes/s", "table hits", "depth",
+            "win rate", "95% CI");
+        playStrategyGames(gridSizes[0], 4, 0, new ExpectimaxStrategy(moveTimeMillis, 0, EXPECTIMAX_TABLE_MEGABYTES));
+        for (int gridSize : gridSizes)
+        {
+            for (int seat = 0; seat < 2; seat++)
+            {
+                String seatName = (seat == 0) ? "first (human stats)" : "second";
+                TournamentStats baseline = playStrategyGames(gridSize, numGames, seat, null);
+                ExpectimaxStrategy strategy = new ExpectimaxStrategy(moveTimeMillis, 0, EXPECTIMAX_TABLE_MEGABYTES);
+                TournamentStats stats = playStrategyGames(gridSize, numGames, seat, strategy);
+                double[] interval = stats.getWinRateConfidenceInterval(seat);
+                System.out.printf("    %4d %-20s %9.1f%% %12.0f %9.1f%% %8.1f %9.1f%% %8.1f%% - %5.1f%%%n", gridSize, seatName,
+                    100 * baseline.getWinRate(seat), strategy.getNodesPerSecond(), 100 * strategy.getTableHitRate(),
+                    strategy.getAverageDepth(), 100 * stats.getWinRate(seat), 100 * interval[0], 100 * interval[1]);
+            }
+        }
+    }
+
+    /**
+     * Plays games between a strategy in one seat and the ComputerStrategy in the other. Game n is played with
+     * the same random number stream whichever strategy is used, so different strategies meet the same boosts.
+     * 
+     * @param gridSize The grid size
+     * @param numGames The number of games
+     * @param seat 0 for the strategy to move first, with the human player's stats, or 1 for it to move second
+     * @param strategy The strategy, or null for the ComputerStrategy to play both seats
+     * @return TournamentStats The results
+     */
+    private static TournamentStats playStrategyGames(int gridSize, int numGames, int seat, Strategy strategy)
+    {
+        int maxTurns = 1000;
+        GameEngine engine = new GameEngine();
+        Strategy computerStrategy = new ComputerStrategy();
+        TournamentStats stats = new TournamentStats(maxTurns);
+        for (int game = 0; game < numGames; game++)
+        {
+            Player firstPlayer = new HumanPlayer("Player 1");
+            Player secondPlayer = new ComputerPlayer();
+            GameState state = new GameState(new Grid(gridSize, GameRandom.forStream(4131, game)), firstPlayer, secondPlayer);
+            Strategy seatStrategy = (strategy == null) ? computerStrategy : strategy;
+            Player winner = engine.playGame(state, (seat == 0) ? seatStrategy : computerStrategy, (seat == 1) ? seatStrategy : computerStrategy, maxTurns);
+            stats.addGame((winner == null) ? -1 : (winner == firstPlayer) ? 0 : 1, state.getNumTurns(), 0);
+        }
+        return stats;
+    }
+
+    /**
+     * Rolls 3d6 on several threads at once, after a warm up, and returns the total rolls per second.
+     * 
+     * @param numThreads The number of threads
+     * @param rollsPerThread The number of rolls each thread makes
+     * @param generators Gives the generator for each thread, called on the calling thread before the threads start
+     * @return double The number of rolls per second across all of the threads
+     */
+    private static double rollsPerSecond(int numThreads, int rollsPerThread, IntFunction<RandomGenerator> generators)
+    {
+        RandomGenerator[] threadGenerators = new RandomGenerator[numThreads];
+        for (int i = 0; i < numThreads; i++)
+        {
+            threadGenerators[i] = generators.apply(i);
+        }
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+        {
+            long total = 0;
+            for (int roll = 0; roll < rollsPerThread / 10; roll++)
+            {
+                total += Dice.threeD6(threadGenerators[0]);
+            }
+            sink += total;
+        }
+        Thread[] threads = new Thread[numThreads];
+        CountDownLatch startSignal = new CountDownLatch(1);
+        for (int i = 0; i < numThreads; i++)
+        {
+            RandomGenerator random = threadGenerators[i];
+            threads[i] = new Thread(() -> {
+                try
+                {
+                    startSignal.await();
+                }
+                catch (InterruptedException e)
+                {
+                    return;
+                }
+                long total = 0;
+                for (int roll = 0; roll < rollsPerThread; roll++)
+                {
+                    total += Dice.threeD6(random);
+                }
+                synchronized (GameBenchmark.class)
+                {
+                    sink += total;
+                }
+            });
+            threads[i].start();
+        }
+        long startTime = System.nanoTime();
+        startSignal.countDown();
+        for (Thread thread : threads)
+        {
+            try
+            {
+                thread.join();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+        long elapsedTime = System.nanoTime() - startTime;
+        return (double) numThreads * rollsPerThread / (elapsedTime / 1e9);
+    }
+
+    /**
+     * Prints the average time of one operation.
+     *
+     * @param label A description of the operation
+     * @param nanosPerOperation The average time of one operation, in nanoseconds
+     */
+    private static void printResult(String label, double nanosPerOperation)
+    {
+        System.out.printf("    %-40s %12.1f ns/op%n", label, nanosPerOperation);
+    }
+
+    /**
+     * Times a round of work, after running it a number of times to warm up the JIT.
+     *
+     * @param operationsPerRound The number of operations each run of the round performs
+     * @param round The work to time
+     * @return double The average time of one operation, in nanoseconds
+     */
+    private static double timePerOperation(long operationsPerRound, Runnable round)
+    {
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+        {
+            round.run();
+        }
+        long startTime = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++)
+        {
+            round.run();
+        }
+        long elapsedTime = System.nanoTime() - startTime;
+        return (double) elapsedTime / (operationsPerRound * MEASURED_ROUNDS);
+    }
+}
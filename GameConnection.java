@@ -0,0 +1,229 @@
+/**
+ * GameConnection class
+ *
+ * The game protocol spoken by one client connection, whichever transport carries it. Both GameServer and
+ * NioGameServer hand each request line to the connection's GameConnection and send back the reply it returns.
+ *
+ * The protocol is one line of text per request and per reply:
+ * - "NEW [grid size] [seed] [name]" starts a game on this connection and replies "SESSION <id>".
+ * - "RESUME <id>" continues an existing game on this connection and replies "SESSION <id>".
+ * - "CAPTURE <x> <y>", "ATTACK", "DEFENCE", "SQUARE <x> <y>" and "STRIKE" play the player's move, where
+ *   ATTACK and DEFENCE decrement the computer's attack or defence and SQUARE sabotages one of its squares. The
+ *   reply is the turn's board delta, everything a client needs to keep its own copy of the board up to date:
+ *   "TURN <turn> <outcome> <computer action> <computer x> <computer y> <computer outcome> <hearts>
+ *   <computer hearts> <status> <damage> <defence> <coins> <computer damage> <computer defence> <computer coins>
+ *   [<square>...]". The turn is the one just played. The computer's action and outcome are "-" if it did not
+ *   move, and its x and y are "-" if it did not target a square. The status is PLAYING, WON, LOST or DRAW. The
+ *   stats are both players' after the turn. Each square the turn changed hands is given as "<x>,<y>,<owner>",
+ *   where the owner is P for the player or C for the computer, followed by ",<damage>,<defence>,<coins>" if a
+ *   boost was picked up there, the player's move first.
+ * - "END" removes the game, replying "ENDED", so the connection can start another.
+ * - "QUIT" closes the connection, leaving any game to be resumed, and replies "BYE".
+ * Anything that cannot be done gets the reply "ERR <reason>".
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameServer
+ * @see NioGameServer
+ * @see GameSession
+ */
+
+public class GameConnection
+{
+    public static final int MAX_GRID_SIZE = 100;
+
+    private static final int DEFAULT_GRID_SIZE = 5;
+
+    private boolean closed;
+    private SessionRegistry registry;
+    private GameSession session;
+
+    /**
+     * Constructor for objects of class GameConnection
+     *
+     * @param registry The sessions the connection can start and resume games in
+     */
+    public GameConnection(SessionRegistry registry)
+    {
+        this.registry = registry;
+        this.session = null;
+        this.closed = false;
+    }
+
+    /**
+     * Marks the connection as closed, such as when the client has broken the protocol, so the transport closes
+     * it once the last reply has been sent.
+     */
+    public void close()
+    {
+        this.closed = true;
+    }
+
+    /**
+     * Carries out one request.
+     *
+     * @param line The request, without its line ending
+     * @return String The reply, without its line ending
+     */
+    public String handleRequest(String line)
+    {
+        String[] words = line.trim().split(" +");
+        String command = words[0].toUpperCase();
+        try
+        {
+            switch (command)
+            {
+                case "NEW":
+                    int gridSize = (words.length > 1) ? Integer.parseInt(words[1]) : DEFAULT_GRID_SIZE;
+                    long seed = (words.length > 2) ? Long.parseLong(words[2]) : new GameRandom().getSeed();
+                    String name = (words.length > 3) ? words[3] : "Player";
+                    if (gridSize < 1 || gridSize > MAX_GRID_SIZE)
+                    {
+                        return "ERR grid size must be between 1 and " + MAX_GRID_SIZE;
+                    }
+                    this.session = this.registry.create(gridSize, seed, name);
+                    return "SESSION " + this.session.getId();
+                case "RESUME":
+                    GameSession resumedSession = (words.length > 1) ? this.registry.get(words[1]) : null;
+                    if (resumedSession == null)
+                    {
+                        return "ERR no such session";
+                    }
+                    this.session = resumedSession;
+                    return "SESSION " + resumedSession.getId();
+                case "CAPTURE":
+                    return playTurn(Action.capture(Integer.parseInt(words[1]), Integer.parseInt(words[2])));
+                case "ATTACK":
+                    return playTurn(Action.decrementAttack());
+                case "DEFENCE":
+                    return playTurn(Action.decrementDefence());
+                case "SQUARE":
+                    return playTurn(Action.sabotageSquare(Integer.parseInt(words[1]), Integer.parseInt(words[2])));
+                case "STRIKE":
+                    return playTurn(Action.strike());
+                case "END":
+                    if (this.session == null)
+                    {
+                        return "ERR no game started";
+                    }
+                    this.registry.remove(this.session.getId());
+                    this.session = null;
+                    return "ENDED";
+                case "QUIT":
+                    this.closed = true;
+                    return "BYE";
+                default:
+                    return "ERR unknown command " + words[0];
+            }
+        }
+        catch (NumberFormatException | ArrayIndexOutOfBoundsException e)
+        {
+            return "ERR bad arguments to " + command;
+        }
+    }
+
+    /**
+     * Checks whether the client has quit, after which the transport should close the connection once the
+     * last reply has been sent.
+     *
+     * @return boolean indicating whether the client has quit
+     */
+    public boolean isClosed()
+    {
+        return this.closed;
+    }
+
+    /**
+     * Plays one turn of the connection's session and describes everything it changed.
+     *
+     * @param action The player's action
+     * @return String The reply
+     */
+    private String playTurn(Action action)
+    {
+        GameSession session = this.session;
+        if (session == null)
+        {
+            return "ERR no game started";
+        }
+        TurnResult turnResult = session.takeTurn(action);
+        if (turnResult == null)
+        {
+            return "ERR game over";
+        }
+        ActionResult computerResult = turnResult.getComputerResult();
+        String status;
+        if (turnResult.getWinner() == session.getHumanPlayer())
+        {
+            status = "WON";
+        }
+        else if (turnResult.getWinner() == session.getComputerPlayer())
+        {
+            status = "LOST";
+        }
+        else
+        {
+            status = turnResult.isFinished() ? "DRAW" : "PLAYING";
+        }
+        int[] humanStats = turnResult.getHumanStats();
+        int[] computerStats = turnResult.getComputerStats();
+        StringBuilder reply = new StringBuilder("TURN ").append(turnResult.getTurn()).append(' ')
+            .append(turnResult.getHumanResult().getOutcome()).append(' ');
+        if (computerResult == null)
+        {
+            reply.append("- - - -");
+        }
+        else
+        {
+            Action computerAction = computerResult.getAction();
+            boolean hasTarget = isSquareAction(computerAction);
+            reply.append(computerAction.getType()).append(' ')
+                .append(hasTarget ? Integer.toString(computerAction.getXCoordinate()) : "-").append(' ')
+                .append(hasTarget ? Integer.toString(computerAction.getYCoordinate()) : "-").append(' ')
+                .append(computerResult.getOutcome());
+        }
+        reply.append(' ').append(humanStats[TurnResult.HEARTS]).append(' ').append(computerStats[TurnResult.HEARTS])
+            .append(' ').append(status)
+            .append(' ').append(humanStats[TurnResult.DAMAGE]).append(' ').append(humanStats[TurnResult.DEFENCE])
+            .append(' ').append(humanStats[TurnResult.COINS])
+            .append(' ').append(computerStats[TurnResult.DAMAGE]).append(' ').append(computerStats[TurnResult.DEFENCE])
+            .append(' ').append(computerStats[TurnResult.COINS]);
+        appendSquareChange(reply, turnResult.getHumanResult(), 'P', turnResult.getHumanBoost());
+        appendSquareChange(reply, computerResult, 'C', turnResult.getComputerBoost());
+        return reply.toString();
+    }
+
+    /**
+     * Adds the square a move took to a reply, as " x,y,owner", followed by ",damage,defence,coins" if the move
+     * picked up a boost there. Moves that took no square add nothing.
+     *
+     * @param reply The reply
+     * @param result The result of the move, or null if there was no move
+     * @param owner 'P' if the remote player made the move, or 'C' if the computer did
+     * @param boost The boost the move picked up, or null if none
+     */
+    private static void appendSquareChange(StringBuilder reply, ActionResult result, char owner, int[] boost)
+    {
+        if (result == null || !result.isSuccess() || !isSquareAction(result.getAction()))
+        {
+            return;
+        }
+        Action action = result.getAction();
+        reply.append(' ').append(action.getXCoordinate()).append(',').append(action.getYCoordinate()).append(',').append(owner);
+        if (boost != null)
+        {
+            reply.append(',').append(boost[0]).append(',').append(boost[1]).append(',').append(boost[2]);
+        }
+    }
+
+    /**
+     * Checks whether an action targets a square.
+     *
+     * @param action The action
+     * @return boolean indicating whether the action is a capture or a square sabotage
+     */
+    private static boolean isSquareAction(Action action)
+    {
+        return action.getType() == ActionType.CAPTURE || action.getType() == ActionType.SABOTAGE_SQUARE;
+    }
+}
@@ -0,0 +1,587 @@
+import java.util.ArrayList;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * GameEngine class
+ * 
+ * Applies the rules of the game to a GameState, without any console input or output. Each player's moves come
+ * from a Strategy, and anything that needs to report on the game, such as the console game or the game log,
+ * registers as a GameListener. With two computer strategies and no listeners, games run as fast as the
+ * rules can be applied. GameMetrics are recorded through a GameMetrics.Recorder called directly rather than a
+ * listener, as a headless turn is quick enough that calling one more listener for each event shows up in its time.
+ * For the same reason each turn and action is also a Flight Recorder event, such as a TurnEvent, that is only
+ * created once the Flight Recorder has been started.
+ * 
+ * The rules are:
+ * - Capture: roll 3d6 plus the player's damage against 2d6 plus the opponent's defence. The higher total wins;
+ *   a tie means the player must choose a square and roll again. Squares owned by the opponent cannot be captured.
+ * - Decrement attack or defence: pay 500 to 1,499 coins to reduce the opponent's damage or defence by 2.
+ * - Sabotage a square: pay 1,000 to 2,499 coins to take one of the opponent's squares without rolling.
+ * - Strike: if the player has a complete row or column, the opponent loses a heart.
+ * The game is over when a player has no hearts left.
+ * 
+ * A search can play its lines out on one GameState with apply() and undo() instead of copying the state at every
+ * node. apply() makes an action with a known outcome, as replayAction() does, and returns a long that records what
+ * the action changed: the square's previous owner and its place in the opponent's squares, the boost collected
+ * from it, the coins paid and whether the action ended the game. undo() puts all of it back, so neither allocates.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameState
+ * @see Strategy
+ * @see GameListener
+ * @see TurnEvent
+ */
+
+public class GameEngine
+{
+    public static final int MAX_SABOTAGE_COST = 1500;
+    public static final int MAX_SQUARE_SABOTAGE_COST = 2500;
+    public static final int MIN_SABOTAGE_COST = 500;
+    public static final int MIN_SQUARE_SABOTAGE_COST = 1000;
+    public static final int SABOTAGE_AMOUNT = 2;
+
+    // ActionType.values() copies its array on every call, so undo() looks types up here
+    private static final ActionType[] ACTION_TYPES = ActionType.values();
+    // Where apply() packs each part of an undo record, from the lowest bit up
+    private static final int UNDO_APPLIED_SHIFT = 3;
+    private static final int UNDO_BOOST_SHIFT = 36;
+    private static final int UNDO_COST_SHIFT = 52;
+    private static final int UNDO_ENDED_GAME_SHIFT = 5;
+    private static final int UNDO_MOVER_SHIFT = 4;
+    private static final int UNDO_OWNER_SHIFT = 6;
+    private static final int UNDO_POSITION_SHIFT = 22;
+    private static final int UNDO_X_SHIFT = 8;
+    private static final int UNDO_Y_SHIFT = 15;
+    // The largest values an undo record has room for, which limits apply() to grids of up to 128 by 128
+    private static final int MAX_UNDO_COORDINATE = 128;
+    private static final int MAX_UNDO_COST = 4095;
+
+    private DiceMode diceMode;
+    private ArrayList<GameListener> listeners;
+    private GameMetrics.Recorder metricsRecorder;
+
+    /**
+     * Default constructor for objects of class GameEngine, which rolls each die separately.
+     */
+    public GameEngine()
+    {
+        this.listeners = new ArrayList<GameListener>();
+        this.diceMode = DiceMode.ROLL;
+    }
+
+    /**
+     * Adds a listener to be told about every turn and action.
+     * 
+     * @param listener The listener to add
+     */
+    public void addListener(GameListener listener)
+    {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Sets the recorder that counts and times this engine's turns and actions, replacing any earlier one.
+     * GameMetrics.attach() sets it.
+     * 
+     * @param metricsRecorder The recorder, or null to record nothing
+     */
+    public void setMetricsRecorder(GameMetrics.Recorder metricsRecorder)
+    {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    /**
+     * Getter method for how captures are resolved.
+     * 
+     * @return DiceMode The dice mode
+     */
+    public DiceMode getDiceMode()
+    {
+        return this.diceMode;
+    }
+
+    /**
+     * Sets how captures are resolved. Simulations can use DiceMode.TABLE or DiceMode.ANALYTIC to make fewer
+     * random draws per capture without changing how often captures succeed.
+     * 
+     * @param diceMode The dice mode
+     */
+    public void setDiceMode(DiceMode diceMode)
+    {
+        this.diceMode = diceMode;
+    }
+
+    /**
+     * Applies an action for the given player. Sabotages first draw their cost, and only go ahead if the player's
+     * strategy accepts the cost and the player has enough coins.
+     * 
+     * @param state The game to apply the action to
+     * @param currentPlayer The player making the action
+     * @param action The action to apply
+     * @param strategy The player's strategy, asked whether to accept the cost of a sabotage
+     * @return ActionResult The result of the action
+     */
+    public ActionResult applyAction(GameState state, Player currentPlayer, Action action, Strategy strategy)
+    {
+        Player opponentPlayer = state.getOpponent(currentPlayer);
+        ActionResult result;
+        switch (action.getType())
+        {
+            case CAPTURE:
+                CaptureEvent captureEvent = FlightRecorder.isInitialized() ? CaptureEvent.start() : null;
+                result = captureSquare(state, currentPlayer, opponentPlayer, action);
+                if (captureEvent != null)
+                {
+                    captureEvent.end(result);
+                }
+                break;
+            case DECREMENT_ATTACK:
+            case DECREMENT_DEFENCE:
+            case SABOTAGE_SQUARE:
+                SabotageEvent sabotageEvent = FlightRecorder.isInitialized() ? SabotageEvent.start() : null;
+                result = sabotageOpponent(state, currentPlayer, opponentPlayer, action, strategy);
+                if (sabotageEvent != null)
+                {
+                    sabotageEvent.end(result);
+                }
+                break;
+            case STRIKE:
+                StrikeEvent strikeEvent = FlightRecorder.isInitialized() ? StrikeEvent.start() : null;
+                result = strikeOpponentHeart(state, currentPlayer, opponentPlayer, action);
+                if (strikeEvent != null)
+                {
+                    strikeEvent.end(result);
+                }
+                break;
+            default:
+                result = new ActionResult(action, currentPlayer, opponentPlayer, ActionOutcome.INVALID, 0);
+        }
+        if (this.metricsRecorder != null)
+        {
+            this.metricsRecorder.actionApplied(action.getType(), result.getOutcome(), result.getCost());
+        }
+        for (GameListener listener : this.listeners)
+        {
+            listener.actionApplied(state, result);
+        }
+        return result;
+    }
+
+    /**
+     * Applies an action whose outcome is already known, such as one read back from an EventLog. No dice are
+     * rolled, no costs are drawn and no strategy or listener is involved, so replaying a recorded game only
+     * does the work of changing the state. Ends the game if the opponent has no hearts left.
+     * 
+     * @param state The game to apply the action to
+     * @param currentPlayer The player who made the action
+     * @param action The action
+     * @param outcome The recorded outcome of the action
+     * @param cost The recorded cost of the action, or 0 if it had no cost
+     */
+    public void replayAction(GameState state, Player currentPlayer, Action action, ActionOutcome outcome, int cost)
+    {
+        Player opponentPlayer = state.getOpponent(currentPlayer);
+        applyEffects(state, currentPlayer, opponentPlayer, action, outcome, cost);
+        if (opponentPlayer.getNumHearts() <= 0)
+        {
+            state.setWinner(currentPlayer);
+        }
+    }
+
+    /**
+     * Applies an action whose outcome is already known, as replayAction() does, and returns a record of what it
+     * changed that undo() can reverse it with. Nothing is allocated, so a search can make and unmake millions of
+     * actions on one GameState. Ends the game if the opponent has no hearts left.
+     * 
+     * @param state The game to apply the action to
+     * @param currentPlayer The player making the action
+     * @param action The action
+     * @param outcome The outcome of the action; only a successful action changes the game
+     * @param cost The coins the action costs, from 0 to 4,095, or 0 if it has no cost
+     * @return long The undo record, to be passed to undo() before any later action is undone
+     * @throws IllegalArgumentException if the action's square is beyond 128 by 128 or the cost does not fit
+     */
+    public long apply(GameState state, Player currentPlayer, Action action, ActionOutcome outcome, int cost)
+    {
+        int moverIndex = (state.getPlayer(0) == currentPlayer) ? 0 : 1;
+        long undoRecord = action.getType().ordinal() | ((long) moverIndex << UNDO_MOVER_SHIFT);
+        if (outcome != ActionOutcome.SUCCESS)
+        {
+            return undoRecord;
+        }
+        if (cost < 0 || cost > MAX_UNDO_COST)
+        {
+            throw new IllegalArgumentException("Cost " + cost + " does not fit in an undo record.");
+        }
+        undoRecord |= (1L << UNDO_APPLIED_SHIFT) | ((long) cost << UNDO_COST_SHIFT);
+        Player opponentPlayer = state.getOpponent(currentPlayer);
+        ActionType type = action.getType();
+        if (type == ActionType.CAPTURE || type == ActionType.SABOTAGE_SQUARE)
+        {
+            int xCoordinate = action.getXCoordinate();
+            int yCoordinate = action.getYCoordinate();
+            if (xCoordinate < 1 || xCoordinate > MAX_UNDO_COORDINATE || yCoordinate < 1 || yCoordinate > MAX_UNDO_COORDINATE)
+            {
+                throw new IllegalArgumentException("Square [" + xCoordinate + ", " + yCoordinate + "] does not fit in an undo record.");
+            }
+            Grid grid = state.getGrid();
+            int previousOwnerId = grid.getSquareOwnerId(xCoordinate, yCoordinate);
+            int opponentPosition = opponentPlayer.getSquaresCaptured().indexOf(xCoordinate, yCoordinate);
+            undoRecord |= ((long) previousOwnerId << UNDO_OWNER_SHIFT)
+                | ((long) (xCoordinate - 1) << UNDO_X_SHIFT) | ((long) (yCoordinate - 1) << UNDO_Y_SHIFT)
+                | ((long) Math.max(0, opponentPosition) << UNDO_POSITION_SHIFT)
+                | ((long) (grid.getBoostIndex(xCoordinate, yCoordinate) + 1) << UNDO_BOOST_SHIFT);
+        }
+        boolean wasGameOver = state.isGameOver();
+        replayAction(state, currentPlayer, action, outcome, cost);
+        if (!wasGameOver && state.isGameOver())
+        {
+            undoRecord |= 1L << UNDO_ENDED_GAME_SHIFT;
+        }
+        return undoRecord;
+    }
+
+    /**
+     * Reverses an action made by apply(), putting back every square, boost, stat, coin and heart it changed.
+     * Actions must be undone in the reverse of the order they were applied.
+     * 
+     * @param state The game the action was applied to
+     * @param undoRecord The record apply() returned for the action
+     */
+    public void undo(GameState state, long undoRecord)
+    {
+        if ((undoRecord & (1L << UNDO_APPLIED_SHIFT)) == 0)
+        {
+            return;
+        }
+        Player currentPlayer = state.getPlayer((int) (undoRecord >>> UNDO_MOVER_SHIFT) & 1);
+        Player opponentPlayer = state.getOpponent(currentPlayer);
+        if ((undoRecord & (1L << UNDO_ENDED_GAME_SHIFT)) != 0)
+        {
+            state.clearWinner();
+        }
+        currentPlayer.updateCoins((int) (undoRecord >>> UNDO_COST_SHIFT));
+        switch (ACTION_TYPES[(int) undoRecord & 7])
+        {
+            case CAPTURE:
+            case SABOTAGE_SQUARE:
+                restoreSquare(state.getGrid(), currentPlayer, opponentPlayer, undoRecord);
+                break;
+            case DECREMENT_ATTACK:
+                opponentPlayer.updateDamage(SABOTAGE_AMOUNT);
+                break;
+            case DECREMENT_DEFENCE:
+                opponentPlayer.updateDefence(SABOTAGE_AMOUNT);
+                break;
+            case STRIKE:
+                opponentPlayer.updateHearts(1);
+                break;
+        }
+    }
+
+    /**
+     * Reverses takeSquare() from an undo record: gives the square back to its previous owner, at the same place
+     * in their squares, and puts back the boost collected from it, taking its values away from the player again.
+     * 
+     * @param grid The grid
+     * @param currentPlayer The player who took the square
+     * @param opponentPlayer The opponent player
+     * @param undoRecord The record apply() returned for the action that took the square
+     */
+    private void restoreSquare(Grid grid, Player currentPlayer, Player opponentPlayer, long undoRecord)
+    {
+        int xCoordinate = (int) ((undoRecord >>> UNDO_X_SHIFT) & (MAX_UNDO_COORDINATE - 1)) + 1;
+        int yCoordinate = (int) ((undoRecord >>> UNDO_Y_SHIFT) & (MAX_UNDO_COORDINATE - 1)) + 1;
+        byte previousOwnerId = (byte) ((undoRecord >>> UNDO_OWNER_SHIFT) & 3);
+        int boostIndex = (int) ((undoRecord >>> UNDO_BOOST_SHIFT) & 0xFFFF) - 1;
+        byte currentPlayerId = grid.getPlayerId(currentPlayer);
+        if (previousOwnerId != 0 && previousOwnerId == grid.getPlayerId(opponentPlayer))
+        {
+            int opponentPosition = (int) ((undoRecord >>> UNDO_POSITION_SHIFT) & 0x3FFF);
+            opponentPlayer.getSquaresCaptured().insert(opponentPosition, xCoordinate, yCoordinate);
+        }
+        if (previousOwnerId != currentPlayerId)
+        {
+            currentPlayer.getSquaresCaptured().remove(xCoordinate, yCoordinate);
+        }
+        grid.restoreSquare(xCoordinate, yCoordinate, previousOwnerId, boostIndex);
+        if (boostIndex >= 0)
+        {
+            currentPlayer.updateDamage(-grid.getDamageBoost(xCoordinate, yCoordinate));
+            currentPlayer.updateDefence(-grid.getDefenceBoost(xCoordinate, yCoordinate));
+            currentPlayer.updateCoins(-grid.getCoinBoost(xCoordinate, yCoordinate));
+        }
+    }
+
+    /**
+     * Makes the changes to the game that an action with the given outcome causes. Only successful actions
+     * change anything.
+     * 
+     * @param state The game to change
+     * @param currentPlayer The player who made the action
+     * @param opponentPlayer The opponent player
+     * @param action The action
+     * @param outcome The outcome of the action
+     * @param cost The coins the action cost
+     */
+    private void applyEffects(GameState state, Player currentPlayer, Player opponentPlayer, Action action, ActionOutcome outcome, int cost)
+    {
+        if (outcome != ActionOutcome.SUCCESS)
+        {
+            return;
+        }
+        switch (action.getType())
+        {
+            case CAPTURE:
+                takeSquare(state.getGrid(), currentPlayer, opponentPlayer, action);
+                break;
+            case DECREMENT_ATTACK:
+                opponentPlayer.updateDamage(-SABOTAGE_AMOUNT);
+                break;
+            case DECREMENT_DEFENCE:
+                opponentPlayer.updateDefence(-SABOTAGE_AMOUNT);
+                break;
+            case SABOTAGE_SQUARE:
+                takeSquare(state.getGrid(), currentPlayer, opponentPlayer, action);
+                break;
+            case STRIKE:
+                opponentPlayer.updateHearts(-1);
+                break;
+        }
+        currentPlayer.updateCoins(-cost);
+    }
+
+    /**
+     * Draws the cost of an action, such as a sabotage.
+     * 
+     * @param state The game the action is in, whose random number stream is used
+     * @param minCost The minimum cost of the action
+     * @param maxCost The cost the action is always cheaper than
+     * @return int The cost of the action, between minCost and maxCost - 1
+     */
+    public int getActionCost(GameState state, int minCost, int maxCost)
+    {
+        return Dice.getRandomNumber(state.getRandom(), minCost, maxCost - 1);
+    }
+
+    /**
+     * Plays a game until one player has no hearts left, or the turn limit is reached.
+     * 
+     * @param state The game to play
+     * @param firstStrategy The strategy of the player who moves first each turn
+     * @param secondStrategy The strategy of the player who moves second each turn
+     * @param maxTurns The turn limit
+     * @return Player The winner, or null if the turn limit was reached first
+     */
+    public Player playGame(GameState state, Strategy firstStrategy, Strategy secondStrategy, int maxTurns)
+    {
+        while (!state.isGameOver())
+        {
+            takeTurn(state, state.getPlayer(0), firstStrategy);
+            if (state.isGameOver())
+            {
+                break;
+            }
+            takeTurn(state, state.getPlayer(1), secondStrategy);
+            if (state.isGameOver() || state.getNumTurns() >= maxTurns)
+            {
+                break;
+            }
+            state.nextTurn();
+        }
+        return state.getWinner();
+    }
+
+    /**
+     * Plays one move for the given player: the player's strategy chooses an action, and captures that tie are
+     * retried with a new square chosen by the strategy. Ends the game if the opponent has no hearts left.
+     * 
+     * @param state The game to play the move in
+     * @param currentPlayer The player whose turn it is
+     * @param strategy The player's strategy
+     * @return ActionResult The result of the final action of the move
+     */
+    public ActionResult takeTurn(GameState state, Player currentPlayer, Strategy strategy)
+    {
+        Player opponentPlayer = state.getOpponent(currentPlayer);
+        TurnEvent event = FlightRecorder.isInitialized() ? TurnEvent.start() : null;
+        if (this.metricsRecorder != null)
+        {
+            this.metricsRecorder.turnStarted();
+        }
+        for (GameListener listener : this.listeners)
+        {
+            listener.turnStarted(state, currentPlayer);
+        }
+        Action action = strategy.chooseAction(state, currentPlayer, opponentPlayer);
+        ActionResult result = applyAction(state, currentPlayer, action, strategy);
+        int ties = 0;
+        while (result.getOutcome() == ActionOutcome.TIE)
+        {
+            ties++;
+            action = strategy.chooseCapture(state, currentPlayer, opponentPlayer);
+            result = applyAction(state, currentPlayer, action, strategy);
+        }
+        if (opponentPlayer.getNumHearts() <= 0)
+        {
+            state.setWinner(currentPlayer);
+            for (GameListener listener : this.listeners)
+            {
+                listener.gameOver(state, currentPlayer);
+            }
+            if (this.metricsRecorder != null)
+            {
+                this.metricsRecorder.gameOver();
+            }
+        }
+        if (this.metricsRecorder != null)
+        {
+            this.metricsRecorder.turnEnded(result);
+        }
+        if (event != null)
+        {
+            event.end(state, result, ties);
+        }
+        return result;
+    }
+
+    /**
+     * Attempts to capture a square by rolling 3d6 plus the player's damage against 2d6 plus the opponent's defence.
+     * In the analytic dice mode the capture is decided by a single draw instead, and never ties.
+     * 
+     * @param state The game to apply the action to
+     * @param currentPlayer The player making the capture
+     * @param opponentPlayer The opponent player
+     * @param action The capture action
+     * @return ActionResult The result of the capture
+     */
+    private ActionResult captureSquare(GameState state, Player currentPlayer, Player opponentPlayer, Action action)
+    {
+        Grid grid = state.getGrid();
+        if (!isOnGrid(grid, action) || grid.isSquareOwnedBy(action.getXCoordinate(), action.getYCoordinate(), opponentPlayer))
+        {
+            return new ActionResult(action, currentPlayer, opponentPlayer, ActionOutcome.INVALID, 0);
+        }
+        if (this.diceMode == DiceMode.ANALYTIC)
+        {
+            int damage = currentPlayer.getDamage();
+            int defence = opponentPlayer.getDefence();
+            ActionOutcome outcome = DiceTable.resolveCapture(state.getRandom(), damage, defence) ? ActionOutcome.SUCCESS : ActionOutcome.FAILED;
+            applyEffects(state, currentPlayer, opponentPlayer, action, outcome, 0);
+            return new ActionResult(action, currentPlayer, opponentPlayer, outcome, 0, damage, 0, defence, 0);
+        }
+        int attackRoll;
+        int defenceRoll;
+        if (this.diceMode == DiceMode.TABLE)
+        {
+            attackRoll = DiceTable.threeD6(state.getRandom());
+            defenceRoll = DiceTable.twoD6(state.getRandom());
+        }
+        else
+        {
+            attackRoll = Dice.threeD6(state.getRandom());
+            defenceRoll = Dice.twoD6(state.getRandom());
+        }
+        int attackScore = attackRoll + currentPlayer.getDamage();
+        int defenceScore = defenceRoll + opponentPlayer.getDefence();
+        ActionOutcome outcome;
+        if (attackScore > defenceScore)
+        {
+            outcome = ActionOutcome.SUCCESS;
+        }
+        else if (attackScore < defenceScore)
+        {
+            outcome = ActionOutcome.FAILED;
+        }
+        else
+        {
+            outcome = ActionOutcome.TIE;
+        }
+        applyEffects(state, currentPlayer, opponentPlayer, action, outcome, 0);
+        return new ActionResult(action, currentPlayer, opponentPlayer, outcome, attackRoll, attackScore, defenceRoll, defenceScore, 0);
+    }
+
+    /**
+     * Checks whether an action's target square is on the grid.
+     * 
+     * @param grid The grid
+     * @param action The action
+     * @return boolean indicating whether the coordinates are on the grid
+     */
+    private boolean isOnGrid(Grid grid, Action action)
+    {
+        int gridSize = grid.getGridSize();
+        return action.getXCoordinate() >= 1 && action.getXCoordinate() <= gridSize
+            && action.getYCoordinate() >= 1 && action.getYCoordinate() <= gridSize;
+    }
+
+    /**
+     * Applies one of the three sabotages, once the player has accepted and can afford its cost.
+     * 
+     * @param state The game to apply the action to
+     * @param currentPlayer The player making the sabotage
+     * @param opponentPlayer The opponent player
+     * @param action The sabotage action
+     * @param strategy The player's strategy, asked whether to accept the cost
+     * @return ActionResult The result of the sabotage
+     */
+    private ActionResult sabotageOpponent(GameState state, Player currentPlayer, Player opponentPlayer, Action action, Strategy strategy)
+    {
+        Grid grid = state.getGrid();
+        boolean isSquareSabotage = action.getType() == ActionType.SABOTAGE_SQUARE;
+        if (isSquareSabotage && (!isOnGrid(grid, action)
+            || !grid.isSquareOwnedBy(action.getXCoordinate(), action.getYCoordinate(), opponentPlayer)))
+        {
+            return new ActionResult(action, currentPlayer, opponentPlayer, ActionOutcome.INVALID, 0);
+        }
+        int actionCost = isSquareSabotage ? getActionCost(state, MIN_SQUARE_SABOTAGE_COST, MAX_SQUARE_SABOTAGE_COST)
+            : getActionCost(state, MIN_SABOTAGE_COST, MAX_SABOTAGE_COST);
+        if (!strategy.acceptCost(state, currentPlayer, action, actionCost))
+        {
+            return new ActionResult(action, currentPlayer, opponentPlayer, ActionOutcome.REJECTED, actionCost);
+        }
+        if (currentPlayer.getCoins() < actionCost)
+        {
+            return new ActionResult(action, currentPlayer, opponentPlayer, ActionOutcome.NOT_ENOUGH_COINS, actionCost);
+        }
+        applyEffects(state, currentPlayer, opponentPlayer, action, ActionOutcome.SUCCESS, actionCost);
+        return new ActionResult(action, currentPlayer, opponentPlayer, ActionOutcome.SUCCESS, actionCost);
+    }
+
+    /**
+     * Strikes the opponent's heart if the player has a complete path across the grid.
+     * 
+     * @param state The game to apply the action to
+     * @param currentPlayer The player making the strike
+     * @param opponentPlayer The opponent player
+     * @param action The strike action
+     * @return ActionResult The result of the strike
+     */
+    private ActionResult strikeOpponentHeart(GameState state, Player currentPlayer, Player opponentPlayer, Action action)
+    {
+        if (!currentPlayer.hasCompletePath(state.getGrid()))
+        {
+            return new ActionResult(action, currentPlayer, opponentPlayer, ActionOutcome.FAILED, 0);
+        }
+        applyEffects(state, currentPlayer, opponentPlayer, action, ActionOutcome.SUCCESS, 0);
+        return new ActionResult(action, currentPlayer, opponentPlayer, ActionOutcome.SUCCESS, 0);
+    }
+
+    /**
+     * Gives the target square of an action to the player, collecting any boost on it.
+     * 
+     * @param grid The grid
+     * @param currentPlayer The player taking the square
+     * @param opponentPlayer The opponent player, who loses the square if they owned it
+     * @param action The action targeting the square
+     */
+    private void takeSquare(Grid grid, Player currentPlayer, Player opponentPlayer, Action action)
+    {
+        int xCoordinate = action.getXCoordinate();
+        int yCoordinate = action.getYCoordinate();
+        grid.updateGridWithCapturedSquare(currentPlayer, xCoordinate, yCoordinate);
+        currentPlayer.getSquaresCaptured().add(xCoordinate, yCoordinate);
+        opponentPlayer.getSquaresCaptured().remove(xCoordinate, yCoordinate);
+    }
+}
@@ -0,0 +1,173 @@
+import java.util.ArrayList;
+
+/**
+ * GameEngineTest.java
+ *
+ * This class tests the GameEngine class's apply() and undo(), which a search uses to make and unmake actions on
+ * one GameState, against copies of the game taken before each action was applied.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameEngine
+ * @see GameState
+ */
+
+public class GameEngineTest {
+    public static void main(String[] args) {
+        // Apply random actions with random outcomes, including boost pickups, square sabotages and strikes that end
+        // the game, on grids of every playable size, then undo them one by one and compare the game with the copy
+        // taken before each action
+        GameEngine engine = new GameEngine();
+        ActionOutcome[] outcomes = ActionOutcome.values();
+        GameRandom actionRandom = new GameRandom(2025);
+        int numActions = 0;
+        int numBoostsCollected = 0;
+        int numSquaresSabotaged = 0;
+        int numGamesEnded = 0;
+        int numMismatches = 0;
+        int numHashMismatches = 0;
+        for (int game = 0; game < 300; game++) {
+            GameState state = new GameState(new Grid(3 + game % 8, GameRandom.forStream(2025, game)), new HumanPlayer("Player 1"), new ComputerPlayer());
+            ArrayList<GameState> copies = new ArrayList<>();
+            ArrayList<Long> undoRecords = new ArrayList<>();
+            // The hearts each opponent had before being left on one heart, or 0 if they were not, to put back as
+            // the actions are undone
+            ArrayList<Integer> heartsBefore = new ArrayList<>();
+            int moverIndex = 0;
+            while (!state.isGameOver() && undoRecords.size() < 150) {
+                Player mover = state.getPlayer(moverIndex);
+                Action[] actions = MctsStrategy.listActions(state, moverIndex, false);
+                Action action = actions[actionRandom.nextInt(actions.length)];
+                Player opponent = state.getOpponent(mover);
+                heartsBefore.add((action.getType() == ActionType.STRIKE && actionRandom.nextInt(4) == 0) ? opponent.getNumHearts() : 0);
+                if (heartsBefore.get(heartsBefore.size() - 1) > 0) {
+                    opponent.setHearts(1);
+                }
+                ActionOutcome outcome = (actionRandom.nextInt(3) == 0) ? outcomes[actionRandom.nextInt(outcomes.length)] : ActionOutcome.SUCCESS;
+                int cost = action.isSabotage() ? actionRandom.nextInt(4096) : 0;
+                int numCollected = countBoostsCollected(state.getGrid());
+                copies.add(state.copy(state.getRandom()));
+                undoRecords.add(engine.apply(state, mover, action, outcome, cost));
+                numActions++;
+                numBoostsCollected += countBoostsCollected(state.getGrid()) - numCollected;
+                if (action.getType() == ActionType.SABOTAGE_SQUARE && outcome == ActionOutcome.SUCCESS) {
+                    numSquaresSabotaged++;
+                }
+                if (state.isGameOver()) {
+                    numGamesEnded++;
+                }
+                moverIndex = 1 - moverIndex;
+            }
+            for (int index = undoRecords.size() - 1; index >= 0; index--) {
+                engine.undo(state, undoRecords.get(index));
+                if (!isSameGame(state, copies.get(index))) {
+                    numMismatches++;
+                }
+                if (state.hash() != state.getZobristKeys().hash(state)) {
+                    numHashMismatches++;
+                }
+                if (heartsBefore.get(index) > 0) {
+                    state.getOpponent(state.getPlayer(index % 2)).setHearts(heartsBefore.get(index));
+                }
+            }
+        }
+        System.out.println("Actions Checked: " + (numActions > 10_000)); // Should print "true"
+        System.out.println("Boosts Collected: " + (numBoostsCollected > 0)); // Should print "true"
+        System.out.println("Squares Sabotaged: " + (numSquaresSabotaged > 0)); // Should print "true"
+        System.out.println("Games Ended: " + (numGamesEnded > 0)); // Should print "true"
+        System.out.println("Undo Mismatches: " + numMismatches); // Should print "0"
+        System.out.println("Undo Hash Mismatches: " + numHashMismatches); // Should print "0"
+
+        // Test a square beyond 128 by 128 is refused before the game is changed, as it does not fit in an undo record
+        GameState largeState = new GameState(new Grid(129, new GameRandom(7)), new HumanPlayer("Player 1"), new ComputerPlayer());
+        long largeHash = largeState.hash();
+        boolean squareRefused = false;
+        try {
+            engine.apply(largeState, largeState.getPlayer(0), Action.capture(129, 1), ActionOutcome.SUCCESS, 0);
+        } catch (IllegalArgumentException e) {
+            squareRefused = true;
+        }
+        System.out.println("Square 129 Refused: " + squareRefused); // Should print "true"
+        System.out.println("Square 129 Left Game Unchanged: " + (largeState.hash() == largeHash)); // Should print "true"
+        engine.undo(largeState, engine.apply(largeState, largeState.getPlayer(0), Action.capture(128, 128), ActionOutcome.SUCCESS, 0));
+        System.out.println("Square 128 Undone: " + (largeState.hash() == largeHash)); // Should print "true"
+
+        // Test a cost above 4,095 is refused before the game is changed, as it does not fit in an undo record
+        GameState costState = new GameState(new Grid(5, new GameRandom(7)), new HumanPlayer("Player 1"), new ComputerPlayer());
+        long costHash = costState.hash();
+        boolean costRefused = false;
+        try {
+            engine.apply(costState, costState.getPlayer(0), Action.decrementAttack(), ActionOutcome.SUCCESS, 4096);
+        } catch (IllegalArgumentException e) {
+            costRefused = true;
+        }
+        System.out.println("Cost 4096 Refused: " + costRefused); // Should print "true"
+        System.out.println("Cost 4096 Left Game Unchanged: " + (costState.hash() == costHash)); // Should print "true"
+    }
+
+    /**
+     * Counts the boosts that have been collected from a grid.
+     *
+     * @param grid The grid
+     * @return int The number of collected boosts
+     */
+    private static int countBoostsCollected(Grid grid) {
+        int numCollected = 0;
+        for (int boostIndex = 0; boostIndex < grid.getNumPlacedBoosts(); boostIndex++) {
+            if (grid.isPlacedBoostCollected(boostIndex)) {
+                numCollected++;
+            }
+        }
+        return numCollected;
+    }
+
+    /**
+     * Checks whether a game matches a copy of it: the owner of every square, the collected boosts, each player's
+     * longest line, path, stats and captured squares in order, the winner and the hash.
+     *
+     * @param state The game
+     * @param expected The copy to compare it with
+     * @return boolean indicating whether the game matches the copy
+     */
+    private static boolean isSameGame(GameState state, GameState expected) {
+        Grid grid = state.getGrid();
+        Grid expectedGrid = expected.getGrid();
+        for (int xCoordinate = 1; xCoordinate <= grid.getGridSize(); xCoordinate++) {
+            for (int yCoordinate = 1; yCoordinate <= grid.getGridSize(); yCoordinate++) {
+                if (grid.getSquareOwnerId(xCoordinate, yCoordinate) != expectedGrid.getSquareOwnerId(xCoordinate, yCoordinate)) {
+                    return false;
+                }
+            }
+        }
+        for (int boostIndex = 0; boostIndex < grid.getNumPlacedBoosts(); boostIndex++) {
+            if (grid.isPlacedBoostCollected(boostIndex) != expectedGrid.isPlacedBoostCollected(boostIndex)) {
+                return false;
+            }
+        }
+        for (int playerIndex = 0; playerIndex < 2; playerIndex++) {
+            Player player = state.getPlayer(playerIndex);
+            Player expectedPlayer = expected.getPlayer(playerIndex);
+            if (grid.getLongestLine(player) != expectedGrid.getLongestLine(expectedPlayer)
+                || grid.hasCompletePath(player) != expectedGrid.hasCompletePath(expectedPlayer)
+                || player.getNumHearts() != expectedPlayer.getNumHearts()
+                || player.getDamage() != expectedPlayer.getDamage()
+                || player.getDefence() != expectedPlayer.getDefence()
+                || player.getCoins() != expectedPlayer.getCoins()) {
+                return false;
+            }
+            CoordinateSet squares = player.getSquaresCaptured();
+            CoordinateSet expectedSquares = expectedPlayer.getSquaresCaptured();
+            if (squares.size() != expectedSquares.size()) {
+                return false;
+            }
+            for (int position = 0; position < squares.size(); position++) {
+                if (squares.getX(position) != expectedSquares.getX(position) || squares.getY(position) != expectedSquares.getY(position)) {
+                    return false;
+                }
+            }
+        }
+        int winnerIndex = (state.getWinner() == null) ? -1 : (state.getWinner() == state.getPlayer(0)) ? 0 : 1;
+        int expectedWinnerIndex = (expected.getWinner() == null) ? -1 : (expected.getWinner() == expected.getPlayer(0)) ? 0 : 1;
+        return winnerIndex == expectedWinnerIndex && state.isGameOver() == expected.isGameOver() && state.hash() == expected.hash();
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * GameListener interface
+ * 
+ * Receives notice of what happens in a game played by the GameEngine. The engine itself does no input or output;
+ * the console game and the game log are listeners. Every method does nothing by default, so a listener only
+ * needs to implement the events it cares about.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameEngine
+ * @see ActionResult
+ */
+
+public interface GameListener
+{
+    /**
+     * Called after an action has been applied, including capture attempts that tied.
+     * 
+     * @param state The state of the game after the action
+     * @param result The result of the action
+     */
+    default void actionApplied(GameState state, ActionResult result) {}
+
+    /**
+     * Called when one of the players has lost all of their hearts.
+     * 
+     * @param state The final state of the game
+     * @param winner The player who won
+     */
+    default void gameOver(GameState state, Player winner) {}
+
+    /**
+     * Called before a player chooses their move.
+     * 
+     * @param state The current state of the game
+     * @param currentPlayer The player whose turn it is
+     */
+    default void turnStarted(GameState state, Player currentPlayer) {}
+}
@@ -0,0 +1,232 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GameLoadClient class
+ *
+ * Load generator for the GameServer. Opens one connection per session, each on its own virtual thread, and
+ * has every session play a fixed number of turns as fast as the server answers. A session whose game ends
+ * ends it and starts another. The client times every turn from sending the request to reading the reply, and
+ * reports the turns per second across all sessions and the latency percentiles of a turn.
+ *
+ * Run with "java GameLoadClient [sessions] [turns per session] [port]". Without a port the client starts a
+ * GameServer of its own on a free port.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameServer
+ */
+
+public class GameLoadClient
+{
+    private static final int DEFAULT_SESSIONS = 1000;
+    private static final int DEFAULT_TURNS_PER_SESSION = 200;
+    private static final int GRID_SIZE = 5;
+    private static final long SEED = 4131;
+
+    private final AtomicLong errors;
+    private final AtomicLong gamesFinished;
+    private final int numSessions;
+    private final int port;
+    private final int turnsPerSession;
+
+    /**
+     * Constructor for objects of class GameLoadClient
+     *
+     * @param port The port of the server on the loopback interface
+     * @param numSessions The number of sessions to play at once
+     * @param turnsPerSession The number of turns each session plays
+     */
+    public GameLoadClient(int port, int numSessions, int turnsPerSession)
+    {
+        this.port = port;
+        this.numSessions = numSessions;
+        this.turnsPerSession = turnsPerSession;
+        this.errors = new AtomicLong();
+        this.gamesFinished = new AtomicLong();
+    }
+
+    /**
+     * Plays every session and prints a report of the throughput and latency.
+     */
+    public void run()
+    {
+        long[][] latencies = new long[this.numSessions][];
+        long startTime = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor())
+        {
+            Future<?>[] futures = new Future<?>[this.numSessions];
+            for (int i = 0; i < this.numSessions; i++)
+            {
+                int sessionIndex = i;
+                futures[i] = executor.submit(() -> latencies[sessionIndex] = playSession(sessionIndex));
+            }
+            for (Future<?> future : futures)
+            {
+                try
+                {
+                    future.get();
+                }
+                catch (Exception e)
+                {
+                    this.errors.incrementAndGet();
+                    System.err.println("Error in load client session: " + e.getMessage());
+                }
+            }
+        }
+        long elapsedTime = System.nanoTime() - startTime;
+        long[] allLatencies = Arrays.stream(latencies).filter(sessionLatencies -> sessionLatencies != null)
+            .flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.println("Sessions: " + this.numSessions + ", turns: " + allLatencies.length + ", games finished: "
+            + this.gamesFinished.get() + ", errors: " + this.errors.get());
+        System.out.printf("Turns per second: %.0f%n", allLatencies.length / (elapsedTime / 1e9));
+        System.out.printf("Turn latency: p50 %.1f us, p99 %.1f us, max %.1f us%n", getPercentile(allLatencies, 50) / 1e3,
+            getPercentile(allLatencies, 99) / 1e3, getPercentile(allLatencies, 100) / 1e3);
+    }
+
+    /**
+     * Returns a percentile of a sorted array.
+     *
+     * @param sortedValues The values, in ascending order
+     * @param percentile The percentile, between 0 and 100
+     * @return long The value at the percentile, or 0 if there are no values
+     */
+    private static long getPercentile(long[] sortedValues, double percentile)
+    {
+        if (sortedValues.length == 0)
+        {
+            return 0;
+        }
+        int rank = (int) Math.ceil(sortedValues.length * percentile / 100.0);
+        return sortedValues[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Connects one session and plays its turns: mostly captures of random squares, with strikes and the two
+     * cheaper sabotages mixed in.
+     *
+     * @param sessionIndex The index of the session, which picks its random number stream
+     * @return long[] The latency of each turn, in nanoseconds
+     * @throws IOException if the connection fails
+     */
+    private long[] playSession(int sessionIndex) throws IOException
+    {
+        GameRandom random = GameRandom.forStream(SEED, sessionIndex);
+        long[] latencies = new long[this.turnsPerSession];
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), this.port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)))
+        {
+            socket.setTcpNoDelay(true);
+            request(in, out, "NEW " + GRID_SIZE + " " + random.nextLong() + " Load" + sessionIndex);
+            for (int turn = 0; turn < this.turnsPerSession; turn++)
+            {
+                int choice = Dice.getRandomNumber(random, 1, 10);
+                String action;
+                if (choice <= 6)
+                {
+                    action = "CAPTURE " + Dice.getRandomNumber(random, 1, GRID_SIZE) + " " + Dice.getRandomNumber(random, 1, GRID_SIZE);
+                }
+                else if (choice <= 8)
+                {
+                    action = "STRIKE";
+                }
+                else
+                {
+                    action = (choice == 9) ? "ATTACK" : "DEFENCE";
+                }
+                long startTime = System.nanoTime();
+                String reply = request(in, out, action);
+                latencies[turn] = System.nanoTime() - startTime;
+                if (reply.startsWith("ERR"))
+                {
+                    this.errors.incrementAndGet();
+                }
+                else if (!reply.endsWith("PLAYING"))
+                {
+                    this.gamesFinished.incrementAndGet();
+                    request(in, out, "END");
+                    request(in, out, "NEW " + GRID_SIZE + " " + random.nextLong() + " Load" + sessionIndex);
+                }
+            }
+            request(in, out, "END");
+            request(in, out, "QUIT");
+        }
+        return latencies;
+    }
+
+    /**
+     * Sends one request and waits for its reply.
+     *
+     * @param in The connection's input
+     * @param out The connection's output
+     * @param request The request
+     * @return String The reply
+     * @throws IOException if the connection fails or is closed by the server
+     */
+    private static String request(BufferedReader in, BufferedWriter out, String request) throws IOException
+    {
+        out.write(request);
+        out.write('\n');
+        out.flush();
+        String reply = in.readLine();
+        if (reply == null)
+        {
+            throw new IOException("The server closed the connection.");
+        }
+        return reply;
+    }
+
+    /**
+     * Runs the load against a server.
+     *
+     * @param args The number of sessions, the turns per session and the server's port (all optional)
+     */
+    public static void main(String[] args)
+    {
+        int numSessions = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_SESSIONS;
+        int turnsPerSession = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_TURNS_PER_SESSION;
+        GameServer server = null;
+        try
+        {
+            int port;
+            if (args.length > 2)
+            {
+                port = Integer.parseInt(args[2]);
+            }
+            else
+            {
+                server = new GameServer(0, 60);
+                server.start();
+                port = server.getPort();
+            }
+            new GameLoadClient(port, numSessions, turnsPerSession).run();
+            if (server != null)
+            {
+                System.out.println("Sessions still hosted: " + server.getRegistry().size());
+            }
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in starting the game server: " + e.getMessage());
+        }
+        finally
+        {
+            if (server != null)
+            {
+                server.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * GameLog class
+ * 
+ * Writes the game log on a background thread, so logging a move costs the game no more than adding the text
+ * to a buffer. The file is opened once, when the log is created, and stays open until the log is closed.
+ * 
+ * Events are gathered into one block per turn on the game's thread, and each block is handed to the writer
+ * thread through a bounded queue when endTurn() is called. The writer takes everything waiting in the queue,
+ * writes it in one go and then forces it to the disk as often as the log's LogDurability asks. If the writer
+ * falls behind, the queue fills up and the game waits for it rather than using more and more memory.
+ * 
+ * A GameLog must be closed to write out the last turn and release the file.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see LogDurability
+ * @see FileIO
+ */
+
+public class GameLog implements AutoCloseable
+{
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    // Placed on the queue by close(); compared by identity, so no logged text can match it
+    private static final String CLOSE_MARKER = new String("close");
+
+    private FileChannel channel;
+    private boolean closed;
+    private LogDurability durability;
+    private ArrayBlockingQueue<String> queue;
+    private StringBuilder turnEvents;
+    private Thread writerThread;
+
+    /**
+     * Constructor for objects of class GameLog. Any existing file with the same name is replaced.
+     * 
+     * @param fileName The name of the log file
+     * @param durability How often the log is forced out to the disk
+     * @throws IOException if the file cannot be opened
+     */
+    public GameLog(String fileName, LogDurability durability) throws IOException
+    {
+        this.channel = FileChannel.open(Path.of(fileName), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        this.durability = durability;
+        this.queue = new ArrayBlockingQueue<String>(QUEUE_CAPACITY);
+        this.turnEvents = new StringBuilder();
+        this.writerThread = new Thread(this::writeQueuedEvents, "game-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Adds an event to the log. With LogDurability.PER_EVENT the event goes to the writer straight away;
+     * otherwise it is held until the end of the turn.
+     * 
+     * @param text The text of the event
+     */
+    public void log(String text)
+    {
+        if (this.closed)
+        {
+            throw new IllegalStateException("The game log has been closed.");
+        }
+        if (this.durability == LogDurability.PER_EVENT)
+        {
+            enqueue(text);
+        }
+        else
+        {
+            this.turnEvents.append(text);
+        }
+    }
+
+    /**
+     * Hands the events of the turn that has just finished to the writer.
+     */
+    public void endTurn()
+    {
+        if (this.turnEvents.length() > 0)
+        {
+            enqueue(this.turnEvents.toString());
+            this.turnEvents.setLength(0);
+        }
+    }
+
+    /**
+     * Writes out any events still waiting, forces them to the disk and closes the file.
+     */
+    @Override
+    public void close()
+    {
+        if (this.closed)
+        {
+            return;
+        }
+        endTurn();
+        enqueue(CLOSE_MARKER);
+        this.closed = true;
+        try
+        {
+            this.writerThread.join();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Puts text on the queue for the writer, waiting if the queue is full.
+     * 
+     * @param text The text to write
+     */
+    private void enqueue(String text)
+    {
+        try
+        {
+            this.queue.put(text);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            System.err.println("Error in writing file: interrupted while logging.");
+        }
+    }
+
+    /**
+     * Writes a buffer to the file in full.
+     * 
+     * @param buffer The buffer to write, ready to be read from
+     * @throws IOException if the file cannot be written
+     */
+    private void writeFully(ByteBuffer buffer) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            this.channel.write(buffer);
+        }
+    }
+
+    /**
+     * The writer thread: takes everything waiting in the queue, writes it in as few writes as it fits in and
+     * forces it to the disk unless the durability is ON_EXIT, until the log is closed.
+     */
+    private void writeQueuedEvents()
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        ArrayList<String> batch = new ArrayList<String>();
+        boolean failed = false;
+        boolean closing = false;
+        while (!closing)
+        {
+            try
+            {
+                batch.add(this.queue.take());
+            }
+            catch (InterruptedException e)
+            {
+                continue;
+            }
+            this.queue.drainTo(batch);
+            try
+            {
+                for (String text : batch)
+                {
+                    if (text == CLOSE_MARKER)
+                    {
+                        closing = true;
+                        break;
+                    }
+                    if (failed)
+                    {
+                        continue;
+                    }
+                    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+                    if (bytes.length > buffer.remaining())
+                    {
+                        buffer.flip();
+                        writeFully(buffer);
+                        buffer.clear();
+                    }
+                    if (bytes.length > buffer.capacity())
+                    {
+                        writeFully(ByteBuffer.wrap(bytes));
+                    }
+                    else
+                    {
+                        buffer.put(bytes);
+                    }
+                }
+                if (!failed)
+                {
+                    buffer.flip();
+                    writeFully(buffer);
+                    buffer.clear();
+                    if (this.durability != LogDurability.ON_EXIT || closing)
+                    {
+                        this.channel.force(false);
+                    }
+                }
+            }
+            catch (IOException e)
+            {
+                // Keep taking events so the game is never left waiting on a full queue
+                failed = true;
+                System.err.println("Error in writing file: " + e.getMessage());
+            }
+            batch.clear();
+        }
+        try
+        {
+            this.channel.close();
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in closing file: " + e.getMessage());
+        }
+    }
+}
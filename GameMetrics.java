@@ -0,0 +1,501 @@
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * GameMetrics class
+ *
+ * Counts what the players of any number of games do and times how long their turns take, so that a server can
+ * be watched while it runs. The metrics are attached to each game's GameEngine through a Recorder, and published
+ * through JMX as a GameMetricsMBean and, if asked for, printed as text at a fixed interval.
+ *
+ * A turn is one call to GameEngine.takeTurn(): one player choosing and making their move, including any capture
+ * they have to try again after a tie. The metrics count the outcome of every capture, the sabotage every
+ * sabotaging player chose and what became of it, the coins paid for sabotages and the outcome of every strike.
+ * Turn times are kept in a LatencyHistogram for each type of action a turn can end with.
+ *
+ * Many engines on many threads record into the same metrics, so every shared count is a LongAdder and every
+ * histogram is lock-free; the engines never wait for each other. A headless game plays a turn in well under a
+ * microsecond, less than it takes to read the clock twice, so each engine times only one turn in every
+ * sampleInterval and keeps its counts to itself in between, adding them to the shared counts on the turns it
+ * times and when a game is won. The servers, whose turns take far longer, time and publish every turn.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameMetricsMBean
+ * @see LatencyHistogram
+ * @see GameEngine
+ */
+
+public class GameMetrics implements GameMetricsMBean, AutoCloseable
+{
+    public static final int DEFAULT_SAMPLE_INTERVAL = 1024;
+
+    private static final int NUM_OUTCOMES = ActionOutcome.values().length;
+    private static final String OBJECT_NAME_PREFIX = "ITO4131:type=GameMetrics,name=";
+
+    private final LongAdder[] coinsSpent;
+    private final LongAdder[][] counts;
+    private ScheduledExecutorService dumpExecutor;
+    private final LongAdder gamesWon;
+    private final LatencyHistogram[] latencies;
+    private ObjectName objectName;
+    private final int sampleInterval;
+
+    /**
+     * Default constructor for objects of class GameMetrics, which times one turn in every DEFAULT_SAMPLE_INTERVAL.
+     */
+    public GameMetrics()
+    {
+        this(DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Constructor for objects of class GameMetrics
+     *
+     * @param sampleInterval Times one turn in every sampleInterval turns of each engine, or every turn if 1.
+     *        Each engine's counts are added to the shared counts on the turns it times, so a larger interval
+     *        costs the games less but leaves the shared counts further behind.
+     */
+    public GameMetrics(int sampleInterval)
+    {
+        this.sampleInterval = Math.max(1, sampleInterval);
+        int numTypes = ActionType.values().length;
+        this.counts = new LongAdder[numTypes][NUM_OUTCOMES];
+        this.coinsSpent = new LongAdder[numTypes];
+        this.latencies = new LatencyHistogram[numTypes];
+        for (int type = 0; type < numTypes; type++)
+        {
+            for (int outcome = 0; outcome < this.counts[type].length; outcome++)
+            {
+                this.counts[type][outcome] = new LongAdder();
+            }
+            this.coinsSpent[type] = new LongAdder();
+            this.latencies[type] = new LatencyHistogram();
+        }
+        this.gamesWon = new LongAdder();
+    }
+
+    /**
+     * Starts recording the turns and actions of an engine's games. Each engine gets a recorder of its own, as
+     * the recorder remembers when the engine's current turn started.
+     *
+     * @param engine The engine
+     * @return Recorder The engine's recorder, to be flushed once the engine has finished playing
+     */
+    public Recorder attach(GameEngine engine)
+    {
+        Recorder recorder = new Recorder();
+        engine.setMetricsRecorder(recorder);
+        return recorder;
+    }
+
+    /**
+     * Stops the periodic dump and removes the metrics from JMX.
+     */
+    public void close()
+    {
+        if (this.dumpExecutor != null)
+        {
+            this.dumpExecutor.shutdownNow();
+        }
+        if (this.objectName != null)
+        {
+            try
+            {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+            }
+            catch (JMException e)
+            {
+                System.err.println("Error in unregistering the game metrics: " + e.getMessage());
+            }
+            this.objectName = null;
+        }
+    }
+
+    /**
+     * Returns the number of actions of one type that had one outcome.
+     *
+     * @param type The type of action
+     * @param outcome The outcome
+     * @return long The number of actions
+     */
+    public long getCount(ActionType type, ActionOutcome outcome)
+    {
+        return this.counts[type.ordinal()][outcome.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of actions of one type, whatever their outcome.
+     *
+     * @param type The type of action
+     * @return long The number of actions
+     */
+    private long getCount(ActionType type)
+    {
+        long count = 0;
+        for (LongAdder adder : this.counts[type.ordinal()])
+        {
+            count += adder.sum();
+        }
+        return count;
+    }
+
+    public long getAttackSabotages()
+    {
+        return getCount(ActionType.DECREMENT_ATTACK);
+    }
+
+    public long getCaptureFailures()
+    {
+        return getCount(ActionType.CAPTURE, ActionOutcome.FAILED);
+    }
+
+    public long getCaptureSuccesses()
+    {
+        return getCount(ActionType.CAPTURE, ActionOutcome.SUCCESS);
+    }
+
+    public long getCaptureTies()
+    {
+        return getCount(ActionType.CAPTURE, ActionOutcome.TIE);
+    }
+
+    public long getCoinsSpent()
+    {
+        long coins = 0;
+        for (LongAdder adder : this.coinsSpent)
+        {
+            coins += adder.sum();
+        }
+        return coins;
+    }
+
+    public long getDefenceSabotages()
+    {
+        return getCount(ActionType.DECREMENT_DEFENCE);
+    }
+
+    public long getGamesWon()
+    {
+        return this.gamesWon.sum();
+    }
+
+    public String getReport()
+    {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Game metrics: %d turns, %d games won%n", getTurns(), getGamesWon()));
+        report.append(String.format("    captures:  %d succeeded, %d failed, %d tied, %d invalid%n", getCaptureSuccesses(),
+            getCaptureFailures(), getCaptureTies(), getCount(ActionType.CAPTURE, ActionOutcome.INVALID)));
+        report.append(String.format("    sabotages: %d attack, %d defence, %d square, %d rejected, %d unaffordable, %d coins spent%n",
+            getAttackSabotages(), getDefenceSabotages(), getSquareSabotages(), getSabotagesRejected(),
+            getSabotagesUnaffordable(), getCoinsSpent()));
+        report.append(String.format("    strikes:   %d succeeded, %d failed%n", getStrikeSuccesses(), getStrikeFailures()));
+        report.append(String.format("    %-18s %10s %10s %10s %10s %10s%n", "turn time (us)", "timed", "mean", "p50", "p99", "max"));
+        long[] allCounts = LatencyHistogram.newBucketCounts();
+        long allMax = 0;
+        long allTotal = 0;
+        for (ActionType type : ActionType.values())
+        {
+            LatencyHistogram histogram = this.latencies[type.ordinal()];
+            long count = histogram.getCount();
+            allMax = Math.max(allMax, histogram.addTo(allCounts));
+            allTotal += histogram.getTotal();
+            if (count > 0)
+            {
+                report.append(String.format("    %-18s %10d %10.1f %10.1f %10.1f %10.1f%n", type, count, histogram.getTotal() / 1e3 / count,
+                    histogram.getPercentile(50) / 1e3, histogram.getPercentile(99) / 1e3, histogram.getMax() / 1e3));
+            }
+        }
+        long allCount = 0;
+        for (long count : allCounts)
+        {
+            allCount += count;
+        }
+        report.append(String.format("    %-18s %10d %10.1f %10.1f %10.1f %10.1f%n", "all", allCount, (allCount == 0) ? 0 : allTotal / 1e3 / allCount,
+            LatencyHistogram.percentile(allCounts, 50, allMax) / 1e3, LatencyHistogram.percentile(allCounts, 99, allMax) / 1e3, allMax / 1e3));
+        return report.toString();
+    }
+
+    public long getSabotagesRejected()
+    {
+        return getSabotageCount(ActionOutcome.REJECTED);
+    }
+
+    public long getSabotagesUnaffordable()
+    {
+        return getSabotageCount(ActionOutcome.NOT_ENOUGH_COINS);
+    }
+
+    /**
+     * Returns the number of sabotages of any type that had one outcome.
+     *
+     * @param outcome The outcome
+     * @return long The number of sabotages
+     */
+    private long getSabotageCount(ActionOutcome outcome)
+    {
+        return getCount(ActionType.DECREMENT_ATTACK, outcome) + getCount(ActionType.DECREMENT_DEFENCE, outcome)
+            + getCount(ActionType.SABOTAGE_SQUARE, outcome);
+    }
+
+    public long getSquareSabotages()
+    {
+        return getCount(ActionType.SABOTAGE_SQUARE);
+    }
+
+    public long getStrikeFailures()
+    {
+        return getCount(ActionType.STRIKE, ActionOutcome.FAILED);
+    }
+
+    public long getStrikeSuccesses()
+    {
+        return getCount(ActionType.STRIKE, ActionOutcome.SUCCESS);
+    }
+
+    public double getTurnLatencyMaxMicros()
+    {
+        long max = 0;
+        for (LatencyHistogram histogram : this.latencies)
+        {
+            max = Math.max(max, histogram.getMax());
+        }
+        return max / 1e3;
+    }
+
+    public double getTurnLatencyMeanMicros()
+    {
+        long count = 0;
+        long total = 0;
+        for (LatencyHistogram histogram : this.latencies)
+        {
+            count += histogram.getCount();
+            total += histogram.getTotal();
+        }
+        return (count == 0) ? 0 : total / 1e3 / count;
+    }
+
+    public double getTurnLatencyP50Micros()
+    {
+        return getTurnLatencyPercentileMicros(50);
+    }
+
+    public double getTurnLatencyP99Micros()
+    {
+        return getTurnLatencyPercentileMicros(99);
+    }
+
+    /**
+     * Returns a percentile of the time of every turn timed, whatever action it ended with.
+     *
+     * @param percentile The percentile, from 0 to 100
+     * @return double The percentile, in microseconds
+     */
+    private double getTurnLatencyPercentileMicros(double percentile)
+    {
+        long[] allCounts = LatencyHistogram.newBucketCounts();
+        long allMax = 0;
+        for (LatencyHistogram histogram : this.latencies)
+        {
+            allMax = Math.max(allMax, histogram.addTo(allCounts));
+        }
+        return LatencyHistogram.percentile(allCounts, percentile, allMax) / 1e3;
+    }
+
+    public double getTurnLatencyPercentileMicros(String actionType, double percentile)
+    {
+        return this.latencies[ActionType.valueOf(actionType.toUpperCase()).ordinal()].getPercentile(percentile) / 1e3;
+    }
+
+    /**
+     * Returns the number of turns played. Every turn ends with exactly one action that did not tie, so the
+     * turns are counted from the actions rather than by a counter of their own.
+     *
+     * @return long The number of turns played
+     */
+    public long getTurns()
+    {
+        long turns = 0;
+        for (ActionType type : ActionType.values())
+        {
+            turns += getCount(type) - getCount(type, ActionOutcome.TIE);
+        }
+        return turns;
+    }
+
+    /**
+     * Publishes the metrics through the platform MBean server, under the name "ITO4131:type=GameMetrics,name=..."
+     * If they cannot be published the metrics are still recorded, and can still be dumped.
+     *
+     * @param name The name that tells these metrics apart from any others in the JVM, such as the server's port
+     */
+    public void registerMBean(String name)
+    {
+        try
+        {
+            ObjectName objectName = new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            this.objectName = objectName;
+        }
+        catch (JMException e)
+        {
+            System.err.println("Error in registering the game metrics: " + e.getMessage());
+        }
+    }
+
+    public void reset()
+    {
+        for (int type = 0; type < this.counts.length; type++)
+        {
+            for (LongAdder adder : this.counts[type])
+            {
+                adder.reset();
+            }
+            this.coinsSpent[type].reset();
+            this.latencies[type].reset();
+        }
+        this.gamesWon.reset();
+    }
+
+    /**
+     * Prints the report at a fixed interval on a background thread, until the metrics are closed.
+     *
+     * @param intervalSeconds The time between reports
+     * @param out Where to print the reports
+     */
+    public void startDump(long intervalSeconds, PrintStream out)
+    {
+        if (this.dumpExecutor == null)
+        {
+            this.dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "metrics-dump");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        this.dumpExecutor.scheduleAtFixedRate(() -> out.print(getReport()), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Records into the metrics for one engine, which calls it directly at the start and end of every turn and
+     * after every action. An engine plays one turn at a time, so the recorder counts its engine's actions in
+     * plain arrays of its own, which cost far less to update than the shared LongAdders, and adds them to the
+     * shared counts on every timed turn, at the end of every game and when flushed.
+     */
+    public final class Recorder
+    {
+        private final long[] coinsSpent;
+        private final long[] counts;
+        private long gamesWon;
+        private long turnStartTime;
+        private int turnsUntilSample;
+
+        private Recorder()
+        {
+            this.coinsSpent = new long[ActionType.values().length];
+            this.counts = new long[ActionType.values().length * NUM_OUTCOMES];
+            this.gamesWon = 0;
+            this.turnStartTime = 0;
+            this.turnsUntilSample = 1;
+        }
+
+        /**
+         * Counts an action that has been applied. The engine passes the parts of the result it already has to
+         * hand, rather than the result itself, so counting the action reads nothing more from memory.
+         *
+         * @param type The type of action
+         * @param outcome The outcome of the action
+         * @param cost The coins the action cost, or was quoted to cost
+         */
+        public void actionApplied(ActionType type, ActionOutcome outcome, int cost)
+        {
+            this.counts[type.ordinal() * NUM_OUTCOMES + outcome.ordinal()]++;
+            if (cost != 0 && outcome == ActionOutcome.SUCCESS)
+            {
+                this.coinsSpent[type.ordinal()] += cost;
+            }
+        }
+
+        /**
+         * Adds everything recorded since the last flush to the shared metrics, such as when the engine has
+         * finished playing.
+         */
+        public void flush()
+        {
+            for (int i = 0; i < this.counts.length; i++)
+            {
+                if (this.counts[i] != 0)
+                {
+                    GameMetrics.this.counts[i / NUM_OUTCOMES][i % NUM_OUTCOMES].add(this.counts[i]);
+                    this.counts[i] = 0;
+                }
+            }
+            for (int type = 0; type < this.coinsSpent.length; type++)
+            {
+                if (this.coinsSpent[type] != 0)
+                {
+                    GameMetrics.this.coinsSpent[type].add(this.coinsSpent[type]);
+                    this.coinsSpent[type] = 0;
+                }
+            }
+            if (this.gamesWon != 0)
+            {
+                GameMetrics.this.gamesWon.add(this.gamesWon);
+                this.gamesWon = 0;
+            }
+        }
+
+        /**
+         * Counts a game won and publishes the engine's counts.
+         */
+        public void gameOver()
+        {
+            this.gamesWon++;
+            flush();
+        }
+
+        /**
+         * Records the time of the turn, if it is being timed, and publishes the engine's counts.
+         *
+         * @param result The result of the final action of the turn
+         */
+        public void turnEnded(ActionResult result)
+        {
+            if (this.turnStartTime != 0)
+            {
+                recordTurnTime(result);
+            }
+        }
+
+        /**
+         * Records the time of a turn that was timed and publishes the engine's counts. Kept out of turnEnded(),
+         * which is called every turn, so that turnEnded() stays small enough for the JIT to inline into the engine.
+         *
+         * @param result The result of the final action of the turn
+         */
+        private void recordTurnTime(ActionResult result)
+        {
+            latencies[result.getAction().getType().ordinal()].record(System.nanoTime() - this.turnStartTime);
+            this.turnStartTime = 0;
+            flush();
+        }
+
+        /**
+         * Starts timing the turn if it is one in every sampleInterval.
+         */
+        public void turnStarted()
+        {
+            if (--this.turnsUntilSample == 0)
+            {
+                this.turnsUntilSample = sampleInterval;
+                this.turnStartTime = System.nanoTime();
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * GameMetricsMBean interface
+ *
+ * The attributes and operations of GameMetrics that are published through JMX, so that a running server's
+ * turn latencies and the actions its players choose can be watched with JConsole or any other JMX client.
+ * Every count is since the metrics were created or last reset.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameMetrics
+ */
+
+public interface GameMetricsMBean
+{
+    /**
+     * @return long The number of sabotages that chose to decrement the opponent's attack
+     */
+    long getAttackSabotages();
+
+    /**
+     * @return long The number of capture attempts that failed
+     */
+    long getCaptureFailures();
+
+    /**
+     * @return long The number of capture attempts that took the square
+     */
+    long getCaptureSuccesses();
+
+    /**
+     * @return long The number of capture attempts that tied and had to be tried again
+     */
+    long getCaptureTies();
+
+    /**
+     * @return long The coins paid for sabotages that went ahead
+     */
+    long getCoinsSpent();
+
+    /**
+     * @return long The number of sabotages that chose to decrement the opponent's defence
+     */
+    long getDefenceSabotages();
+
+    /**
+     * @return long The number of games that ended with a winner
+     */
+    long getGamesWon();
+
+    /**
+     * @return String Every metric as text, as printed by the periodic dump
+     */
+    String getReport();
+
+    /**
+     * @return long The number of sabotages whose cost the player turned down
+     */
+    long getSabotagesRejected();
+
+    /**
+     * @return long The number of sabotages the player could not pay for
+     */
+    long getSabotagesUnaffordable();
+
+    /**
+     * @return long The number of sabotages that chose to take one of the opponent's squares
+     */
+    long getSquareSabotages();
+
+    /**
+     * @return long The number of strikes without a complete path
+     */
+    long getStrikeFailures();
+
+    /**
+     * @return long The number of strikes that took one of the opponent's hearts
+     */
+    long getStrikeSuccesses();
+
+    /**
+     * @return double The longest turn timed, in microseconds
+     */
+    double getTurnLatencyMaxMicros();
+
+    /**
+     * @return double The average time of the turns timed, in microseconds
+     */
+    double getTurnLatencyMeanMicros();
+
+    /**
+     * @return double The median time of the turns timed, in microseconds
+     */
+    double getTurnLatencyP50Micros();
+
+    /**
+     * @return double The 99th percentile time of the turns timed, in microseconds
+     */
+    double getTurnLatencyP99Micros();
+
+    /**
+     * Returns a percentile of the time of the turns that ended with one type of action.
+     *
+     * @param actionType The name of an ActionType, such as "CAPTURE"
+     * @param percentile The percentile, from 0 to 100
+     * @return double The percentile, in microseconds
+     */
+    double getTurnLatencyPercentileMicros(String actionType, double percentile);
+
+    /**
+     * @return long The number of turns played
+     */
+    long getTurns();
+
+    /**
+     * Sets every count and latency back to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,110 @@
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * GameRandom class
+ * 
+ * The random number stream for one game, used for the boost placement, the dice and the costs of sabotage.
+ * It remembers the seed it was created with, so any game can be played again exactly by creating its grid and
+ * state with a GameRandom with the same seed.
+ * 
+ * A GameRandom is not thread safe and is meant to be owned by a single game or worker thread. Streams for other
+ * threads are made with split(), or with forStream() when each stream needs to be found again from its number.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see Dice
+ * @see GameState
+ */
+
+public class GameRandom implements RandomGenerator
+{
+    private final SplittableRandom random;
+    private final long seed;
+
+    /**
+     * Default constructor for objects of class GameRandom, which picks a new seed.
+     */
+    public GameRandom()
+    {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructor for objects of class GameRandom
+     * 
+     * @param seed The seed of the stream
+     */
+    public GameRandom(long seed)
+    {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Creates the stream with the given number from a parent seed, such as the stream for one game in a tournament.
+     * The bits of the seed are scrambled so that streams with neighbouring numbers are unrelated.
+     * 
+     * @param seed The parent seed
+     * @param streamIndex The number of the stream
+     * @return GameRandom The stream
+     */
+    public static GameRandom forStream(long seed, long streamIndex)
+    {
+        long z = seed + streamIndex * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return new GameRandom(z ^ (z >>> 33));
+    }
+
+    /**
+     * Getter method for the seed.
+     * 
+     * @return long The seed the stream was created with
+     */
+    public long getSeed()
+    {
+        return this.seed;
+    }
+
+    /**
+     * Creates a new stream for another thread, seeded from this stream. Splitting the same stream in the same
+     * order always gives the same children.
+     * 
+     * @return GameRandom The new stream
+     */
+    public GameRandom split()
+    {
+        return new GameRandom(this.random.nextLong());
+    }
+
+    @Override
+    public double nextDouble()
+    {
+        return this.random.nextDouble();
+    }
+
+    @Override
+    public int nextInt()
+    {
+        return this.random.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound)
+    {
+        return this.random.nextInt(bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound)
+    {
+        return this.random.nextInt(origin, bound);
+    }
+
+    @Override
+    public long nextLong()
+    {
+        return this.random.nextLong();
+    }
+}
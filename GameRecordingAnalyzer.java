@@ -0,0 +1,225 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * GameRecordingAnalyzer class
+ *
+ * Summarises a Flight Recorder recording of games, such as one made with the bundled game.jfc settings. For each
+ * game event (turns, captures, sabotages, heart strikes, grid creation and boost catalog loads) it prints how many
+ * were recorded, the time they took and their outcomes. It then breaks the execution samples and the sampled
+ * allocations down by the part of the game they were taken in, found from the innermost frame of each stack
+ * trace that belongs to a game action. Time and memory spent by the Flight Recorder itself, including allocating
+ * the game events that are committed, is shown separately, as it is not spent when nothing is recorded.
+ *
+ * Run with "java GameRecordingAnalyzer <recording file>".
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see TurnEvent
+ * @see CaptureEvent
+ * @see SabotageEvent
+ * @see StrikeEvent
+ * @see GridCreateEvent
+ * @see BoostCatalogLoadEvent
+ */
+
+public class GameRecordingAnalyzer
+{
+    private static final String EVENT_PREFIX = "ito4131.";
+    private static final Set<String> EVENT_CLASSES = Set.of("BoostCatalogLoadEvent", "CaptureEvent", "GridCreateEvent",
+        "SabotageEvent", "StrikeEvent", "TurnEvent");
+    private static final String OTHER = "other";
+    private static final String RECORDER = "flight recorder";
+    // Checked from the innermost frame out, so a sample in a strategy called by sabotageOpponent() counts as the
+    // sabotage; a name starting or ending with "." matches any method ending or starting with it
+    private static final String[][] PHASES = {
+        {"jdk.jfr.", RECORDER},
+        {"GameEngine.captureSquare", "capture"},
+        {"GameEngine.sabotageOpponent", "sabotage"},
+        {"GameEngine.strikeOpponentHeart", "strike"},
+        {"Grid.createGrid", "grid create"},
+        {"BoostCatalog.load", "catalog load"},
+        {".chooseAction", "choose action"},
+        {".chooseCapture", "choose action"},
+        {"GameEngine.takeTurn", "turn (other)"},
+    };
+
+    private final Map<String, long[]> allocationBytes;
+    private final Map<String, Map<String, Long>> allocationClasses;
+    private final Map<String, LatencyHistogram> durations;
+    private final Map<String, long[]> executionSamples;
+    private final Map<String, Map<String, Long>> outcomes;
+
+    /**
+     * Constructor for objects of class GameRecordingAnalyzer
+     */
+    public GameRecordingAnalyzer()
+    {
+        this.allocationBytes = new TreeMap<String, long[]>();
+        this.allocationClasses = new TreeMap<String, Map<String, Long>>();
+        this.durations = new TreeMap<String, LatencyHistogram>();
+        this.executionSamples = new TreeMap<String, long[]>();
+        this.outcomes = new TreeMap<String, Map<String, Long>>();
+    }
+
+    /**
+     * Reads a recording and prints its summary.
+     *
+     * @param args The recording file name
+     */
+    public static void main(String[] args)
+    {
+        if (args.length == 0)
+        {
+            System.out.println("Usage: java GameRecordingAnalyzer <recording file>");
+            return;
+        }
+        GameRecordingAnalyzer analyzer = new GameRecordingAnalyzer();
+        try
+        {
+            analyzer.read(Path.of(args[0]));
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in reading the recording: " + e.getMessage());
+            return;
+        }
+        StringBuilder summary = new StringBuilder();
+        analyzer.writeSummary(summary);
+        System.out.print(summary);
+    }
+
+    /**
+     * Adds one event from a recording to the summary.
+     *
+     * @param event The event
+     */
+    public void add(RecordedEvent event)
+    {
+        String name = event.getEventType().getName();
+        if (name.startsWith(EVENT_PREFIX))
+        {
+            String label = event.getEventType().getLabel();
+            this.durations.computeIfAbsent(label, key -> new LatencyHistogram()).record(event.getDuration().toNanos());
+            if (event.hasField("outcome"))
+            {
+                this.outcomes.computeIfAbsent(label, key -> new TreeMap<String, Long>()).merge(event.getString("outcome"), 1L, Long::sum);
+            }
+        }
+        else if (name.equals("jdk.ExecutionSample"))
+        {
+            this.executionSamples.computeIfAbsent(getPhase(event.getStackTrace()), key -> new long[1])[0]++;
+        }
+        else if (name.equals("jdk.ObjectAllocationSample"))
+        {
+            String objectClass = event.getClass("objectClass").getName();
+            String phase = EVENT_CLASSES.contains(objectClass) ? RECORDER : getPhase(event.getStackTrace());
+            long weight = event.getLong("weight");
+            this.allocationBytes.computeIfAbsent(phase, key -> new long[1])[0] += weight;
+            this.allocationClasses.computeIfAbsent(phase, key -> new TreeMap<String, Long>())
+                .merge(objectClass, weight, Long::sum);
+        }
+    }
+
+    /**
+     * Returns the part of the game a stack trace was taken in.
+     *
+     * @param stackTrace The stack trace, which may be null
+     * @return String The name of the phase, or "other" if no frame belongs to a game action
+     */
+    private static String getPhase(RecordedStackTrace stackTrace)
+    {
+        if (stackTrace == null)
+        {
+            return OTHER;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames())
+        {
+            if (!frame.isJavaFrame())
+            {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (EVENT_CLASSES.contains(type))
+            {
+                return RECORDER;
+            }
+            String method = type + "." + frame.getMethod().getName();
+            for (String[] phase : PHASES)
+            {
+                if (phase[0].startsWith(".") ? method.endsWith(phase[0])
+                    : phase[0].endsWith(".") ? method.startsWith(phase[0]) : method.equals(phase[0]))
+                {
+                    return phase[1];
+                }
+            }
+        }
+        return OTHER;
+    }
+
+    /**
+     * Reads every event in a recording.
+     *
+     * @param recording The recording file
+     * @throws IOException if the recording cannot be read
+     */
+    public void read(Path recording) throws IOException
+    {
+        try (RecordingFile file = new RecordingFile(recording))
+        {
+            while (file.hasMoreEvents())
+            {
+                add(file.readEvent());
+            }
+        }
+    }
+
+    /**
+     * Writes the summary of the events added so far.
+     *
+     * @param summary The text to append the summary to
+     */
+    public void writeSummary(StringBuilder summary)
+    {
+        summary.append(String.format("%-20s %10s %12s %10s %10s %10s  %s%n", "event", "count", "total ms", "mean us",
+            "p99 us", "max us", "outcomes"));
+        for (Map.Entry<String, LatencyHistogram> entry : this.durations.entrySet())
+        {
+            LatencyHistogram histogram = entry.getValue();
+            long count = histogram.getCount();
+            summary.append(String.format("%-20s %10d %12.1f %10.2f %10.2f %10.2f  %s%n", entry.getKey(), count,
+                histogram.getTotal() / 1e6, histogram.getTotal() / 1e3 / count, histogram.getPercentile(99) / 1e3,
+                histogram.getMax() / 1e3, this.outcomes.getOrDefault(entry.getKey(), Map.of())));
+        }
+        if (this.durations.isEmpty())
+        {
+            summary.append("No game events were recorded; record with settings=game.jfc.").append(System.lineSeparator());
+        }
+
+        long totalSamples = this.executionSamples.values().stream().mapToLong(count -> count[0]).sum();
+        summary.append(System.lineSeparator()).append(String.format("%-20s %10s %8s%n", "execution", "samples", "share"));
+        for (Map.Entry<String, long[]> entry : this.executionSamples.entrySet())
+        {
+            summary.append(String.format("%-20s %10d %7.1f%%%n", entry.getKey(), entry.getValue()[0], 100.0 * entry.getValue()[0] / totalSamples));
+        }
+
+        long totalBytes = this.allocationBytes.values().stream().mapToLong(bytes -> bytes[0]).sum();
+        summary.append(System.lineSeparator()).append(String.format("%-20s %10s %8s  %s%n", "allocation", "MB", "share", "largest classes"));
+        for (Map.Entry<String, long[]> entry : this.allocationBytes.entrySet())
+        {
+            List<String> largestClasses = this.allocationClasses.get(entry.getKey()).entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()).limit(3)
+                .map(allocation -> allocation.getKey() + " " + String.format("%.1f", allocation.getValue() / 1048576.0)).toList();
+            summary.append(String.format("%-20s %10.1f %7.1f%%  %s%n", entry.getKey(), entry.getValue()[0] / 1048576.0,
+                100.0 * entry.getValue()[0] / totalBytes, String.join(", ", largestClasses)));
+        }
+    }
+}
@@ -0,0 +1,252 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameServer class
+ *
+ * Hosts games against the computer over TCP on the loopback interface. Each connection is served on its own
+ * virtual thread, so thousands of clients can wait on their sockets at once without tying up platform
+ * threads. Games live in a SessionRegistry rather than on a connection, so a client can reconnect and resume
+ * its game. Sessions that go unused for longer than the idle timeout are evicted. Every game is recorded in
+ * the server's GameMetrics, which are published through JMX as "ITO4131:type=GameMetrics,name=GameServer-<port>".
+ *
+ * Requests and replies follow the line protocol described in GameConnection. NioGameServer serves the same
+ * protocol from a few event loop threads instead, for very large numbers of mostly idle connections.
+ *
+ * Run with "java GameServer [port] [idle timeout in seconds] [metrics interval in seconds]", where the
+ * metrics are printed at the interval if one is given, and load it with GameLoadClient.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameConnection
+ * @see SessionRegistry
+ * @see NioGameServer
+ * @see GameLoadClient
+ */
+
+public class GameServer implements AutoCloseable
+{
+    public static final int DEFAULT_MAX_TURNS = 1000;
+    public static final int DEFAULT_PORT = 4131;
+
+    private static final long ACCEPT_RETRY_MILLIS = 100;
+    private static final int BACKLOG = 4096;
+    private static final int CLOSE_TIMEOUT_SECONDS = 10;
+    private static final int DEFAULT_IDLE_TIMEOUT_SECONDS = 300;
+
+    private Thread acceptThread;
+    private ExecutorService connectionExecutor;
+    private Set<Socket> connections;
+    private ScheduledExecutorService evictionExecutor;
+    private SessionRegistry registry;
+    private ServerSocket serverSocket;
+
+    /**
+     * Constructor for objects of class GameServer, which binds to the port straight away.
+     *
+     * @param port The port to listen on, or 0 for any free port
+     * @param idleTimeoutSeconds How long a session may go unused before it is evicted
+     * @throws IOException if the port cannot be bound
+     */
+    public GameServer(int port, int idleTimeoutSeconds) throws IOException
+    {
+        this.registry = new SessionRegistry(TimeUnit.SECONDS.toNanos(idleTimeoutSeconds), DEFAULT_MAX_TURNS, new GameMetrics(1));
+        this.serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+        this.connections = ConcurrentHashMap.newKeySet();
+        this.connectionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        this.evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionInterval = Math.max(1, idleTimeoutSeconds / 2);
+        this.evictionExecutor.scheduleAtFixedRate(this.registry::evictIdle, evictionInterval, evictionInterval, TimeUnit.SECONDS);
+        // Registered last, once the server is fully built, and by the socket's port rather than through getPort()
+        this.registry.getMetrics().registerMBean("GameServer-" + this.serverSocket.getLocalPort());
+    }
+
+    /**
+     * Stops accepting connections, closes every open connection, stops evicting sessions and removes the
+     * metrics from JMX, waiting for the connections' threads to finish.
+     */
+    public void close()
+    {
+        try
+        {
+            this.serverSocket.close();
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in closing the server socket: " + e.getMessage());
+        }
+        for (Socket socket : this.connections)
+        {
+            closeQuietly(socket);
+        }
+        this.connectionExecutor.shutdownNow();
+        this.evictionExecutor.shutdownNow();
+        this.registry.getMetrics().close();
+        try
+        {
+            // A socket closed under a blocked read is only released once its thread has woken up and finished
+            this.connectionExecutor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Getter method for the port the server is listening on.
+     *
+     * @return int The port
+     */
+    public int getPort()
+    {
+        return this.serverSocket.getLocalPort();
+    }
+
+    /**
+     * Getter method for the sessions the server is hosting.
+     *
+     * @return SessionRegistry The sessions
+     */
+    public SessionRegistry getRegistry()
+    {
+        return this.registry;
+    }
+
+    /**
+     * Starts accepting connections on a background thread.
+     */
+    public void start()
+    {
+        this.acceptThread = Thread.ofVirtual().name("game-server-accept").start(this::acceptConnections);
+    }
+
+    /**
+     * Accepts connections until the server socket is closed, serving each one on a new virtual thread.
+     */
+    private void acceptConnections()
+    {
+        while (!this.serverSocket.isClosed())
+        {
+            try
+            {
+                Socket socket = this.serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                this.connections.add(socket);
+                this.connectionExecutor.execute(() -> serve(socket));
+            }
+            catch (IOException e)
+            {
+                if (!this.serverSocket.isClosed())
+                {
+                    // Usually out of file descriptors, so wait for some connections to close rather than spin
+                    System.err.println("Error in accepting a connection: " + e.getMessage());
+                    try
+                    {
+                        Thread.sleep(ACCEPT_RETRY_MILLIS);
+                    }
+                    catch (InterruptedException interrupted)
+                    {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads requests from a connection and answers each one, until the client quits or disconnects.
+     *
+     * @param socket The connection
+     */
+    private void serve(Socket socket)
+    {
+        GameConnection connection = new GameConnection(this.registry);
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII)))
+        {
+            String line;
+            while (!connection.isClosed() && (line = in.readLine()) != null)
+            {
+                out.write(connection.handleRequest(line));
+                out.write('\n');
+                out.flush();
+            }
+        }
+        catch (IOException e)
+        {
+            // The client disconnected; its session stays in the registry until it is resumed or evicted
+        }
+        finally
+        {
+            this.connections.remove(socket);
+            closeQuietly(socket);
+        }
+    }
+
+    /**
+     * Closes a socket, ignoring any error.
+     *
+     * @param socket The socket
+     */
+    private static void closeQuietly(Socket socket)
+    {
+        try
+        {
+            socket.close();
+        }
+        catch (IOException e)
+        {
+            // Already closed
+        }
+    }
+
+    /**
+     * Runs the server until the process is stopped.
+     *
+     * @param args The port, the idle timeout in seconds and the metrics interval in seconds (all optional)
+     */
+    public static void main(String[] args)
+    {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int idleTimeoutSeconds = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_IDLE_TIMEOUT_SECONDS;
+        int metricsIntervalSeconds = (args.length > 2) ? Integer.parseInt(args[2]) : 0;
+        try
+        {
+            GameServer server = new GameServer(port, idleTimeoutSeconds);
+            if (metricsIntervalSeconds > 0)
+            {
+                server.registry.getMetrics().startDump(metricsIntervalSeconds, System.out);
+            }
+            server.start();
+            System.out.println("Game server listening on " + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getPort()
+                + ", sessions idle for " + idleTimeoutSeconds + "s are evicted.");
+            server.acceptThread.join();
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in starting the game server: " + e.getMessage());
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
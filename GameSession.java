@@ -0,0 +1,237 @@
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * GameSession class
+ *
+ * One game hosted by the GameServer: a remote player against the computer. The session holds everything the
+ * game needs, its own GameState, GameEngine and random number stream, so a server can host any number of
+ * sessions side by side.
+ *
+ * The session is the remote player's Strategy. Each call to takeTurn() plays the remote player's action and
+ * then the computer's reply. A capture that ties is tried again on the same square, and the remote player
+ * accepts the cost of every sabotage they ask for.
+ *
+ * A session may be used by more than one connection, such as a client that reconnects, so turns are taken
+ * under a lock. The lock is a ReentrantLock rather than a synchronized method so that a virtual thread
+ * waiting for it does not hold on to its carrier thread.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameServer
+ * @see SessionRegistry
+ * @see GameEngine
+ */
+
+public class GameSession implements Strategy
+{
+    private Player computerPlayer;
+    private Strategy computerStrategy;
+    private GameEngine engine;
+    private GameState gameState;
+    private Player humanPlayer;
+    private final String id;
+    private volatile long lastAccessTime;
+    private final ReentrantLock lock;
+    private int maxTurns;
+    private Action pendingAction;
+
+    /**
+     * Constructor for objects of class GameSession
+     *
+     * @param id The id the session is known by
+     * @param gridSize The size of the grid
+     * @param seed The seed of the game's random number stream
+     * @param playerName The name of the remote player
+     * @param maxTurns The turn limit, after which the game is a draw
+     */
+    public GameSession(String id, int gridSize, long seed, String playerName, int maxTurns)
+    {
+        this.id = id;
+        this.maxTurns = maxTurns;
+        this.humanPlayer = new HumanPlayer(playerName);
+        this.computerPlayer = new ComputerPlayer();
+        this.gameState = new GameState(new Grid(gridSize, new GameRandom(seed)), this.humanPlayer, this.computerPlayer);
+        this.engine = new GameEngine();
+        this.computerStrategy = new ComputerStrategy();
+        this.lock = new ReentrantLock();
+        this.lastAccessTime = System.nanoTime();
+    }
+
+    /**
+     * Accepts the cost of the sabotage the remote player asked for.
+     */
+    public boolean acceptCost(GameState state, Player currentPlayer, Action action, int cost)
+    {
+        return true;
+    }
+
+    /**
+     * Returns the action the remote player sent.
+     */
+    public Action chooseAction(GameState state, Player currentPlayer, Player opponentPlayer)
+    {
+        return this.pendingAction;
+    }
+
+    /**
+     * Tries the tied capture again on the same square.
+     */
+    public Action chooseCapture(GameState state, Player currentPlayer, Player opponentPlayer)
+    {
+        return this.pendingAction;
+    }
+
+    /**
+     * Getter method for the computer player.
+     *
+     * @return Player The computer player
+     */
+    public Player getComputerPlayer()
+    {
+        return this.computerPlayer;
+    }
+
+    /**
+     * Getter method for the engine the session's game is played on.
+     *
+     * @return GameEngine The engine
+     */
+    public GameEngine getEngine()
+    {
+        return this.engine;
+    }
+
+    /**
+     * Getter method for the game.
+     *
+     * @return GameState The state of the game
+     */
+    public GameState getGameState()
+    {
+        return this.gameState;
+    }
+
+    /**
+     * Getter method for the remote player.
+     *
+     * @return Player The remote player
+     */
+    public Player getHumanPlayer()
+    {
+        return this.humanPlayer;
+    }
+
+    /**
+     * Getter method for the session id.
+     *
+     * @return String The id the session is known by
+     */
+    public String getId()
+    {
+        return this.id;
+    }
+
+    /**
+     * Getter method for the time the session was last used.
+     *
+     * @return long The System.nanoTime() of the last use of the session
+     */
+    public long getLastAccessTime()
+    {
+        return this.lastAccessTime;
+    }
+
+    /**
+     * Checks whether the game has finished, either with a winner or by reaching the turn limit.
+     *
+     * @return boolean indicating whether the game is over
+     */
+    public boolean isFinished()
+    {
+        return this.gameState.isGameOver() || this.gameState.getNumTurns() > this.maxTurns;
+    }
+
+    /**
+     * Plays one turn: the remote player's action, then the computer's move if the game is not over. An invalid
+     * action does not use up the remote player's turn, so the computer does not move after it.
+     *
+     * @param action The remote player's action
+     * @return TurnResult What the turn changed, or null if the game was already over
+     */
+    public TurnResult takeTurn(Action action)
+    {
+        this.lock.lock();
+        try
+        {
+            touch();
+            if (isFinished())
+            {
+                return null;
+            }
+            this.pendingAction = action;
+            // Read before the turn is played, as a finished turn moves the game on to the next one
+            int turn = this.gameState.getNumTurns();
+            int[] humanStatsBefore = getStats(this.humanPlayer);
+            ActionResult humanResult = this.engine.takeTurn(this.gameState, this.humanPlayer, this);
+            int[] humanBoost = getBoostCollected(humanResult, humanStatsBefore, getStats(this.humanPlayer));
+            ActionResult computerResult = null;
+            int[] computerBoost = null;
+            if (humanResult.getOutcome() != ActionOutcome.INVALID && !this.gameState.isGameOver())
+            {
+                int[] computerStatsBefore = getStats(this.computerPlayer);
+                computerResult = this.engine.takeTurn(this.gameState, this.computerPlayer, this.computerStrategy);
+                computerBoost = getBoostCollected(computerResult, computerStatsBefore, getStats(this.computerPlayer));
+                if (!this.gameState.isGameOver())
+                {
+                    this.gameState.nextTurn();
+                }
+            }
+            return new TurnResult(turn, humanResult, humanBoost, getStats(this.humanPlayer), computerResult, computerBoost,
+                getStats(this.computerPlayer), this.gameState.getWinner(), isFinished());
+        }
+        finally
+        {
+            this.pendingAction = null;
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a player's hearts, damage, defence and coins, in the order TurnResult holds them.
+     *
+     * @param player The player
+     * @return int[] The stats
+     */
+    private static int[] getStats(Player player)
+    {
+        return new int[]{player.getNumHearts(), player.getDamage(), player.getDefence(), player.getCoins()};
+    }
+
+    /**
+     * Works out the boost a move picked up. Only a successful capture can land on a square that still has its
+     * boost, and a capture costs nothing, so whatever the mover's damage, defence and coins gained is the boost.
+     *
+     * @param result The result of the move
+     * @param statsBefore The mover's stats before the move
+     * @param statsAfter The mover's stats after the move
+     * @return int[] The boost's damage, defence and coins, or null if the move picked up no boost
+     */
+    private static int[] getBoostCollected(ActionResult result, int[] statsBefore, int[] statsAfter)
+    {
+        if (!result.isSuccess() || result.getAction().getType() != ActionType.CAPTURE)
+        {
+            return null;
+        }
+        int[] boost = {statsAfter[TurnResult.DAMAGE] - statsBefore[TurnResult.DAMAGE],
+            statsAfter[TurnResult.DEFENCE] - statsBefore[TurnResult.DEFENCE], statsAfter[TurnResult.COINS] - statsBefore[TurnResult.COINS]};
+        return (boost[0] == 0 && boost[1] == 0 && boost[2] == 0) ? null : boost;
+    }
+
+    /**
+     * Records that the session has just been used, so it is not evicted as idle.
+     */
+    public void touch()
+    {
+        this.lastAccessTime = System.nanoTime();
+    }
+}
@@ -0,0 +1,222 @@
+/**
+ * GameState class
+ * 
+ * Holds everything that makes up one game: the grid, the two players, the turn number, whether the game has
+ * finished and the random number stream used for the game's dice. The GameEngine applies actions to a GameState,
+ * so any number of games can be played side by side without sharing anything.
+ * 
+ * The game also has a 64-bit Zobrist hash, for searches, caches and spotting repeated positions. The grid and
+ * the players each keep their part of it up to date as squares change hands, boosts are collected and stats
+ * change, so hash() costs the same however big the game is.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameEngine
+ * @see Grid
+ * @see Player
+ * @see ZobristKeys
+ */
+
+public class GameState
+{
+    private boolean gameOver;
+    private Grid grid;
+    private int numTurns;
+    private Player[] players;
+    private GameRandom random;
+    private Player winner;
+    private ZobristKeys zobristKeys;
+
+    /**
+     * Constructor for objects of class GameState
+     * 
+     * The players are registered with the grid in order, so the first player always has player id 1 and
+     * the second player has id 2. The game carries on with the random number stream the grid placed its
+     * boosts with, so the whole game can be replayed from the seed of that stream.
+     * 
+     * @param grid The grid the game is played on
+     * @param firstPlayer The player who moves first each turn
+     * @param secondPlayer The player who moves second each turn
+     */
+    public GameState(Grid grid, Player firstPlayer, Player secondPlayer)
+    {
+        this(grid, firstPlayer, secondPlayer, grid.getRandom());
+    }
+
+    /**
+     * Constructor for objects of class GameState
+     * 
+     * @param grid The grid the game is played on
+     * @param firstPlayer The player who moves first each turn
+     * @param secondPlayer The player who moves second each turn
+     * @param random The random number stream for the game's dice and costs
+     */
+    public GameState(Grid grid, Player firstPlayer, Player secondPlayer, GameRandom random)
+    {
+        this(grid, firstPlayer, secondPlayer, random, ZobristKeys.DEFAULT);
+    }
+
+    /**
+     * Constructor for objects of class GameState
+     * 
+     * @param grid The grid the game is played on
+     * @param firstPlayer The player who moves first each turn
+     * @param secondPlayer The player who moves second each turn
+     * @param random The random number stream for the game's dice and costs
+     * @param zobristKeys The keys the game's hash is made from
+     */
+    public GameState(Grid grid, Player firstPlayer, Player secondPlayer, GameRandom random, ZobristKeys zobristKeys)
+    {
+        this.grid = grid;
+        this.random = random;
+        this.players = new Player[]{firstPlayer, secondPlayer};
+        grid.registerPlayer(firstPlayer);
+        grid.registerPlayer(secondPlayer);
+        this.zobristKeys = zobristKeys;
+        grid.setZobristKeys(zobristKeys);
+        firstPlayer.setZobristKeys(zobristKeys, 0);
+        secondPlayer.setZobristKeys(zobristKeys, 1);
+        this.numTurns = 1;
+        this.gameOver = false;
+        this.winner = null;
+    }
+
+    /**
+     * Creates a copy of the game, with its own grid and players, that can be played on without changing this
+     * game. Used to try out moves, such as by MctsStrategy.
+     * 
+     * @param random The random number stream for the copy's dice and costs
+     * @return GameState The copy
+     */
+    public GameState copy(GameRandom random)
+    {
+        Player firstPlayer = this.players[0].copy();
+        Player secondPlayer = this.players[1].copy();
+        GameState copy = new GameState(this.grid.copy(random, firstPlayer, secondPlayer), firstPlayer, secondPlayer, random, this.zobristKeys);
+        copy.numTurns = this.numTurns;
+        copy.gameOver = this.gameOver;
+        copy.winner = (this.winner == null) ? null : (this.winner == this.players[0]) ? firstPlayer : secondPlayer;
+        return copy;
+    }
+
+    /**
+     * Getter method for the grid.
+     * 
+     * @return Grid The grid the game is played on
+     */
+    public Grid getGrid()
+    {
+        return this.grid;
+    }
+
+    /**
+     * Getter method for the turn number. Each turn is one move by each player, and the first turn is 1.
+     * 
+     * @return int The turn number
+     */
+    public int getNumTurns()
+    {
+        return this.numTurns;
+    }
+
+    /**
+     * Returns the opponent of the given player.
+     * 
+     * @param player One of the players in the game
+     * @return Player The other player
+     */
+    public Player getOpponent(Player player)
+    {
+        return (player == this.players[0]) ? this.players[1] : this.players[0];
+    }
+
+    /**
+     * Returns one of the players.
+     * 
+     * @param playerIndex 0 for the player who moves first, or 1 for the player who moves second
+     * @return Player The player
+     */
+    public Player getPlayer(int playerIndex)
+    {
+        return this.players[playerIndex];
+    }
+
+    /**
+     * Getter method for the game's random number stream.
+     * 
+     * @return GameRandom The random number stream for the game's dice and costs
+     */
+    public GameRandom getRandom()
+    {
+        return this.random;
+    }
+
+    /**
+     * Getter method for the winner of the game.
+     * 
+     * @return Player The winner, or null if the game is not over
+     */
+    public Player getWinner()
+    {
+        return this.winner;
+    }
+
+    /**
+     * Getter method for the keys the game's hash is made from.
+     * 
+     * @return ZobristKeys The keys
+     */
+    public ZobristKeys getZobristKeys()
+    {
+        return this.zobristKeys;
+    }
+
+    /**
+     * Returns the game's Zobrist hash, from who owns each square, which boosts are left and the players' stats.
+     * The turn number, whose move it is and whether the game is over are not part of it.
+     * 
+     * @return long The hash, equal to getZobristKeys().hash(this) but without working it out from scratch
+     */
+    public long hash()
+    {
+        return this.grid.getZobristHash() ^ this.players[0].getZobristHash() ^ this.players[1].getZobristHash();
+    }
+
+    /**
+     * Checks whether the game has finished.
+     * 
+     * @return boolean indicating whether the game is over
+     */
+    public boolean isGameOver()
+    {
+        return this.gameOver;
+    }
+
+    /**
+     * Moves the game on to the next turn.
+     */
+    public void nextTurn()
+    {
+        this.numTurns++;
+    }
+
+    /**
+     * Marks the game as not over, as when the move that won it is undone.
+     */
+    public void clearWinner()
+    {
+        this.winner = null;
+        this.gameOver = false;
+    }
+
+    /**
+     * Marks the game as over.
+     * 
+     * @param winner The player who won
+     */
+    public void setWinner(Player winner)
+    {
+        this.winner = winner;
+        this.gameOver = true;
+    }
+}
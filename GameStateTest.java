@@ -0,0 +1,80 @@
+/**
+ * GameStateTest.java
+ * 
+ * This class tests the GameState class's Zobrist hash, which the grid and players keep up to date as a game is
+ * played, against the same hash worked out from scratch by ZobristKeys.hash().
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameState
+ * @see ZobristKeys
+ */
+
+public class GameStateTest {
+    public static void main(String[] args) {
+        // Play random legal actions, including sabotages and strikes, on grids of every playable size, and compare
+        // the kept hash with one worked out from scratch after every action
+        GameEngine engine = new GameEngine();
+        ComputerStrategy costStrategy = new ComputerStrategy();
+        GameRandom actionRandom = new GameRandom(4131);
+        int numActions = 0;
+        int numMismatches = 0;
+        int numCopyMismatches = 0;
+        for (int game = 0; game < 200; game++) {
+            GameState state = new GameState(new Grid(3 + game % 8, GameRandom.forStream(4131, game)), new HumanPlayer("Player 1"), new ComputerPlayer());
+            ZobristKeys keys = state.getZobristKeys();
+            int moverIndex = 0;
+            boolean mustCapture = false;
+            while (!state.isGameOver() && state.getNumTurns() <= 200) {
+                Player mover = state.getPlayer(moverIndex);
+                Action[] actions = MctsStrategy.listActions(state, moverIndex, mustCapture);
+                Action action = actions[actionRandom.nextInt(actions.length)];
+                ActionOutcome outcome = engine.applyAction(state, mover, action, costStrategy).getOutcome();
+                if (state.getOpponent(mover).getNumHearts() <= 0) {
+                    state.setWinner(mover);
+                }
+                numActions++;
+                if (state.hash() != keys.hash(state)) {
+                    numMismatches++;
+                }
+                if (state.copy(state.getRandom()).hash() != state.hash()) {
+                    numCopyMismatches++;
+                }
+                mustCapture = (outcome == ActionOutcome.TIE);
+                if (!mustCapture) {
+                    if (moverIndex == 1) {
+                        state.nextTurn();
+                    }
+                    moverIndex = 1 - moverIndex;
+                }
+            }
+        }
+        System.out.println("Actions Checked: " + (numActions > 10_000)); // Should print "true"
+        System.out.println("Hash Mismatches: " + numMismatches); // Should print "0"
+        System.out.println("Copy Hash Mismatches: " + numCopyMismatches); // Should print "0"
+
+        // Test the hash follows the setters, as used when a game is restored from a snapshot
+        GameState state = new GameState(new Grid(5, new GameRandom(7)), new HumanPlayer("Player 1"), new ComputerPlayer());
+        long startHash = state.hash();
+        state.getPlayer(0).setCoins(12_345);
+        state.getPlayer(1).setHearts(1);
+        state.getGrid().removePlacedBoost(0);
+        state.getGrid().updateGridWithSabotagedSquare(state.getPlayer(1), new int[]{2, 3});
+        System.out.println("Hash After Setters Matches: " + (state.hash() == state.getZobristKeys().hash(state))); // Should print "true"
+        System.out.println("Hash After Setters Changed: " + (state.hash() != startHash)); // Should print "true"
+
+        // Test the hash is reproducible from its seed, and that another seed gives another hash
+        GameState sameSeed = new GameState(new Grid(5, new GameRandom(7)), new HumanPlayer("Player 1"), new ComputerPlayer(), null, new ZobristKeys(99));
+        GameState sameSeedAgain = new GameState(new Grid(5, new GameRandom(7)), new HumanPlayer("Player 1"), new ComputerPlayer(), null, new ZobristKeys(99));
+        GameState otherSeed = new GameState(new Grid(5, new GameRandom(7)), new HumanPlayer("Player 1"), new ComputerPlayer(), null, new ZobristKeys(100));
+        System.out.println("Same Seed Same Hash: " + (sameSeed.hash() == sameSeedAgain.hash())); // Should print "true"
+        System.out.println("Other Seed Other Hash: " + (sameSeed.hash() != otherSeed.hash())); // Should print "true"
+
+        // Test the coins are bucketed, so a few coins either way does not change the hash
+        long bucketHash = sameSeed.hash();
+        sameSeed.getPlayer(0).updateCoins(1);
+        System.out.println("Hash After One Coin Unchanged: " + (sameSeed.hash() == bucketHash)); // Should print "true"
+        sameSeed.getPlayer(0).updateCoins(ZobristKeys.COIN_BUCKET_SIZE);
+        System.out.println("Hash After A Bucket Of Coins Changed: " + (sameSeed.hash() != bucketHash)); // Should print "true"
+    }
+}
@@ -1,15 +1,27 @@
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import jdk.jfr.FlightRecorder;
 
 /**
  * Class used to create, define, modify, and display the game grid.
  * 
- * The grid is represented as an ArrayList of String arrays, where each String array represents a row of the grid.
- * Each String array contains the String representation of each square in the row.
+ * The squares are held in a GridStorage, one entry per square, indexed by row * gridSize + column. The storage
+ * holds the owner id of each square and the index of the boost placed on it, if any. Owner ids are single bytes,
+ * handed out by the grid's player registry when a player first captures a square (0 marks an unowned square).
+ * The damage, defence and coin values of each boost are kept in separate arrays indexed by boost.
+ * Squares are only formatted as text when the grid is displayed or a square is requested as a String.
+ *
+ * For each owner the grid also counts how many squares they hold in every row and column, along with how many
+ * of those rows and columns are complete, so checking for a complete path does not need to scan the grid.
  *
  * The grid is created by the createGrid() method, which takes an ArrayList of boost coordinates as a parameter.
  * 
- * The grid size is set by the user, and must be between 3 and 10.
+ * The grid size is set by the user, and must be between 3 and 10. Grids created directly from a size can be much
+ * larger, up to 20,000 x 20,000 for stress testing and balancing. Grids of 1,000 x 1,000 or more are large grids,
+ * and displayGrid() only shows their top-left corner. Large grids where few squares are expected to be used store
+ * only the boosted and captured squares in a hash table; otherwise they use chunked storage that is allocated as
+ * squares are captured.
  *
  * The grid is displayed by the displayGrid() method and updated by different methods, depending on the context in the game.
  * 
@@ -24,12 +36,30 @@ import java.util.Arrays;
 public class Grid 
 {
     private final int COORDINATE_ARRAY_SIZE = 2;
+    private int[] boostCoins;
+    private int[] boostDamages;
+    private BoostCatalog boostCatalog;
+    private int[] boostDefences;
+    private int[] boostSquares;
+    private int[][] columnCaptureCounts;
     private int columns;
-    private ArrayList<String[]> gridArray;
+    private int[] completePathCounts;
+    private long expectedOwnedSquares;
     private int gridSize;
+    private final int LARGE_GRID_BYTES_PER_SQUARE = 1;
+    private final int LARGE_GRID_SIZE = 1000;
+    private final int MAX_DISPLAY_SIZE = 10;
     private final int MAX_GRID_SIZE = 10;
+    private final int MAX_LARGE_GRID_SIZE = 20000;
     private final int MIN_GRID_SIZE = 3;
+    private final int MAX_PLAYERS = Byte.MAX_VALUE;
+    private ArrayList<Player> players;
+    private GameRandom random;
+    private int[][] rowCaptureCounts;
     private int rows;
+    private GridStorage squares;
+    private long zobristHash;
+    private ZobristKeys zobristKeys;
 
     /**
      * Default constructor for objects of class Grid. Promts the user to enter a grid size,
@@ -37,127 +67,510 @@ public class Grid
      */
     public Grid()
     {
+        this.random = new GameRandom();
+        this.boostCatalog = BoostCatalog.get();
         getGridSizeFromUser();
-        this.gridArray = this.createGrid(this.getBoostCoordinates());
+        this.createGrid(this.getBoostCoordinates());
     }
 
     /**
      * Constructor for objects of class Grid
      * 
-     * @param gridSize The size of the grid
+     * The number of squares expected to be captured during the game defaults to four times the grid size,
+     * which allows each player a complete row or column plus the same again of contested squares.
+     * 
+     * @param gridSize The size of the grid, between 1 and 20,000
      */
     public Grid(int gridSize)
     {
+        this(gridSize, new GameRandom());
+    }
+
+    /**
+     * Constructor for objects of class Grid
+     * 
+     * @param gridSize The size of the grid, between 1 and 20,000
+     * @param random The random number stream used to place the boosts
+     */
+    public Grid(int gridSize, GameRandom random)
+    {
+        this(gridSize, 4L * gridSize, random);
+    }
+
+    /**
+     * Constructor for objects of class Grid
+     * 
+     * @param gridSize The size of the grid, between 1 and 20,000
+     * @param expectedOwnedSquares The number of squares expected to be captured during the game, used to
+     * choose how a large grid is stored
+     */
+    public Grid(int gridSize, long expectedOwnedSquares)
+    {
+        this(gridSize, expectedOwnedSquares, new GameRandom());
+    }
+
+    /**
+     * Constructor for objects of class Grid
+     * 
+     * @param gridSize The size of the grid, between 1 and 20,000
+     * @param expectedOwnedSquares The number of squares expected to be captured during the game, used to
+     * choose how a large grid is stored
+     * @param random The random number stream used to place the boosts
+     */
+    public Grid(int gridSize, long expectedOwnedSquares, GameRandom random)
+    {
+        this(gridSize, expectedOwnedSquares, random, BoostCatalog.get());
+    }
+
+    /**
+     * Constructor for objects of class Grid
+     * 
+     * @param gridSize The size of the grid, between 1 and 20,000
+     * @param expectedOwnedSquares The number of squares expected to be captured during the game, used to
+     * choose how a large grid is stored
+     * @param random The random number stream used to place the boosts
+     * @param boostCatalog The boosts to place on the grid
+     */
+    public Grid(int gridSize, long expectedOwnedSquares, GameRandom random, BoostCatalog boostCatalog)
+    {
+        if (gridSize < 1 || gridSize > MAX_LARGE_GRID_SIZE)
+        {
+            throw new IllegalArgumentException("Grid size must be between 1 and " + MAX_LARGE_GRID_SIZE + ".");
+        }
         this.rows = gridSize;
         this.columns = gridSize;
-        this.gridArray = this.createGrid(this.getBoostCoordinates());
+        this.expectedOwnedSquares = expectedOwnedSquares;
+        this.random = random;
+        this.boostCatalog = boostCatalog;
+        this.createGrid(this.getBoostCoordinates());
+    }
+
+    /**
+     * Constructor for objects of class Grid, with the boosts placed exactly as given rather than read from the
+     * boosts file. Used to rebuild the grid of a recorded game.
+     * 
+     * @param gridSize The size of the grid, between 1 and 20,000
+     * @param placedBoosts The boosts, each in the format [x, y, damage, defence, coins]
+     * @param random The random number stream for the game
+     */
+    public Grid(int gridSize, int[][] placedBoosts, GameRandom random)
+    {
+        if (gridSize < 1 || gridSize > MAX_LARGE_GRID_SIZE)
+        {
+            throw new IllegalArgumentException("Grid size must be between 1 and " + MAX_LARGE_GRID_SIZE + ".");
+        }
+        this.rows = gridSize;
+        this.columns = gridSize;
+        this.expectedOwnedSquares = 4L * gridSize;
+        this.random = random;
+        this.boostCatalog = new BoostCatalog("recorded boosts", null, new int[0], new int[0], new int[0]);
+        createStorage(placedBoosts.length);
+        for (int k = 0; k < placedBoosts.length; k++)
+        {
+            int[] boost = placedBoosts[k];
+            if (boost[0] < 1 || boost[0] > columns || boost[1] < 1 || boost[1] > rows)
+            {
+                throw new IllegalArgumentException("Boost " + k + " is off the grid.");
+            }
+            placeBoost(k, (boost[1] - 1) * columns + (boost[0] - 1), boost[2], boost[3], boost[4]);
+        }
+    }
+
+    /**
+     * Constructor for a copy of a grid, made by copy().
+     * 
+     * @param grid The grid to copy
+     * @param random The random number stream for the copy
+     * @param players The players that own squares in the copy, in the order they were registered with the grid
+     */
+    private Grid(Grid grid, GameRandom random, Player[] players)
+    {
+        if (players.length != grid.players.size() - 1)
+        {
+            throw new IllegalArgumentException("The grid has " + (grid.players.size() - 1) + " players, not " + players.length + ".");
+        }
+        this.rows = grid.rows;
+        this.columns = grid.columns;
+        this.gridSize = grid.gridSize;
+        this.expectedOwnedSquares = grid.expectedOwnedSquares;
+        this.random = random;
+        this.boostCatalog = grid.boostCatalog;
+        this.squares = grid.squares.copy();
+        this.players = new ArrayList<Player>(grid.players.size());
+        this.players.add(null);
+        this.rowCaptureCounts = new int[grid.rowCaptureCounts.length][];
+        this.columnCaptureCounts = new int[grid.columnCaptureCounts.length][];
+        for (int playerId = 1; playerId < grid.players.size(); playerId++)
+        {
+            this.players.add(players[playerId - 1]);
+            this.rowCaptureCounts[playerId] = grid.rowCaptureCounts[playerId].clone();
+            this.columnCaptureCounts[playerId] = grid.columnCaptureCounts[playerId].clone();
+        }
+        this.completePathCounts = grid.completePathCounts.clone();
+        // Boosts never change once placed, only whether they have been collected, which is kept in the storage
+        this.boostDamages = grid.boostDamages;
+        this.boostDefences = grid.boostDefences;
+        this.boostCoins = grid.boostCoins;
+        this.boostSquares = grid.boostSquares;
+        this.zobristKeys = grid.zobristKeys;
+        this.zobristHash = grid.zobristHash;
+    }
+
+    /**
+     * Creates a copy of the grid, with its own squares, in which the given players take the place of the
+     * grid's players. Playing on the copy does not change this grid.
+     * 
+     * @param random The random number stream for the copy
+     * @param players The players that own squares in the copy, in the order their originals were registered
+     * @return Grid The copy
+     */
+    public Grid copy(GameRandom random, Player... players)
+    {
+        return new Grid(this, random, players);
     }
 
     /**
      * Method to create a grid of the given size, with a given set of boosts with defined coordinates.
      * 
-     * This method creates the grid as an ArrayList of String arrays, where each String array represents a row of the grid.
-     * Each String array contains the String representation of each square in the row.
-     * The boosts are read from the file, assigned random coordinates within the grid, and then placed on the grid in
-     * accordance withg the coordinates passed as the parameter.
+     * This method creates the storage for the grid's squares. Normal grids use arrays with a slot per square.
+     * Large grids use whichever of sparse or chunked storage needs less memory for the boosts and the number
+     * of squares expected to be captured. Chunked storage is checked against the memory available first,
+     * allowing one byte per square for the owners once the whole grid has been captured.
+     * The boosts come from the grid's BoostCatalog, and each boost is placed on the square at the coordinates with the same
+     * position in the list passed as the parameter. If there are fewer coordinates than boosts, a random
+     * selection of the boosts is placed. Every other square is left unowned with no boost.
      * 
-     * @param boostCoordinates The coordinates of the boosts
-     * @return ArrayList<String[]> The grid
+     * @param boostCoordinates The coordinates of the boosts, in the format [row, column]
      */
-    public ArrayList<String[]> createGrid(ArrayList<int[]> boostCoordinates)
+    public void createGrid(ArrayList<int[]> boostCoordinates)
     {
-        ArrayList<String[]> grid = new ArrayList<String[]>();
-        Boosts boosts = new Boosts();
-        ArrayList<int[]> boostsList = boosts.readBoostsFromFile();
-        int[] currentBoost = new int[3];
-        for (int i = 0; i < rows; i++)
+        GridCreateEvent event = FlightRecorder.isInitialized() ? GridCreateEvent.start() : null;
+        int numPlacedBoosts = Math.min(boostCoordinates.size(), this.boostCatalog.size());
+        int[] placedBoosts = getRandomSelection(this.boostCatalog.size(), numPlacedBoosts);
+        createStorage(numPlacedBoosts);
+        for (int k = 0; k < numPlacedBoosts; k++)
         {
-            String[] row = new String[columns];
-            for (int j = 0; j < columns; j++)
+            int[] boostCoordinate = boostCoordinates.get(k);
+            int boostIndex = placedBoosts[k];
+            placeBoost(k, (boostCoordinate[0] - 1) * columns + (boostCoordinate[1] - 1), this.boostCatalog.getDamage(boostIndex),
+                this.boostCatalog.getDefence(boostIndex), this.boostCatalog.getCoins(boostIndex));
+        }
+        if (event != null)
+        {
+            event.end(rows, numPlacedBoosts, this.squares.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Creates the storage for the grid's squares, the player registry and the boost arrays, choosing the
+     * storage as described for createGrid().
+     * 
+     * @param numPlacedBoosts The number of boosts that will be placed on the grid
+     */
+    private void createStorage(int numPlacedBoosts)
+    {
+        int numSquares = rows * columns;
+        long expectedUsedSquares = Math.min(numSquares, numPlacedBoosts + this.expectedOwnedSquares);
+        // The size is checked here rather than with isLargeGrid(), which a subclass could override, as this runs
+        // from the constructors
+        if (rows < LARGE_GRID_SIZE && columns < LARGE_GRID_SIZE)
+        {
+            this.squares = new DenseGridStorage(numSquares);
+        }
+        else if (expectedUsedSquares * SparseGridStorage.BYTES_PER_ENTRY < (long) numSquares * LARGE_GRID_BYTES_PER_SQUARE)
+        {
+            this.squares = new SparseGridStorage(expectedUsedSquares);
+        }
+        else
+        {
+            long requiredMemory = (long) numSquares * LARGE_GRID_BYTES_PER_SQUARE;
+            if (requiredMemory > Runtime.getRuntime().maxMemory() / 2)
             {
-                boolean isBoost = false;
-                for (int k = 0; k < boostCoordinates.size(); k++)
-                {
-                    if (Arrays.equals(boostCoordinates.get(k), new int[]{i+1, j+1}))
-                    {
-                        isBoost = true;
-                        currentBoost = boostsList.get(k);
-                        break;
-                    }
-                }
-                if (isBoost)
-                {
-                    row[j] = String.format(" [ %3d, %3d, %5d ] ", currentBoost[0], currentBoost[1], currentBoost[2]);
-                }
-                else
-                {
-                    row[j] = String.format(" [ %3d, %3d, %5d ] ", 0, 0, 0);
-                }
-                row[j] = String.format("%1$-12s", row[j]);
+                throw new IllegalArgumentException("Not enough memory for a " + rows + " x " + columns + " grid ("
+                    + (requiredMemory >> 20) + " MB needed).");
             }
-            grid.add(row);
+            this.squares = new ChunkedGridStorage(numSquares);
         }
-        return grid;
+        this.players = new ArrayList<Player>();
+        this.players.add(null);
+        this.rowCaptureCounts = new int[1][];
+        this.columnCaptureCounts = new int[1][];
+        this.completePathCounts = new int[1];
+        this.boostDamages = new int[numPlacedBoosts];
+        this.boostDefences = new int[numPlacedBoosts];
+        this.boostCoins = new int[numPlacedBoosts];
+        this.boostSquares = new int[numPlacedBoosts];
+        this.zobristKeys = null;
+        this.zobristHash = 0;
     }
 
     /**
-     * Method to display the game grid.
+     * Places a boost on a square.
+     * 
+     * @param boostIndex The index of the boost in the boost arrays
+     * @param squareIndex The index of the square
+     * @param damage The damage boost
+     * @param defence The defence boost
+     * @param coins The coin boost
+     */
+    private void placeBoost(int boostIndex, int squareIndex, int damage, int defence, int coins)
+    {
+        this.boostDamages[boostIndex] = damage;
+        this.boostDefences[boostIndex] = defence;
+        this.boostCoins[boostIndex] = coins;
+        this.boostSquares[boostIndex] = squareIndex;
+        // Boost indexes are stored offset by one, so that 0 can mark a square without a boost
+        this.squares.setBoost(squareIndex, boostIndex + 1);
+    }
+
+    /**
+     * Method to display the game grid. Large grids are too big to print, so only the top-left corner is shown.
      * 
      */
     public void displayGrid() {
+        int displayColumns = Math.min(this.columns, MAX_DISPLAY_SIZE);
+        int displayRows = Math.min(this.rows, MAX_DISPLAY_SIZE);
+        if (displayColumns < this.columns || displayRows < this.rows) {
+            System.out.println("Showing " + displayColumns + " x " + displayRows + " of the " + this.columns + " x " + this.rows + " grid.");
+        }
+        displayGrid(1, 1, displayColumns, displayRows);
+    }
+
+    /**
+     * Method to display part of the game grid.
+     * 
+     * @param firstXCoordinate The x coordinate of the left-most column to display
+     * @param firstYCoordinate The y coordinate of the top row to display
+     * @param width The number of columns to display
+     * @param height The number of rows to display
+     */
+    public void displayGrid(int firstXCoordinate, int firstYCoordinate, int width, int height) {
+        int lastColumn = Math.min(this.columns, firstXCoordinate + width - 1);
+        int lastRow = Math.min(this.rows, firstYCoordinate + height - 1);
+        getSquareIndex(firstXCoordinate, firstYCoordinate);
         System.out.print("    ");
-        for (int i = 0; i < this.gridArray.get(0).length; i++) {
-            System.out.printf("         %2d          ", i + 1);
+        for (int i = firstXCoordinate; i <= lastColumn; i++) {
+            System.out.printf("         %2d          ", i);
         }
         System.out.println("\n");
-        int rowNumber = 1;
-        for (String[] row : this.gridArray) {
-            System.out.printf("%-4d", rowNumber++);
-            for (String square : row) {
-                System.out.print(square);
+        StringBuilder rowText = new StringBuilder();
+        for (int i = firstYCoordinate - 1; i < lastRow; i++) {
+            rowText.setLength(0);
+            rowText.append(String.format("%-4d", i + 1));
+            for (int j = firstXCoordinate - 1; j < lastColumn; j++) {
+                rowText.append(formatSquare(i * this.columns + j));
             }
+            System.out.println(rowText);
             System.out.println();
-            System.out.println();
         }
     }
 
     /**
-     * Getter method to return an ArrayList of the coordinates of the boosts.
+     * Formats a square as it is shown on the grid: the owner's name if the square has been captured,
+     * otherwise its damage, defence and coin boosts.
+     * 
+     * @param squareIndex The index of the square (row * gridSize + column)
+     * @return String The formatted square
+     */
+    private String formatSquare(int squareIndex)
+    {
+        byte ownerId = this.squares.getOwner(squareIndex);
+        if (ownerId != 0)
+        {
+            return String.format(" [ %1$-15s ] ", this.players.get(ownerId).getName());
+        }
+        int boostIndex = this.squares.getBoost(squareIndex) - 1;
+        String square;
+        if (boostIndex < 0)
+        {
+            square = String.format(" [ %3d, %3d, %5d ] ", 0, 0, 0);
+        }
+        else
+        {
+            square = String.format(" [ %3d, %3d, %5d ] ", this.boostDamages[boostIndex], this.boostDefences[boostIndex], this.boostCoins[boostIndex]);
+        }
+        return String.format("%1$-12s", square);
+    }
+
+    /**
+     * Getter method to return an ArrayList of random, distinct coordinates for the boosts.
+     * 
+     * One coordinate is returned per boost in the grid's boost catalog. If the catalog has more boosts than the grid has
+     * squares, every square is given a boost and only that many coordinates are returned.
      * 
-     * @return ArrayList<int[]> The coordinates of the boosts
+     * @return ArrayList<int[]> The coordinates of the boosts, in the format [row, column]
      */
     public ArrayList<int[]> getBoostCoordinates()
     {
-        int upperLimit = getGridSize();
-        int lowerLimit = 1;
-        Boosts boosts = new Boosts();
-        int numberOfBoosts = boosts.getNumberOfBoosts();
-        ArrayList<int[]> boostCoordinates = new ArrayList<int[]>();
+        int gridSize = getGridSize();
+        int numSquares = gridSize * gridSize;
+        int numberOfBoosts = Math.min(this.boostCatalog.size(), numSquares);
+        int[] boostSquares = getRandomSelection(numSquares, numberOfBoosts);
+        ArrayList<int[]> boostCoordinates = new ArrayList<int[]>(numberOfBoosts);
         for (int i = 0; i < numberOfBoosts; i++)
         {
-            int[] boostCoordinate;
-            boolean unique;
-            do {
-                boostCoordinate = new int[COORDINATE_ARRAY_SIZE];
-                boostCoordinate[0] = (int) (Math.random() * (upperLimit - lowerLimit + 1) + lowerLimit);
-                boostCoordinate[1] = (int) (Math.random() * (upperLimit - lowerLimit + 1) + lowerLimit);
-                unique = true;
-                for (int[] coordinate : boostCoordinates) {
-                    if (Arrays.equals(coordinate, boostCoordinate))
-                    {
-                        unique = false;
-                        break;
-                    }
-                }
-            } while (!unique);
+            int[] boostCoordinate = new int[COORDINATE_ARRAY_SIZE];
+            boostCoordinate[0] = boostSquares[i] / gridSize + 1;
+            boostCoordinate[1] = boostSquares[i] % gridSize + 1;
             boostCoordinates.add(boostCoordinate);
         }
         return boostCoordinates;
     }
 
-    public ArrayList<String[]> getGridArray()
+    /**
+     * Picks a random selection of distinct values between 0 and (range - 1), in random order.
+     * 
+     * This is a partial Fisher-Yates shuffle: only the first selectionSize positions of the range are shuffled,
+     * so picking a few values from a large range stays cheap and every value is picked at most once.
+     * For large ranges, only the positions that have been swapped are stored, rather than the whole range.
+     * 
+     * @param range The number of values to pick from
+     * @param selectionSize The number of values to pick
+     * @return int[] The picked values
+     */
+    private int[] getRandomSelection(int range, int selectionSize)
+    {
+        int[] selection = new int[selectionSize];
+        if (range <= MAX_GRID_SIZE * MAX_GRID_SIZE)
+        {
+            int[] values = new int[range];
+            for (int i = 0; i < range; i++)
+            {
+                values[i] = i;
+            }
+            for (int i = 0; i < selectionSize; i++)
+            {
+                int j = i + this.random.nextInt(range - i);
+                selection[i] = values[j];
+                values[j] = values[i];
+            }
+        }
+        else
+        {
+            HashMap<Integer, Integer> swappedValues = new HashMap<Integer, Integer>();
+            for (int i = 0; i < selectionSize; i++)
+            {
+                int j = i + this.random.nextInt(range - i);
+                selection[i] = swappedValues.getOrDefault(j, j);
+                swappedValues.put(j, swappedValues.getOrDefault(i, i));
+            }
+        }
+        return selection;
+    }
+
+    /**
+     * Getter method for the coin boost on the square at the given coordinates.
+     * 
+     * @param xCoordinate The x coordinate of the square
+     * @param yCoordinate The y coordinate of the square
+     * @return int The coin boost, or 0 if the square has no boost or its boost has been collected
+     */
+    public int getCoinBoost(int xCoordinate, int yCoordinate)
+    {
+        int boostIndex = this.squares.getBoost(getSquareIndex(xCoordinate, yCoordinate)) - 1;
+        return (boostIndex < 0) ? 0 : this.boostCoins[boostIndex];
+    }
+
+    /**
+     * Returns the index of the boost on the square at the given coordinates.
+     * 
+     * @param xCoordinate The x coordinate of the square
+     * @param yCoordinate The y coordinate of the square
+     * @return int The index of the boost, from 0 to getNumPlacedBoosts() - 1, or -1 if the square has no boost
+     *         or its boost has been collected
+     */
+    public int getBoostIndex(int xCoordinate, int yCoordinate)
+    {
+        return this.squares.getBoost(getSquareIndex(xCoordinate, yCoordinate)) - 1;
+    }
+
+    /**
+     * Getter method for the number of boosts placed when the grid was created, including any since collected.
+     * 
+     * @return int The number of boosts placed
+     */
+    public int getNumPlacedBoosts()
+    {
+        return this.boostSquares.length;
+    }
+
+    /**
+     * Returns one of the boosts placed when the grid was created, whether or not it has since been collected.
+     * 
+     * @param boostIndex The index of the boost, from 0 to getNumPlacedBoosts() - 1
+     * @return int[] The boost, in the format [x, y, damage, defence, coins]
+     */
+    public int[] getPlacedBoost(int boostIndex)
+    {
+        int squareIndex = this.boostSquares[boostIndex];
+        return new int[]{squareIndex % columns + 1, squareIndex / columns + 1, this.boostDamages[boostIndex],
+            this.boostDefences[boostIndex], this.boostCoins[boostIndex]};
+    }
+
+    /**
+     * Checks whether one of the boosts placed when the grid was created has been collected.
+     * 
+     * @param boostIndex The index of the boost, from 0 to getNumPlacedBoosts() - 1
+     * @return boolean indicating whether the boost has been collected
+     */
+    public boolean isPlacedBoostCollected(int boostIndex)
+    {
+        return this.squares.getBoost(this.boostSquares[boostIndex]) != boostIndex + 1;
+    }
+
+    /**
+     * Removes one of the placed boosts from its square without giving it to anyone, as when a game is restored
+     * from a snapshot taken after the boost was collected.
+     * 
+     * @param boostIndex The index of the boost, from 0 to getNumPlacedBoosts() - 1
+     */
+    public void removePlacedBoost(int boostIndex)
+    {
+        if (!isPlacedBoostCollected(boostIndex))
+        {
+            removeBoost(this.boostSquares[boostIndex], boostIndex);
+        }
+    }
+
+    /**
+     * Takes a boost off its square, removing its key from the grid's hash.
+     * 
+     * @param squareIndex The index of the boost's square
+     * @param boostIndex The index of the boost
+     */
+    private void removeBoost(int squareIndex, int boostIndex)
+    {
+        if (this.zobristKeys != null)
+        {
+            this.zobristHash ^= getZobristBoostKey(boostIndex);
+        }
+        this.squares.setBoost(squareIndex, 0);
+    }
+
+    /**
+     * Getter method for the damage boost on the square at the given coordinates.
+     * 
+     * @param xCoordinate The x coordinate of the square
+     * @param yCoordinate The y coordinate of the square
+     * @return int The damage boost, or 0 if the square has no boost or its boost has been collected
+     */
+    public int getDamageBoost(int xCoordinate, int yCoordinate)
+    {
+        int boostIndex = this.squares.getBoost(getSquareIndex(xCoordinate, yCoordinate)) - 1;
+        return (boostIndex < 0) ? 0 : this.boostDamages[boostIndex];
+    }
+
+    /**
+     * Getter method for the defence boost on the square at the given coordinates.
+     * 
+     * @param xCoordinate The x coordinate of the square
+     * @param yCoordinate The y coordinate of the square
+     * @return int The defence boost, or 0 if the square has no boost or its boost has been collected
+     */
+    public int getDefenceBoost(int xCoordinate, int yCoordinate)
     {
-        return this.gridArray;
+        int boostIndex = this.squares.getBoost(getSquareIndex(xCoordinate, yCoordinate)) - 1;
+        return (boostIndex < 0) ? 0 : this.boostDefences[boostIndex];
     }
 
     /**
@@ -178,6 +591,36 @@ public class Grid
         return gridSize;
     }
 
+    /**
+     * Returns the number of bytes currently allocated to store the grid's squares.
+     * 
+     * @return long The number of bytes allocated
+     */
+    public long getMemoryUsage()
+    {
+        return this.squares.getMemoryUsage();
+    }
+
+    /**
+     * Getter method for the random number stream the boosts were placed with.
+     * 
+     * @return GameRandom The grid's random number stream
+     */
+    public GameRandom getRandom()
+    {
+        return this.random;
+    }
+
+    /**
+     * Returns the name of the storage used for the grid's squares.
+     * 
+     * @return String The storage class name, e.g. "SparseGridStorage"
+     */
+    public String getStorageType()
+    {
+        return this.squares.getClass().getSimpleName();
+    }
+
     /**
      * Prompts the user to enter a grid size, and then sets the grid size to the user's input.
      * 
@@ -214,6 +657,68 @@ public class Grid
         System.out.println("Grid size set to " + this.rows + " x " + this.columns + "." );
     }
 
+    /**
+     * Getter method for the grid's part of its game's Zobrist hash.
+     * 
+     * @return long The exclusive or of the keys of every owned square and every boost not yet collected, or 0 if
+     *         no keys have been set
+     */
+    public long getZobristHash()
+    {
+        return this.zobristHash;
+    }
+
+    /**
+     * Sets the keys the grid's part of its game's Zobrist hash is made from. The hash is worked out from scratch
+     * once, looking only in the rows a player owns squares in, and is then kept up to date as squares change hands
+     * and boosts are collected. Setting the keys the grid already has does nothing, so a copy keeps its hash.
+     * 
+     * @param keys The keys
+     */
+    public void setZobristKeys(ZobristKeys keys)
+    {
+        if (keys == this.zobristKeys)
+        {
+            return;
+        }
+        this.zobristKeys = keys;
+        long hash = 0;
+        for (int playerId = 1; playerId < this.players.size(); playerId++)
+        {
+            for (int row = 0; row < this.rows; row++)
+            {
+                for (int column = 0; column < this.columns && this.rowCaptureCounts[playerId][row] > 0; column++)
+                {
+                    int squareIndex = row * this.columns + column;
+                    if (this.squares.getOwner(squareIndex) == playerId)
+                    {
+                        hash ^= keys.getOwnerKey(squareIndex, playerId);
+                    }
+                }
+            }
+        }
+        for (int boostIndex = 0; boostIndex < this.boostSquares.length; boostIndex++)
+        {
+            if (!isPlacedBoostCollected(boostIndex))
+            {
+                hash ^= getZobristBoostKey(boostIndex);
+            }
+        }
+        this.zobristHash = hash;
+    }
+
+    /**
+     * Returns the key of one of the placed boosts.
+     * 
+     * @param boostIndex The index of the boost
+     * @return long The key
+     */
+    private long getZobristBoostKey(int boostIndex)
+    {
+        return this.zobristKeys.getBoostKey(this.boostSquares[boostIndex], this.boostDamages[boostIndex],
+            this.boostDefences[boostIndex], this.boostCoins[boostIndex]);
+    }
+
     /**
      * Returns the square at the given coordinates.
      * 
@@ -222,42 +727,232 @@ public class Grid
      * @return String The square at the given coordinates
      */
     public String getGridSquare(int xCoordinate, int yCoordinate) {
-        if (xCoordinate < 1 || xCoordinate > this.gridArray.get(0).length || yCoordinate < 1 || yCoordinate > this.gridArray.size()) {
+        return formatSquare(getSquareIndex(xCoordinate, yCoordinate));
+    }
+
+    /**
+     * Returns the index of the square at the given coordinates in the grid's arrays.
+     * 
+     * @param xCoordinate The x coordinate (column) of the square, starting at 1
+     * @param yCoordinate The y coordinate (row) of the square, starting at 1
+     * @return int The index of the square (row * gridSize + column)
+     */
+    public int getSquareIndex(int xCoordinate, int yCoordinate) {
+        if (xCoordinate < 1 || xCoordinate > this.columns || yCoordinate < 1 || yCoordinate > this.rows) {
             throw new IllegalArgumentException("Coordinates are out of bounds.");
         }
-        int xCoordinateIndex = xCoordinate - 1;
-        int yCoordinateIndex = yCoordinate - 1;
-        String[] row = this.gridArray.get(yCoordinateIndex);
-        String square = row[xCoordinateIndex];
-        return square;
+        return (yCoordinate - 1) * this.columns + (xCoordinate - 1);
+    }
+
+    /**
+     * Returns the id the grid uses to mark the given player's squares.
+     * 
+     * @param player The player
+     * @return byte The player's id, or 0 if the player has not been registered with this grid
+     */
+    public byte getPlayerId(Player player) {
+        for (int playerId = 1; playerId < this.players.size(); playerId++) {
+            if (this.players.get(playerId) == player) {
+                return (byte) playerId;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the player that owns the square at the given coordinates.
+     * 
+     * @param xCoordinate The x coordinate of the square
+     * @param yCoordinate The y coordinate of the square
+     * @return Player The owner of the square, or null if the square is unowned
+     */
+    public Player getSquareOwner(int xCoordinate, int yCoordinate) {
+        return this.players.get(this.squares.getOwner(getSquareIndex(xCoordinate, yCoordinate)));
+    }
+
+    /**
+     * Returns the id of the player that owns the square at the given coordinates.
+     * 
+     * @param xCoordinate The x coordinate of the square
+     * @param yCoordinate The y coordinate of the square
+     * @return byte The owner's player id, or 0 if the square is unowned
+     */
+    public byte getSquareOwnerId(int xCoordinate, int yCoordinate) {
+        return this.squares.getOwner(getSquareIndex(xCoordinate, yCoordinate));
+    }
+
+    /**
+     * Checks whether the given player owns every square in at least one row or column of the grid.
+     * 
+     * @param player The player to check
+     * @return boolean indicating whether the player has a complete path
+     */
+    public boolean hasCompletePath(Player player) {
+        byte playerId = getPlayerId(player);
+        return playerId != 0 && this.completePathCounts[playerId] > 0;
+    }
+
+    /**
+     * Returns how close the given player is to a complete path: the most squares they own in any one row or column.
+     *
+     * @param player The player to check
+     * @return int The number of squares in the player's fullest row or column, or 0 if they own none
+     */
+    public int getLongestLine(Player player) {
+        byte playerId = getPlayerId(player);
+        int longestLine = 0;
+        if (playerId == 0) {
+            return longestLine;
+        }
+        for (int count : this.rowCaptureCounts[playerId]) {
+            longestLine = Math.max(longestLine, count);
+        }
+        for (int count : this.columnCaptureCounts[playerId]) {
+            longestLine = Math.max(longestLine, count);
+        }
+        return longestLine;
     }
 
     /**
-     * Updates the grid with the player's name in the square that was captured.
+     * Adds a player to the grid's player registry, so that squares can be marked with their id.
+     * Registering a player that is already registered returns their existing id.
+     * 
+     * @param player The player to register
+     * @return byte The player's id
+     */
+    public byte registerPlayer(Player player) {
+        byte playerId = getPlayerId(player);
+        if (playerId != 0) {
+            return playerId;
+        }
+        if (this.players.size() > MAX_PLAYERS) {
+            throw new IllegalStateException("A grid cannot have more than " + MAX_PLAYERS + " players.");
+        }
+        this.players.add(player);
+        playerId = (byte) (this.players.size() - 1);
+        this.rowCaptureCounts = Arrays.copyOf(this.rowCaptureCounts, playerId + 1);
+        this.columnCaptureCounts = Arrays.copyOf(this.columnCaptureCounts, playerId + 1);
+        this.completePathCounts = Arrays.copyOf(this.completePathCounts, playerId + 1);
+        this.rowCaptureCounts[playerId] = new int[this.rows];
+        this.columnCaptureCounts[playerId] = new int[this.columns];
+        return playerId;
+    }
+
+    /**
+     * Sets the owner of a square, moving the square from the previous owner's row and column counts
+     * to the new owner's.
+     * 
+     * @param squareIndex The index of the square (row * gridSize + column)
+     * @param newOwnerId The id of the player who now owns the square, or 0 to leave it unowned
+     */
+    private void setSquareOwner(int squareIndex, byte newOwnerId) {
+        byte previousOwnerId = this.squares.getOwner(squareIndex);
+        if (previousOwnerId == newOwnerId) {
+            return;
+        }
+        if (this.zobristKeys != null) {
+            if (previousOwnerId != 0) {
+                this.zobristHash ^= this.zobristKeys.getOwnerKey(squareIndex, previousOwnerId);
+            }
+            if (newOwnerId != 0) {
+                this.zobristHash ^= this.zobristKeys.getOwnerKey(squareIndex, newOwnerId);
+            }
+        }
+        int row = squareIndex / this.columns;
+        int column = squareIndex % this.columns;
+        if (previousOwnerId != 0) {
+            if (this.rowCaptureCounts[previousOwnerId][row]-- == this.columns) {
+                this.completePathCounts[previousOwnerId]--;
+            }
+            if (this.columnCaptureCounts[previousOwnerId][column]-- == this.rows) {
+                this.completePathCounts[previousOwnerId]--;
+            }
+        }
+        if (newOwnerId != 0) {
+            if (++this.rowCaptureCounts[newOwnerId][row] == this.columns) {
+                this.completePathCounts[newOwnerId]++;
+            }
+            if (++this.columnCaptureCounts[newOwnerId][column] == this.rows) {
+                this.completePathCounts[newOwnerId]++;
+            }
+        }
+        this.squares.setOwner(squareIndex, newOwnerId);
+    }
+
+    /**
+     * Checks whether this is a large grid, which uses chunked storage and only displays part of the grid.
+     * 
+     * @return boolean indicating whether the grid is a large grid
+     */
+    public boolean isLargeGrid() {
+        return this.rows >= LARGE_GRID_SIZE || this.columns >= LARGE_GRID_SIZE;
+    }
+
+    /**
+     * Checks whether the square at the given coordinates is owned by the given player.
+     * 
+     * @param xCoordinate The x coordinate of the square
+     * @param yCoordinate The y coordinate of the square
+     * @param player The player to check
+     * @return boolean indicating whether the player owns the square
+     */
+    public boolean isSquareOwnedBy(int xCoordinate, int yCoordinate, Player player) {
+        byte ownerId = this.squares.getOwner(getSquareIndex(xCoordinate, yCoordinate));
+        return ownerId != 0 && ownerId == getPlayerId(player);
+    }
+
+    /**
+     * Updates the grid with the player's name in the square that was captured. Any boost on the square
+     * is given to the player and removed from the square.
      * 
      * @param currentPlayer The player who captured the square
      * @param capturedCoordinates The coordinates of the square that was captured
      * @return void
      */
     public void updateGridWithCapturedSquare(Player currentPlayer, int[] capturedCoordinates) {
-        int capturedYCoordinateIndex = capturedCoordinates[0] - 1;
-        int capturedXCoordinateIndex = capturedCoordinates[1] - 1;
-        String[] capturedRow = gridArray.get(capturedXCoordinateIndex);
-        String capturedSquare = capturedRow[capturedYCoordinateIndex];
-        String[] capturedSquareBoostArray = capturedSquare.replaceAll("\\[", "").replaceAll("\\]", "").trim().split(",");
-        try {
-            int damageBoost = Integer.parseInt(capturedSquareBoostArray[0].trim());
-            int defenceBoost = Integer.parseInt(capturedSquareBoostArray[1].trim());
-            int coinsBoost = Integer.parseInt(capturedSquareBoostArray[2].trim());
-            currentPlayer.updateDamage(damageBoost);
-            currentPlayer.updateDefence(defenceBoost);
-            currentPlayer.updateCoins(coinsBoost);
-        } catch (NumberFormatException e) {
-            System.err.println(e.getMessage());
+        updateGridWithCapturedSquare(currentPlayer, capturedCoordinates[0], capturedCoordinates[1]);
+    }
+
+    /**
+     * Updates the grid with the player's name in the square that was captured, without needing an array for the
+     * coordinates. Any boost on the square is given to the player and removed from the square.
+     * 
+     * @param currentPlayer The player who captured the square
+     * @param xCoordinate The x coordinate of the square that was captured
+     * @param yCoordinate The y coordinate of the square that was captured
+     */
+    public void updateGridWithCapturedSquare(Player currentPlayer, int xCoordinate, int yCoordinate) {
+        int squareIndex = getSquareIndex(xCoordinate, yCoordinate);
+        int boostIndex = this.squares.getBoost(squareIndex) - 1;
+        if (boostIndex >= 0)
+        {
+            currentPlayer.updateDamage(this.boostDamages[boostIndex]);
+            currentPlayer.updateDefence(this.boostDefences[boostIndex]);
+            currentPlayer.updateCoins(this.boostCoins[boostIndex]);
+            removeBoost(squareIndex, boostIndex);
+        }
+        setSquareOwner(squareIndex, registerPlayer(currentPlayer));
+    }
+
+    /**
+     * Puts a square back as it was before it was captured: owned by its previous owner, or unowned, and with the
+     * boost that was collected from it, if any. The boost's values are not taken back from the player who
+     * collected it. Used by GameEngine.undo().
+     * 
+     * @param xCoordinate The x coordinate of the square
+     * @param yCoordinate The y coordinate of the square
+     * @param ownerId The id of the square's previous owner, or 0 if it was unowned
+     * @param boostIndex The index of the boost collected from the square, or -1 if there was none
+     */
+    public void restoreSquare(int xCoordinate, int yCoordinate, byte ownerId, int boostIndex) {
+        int squareIndex = getSquareIndex(xCoordinate, yCoordinate);
+        setSquareOwner(squareIndex, ownerId);
+        if (boostIndex >= 0) {
+            this.squares.setBoost(squareIndex, boostIndex + 1);
+            if (this.zobristKeys != null) {
+                this.zobristHash ^= getZobristBoostKey(boostIndex);
+            }
         }
-        String[] updatedRow = gridArray.get(capturedXCoordinateIndex);
-        updatedRow[capturedYCoordinateIndex] = String.format(" [ %1$-15s ] ", currentPlayer.getName());
-        gridArray.set(capturedXCoordinateIndex, updatedRow);
     }
 
     /**
@@ -268,13 +963,8 @@ public class Grid
      * @return void
      */
     public void updateGridWithSabotagedSquare(Player currentPlayer, int[] sabotagedCoordinates) {
-        int capturedYCoordinateIndex = sabotagedCoordinates[0] - 1;
-        int capturedXCoordinateIndex = sabotagedCoordinates[1] - 1;
-        String[] capturedRow = gridArray.get(capturedXCoordinateIndex);
-        String capturedSquare = capturedRow[capturedYCoordinateIndex];
-        String[] updatedRow = gridArray.get(capturedXCoordinateIndex);
-        updatedRow[capturedYCoordinateIndex] = String.format(" [ %1$-15s ] ", currentPlayer.getName());
-        gridArray.set(capturedXCoordinateIndex, updatedRow);
+        int squareIndex = getSquareIndex(sabotagedCoordinates[0], sabotagedCoordinates[1]);
+        setSquareOwner(squareIndex, registerPlayer(currentPlayer));
     }
     
 }
\ No newline at end of file
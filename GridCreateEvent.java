@@ -0,0 +1,63 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * GridCreateEvent class
+ *
+ * A Java Flight Recorder event spanning one call to Grid.createGrid(), which builds the grid's storage and
+ * places its boosts. Its stack trace shows what created the grid.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see Grid
+ */
+
+@Name("ito4131.GridCreate")
+@Label("Grid Create")
+@Category({"ITO4131 Field", "Grid"})
+@Description("The grid's storage being created and its boosts placed")
+public class GridCreateEvent extends jdk.jfr.Event
+{
+    @Label("Boosts Placed")
+    private int boostsPlaced;
+
+    @Label("Grid Size")
+    private int gridSize;
+
+    @Label("Storage")
+    @Description("The GridStorage chosen for the grid's squares")
+    private String storage;
+
+    /**
+     * Begins an event.
+     *
+     * @return GridCreateEvent The event
+     */
+    public static GridCreateEvent start()
+    {
+        GridCreateEvent event = new GridCreateEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event once the grid has been created, and commits it if it is being recorded.
+     *
+     * @param gridSize The size of the grid
+     * @param boostsPlaced The number of boosts placed on it
+     * @param storage The class of storage chosen for its squares
+     */
+    public void end(int gridSize, int boostsPlaced, String storage)
+    {
+        if (!shouldCommit())
+        {
+            return;
+        }
+        this.boostsPlaced = boostsPlaced;
+        this.gridSize = gridSize;
+        this.storage = storage;
+        commit();
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * GridStorage interface
+ * 
+ * Storage for the per-square state of a grid: the id of the player that owns each square and the boost placed
+ * on it. Squares are addressed by their index (row * gridSize + column). Owner id 0 marks an unowned square,
+ * and boost 0 marks a square without a boost; other boosts are stored as the boost's index plus one.
+ * 
+ * Different implementations trade memory for speed, so that small grids can use plain arrays while very large
+ * grids only pay for the parts of the board that are in use.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see Grid
+ * @see DenseGridStorage
+ * @see ChunkedGridStorage
+ */
+
+public interface GridStorage
+{
+    /**
+     * Creates a copy of the storage, which can be changed without changing this storage.
+     * 
+     * @return GridStorage The copy
+     */
+    GridStorage copy();
+
+    /**
+     * Returns the boost on a square.
+     * 
+     * @param squareIndex The index of the square
+     * @return int The boost's index plus one, or 0 if the square has no boost
+     */
+    int getBoost(int squareIndex);
+
+    /**
+     * Returns the number of bytes currently allocated to store the grid's squares.
+     * 
+     * @return long The number of bytes allocated
+     */
+    long getMemoryUsage();
+
+    /**
+     * Returns the id of the player that owns a square.
+     * 
+     * @param squareIndex The index of the square
+     * @return byte The owner's player id, or 0 if the square is unowned
+     */
+    byte getOwner(int squareIndex);
+
+    /**
+     * Sets the boost on a square.
+     * 
+     * @param squareIndex The index of the square
+     * @param boost The boost's index plus one, or 0 to remove the boost
+     */
+    void setBoost(int squareIndex, int boost);
+
+    /**
+     * Sets the owner of a square.
+     * 
+     * @param squareIndex The index of the square
+     * @param ownerId The owner's player id, or 0 to mark the square as unowned
+     */
+    void setOwner(int squareIndex, byte ownerId);
+}
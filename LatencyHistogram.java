@@ -0,0 +1,205 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram class
+ *
+ * A histogram of durations in nanoseconds that any number of threads can record into at once without locking.
+ * Each power of two is split into SUB_BUCKETS linear buckets, so a percentile read back from the histogram is
+ * within 1 / SUB_BUCKETS of the recorded value, however large it is, in a fixed 488 counters.
+ *
+ * Recording increments one bucket, the count and the total, and only touches the maximum when a new maximum is
+ * seen. Reading takes no lock either, so a percentile read while values are being recorded may be out by the
+ * values recorded during the read.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameMetrics
+ */
+
+public class LatencyHistogram
+{
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int NUM_BUCKETS = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong max;
+    private final LongAdder total;
+
+    /**
+     * Constructor for objects of class LatencyHistogram
+     */
+    public LatencyHistogram()
+    {
+        this.counts = new AtomicLongArray(NUM_BUCKETS);
+        this.max = new AtomicLong();
+        this.total = new LongAdder();
+    }
+
+    /**
+     * Adds the counts of this histogram to an array of bucket counts, such as to combine several histograms.
+     *
+     * @param bucketCounts The bucket counts to add to, of the length returned by newBucketCounts()
+     * @return long The largest value recorded
+     */
+    public long addTo(long[] bucketCounts)
+    {
+        for (int i = 0; i < NUM_BUCKETS; i++)
+        {
+            bucketCounts[i] += this.counts.get(i);
+        }
+        return this.max.get();
+    }
+
+    /**
+     * Returns the index of the bucket a value is counted in.
+     *
+     * @param value The value, in nanoseconds
+     * @return int The bucket index
+     */
+    private static int bucketIndex(long value)
+    {
+        if (value < SUB_BUCKETS)
+        {
+            return (int) Math.max(0, value);
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the value at the middle of a bucket.
+     *
+     * @param index The bucket index
+     * @return long The middle of the range of values counted in the bucket
+     */
+    private static long bucketMidpoint(int index)
+    {
+        if (index < SUB_BUCKETS)
+        {
+            return index;
+        }
+        int magnitude = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long width = 1L << (magnitude - SUB_BUCKET_BITS);
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (magnitude - SUB_BUCKET_BITS);
+        return lowest + width / 2;
+    }
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return long The number of values
+     */
+    public long getCount()
+    {
+        long count = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++)
+        {
+            count += this.counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the largest value recorded.
+     *
+     * @return long The largest value, in nanoseconds, or 0 if nothing has been recorded
+     */
+    public long getMax()
+    {
+        return this.max.get();
+    }
+
+    /**
+     * Returns the sum of every value recorded.
+     *
+     * @return long The total, in nanoseconds
+     */
+    public long getTotal()
+    {
+        return this.total.sum();
+    }
+
+    /**
+     * Returns a new array for bucket counts, to be filled in by addTo().
+     *
+     * @return long[] An array with one element per bucket
+     */
+    public static long[] newBucketCounts()
+    {
+        return new long[NUM_BUCKETS];
+    }
+
+    /**
+     * Returns a percentile of the values recorded.
+     *
+     * @param percentile The percentile, from 0 to 100
+     * @return long The value, in nanoseconds, that the percentile of values are no larger than, or 0 if nothing
+     *         has been recorded
+     */
+    public long getPercentile(double percentile)
+    {
+        long[] bucketCounts = newBucketCounts();
+        return percentile(bucketCounts, percentile, addTo(bucketCounts));
+    }
+
+    /**
+     * Returns a percentile of a set of bucket counts.
+     *
+     * @param bucketCounts The bucket counts, filled in by addTo()
+     * @param percentile The percentile, from 0 to 100
+     * @param max The largest value recorded, which no percentile is reported above
+     * @return long The value, in nanoseconds, or 0 if the counts are all 0
+     */
+    public static long percentile(long[] bucketCounts, double percentile, long max)
+    {
+        long count = 0;
+        for (long bucketCount : bucketCounts)
+        {
+            count += bucketCount;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < NUM_BUCKETS && count > 0; i++)
+        {
+            seen += bucketCounts[i];
+            if (seen >= rank)
+            {
+                return Math.min(bucketMidpoint(i), max);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value The value, in nanoseconds
+     */
+    public void record(long value)
+    {
+        this.counts.getAndIncrement(bucketIndex(value));
+        this.total.add(value);
+        long currentMax = this.max.get();
+        while (value > currentMax && !this.max.compareAndSet(currentMax, value))
+        {
+            currentMax = this.max.get();
+        }
+    }
+
+    /**
+     * Clears every value recorded.
+     */
+    public void reset()
+    {
+        for (int i = 0; i < NUM_BUCKETS; i++)
+        {
+            this.counts.set(i, 0);
+        }
+        this.max.set(0);
+        this.total.reset();
+    }
+}
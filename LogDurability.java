@@ -0,0 +1,19 @@
+/**
+ * LogDurability enum
+ * 
+ * How often a GameLog forces what it has written out to the disk.
+ * - PER_EVENT forces every event as soon as the writer thread has written it.
+ * - PER_TURN forces once for each turn's events, when the turn ends.
+ * - ON_EXIT leaves flushing to the operating system until the log is closed.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameLog
+ */
+
+public enum LogDurability
+{
+    PER_EVENT,
+    PER_TURN,
+    ON_EXIT
+}
@@ -0,0 +1,561 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MctsStrategy class
+ *
+ * A computer strategy that chooses each move by Monte Carlo tree search. Every iteration copies the game, walks
+ * down the tree choosing actions by UCB1, adds one node, plays the rest of the game out with the ComputerStrategy
+ * for up to ROLLOUT_TURNS turns and scores the result for the player searching. The tree's decision nodes are the
+ * moves of either player. After each action comes a chance node, with a child for each outcome the dice or the
+ * drawn cost gave it (a capture that succeeded, failed or tied, a sabotage that went ahead or could not be paid
+ * for). Each iteration rolls its own dice on its copy of the game, so every chance outcome is visited as often as
+ * it happens. A tie leaves the same player to move, with only captures to choose from, as in GameEngine.takeTurn().
+ *
+ * The search is root-parallel. Each thread grows its own tree from the same position with its own random number
+ * stream, and the move made is the one with the most visits across all of the trees. The threads share nothing
+ * while they search, so the number of iterations scales with the number of cores. Each move is searched until the
+ * time budget or the iteration budget runs out, whichever comes first.
+ *
+ * The strategy keeps count of its iterations and the time it has spent searching, so that getIterationsPerSecond()
+ * can show how it scales with the number of threads. One strategy should only be used by one game at a time, and
+ * close() should be called when it is no longer needed to stop its threads.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see Strategy
+ * @see ComputerStrategy
+ * @see GameEngine
+ */
+
+public class MctsStrategy implements Strategy, AutoCloseable
+{
+    private static final double EXPLORATION = 0.7;
+    // A position packs the index of the player to move with whether they must capture after a tie
+    static final int MOVER = 1;
+    static final int MUST_CAPTURE = 2;
+    private static final int ROLLOUT_TURNS = 40;
+    // The deadline is only checked every few iterations, as reading the clock costs as much as a short rollout
+    private static final int TIME_CHECK_INTERVAL = 8;
+
+    private final LongAdder iterations;
+    private final int maxIterations;
+    private final LongAdder moves;
+    private final long moveTimeNanos;
+    private final int numThreads;
+    private final ForkJoinPool pool;
+    private final GameRandom random;
+    private final ComputerStrategy rolloutStrategy;
+    private final LongAdder searchNanos;
+
+    /**
+     * Constructor for objects of class MctsStrategy
+     *
+     * @param numThreads The number of threads to search each move with
+     * @param moveTimeMillis The time to search each move for, in milliseconds, or 0 for no time limit
+     * @param maxIterations The number of iterations to search each move for, across all of the threads, or 0 for
+     *        no limit
+     * @param random The random number stream the search's own streams are split from
+     */
+    public MctsStrategy(int numThreads, long moveTimeMillis, int maxIterations, GameRandom random)
+    {
+        if (numThreads < 1)
+        {
+            throw new IllegalArgumentException("The search needs at least one thread.");
+        }
+        if (moveTimeMillis <= 0 && maxIterations <= 0)
+        {
+            throw new IllegalArgumentException("The search needs a time limit or an iteration limit.");
+        }
+        this.numThreads = numThreads;
+        this.moveTimeNanos = (moveTimeMillis > 0) ? moveTimeMillis * 1_000_000 : Long.MAX_VALUE;
+        this.maxIterations = (maxIterations > 0) ? maxIterations : Integer.MAX_VALUE;
+        this.random = random;
+        this.rolloutStrategy = new ComputerStrategy();
+        // The thread choosing the move searches too, so the pool only needs the other threads
+        this.pool = (numThreads > 1) ? new ForkJoinPool(numThreads - 1) : null;
+        this.iterations = new LongAdder();
+        this.moves = new LongAdder();
+        this.searchNanos = new LongAdder();
+    }
+
+    /**
+     * Accepts the cost of every sabotage, as the search only chooses a sabotage the player can afford.
+     *
+     * @param state The game
+     * @param currentPlayer The player making the sabotage
+     * @param action The sabotage
+     * @param cost The cost drawn for the sabotage
+     * @return boolean true
+     */
+    public boolean acceptCost(GameState state, Player currentPlayer, Action action, int cost)
+    {
+        return true;
+    }
+
+    /**
+     * Chooses the player's action by searching the game.
+     *
+     * @param state The game
+     * @param currentPlayer The player whose turn it is
+     * @param opponentPlayer The opponent player
+     * @return Action The action with the most visits
+     */
+    public Action chooseAction(GameState state, Player currentPlayer, Player opponentPlayer)
+    {
+        return search(state, currentPlayer, false);
+    }
+
+    /**
+     * Chooses a square to capture after a tie by searching the game.
+     *
+     * @param state The game
+     * @param currentPlayer The player whose turn it is
+     * @param opponentPlayer The opponent player
+     * @return Action The capture with the most visits
+     */
+    public Action chooseCapture(GameState state, Player currentPlayer, Player opponentPlayer)
+    {
+        return search(state, currentPlayer, true);
+    }
+
+    /**
+     * Stops the search threads.
+     */
+    @Override
+    public void close()
+    {
+        if (this.pool != null)
+        {
+            this.pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the number of iterations searched, across every move and thread.
+     *
+     * @return long The number of iterations
+     */
+    public long getIterations()
+    {
+        return this.iterations.sum();
+    }
+
+    /**
+     * Returns the number of iterations searched per second of time spent choosing moves.
+     *
+     * @return double The iterations per second, or 0 if no move has been chosen
+     */
+    public double getIterationsPerSecond()
+    {
+        long nanos = this.searchNanos.sum();
+        return (nanos == 0) ? 0 : this.iterations.sum() / (nanos / 1e9);
+    }
+
+    /**
+     * Returns the number of moves chosen.
+     *
+     * @return long The number of moves
+     */
+    public long getMoves()
+    {
+        return this.moves.sum();
+    }
+
+    /**
+     * Lists the actions a player can usefully make. Captures of squares the opponent owns are not allowed, and
+     * captures of the player's own squares, strikes without a complete path and sabotages the player cannot
+     * afford would change nothing, so they are left out. If nothing else is left, the player can still capture
+     * their own squares or, failing that, sabotage the opponent's attack, as ComputerStrategy.chooseCapture() does.
+     * ExpectimaxStrategy searches the same actions.
+     *
+     * @param state The game
+     * @param moverIndex The index of the player to move
+     * @param mustCapture Whether the player must capture, after a tie
+     * @return Action[] The actions
+     */
+    static Action[] listActions(GameState state, int moverIndex, boolean mustCapture)
+    {
+        Action[] actions = new Action[getMaxActions(state.getGrid())];
+        int numActions = listActions(state, moverIndex, mustCapture, actions);
+        return Arrays.copyOf(actions, numActions);
+    }
+
+    /**
+     * Lists the actions a player can usefully make into an array, as listActions() does, so that a search can
+     * reuse one array at each depth.
+     *
+     * @param state The game
+     * @param moverIndex The index of the player to move
+     * @param mustCapture Whether the player must capture, after a tie
+     * @param actions The array to fill, with room for at least getMaxActions() actions
+     * @return int The number of actions
+     */
+    static int listActions(GameState state, int moverIndex, boolean mustCapture, Action[] actions)
+    {
+        Grid grid = state.getGrid();
+        Player mover = state.getPlayer(moverIndex);
+        Player opponent = state.getOpponent(mover);
+        int gridSize = grid.getGridSize();
+        int numActions = 0;
+        if (!mustCapture && mover.hasCompletePath(grid))
+        {
+            actions[numActions++] = Action.strike();
+        }
+        for (int y = 1; y <= gridSize; y++)
+        {
+            for (int x = 1; x <= gridSize; x++)
+            {
+                if (grid.getSquareOwnerId(x, y) == 0)
+                {
+                    actions[numActions++] = Action.capture(x, y);
+                }
+            }
+        }
+        if (!mustCapture && mover.getCoins() >= GameEngine.MIN_SABOTAGE_COST)
+        {
+            actions[numActions++] = Action.decrementAttack();
+            actions[numActions++] = Action.decrementDefence();
+        }
+        if (!mustCapture && mover.getCoins() >= GameEngine.MIN_SQUARE_SABOTAGE_COST)
+        {
+            CoordinateSet opponentSquares = opponent.getSquaresCaptured();
+            for (int position = 0; position < opponentSquares.size(); position++)
+            {
+                actions[numActions++] = Action.sabotageSquare(opponentSquares.getX(position), opponentSquares.getY(position));
+            }
+        }
+        if (numActions == 0)
+        {
+            CoordinateSet moverSquares = mover.getSquaresCaptured();
+            for (int position = 0; position < moverSquares.size(); position++)
+            {
+                actions[numActions++] = Action.capture(moverSquares.getX(position), moverSquares.getY(position));
+            }
+        }
+        if (numActions == 0)
+        {
+            actions[numActions++] = Action.decrementAttack();
+        }
+        return numActions;
+    }
+
+    /**
+     * Returns the most actions listActions() can list on a grid: a strike, a capture or square sabotage of every
+     * square, and the two stat sabotages.
+     *
+     * @param grid The grid
+     * @return int The most actions
+     */
+    static int getMaxActions(Grid grid)
+    {
+        return grid.getGridSize() * grid.getGridSize() + 3;
+    }
+
+    /**
+     * Searches the game from the player's move and returns the action with the most visits across all of the
+     * threads' trees.
+     *
+     * @param state The game
+     * @param currentPlayer The player whose turn it is
+     * @param mustCapture Whether the player must capture, after a tie
+     * @return Action The action to make
+     */
+    private Action search(GameState state, Player currentPlayer, boolean mustCapture)
+    {
+        long startTime = System.nanoTime();
+        int moverIndex = (currentPlayer == state.getPlayer(0)) ? 0 : 1;
+        Action[] actions = listActions(state, moverIndex, mustCapture);
+        if (actions.length == 1)
+        {
+            return actions[0];
+        }
+        long deadline = (this.moveTimeNanos == Long.MAX_VALUE) ? Long.MAX_VALUE : startTime + this.moveTimeNanos;
+        int iterationsPerThread = (int) Math.max(1, ((long) this.maxIterations + this.numThreads - 1) / this.numThreads);
+        ArrayList<Search> searches = new ArrayList<Search>();
+        for (int thread = 0; thread < this.numThreads; thread++)
+        {
+            searches.add(new Search(state, moverIndex, mustCapture, actions, this.random.split(), deadline, iterationsPerThread));
+        }
+        int[] visits = new int[actions.length];
+        List<Future<int[]>> futures = new ArrayList<Future<int[]>>();
+        for (int thread = 1; thread < this.numThreads; thread++)
+        {
+            futures.add(this.pool.submit(searches.get(thread)));
+        }
+        addVisits(visits, searches.get(0).call());
+        for (Future<int[]> future : futures)
+        {
+            try
+            {
+                addVisits(visits, future.get());
+            }
+            catch (ExecutionException e)
+            {
+                System.err.println("Error in MCTS search thread: " + e.getCause());
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        int bestAction = 0;
+        long totalVisits = 0;
+        for (int action = 0; action < actions.length; action++)
+        {
+            totalVisits += visits[action];
+            if (visits[action] > visits[bestAction])
+            {
+                bestAction = action;
+            }
+        }
+        this.iterations.add(totalVisits);
+        this.moves.increment();
+        this.searchNanos.add(System.nanoTime() - startTime);
+        return actions[bestAction];
+    }
+
+    /**
+     * Adds one tree's visit counts for the actions at the root to the total.
+     *
+     * @param visits The total visits of each action
+     * @param treeVisits The visits of each action in one tree
+     */
+    private static void addVisits(int[] visits, int[] treeVisits)
+    {
+        for (int action = 0; action < visits.length; action++)
+        {
+            visits[action] += treeVisits[action];
+        }
+    }
+
+    /**
+     * A decision node: a position with one player to move. Each action leads to a chance node, held as the
+     * array of children for the action, with one child per outcome.
+     */
+    private static final class Node
+    {
+        private final Action[] actions;
+        private final Node[][] children;
+        private final int moverIndex;
+        private final double[] rewards;
+        private int totalVisits;
+        private final int[] visits;
+
+        private Node(Action[] actions, int moverIndex)
+        {
+            this.actions = actions;
+            this.moverIndex = moverIndex;
+            this.children = new Node[actions.length][];
+            this.rewards = new double[actions.length];
+            this.visits = new int[actions.length];
+        }
+
+        /**
+         * Chooses the action to try next: an action not yet tried, picked at random, or else the action with the
+         * highest UCB1 score.
+         *
+         * @param random The random number stream
+         * @return int The index of the action
+         */
+        private int select(GameRandom random)
+        {
+            if (this.totalVisits < this.actions.length)
+            {
+                int untried = random.nextInt(this.actions.length - this.totalVisits);
+                for (int action = 0; ; action++)
+                {
+                    if (this.visits[action] == 0 && untried-- == 0)
+                    {
+                        return action;
+                    }
+                }
+            }
+            double logVisits = Math.log(this.totalVisits);
+            int bestAction = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int action = 0; action < this.actions.length; action++)
+            {
+                double score = this.rewards[action] / this.visits[action] + EXPLORATION * Math.sqrt(logVisits / this.visits[action]);
+                if (score > bestScore)
+                {
+                    bestScore = score;
+                    bestAction = action;
+                }
+            }
+            return bestAction;
+        }
+    }
+
+    /**
+     * One thread's search: grows a tree from the position until its budget runs out.
+     */
+    private final class Search implements Callable<int[]>
+    {
+        private final Action[] actions;
+        private final long deadline;
+        private final GameEngine engine;
+        private final int maxIterations;
+        private final boolean mustCapture;
+        private final int moverIndex;
+        private final GameRandom random;
+        private final GameState state;
+
+        private Search(GameState state, int moverIndex, boolean mustCapture, Action[] actions, GameRandom random, long deadline, int maxIterations)
+        {
+            this.state = state;
+            this.moverIndex = moverIndex;
+            this.mustCapture = mustCapture;
+            this.actions = actions;
+            this.random = random;
+            this.deadline = deadline;
+            this.maxIterations = maxIterations;
+            this.engine = new GameEngine();
+        }
+
+        @Override
+        public int[] call()
+        {
+            Node root = new Node(this.actions, this.moverIndex);
+            ArrayList<Node> pathNodes = new ArrayList<Node>();
+            ArrayList<Integer> pathActions = new ArrayList<Integer>();
+            for (int iteration = 0; iteration < this.maxIterations; iteration++)
+            {
+                if (iteration % TIME_CHECK_INTERVAL == 0 && iteration > 0 && System.nanoTime() >= this.deadline)
+                {
+                    break;
+                }
+                pathNodes.clear();
+                pathActions.clear();
+                GameState game = this.state.copy(this.random);
+                int position = this.moverIndex | (this.mustCapture ? MUST_CAPTURE : 0);
+                Node node = root;
+                while (true)
+                {
+                    int action = node.select(this.random);
+                    pathNodes.add(node);
+                    pathActions.add(action);
+                    ActionOutcome outcome = play(game, position, node.actions[action]);
+                    position = nextPosition(game, position, outcome);
+                    if (game.isGameOver())
+                    {
+                        break;
+                    }
+                    if (node.children[action] == null)
+                    {
+                        node.children[action] = new Node[ActionOutcome.values().length];
+                    }
+                    Node child = node.children[action][outcome.ordinal()];
+                    if (child == null)
+                    {
+                        node.children[action][outcome.ordinal()] = new Node(listActions(game, position & MOVER, (position & MUST_CAPTURE) != 0), position & MOVER);
+                        rollout(game, position);
+                        break;
+                    }
+                    node = child;
+                }
+                double reward = evaluate(game, this.moverIndex);
+                for (int step = 0; step < pathNodes.size(); step++)
+                {
+                    Node pathNode = pathNodes.get(step);
+                    int action = pathActions.get(step);
+                    pathNode.visits[action]++;
+                    pathNode.totalVisits++;
+                    pathNode.rewards[action] += (pathNode.moverIndex == this.moverIndex) ? reward : 1 - reward;
+                }
+            }
+            return root.visits;
+        }
+
+        /**
+         * Applies an action for the player to move and ends the game if it took the opponent's last heart.
+         *
+         * @param game The game
+         * @param position The player to move, and whether they must capture
+         * @param action The action
+         * @return ActionOutcome The outcome of the action
+         */
+        private ActionOutcome play(GameState game, int position, Action action)
+        {
+            Player mover = game.getPlayer(position & MOVER);
+            Player opponent = game.getOpponent(mover);
+            ActionOutcome outcome = this.engine.applyAction(game, mover, action, rolloutStrategy).getOutcome();
+            if (opponent.getNumHearts() <= 0)
+            {
+                game.setWinner(mover);
+            }
+            return outcome;
+        }
+
+        /**
+         * Plays the game on with the ComputerStrategy for both players until it ends or ROLLOUT_TURNS turns have
+         * been played.
+         *
+         * @param game The game
+         * @param position The player to move, and whether they must capture
+         */
+        private void rollout(GameState game, int position)
+        {
+            int lastTurn = game.getNumTurns() + ROLLOUT_TURNS;
+            while (!game.isGameOver() && game.getNumTurns() < lastTurn)
+            {
+                Player mover = game.getPlayer(position & MOVER);
+                Player opponent = game.getOpponent(mover);
+                Action action = ((position & MUST_CAPTURE) != 0) ? rolloutStrategy.chooseCapture(game, mover, opponent)
+                    : rolloutStrategy.chooseAction(game, mover, opponent);
+                position = nextPosition(game, position, play(game, position, action));
+            }
+        }
+    }
+
+    /**
+     * Returns who moves after an action, moving the game on to the next turn once both players have moved.
+     * A tie leaves the same player to move, and they must capture.
+     *
+     * @param game The game
+     * @param position The player who made the action, and whether they had to capture
+     * @param outcome The outcome of the action
+     * @return int The next player to move, and whether they must capture
+     */
+    private static int nextPosition(GameState game, int position, ActionOutcome outcome)
+    {
+        if (outcome == ActionOutcome.TIE)
+        {
+            return (position & MOVER) | MUST_CAPTURE;
+        }
+        if ((position & MOVER) == 1)
+        {
+            game.nextTurn();
+        }
+        return 1 - (position & MOVER);
+    }
+
+    /**
+     * Scores the end of an iteration for a player: 1 for a win and 0 for a loss. A game that is still going is
+     * scored between the two by the players' hearts and, less heavily, the squares they hold.
+     *
+     * @param game The game
+     * @param playerIndex The index of the player to score for
+     * @return double The score, from 0 to 1
+     */
+    private static double evaluate(GameState game, int playerIndex)
+    {
+        Player player = game.getPlayer(playerIndex);
+        Player opponent = game.getOpponent(player);
+        if (game.isGameOver())
+        {
+            return (game.getWinner() == player) ? 1 : 0;
+        }
+        int gridSize = game.getGrid().getGridSize();
+        double hearts = (player.getNumHearts() - opponent.getNumHearts()) / 3.0;
+        double squares = (player.getNumSquaresCaptured() - opponent.getNumSquaresCaptured()) / (double) (gridSize * gridSize);
+        return 0.5 + 0.3 * hearts + 0.15 * squares;
+    }
+}
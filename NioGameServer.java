@@ -0,0 +1,602 @@
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NioGameServer class
+ *
+ * Hosts games over TCP on the loopback interface like GameServer, speaking the same GameConnection protocol,
+ * but with a few event loop threads in place of a thread per connection. Each loop owns a Selector and serves
+ * every connection registered with it, so a connection whose player is thinking costs only its socket, its
+ * selection key and its GameConnection; it holds no thread and no stack.
+ *
+ * Each loop also has a BufferPool of direct buffers. A connection borrows an input buffer when bytes arrive and
+ * an output buffer for its replies, and gives both back as soon as it has no partial request left and every
+ * reply has been written. Requests are read straight from the direct buffer, and replies, the board deltas of
+ * each turn, are written straight into one.
+ *
+ * Turns are played on the event loop thread, as a turn takes microseconds. If a client sends requests faster
+ * than it reads the replies, the connection stops reading until its replies have been written. Every game is
+ * recorded in the server's GameMetrics, published through JMX as "ITO4131:type=GameMetrics,name=NioGameServer-<port>".
+ *
+ * Run with "java NioGameServer [port] [idle timeout in seconds] [event loops] [metrics interval in seconds]".
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameServer
+ * @see GameConnection
+ * @see BufferPool
+ */
+
+public class NioGameServer implements AutoCloseable
+{
+    private static final long ACCEPT_RETRY_MILLIS = 100;
+    private static final int BACKLOG = 4096;
+    private static final int BUFFER_SIZE = 4096;
+    private static final int DEFAULT_IDLE_TIMEOUT_SECONDS = 300;
+    private static final int MAX_LINE_LENGTH = 256;
+    private static final int MAX_POOLED_BUFFERS = 1024;
+
+    private EventLoop[] eventLoops;
+    private ScheduledExecutorService evictionExecutor;
+    private int nextEventLoop;
+    private SessionRegistry registry;
+    private volatile boolean running;
+    private ServerSocketChannel serverChannel;
+
+    /**
+     * Constructor for objects of class NioGameServer, which binds to the port straight away. If the server cannot
+     * be built, the port and any selectors already opened are closed again before the exception is thrown.
+     *
+     * @param port The port to listen on, or 0 for any free port
+     * @param idleTimeoutSeconds How long a session may go unused before it is evicted
+     * @param numEventLoops The number of event loop threads, at least one
+     * @throws IOException if the port cannot be bound or a selector cannot be opened
+     */
+    public NioGameServer(int port, int idleTimeoutSeconds, int numEventLoops) throws IOException
+    {
+        if (numEventLoops < 1)
+        {
+            throw new IllegalArgumentException("The server needs at least one event loop.");
+        }
+        this.registry = new SessionRegistry(TimeUnit.SECONDS.toNanos(idleTimeoutSeconds), GameServer.DEFAULT_MAX_TURNS, new GameMetrics(1));
+        this.eventLoops = new EventLoop[numEventLoops];
+        this.serverChannel = ServerSocketChannel.open();
+        try
+        {
+            for (int i = 0; i < numEventLoops; i++)
+            {
+                this.eventLoops[i] = new EventLoop(i);
+            }
+            this.serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+            this.serverChannel.configureBlocking(false);
+            this.serverChannel.register(this.eventLoops[0].selector, SelectionKey.OP_ACCEPT);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            closeAfterFailedStart(this.serverChannel, this.eventLoops);
+            throw e;
+        }
+        this.evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "nio-session-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionInterval = Math.max(1, idleTimeoutSeconds / 2);
+        this.evictionExecutor.scheduleAtFixedRate(this.registry::evictIdle, evictionInterval, evictionInterval, TimeUnit.SECONDS);
+        // Registered last, once nothing else can fail, so a server that fails to build leaves nothing in JMX
+        this.registry.getMetrics().registerMBean("NioGameServer-" + this.serverChannel.socket().getLocalPort());
+    }
+
+    /**
+     * Closes the server channel and whatever selectors were opened, when the constructor fails part way.
+     *
+     * @param serverChannel The server channel
+     * @param eventLoops The event loops, some of which may not have been created
+     */
+    private static void closeAfterFailedStart(ServerSocketChannel serverChannel, EventLoop[] eventLoops)
+    {
+        try
+        {
+            serverChannel.close();
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in closing the server socket: " + e.getMessage());
+        }
+        for (EventLoop eventLoop : eventLoops)
+        {
+            if (eventLoop != null)
+            {
+                try
+                {
+                    eventLoop.selector.close();
+                }
+                catch (IOException e)
+                {
+                    System.err.println("Error in closing a selector: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the event loops, closes every connection and removes the metrics from JMX.
+     */
+    public void close()
+    {
+        this.running = false;
+        for (EventLoop eventLoop : this.eventLoops)
+        {
+            eventLoop.selector.wakeup();
+        }
+        for (EventLoop eventLoop : this.eventLoops)
+        {
+            try
+            {
+                if (eventLoop.thread != null)
+                {
+                    eventLoop.thread.join();
+                }
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try
+        {
+            this.serverChannel.close();
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in closing the server socket: " + e.getMessage());
+        }
+        this.evictionExecutor.shutdownNow();
+        this.registry.getMetrics().close();
+    }
+
+    /**
+     * Getter method for the port the server is listening on.
+     *
+     * @return int The port
+     */
+    public int getPort()
+    {
+        return this.serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Getter method for the sessions the server is hosting.
+     *
+     * @return SessionRegistry The sessions
+     */
+    public SessionRegistry getRegistry()
+    {
+        return this.registry;
+    }
+
+    /**
+     * Starts the event loop threads.
+     */
+    public void start()
+    {
+        this.running = true;
+        for (EventLoop eventLoop : this.eventLoops)
+        {
+            eventLoop.thread = new Thread(eventLoop, "nio-event-loop-" + eventLoop.index);
+            eventLoop.thread.start();
+        }
+    }
+
+    /**
+     * Accepts every waiting connection and hands each one to an event loop in turn. Only the first event loop
+     * accepts connections.
+     */
+    private void acceptConnections()
+    {
+        try
+        {
+            SocketChannel channel;
+            while ((channel = this.serverChannel.accept()) != null)
+            {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                this.eventLoops[this.nextEventLoop].addChannel(channel);
+                this.nextEventLoop = (this.nextEventLoop + 1) % this.eventLoops.length;
+            }
+        }
+        catch (IOException e)
+        {
+            // Usually out of file descriptors, so wait for some connections to close rather than spin
+            System.err.println("Error in accepting a connection: " + e.getMessage());
+            try
+            {
+                Thread.sleep(ACCEPT_RETRY_MILLIS);
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * One event loop: a thread, its Selector and the buffers its connections borrow.
+     */
+    private class EventLoop implements Runnable
+    {
+        private final BufferPool bufferPool;
+        private final int index;
+        private final byte[] lineBytes;
+        private final ConcurrentLinkedQueue<SocketChannel> newChannels;
+        private final Selector selector;
+        private Thread thread;
+
+        /**
+         * Constructor for objects of class EventLoop
+         *
+         * @param index The number of the event loop
+         * @throws IOException if the selector cannot be opened
+         */
+        private EventLoop(int index) throws IOException
+        {
+            this.index = index;
+            this.selector = Selector.open();
+            this.bufferPool = new BufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS);
+            this.newChannels = new ConcurrentLinkedQueue<SocketChannel>();
+            this.lineBytes = new byte[MAX_LINE_LENGTH];
+        }
+
+        /**
+         * Queues a new connection to be registered with this loop's selector by the loop's own thread.
+         *
+         * @param channel The connection
+         */
+        private void addChannel(SocketChannel channel)
+        {
+            this.newChannels.add(channel);
+            this.selector.wakeup();
+        }
+
+        /**
+         * Selects and serves ready connections until the server is closed, then closes this loop's connections.
+         */
+        public void run()
+        {
+            try
+            {
+                while (running)
+                {
+                    this.selector.select();
+                    registerNewChannels();
+                    Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+                    while (keys.hasNext())
+                    {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        if (!key.isValid())
+                        {
+                            continue;
+                        }
+                        if (key.isAcceptable())
+                        {
+                            acceptConnections();
+                            continue;
+                        }
+                        Connection connection = (Connection) key.attachment();
+                        try
+                        {
+                            if (key.isWritable())
+                            {
+                                writeReplies(connection);
+                            }
+                            if (key.isValid() && key.isReadable())
+                            {
+                                readRequests(connection);
+                            }
+                        }
+                        catch (IOException e)
+                        {
+                            closeConnection(connection);
+                        }
+                    }
+                }
+            }
+            catch (IOException | ClosedSelectorException e)
+            {
+                System.err.println("Error in event loop " + this.index + ": " + e.getMessage());
+            }
+            finally
+            {
+                for (SelectionKey key : this.selector.keys())
+                {
+                    try
+                    {
+                        key.channel().close();
+                    }
+                    catch (IOException e)
+                    {
+                        // Closing anyway
+                    }
+                }
+                try
+                {
+                    this.selector.close();
+                }
+                catch (IOException e)
+                {
+                    // Closing anyway
+                }
+            }
+        }
+
+        /**
+         * Registers the connections handed to this loop since it last selected.
+         *
+         * @throws IOException if a connection cannot be registered
+         */
+        private void registerNewChannels() throws IOException
+        {
+            SocketChannel channel;
+            while ((channel = this.newChannels.poll()) != null)
+            {
+                Connection connection = new Connection(channel, new GameConnection(registry));
+                connection.key = channel.register(this.selector, SelectionKey.OP_READ, connection);
+            }
+        }
+
+        /**
+         * Reads what a connection has sent and answers every complete request in it.
+         *
+         * @param connection The connection
+         * @throws IOException if the connection fails
+         */
+        private void readRequests(Connection connection) throws IOException
+        {
+            if (connection.input == null)
+            {
+                connection.input = this.bufferPool.acquire();
+            }
+            if (connection.channel.read(connection.input) < 0)
+            {
+                closeConnection(connection);
+                return;
+            }
+            handleRequests(connection);
+        }
+
+        /**
+         * Answers the complete request lines in a connection's input buffer, keeping any partial line for the
+         * next read. Stops early if the output buffer fills up, leaving the rest of the input until the replies
+         * have been written.
+         *
+         * @param connection The connection
+         * @throws IOException if the connection fails
+         */
+        private void handleRequests(Connection connection) throws IOException
+        {
+            ByteBuffer input = connection.input;
+            input.flip();
+            int lineStart = input.position();
+            for (int position = lineStart; position < input.limit() && !connection.protocol.isClosed(); position++)
+            {
+                if (input.get(position) != '\n')
+                {
+                    continue;
+                }
+                if (connection.output != null && connection.output.remaining() < MAX_LINE_LENGTH)
+                {
+                    break;
+                }
+                int lineLength = position - lineStart;
+                if (lineLength > 0 && input.get(position - 1) == '\r')
+                {
+                    lineLength--;
+                }
+                String reply;
+                if (lineLength > MAX_LINE_LENGTH)
+                {
+                    reply = "ERR request too long";
+                }
+                else
+                {
+                    input.get(lineStart, this.lineBytes, 0, lineLength);
+                    reply = connection.protocol.handleRequest(new String(this.lineBytes, 0, lineLength, StandardCharsets.US_ASCII));
+                }
+                appendReply(connection, reply);
+                lineStart = position + 1;
+            }
+            input.position(lineStart);
+            input.compact();
+            if (input.position() == 0)
+            {
+                this.bufferPool.release(input);
+                connection.input = null;
+            }
+            else if (!input.hasRemaining())
+            {
+                // A request longer than the whole buffer can never be answered
+                appendReply(connection, "ERR request too long");
+                connection.protocol.close();
+            }
+            writeReplies(connection);
+        }
+
+        /**
+         * Adds a reply line to a connection's output buffer.
+         *
+         * @param connection The connection
+         * @param reply The reply, which must be shorter than MAX_LINE_LENGTH
+         */
+        private void appendReply(Connection connection, String reply)
+        {
+            if (connection.output == null)
+            {
+                connection.output = this.bufferPool.acquire();
+            }
+            ByteBuffer output = connection.output;
+            int length = Math.min(reply.length(), MAX_LINE_LENGTH - 1);
+            for (int i = 0; i < length; i++)
+            {
+                output.put((byte) reply.charAt(i));
+            }
+            output.put((byte) '\n');
+        }
+
+        /**
+         * Writes as much of a connection's replies as the socket will take. Once every reply has been written
+         * the output buffer goes back to the pool, the connection is closed if the client has quit, and any
+         * requests that were waiting for room in the output buffer are answered.
+         *
+         * @param connection The connection
+         * @throws IOException if the connection fails
+         */
+        private void writeReplies(Connection connection) throws IOException
+        {
+            ByteBuffer output = connection.output;
+            if (output == null)
+            {
+                return;
+            }
+            output.flip();
+            connection.channel.write(output);
+            if (output.hasRemaining())
+            {
+                output.compact();
+                connection.key.interestOps(SelectionKey.OP_WRITE);
+                return;
+            }
+            this.bufferPool.release(output);
+            connection.output = null;
+            if (connection.protocol.isClosed())
+            {
+                closeConnection(connection);
+                return;
+            }
+            connection.key.interestOps(SelectionKey.OP_READ);
+            if (connection.input != null && connection.input.position() > 0 && hasCompleteLine(connection.input))
+            {
+                handleRequests(connection);
+            }
+        }
+
+        /**
+         * Checks whether an input buffer, ready to be filled, holds a complete request line.
+         *
+         * @param input The input buffer
+         * @return boolean indicating whether there is a new line in the buffer
+         */
+        private boolean hasCompleteLine(ByteBuffer input)
+        {
+            for (int position = 0; position < input.position(); position++)
+            {
+                if (input.get(position) == '\n')
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Closes a connection and gives its buffers back to the pool. Its session stays in the registry until
+         * it is resumed or evicted.
+         *
+         * @param connection The connection
+         */
+        private void closeConnection(Connection connection)
+        {
+            connection.key.cancel();
+            try
+            {
+                connection.channel.close();
+            }
+            catch (IOException e)
+            {
+                // Closing anyway
+            }
+            if (connection.input != null)
+            {
+                this.bufferPool.release(connection.input);
+                connection.input = null;
+            }
+            if (connection.output != null)
+            {
+                this.bufferPool.release(connection.output);
+                connection.output = null;
+            }
+        }
+    }
+
+    /**
+     * One client connection: its channel, its protocol state and the buffers it has borrowed, if any.
+     */
+    private static class Connection
+    {
+        private final SocketChannel channel;
+        private ByteBuffer input;
+        private SelectionKey key;
+        private ByteBuffer output;
+        private final GameConnection protocol;
+
+        /**
+         * Constructor for objects of class Connection
+         *
+         * @param channel The connection's channel
+         * @param protocol The connection's protocol state
+         */
+        private Connection(SocketChannel channel, GameConnection protocol)
+        {
+            this.channel = channel;
+            this.protocol = protocol;
+        }
+    }
+
+    /**
+     * Runs the server until the process is stopped.
+     *
+     * @param args The port, the idle timeout in seconds, the number of event loops and the metrics interval in
+     *        seconds (all optional)
+     */
+    public static void main(String[] args)
+    {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : GameServer.DEFAULT_PORT;
+        int idleTimeoutSeconds = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_IDLE_TIMEOUT_SECONDS;
+        int numEventLoops = (args.length > 2) ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int metricsIntervalSeconds = (args.length > 3) ? Integer.parseInt(args[3]) : 0;
+        try
+        {
+            NioGameServer server = new NioGameServer(port, idleTimeoutSeconds, numEventLoops);
+            if (metricsIntervalSeconds > 0)
+            {
+                server.registry.getMetrics().startDump(metricsIntervalSeconds, System.out);
+            }
+            server.start();
+            System.out.println("NIO game server listening on " + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getPort()
+                + " with " + numEventLoops + " event loops, sessions idle for " + idleTimeoutSeconds + "s are evicted.");
+            server.eventLoops[0].thread.join();
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error in starting the game server: " + e.getMessage());
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
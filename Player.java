@@ -1,6 +1,3 @@
-import java.util.ArrayList;
-import java.util.Arrays;
-
 /**
  * The Player class represents a player in the game
  * 
@@ -19,7 +16,10 @@ public class Player
     private boolean isHuman;
     private String name;
     private int numSquaresLost;
-    private ArrayList<int[]> squaresCaptured;
+    private CoordinateSet squaresCaptured;
+    private long zobristHash;
+    private int zobristIndex;
+    private ZobristKeys zobristKeys;
 
     /**
      * Default constructor for the Player class
@@ -30,7 +30,7 @@ public class Player
         this.coins = 0;
         this.defence = 0;
         this.hearts = 3;
-        this.squaresCaptured = new ArrayList<int[]>();
+        this.squaresCaptured = new CoordinateSet();
         this.isHuman = true;
         this.hasCompletePath = false;
     }
@@ -52,7 +52,7 @@ public class Player
         this.defence = defence;
         this.coins = coins;
         this.hearts = hearts;
-        this.squaresCaptured = new ArrayList<int[]>();
+        this.squaresCaptured = new CoordinateSet();
         this.isHuman = isHuman;
         this.hasCompletePath = false;
     }
@@ -64,7 +64,25 @@ public class Player
      */
     public void addSquareCaptured(int[] squareCoordinates)
     {
-        this.squaresCaptured.add(squareCoordinates);
+        this.squaresCaptured.add(squareCoordinates[0], squareCoordinates[1]);
+    }
+
+    /**
+     * Method to create a copy of the player, with the same stats and captured squares, that can be changed
+     * without changing this player. Used to try out moves, such as by MctsStrategy.
+     * 
+     * @return Player The copy
+     */
+    public Player copy()
+    {
+        Player copy = new Player(this.name, this.damage, this.defence, this.coins, this.hearts, this.isHuman);
+        copy.hasCompletePath = this.hasCompletePath;
+        copy.numSquaresLost = this.numSquaresLost;
+        copy.squaresCaptured = this.squaresCaptured.copy();
+        copy.zobristKeys = this.zobristKeys;
+        copy.zobristIndex = this.zobristIndex;
+        copy.zobristHash = this.zobristHash;
+        return copy;
     }
 
     /**
@@ -80,11 +98,7 @@ public class Player
         System.out.print(" | Defence: " + this.getDefence());
         System.out.print(" | Coins: " + this.getCoins());
         System.out.print(" | Hearts: " + this.getHearts());
-        ArrayList<int[]> squaresCaptured = this.getSquaresCaptured();
-        System.out.print(" | Squares captured: ");
-        for (int[] square : squaresCaptured) {
-            System.out.print(Arrays.toString(square) + " ");
-        }
+        System.out.print(" | Squares captured: " + this.getSquaresCapturedText());
         System.out.print(" | Has complete path: " + this.hasCompletePath(grid) + "\n");
     }
 
@@ -165,12 +179,7 @@ public class Player
      */
     public int getNumSquaresCaptured()
     {
-        int count = 0;
-        for (int i = 0; i < this.squaresCaptured.size(); i++)
-        {
-            count++;
-        }
-        return count;
+        return this.squaresCaptured.size();
     }
 
     /**
@@ -181,32 +190,44 @@ public class Player
      */
     public String getPlayerStats(Grid grid)
     {
-        String playerStats = "";
-        playerStats += "Name: " + this.getName();
-        playerStats += " | Captured: " + this.getNumSquaresCaptured();
-        playerStats += " | Damage: " + this.getDamage();
-        playerStats += " | Defence: " + this.getDefence();
-        playerStats += " | Coins: " + this.getCoins();
-        playerStats += " | Hearts: " + this.getHearts();
-        ArrayList<int[]> squaresCaptured = this.getSquaresCaptured();
-        playerStats += " | Squares captured: ";
-        for (int[] square : squaresCaptured) {
-            playerStats += Arrays.toString(square) + " ";
-        }
-        playerStats += " | Has complete path: " + this.hasCompletePath(grid) + "\n";
-        return playerStats;
+        StringBuilder playerStats = new StringBuilder();
+        playerStats.append("Name: ").append(this.getName());
+        playerStats.append(" | Captured: ").append(this.getNumSquaresCaptured());
+        playerStats.append(" | Damage: ").append(this.getDamage());
+        playerStats.append(" | Defence: ").append(this.getDefence());
+        playerStats.append(" | Coins: ").append(this.getCoins());
+        playerStats.append(" | Hearts: ").append(this.getHearts());
+        playerStats.append(" | Squares captured: ").append(this.getSquaresCapturedText());
+        playerStats.append(" | Has complete path: ").append(this.hasCompletePath(grid)).append("\n");
+        return playerStats.toString();
     }
 
     /**
      * Getter method for the squaresCaptured attribute
      * 
-     * @return An ArrayList of the coordinates of the squares captured by the player
+     * @return The set of the coordinates of the squares captured by the player
      */
-    public ArrayList<int[]> getSquaresCaptured()
+    public CoordinateSet getSquaresCaptured()
     {
         return this.squaresCaptured;
     }
 
+    /**
+     * Method to list the squares captured by the player, in the format "[x, y] [x, y] "
+     * 
+     * @return A string containing the coordinates of the squares captured by the player
+     */
+    public String getSquaresCapturedText()
+    {
+        StringBuilder squaresCapturedText = new StringBuilder();
+        for (int i = 0; i < this.squaresCaptured.size(); i++)
+        {
+            squaresCapturedText.append('[').append(this.squaresCaptured.getX(i)).append(", ")
+                .append(this.squaresCaptured.getY(i)).append("] ");
+        }
+        return squaresCapturedText.toString();
+    }
+
     /**
      * Getter method indicating whether the player has captured a given square on the grid
      * 
@@ -216,16 +237,15 @@ public class Player
      */
     public boolean hasCapturedSquare(int[] squareCoordinates, Grid grid)
     {
-        String gridSquare = grid.getGridSquare(squareCoordinates[0], squareCoordinates[1]);
-        return gridSquare.contains(this.getName());
+        return grid.isSquareOwnedBy(squareCoordinates[0], squareCoordinates[1], this);
     }
 
     /**
      * Method to check whether the player has a captured a complete path across the grid,
      * either horizontally or vertically.
      * 
-     * This method will also count the total number of complete paths captured by the player
-     * and update the numCompletePathsCaptured attribute accordingly.
+     * The grid keeps a count of the squares each player holds in every row and column, so this
+     * is a constant time lookup rather than a scan of the grid.
      * 
      * @param grid The grid object
      * @return boolean indicating whether the player has a complete path or not
@@ -233,45 +253,8 @@ public class Player
      */
     public boolean hasCompletePath(Grid grid)
     {
-        int horizontalCount = 0;
-        int verticalCount = 0;
-        int completePathCount = 0;
-        for (int i = 0; i < grid.getGridSize(); i++)
-        {
-            for (int j = 0; j < grid.getGridArray().get(i).length; j++)
-            {
-                if (grid.getGridSquare(i + 1, j + 1).contains(this.getName()))
-                {
-                    horizontalCount++;
-                }
-            }
-            if (horizontalCount == grid.getGridArray().get(i).length)
-            {
-                this.hasCompletePath = true;
-                completePathCount++;
-                return true;
-            }
-            horizontalCount = 0;
-        }
-        
-        for (int i = 0; i < grid.getGridSize(); i++)
-        {
-            for (int j = 0; j < grid.getGridArray().size(); j++)
-            {
-                if (grid.getGridSquare(j + 1, i + 1).contains(this.getName()))
-                {
-                    verticalCount++;
-                }
-            }
-            if (verticalCount == grid.getGridArray().size())
-            {
-                this.hasCompletePath = true;
-                completePathCount++;
-                return true;
-            }
-            verticalCount = 0;
-        }
-        return false;
+        this.hasCompletePath = grid.hasCompletePath(this);
+        return this.hasCompletePath;
     }
     
     /**
@@ -281,6 +264,10 @@ public class Player
      */
     public void setCoins(int newCoins)
     {
+        if (this.zobristKeys != null)
+        {
+            this.zobristHash ^= this.zobristKeys.getCoinsKey(this.zobristIndex, this.coins) ^ this.zobristKeys.getCoinsKey(this.zobristIndex, newCoins);
+        }
         this.coins = newCoins;
     }
 
@@ -291,6 +278,10 @@ public class Player
      */
     public void setDamage(int newDamage)
     {
+        if (this.zobristKeys != null)
+        {
+            this.zobristHash ^= this.zobristKeys.getDamageKey(this.zobristIndex, this.damage) ^ this.zobristKeys.getDamageKey(this.zobristIndex, newDamage);
+        }
         this.damage = newDamage;
     }
 
@@ -301,6 +292,10 @@ public class Player
      */
     public void setDefence(int newDefence)
     {
+        if (this.zobristKeys != null)
+        {
+            this.zobristHash ^= this.zobristKeys.getDefenceKey(this.zobristIndex, this.defence) ^ this.zobristKeys.getDefenceKey(this.zobristIndex, newDefence);
+        }
         this.defence = newDefence;
     }
 
@@ -311,6 +306,10 @@ public class Player
      */
     public void setHearts(int newHearts)
     {
+        if (this.zobristKeys != null)
+        {
+            this.zobristHash ^= this.zobristKeys.getHeartsKey(this.zobristIndex, this.hearts) ^ this.zobristKeys.getHeartsKey(this.zobristIndex, newHearts);
+        }
         this.hearts = newHearts;
     }
 
@@ -331,7 +330,7 @@ public class Player
      */
     public void updateCoins(int coinsModifier)
     {
-        this.coins += coinsModifier;
+        setCoins(this.coins + coinsModifier);
     }
 
     /**
@@ -341,7 +340,7 @@ public class Player
      */
     public void updateDamage(int damageModifier)
     {
-        this.damage += damageModifier;
+        setDamage(this.damage + damageModifier);
     }
 
     /**
@@ -351,7 +350,7 @@ public class Player
      */
     public void updateDefence(int defenceModifier)
     {
-        this.defence += defenceModifier;
+        setDefence(this.defence + defenceModifier);
     }
 
     /**
@@ -361,7 +360,33 @@ public class Player
      */
     public void updateHearts(int heartsModifier)
     {
-        this.hearts += heartsModifier;
+        setHearts(this.hearts + heartsModifier);
+    }
+
+    /**
+     * Getter method for the player's part of their game's Zobrist hash
+     * 
+     * @return long The exclusive or of the keys of the player's hearts, damage, defence and coins, or 0 if no
+     *         keys have been set
+     */
+    public long getZobristHash()
+    {
+        return this.zobristHash;
+    }
+
+    /**
+     * Method to set the keys the player's part of their game's Zobrist hash is made from. The hash is worked out
+     * from the player's stats and then kept up to date by the setter and update methods.
+     * 
+     * @param keys The keys
+     * @param playerIndex 0 if the player moves first, or 1 if they move second
+     */
+    public void setZobristKeys(ZobristKeys keys, int playerIndex)
+    {
+        this.zobristKeys = keys;
+        this.zobristIndex = playerIndex;
+        this.zobristHash = keys.getHeartsKey(playerIndex, this.hearts) ^ keys.getDamageKey(playerIndex, this.damage)
+            ^ keys.getDefenceKey(playerIndex, this.defence) ^ keys.getCoinsKey(playerIndex, this.coins);
     }
 
     /**
@@ -371,6 +396,6 @@ public class Player
      */
     public void removeSquareCaptured(int[] squareCoordinates)
     {
-        this.squaresCaptured.remove(squareCoordinates);
+        this.squaresCaptured.remove(squareCoordinates[0], squareCoordinates[1]);
     }
 }
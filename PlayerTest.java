@@ -55,5 +55,15 @@ public class PlayerTest {
 
         validPlayer.setHearts(-2);
         System.out.println("Updated Invalid Player Hearts: " + validPlayer.getNumHearts()); // Should print "-2"
+
+        // Test captured squares are tracked by coordinate, not by array reference
+        validPlayer.addSquareCaptured(new int[]{2, 3});
+        validPlayer.addSquareCaptured(new int[]{4, 1});
+        validPlayer.addSquareCaptured(new int[]{2, 3});
+        System.out.println("Squares Captured: " + validPlayer.getNumSquaresCaptured()); // Should print "2"
+
+        validPlayer.removeSquareCaptured(new int[]{2, 3});
+        System.out.println("Squares Captured After Removal: " + validPlayer.getNumSquaresCaptured()); // Should print "1"
+        System.out.println("Squares Captured List: " + validPlayer.getSquaresCapturedText()); // Should print "[4, 1] "
     }
 }
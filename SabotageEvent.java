@@ -0,0 +1,67 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * SabotageEvent class
+ *
+ * A Java Flight Recorder event spanning one sabotage in the GameEngine: which sabotage the player chose, the
+ * cost drawn for it and whether it went ahead.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameEngine
+ * @see TurnEvent
+ */
+
+@Name("ito4131.Sabotage")
+@Label("Sabotage")
+@Category({"ITO4131 Field", "Actions"})
+@Description("A sabotage of the opponent's attack, defence or squares, and its cost")
+@StackTrace(false)
+public class SabotageEvent extends jdk.jfr.Event
+{
+    @Label("Cost")
+    private int cost;
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("Player")
+    private String player;
+
+    @Label("Sabotage")
+    private String sabotage;
+
+    /**
+     * Begins an event.
+     *
+     * @return SabotageEvent The event
+     */
+    public static SabotageEvent start()
+    {
+        SabotageEvent event = new SabotageEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event with the result of the sabotage, and commits it if it is being recorded.
+     *
+     * @param result The result of the sabotage
+     */
+    public void end(ActionResult result)
+    {
+        if (!shouldCommit())
+        {
+            return;
+        }
+        this.cost = result.getCost();
+        this.outcome = result.getOutcome().name();
+        this.player = result.getPlayer().getName();
+        this.sabotage = result.getAction().getType().name();
+        commit();
+    }
+}
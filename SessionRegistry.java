@@ -0,0 +1,127 @@
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SessionRegistry class
+ *
+ * The GameSessions a GameServer is hosting, by id. Sessions are created by the client that starts a game and
+ * looked up again by any connection that knows the id. Sessions that have not been used for longer than the
+ * idle timeout are evicted by evictIdle(), which the server calls periodically, so abandoned games do not
+ * keep their grids in memory. Every session's engine records into the registry's GameMetrics.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameSession
+ * @see GameServer
+ */
+
+public class SessionRegistry
+{
+    private final long idleTimeoutNanos;
+    private final int maxTurns;
+    private final GameMetrics metrics;
+    private final AtomicLong nextId;
+    private final ConcurrentHashMap<String, GameSession> sessions;
+
+    /**
+     * Constructor for objects of class SessionRegistry
+     *
+     * @param idleTimeoutNanos How long a session may go unused before it is evicted, in nanoseconds
+     * @param maxTurns The turn limit of each session's game
+     * @param metrics The metrics every session's games are recorded in
+     */
+    public SessionRegistry(long idleTimeoutNanos, int maxTurns, GameMetrics metrics)
+    {
+        this.idleTimeoutNanos = idleTimeoutNanos;
+        this.maxTurns = maxTurns;
+        this.metrics = metrics;
+        this.nextId = new AtomicLong(1);
+        this.sessions = new ConcurrentHashMap<String, GameSession>();
+    }
+
+    /**
+     * Starts a new game and registers its session.
+     *
+     * @param gridSize The size of the grid
+     * @param seed The seed of the game's random number stream
+     * @param playerName The name of the remote player
+     * @return GameSession The new session
+     */
+    public GameSession create(int gridSize, long seed, String playerName)
+    {
+        String id = Long.toString(this.nextId.getAndIncrement(), 36);
+        GameSession session = new GameSession(id, gridSize, seed, playerName, this.maxTurns);
+        this.metrics.attach(session.getEngine());
+        this.sessions.put(id, session);
+        return session;
+    }
+
+    /**
+     * Removes every session that has been idle for longer than the idle timeout.
+     *
+     * @return int The number of sessions evicted
+     */
+    public int evictIdle()
+    {
+        long now = System.nanoTime();
+        int numEvicted = 0;
+        Iterator<GameSession> iterator = this.sessions.values().iterator();
+        while (iterator.hasNext())
+        {
+            if (now - iterator.next().getLastAccessTime() > this.idleTimeoutNanos)
+            {
+                iterator.remove();
+                numEvicted++;
+            }
+        }
+        return numEvicted;
+    }
+
+    /**
+     * Getter method for the metrics the sessions' games are recorded in.
+     *
+     * @return GameMetrics The metrics
+     */
+    public GameMetrics getMetrics()
+    {
+        return this.metrics;
+    }
+
+    /**
+     * Looks up a session, marking it as used.
+     *
+     * @param id The session id
+     * @return GameSession The session, or null if there is no session with that id
+     */
+    public GameSession get(String id)
+    {
+        GameSession session = this.sessions.get(id);
+        if (session != null)
+        {
+            session.touch();
+        }
+        return session;
+    }
+
+    /**
+     * Removes a session, such as when its game is over and the client has finished with it.
+     *
+     * @param id The session id
+     * @return boolean indicating whether there was a session with that id
+     */
+    public boolean remove(String id)
+    {
+        return this.sessions.remove(id) != null;
+    }
+
+    /**
+     * Returns the number of sessions being hosted.
+     *
+     * @return int The number of sessions
+     */
+    public int size()
+    {
+        return this.sessions.size();
+    }
+}
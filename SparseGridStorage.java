@@ -0,0 +1,229 @@
+/**
+ * SparseGridStorage class
+ * 
+ * Grid storage for large grids where only a small part of the board is ever used. Only squares that have an
+ * owner or a boost are stored, in an open-addressing hash table keyed by the square's index. Every other
+ * square reads as unowned with no boost.
+ * 
+ * The table uses linear probing and is kept at most half full, doubling in size when it fills up. Squares that
+ * lose both their owner and their boost are removed, shifting later entries back so no tombstones are left.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GridStorage
+ * @see Grid
+ */
+
+public class SparseGridStorage implements GridStorage
+{
+    public static final int BYTES_PER_ENTRY = 2 * (Integer.BYTES + Integer.BYTES + Byte.BYTES);
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] boosts;
+    // Square indexes are stored plus one, so that 0 can mark an empty slot
+    private int[] keys;
+    private int mask;
+    private byte[] owners;
+    private int size;
+
+    /**
+     * Constructor for objects of class SparseGridStorage
+     * 
+     * @param expectedSquares The number of squares expected to have an owner or a boost
+     */
+    public SparseGridStorage(long expectedSquares)
+    {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSquares * 2 && capacity < (1 << 30))
+        {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    public GridStorage copy()
+    {
+        SparseGridStorage copy = new SparseGridStorage(0);
+        copy.keys = this.keys.clone();
+        copy.owners = this.owners.clone();
+        copy.boosts = this.boosts.clone();
+        copy.mask = this.mask;
+        copy.size = this.size;
+        return copy;
+    }
+
+    public int getBoost(int squareIndex)
+    {
+        int slot = findSlot(squareIndex);
+        return (this.keys[slot] == 0) ? 0 : this.boosts[slot];
+    }
+
+    public long getMemoryUsage()
+    {
+        return (long) this.keys.length * (Integer.BYTES + Integer.BYTES + Byte.BYTES);
+    }
+
+    public byte getOwner(int squareIndex)
+    {
+        int slot = findSlot(squareIndex);
+        return (this.keys[slot] == 0) ? 0 : this.owners[slot];
+    }
+
+    /**
+     * Returns the number of squares currently stored.
+     * 
+     * @return int The number of squares with an owner or a boost
+     */
+    public int getSize()
+    {
+        return this.size;
+    }
+
+    public void setBoost(int squareIndex, int boost)
+    {
+        int slot = findSlot(squareIndex);
+        if (this.keys[slot] == 0)
+        {
+            if (boost == 0)
+            {
+                return;
+            }
+            slot = insert(slot, squareIndex);
+        }
+        this.boosts[slot] = boost;
+        removeIfEmpty(slot);
+    }
+
+    public void setOwner(int squareIndex, byte ownerId)
+    {
+        int slot = findSlot(squareIndex);
+        if (this.keys[slot] == 0)
+        {
+            if (ownerId == 0)
+            {
+                return;
+            }
+            slot = insert(slot, squareIndex);
+        }
+        this.owners[slot] = ownerId;
+        removeIfEmpty(slot);
+    }
+
+    /**
+     * Allocates empty arrays for the hash table.
+     * 
+     * @param capacity The number of slots, which must be a power of two
+     */
+    private void allocate(int capacity)
+    {
+        this.keys = new int[capacity];
+        this.owners = new byte[capacity];
+        this.boosts = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the slot holding the given square, or the empty slot where it would be inserted.
+     * 
+     * @param squareIndex The index of the square
+     * @return int The slot in the hash table
+     */
+    private int findSlot(int squareIndex)
+    {
+        int key = squareIndex + 1;
+        int slot = hash(key) & this.mask;
+        while (this.keys[slot] != 0 && this.keys[slot] != key)
+        {
+            slot = (slot + 1) & this.mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Mixes the bits of a key so that neighbouring squares are spread across the table.
+     * 
+     * @param key The key to hash
+     * @return int The hash of the key
+     */
+    private static int hash(int key)
+    {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Adds a square to the table, growing the table first if it would become more than half full.
+     * 
+     * @param slot The empty slot found for the square
+     * @param squareIndex The index of the square
+     * @return int The slot the square was stored in
+     */
+    private int insert(int slot, int squareIndex)
+    {
+        if ((this.size + 1) * 2 > this.keys.length)
+        {
+            resize(this.keys.length * 2);
+            slot = findSlot(squareIndex);
+        }
+        this.keys[slot] = squareIndex + 1;
+        this.owners[slot] = 0;
+        this.boosts[slot] = 0;
+        this.size++;
+        return slot;
+    }
+
+    /**
+     * Removes the square in a slot if it no longer has an owner or a boost. Entries after it in the same probe
+     * sequence are shifted back so that they can still be found.
+     * 
+     * @param slot The slot to check
+     */
+    private void removeIfEmpty(int slot)
+    {
+        if (this.owners[slot] != 0 || this.boosts[slot] != 0)
+        {
+            return;
+        }
+        this.keys[slot] = 0;
+        this.size--;
+        int emptySlot = slot;
+        int nextSlot = (slot + 1) & this.mask;
+        while (this.keys[nextSlot] != 0)
+        {
+            int homeSlot = hash(this.keys[nextSlot]) & this.mask;
+            // Move the entry back if its home slot is not between the empty slot and its current slot
+            if (((nextSlot - homeSlot) & this.mask) >= ((nextSlot - emptySlot) & this.mask))
+            {
+                this.keys[emptySlot] = this.keys[nextSlot];
+                this.owners[emptySlot] = this.owners[nextSlot];
+                this.boosts[emptySlot] = this.boosts[nextSlot];
+                this.keys[nextSlot] = 0;
+                emptySlot = nextSlot;
+            }
+            nextSlot = (nextSlot + 1) & this.mask;
+        }
+    }
+
+    /**
+     * Moves every stored square into a new table of the given capacity.
+     * 
+     * @param capacity The new number of slots, which must be a power of two
+     */
+    private void resize(int capacity)
+    {
+        int[] oldKeys = this.keys;
+        byte[] oldOwners = this.owners;
+        int[] oldBoosts = this.boosts;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            if (oldKeys[i] != 0)
+            {
+                int slot = findSlot(oldKeys[i] - 1);
+                this.keys[slot] = oldKeys[i];
+                this.owners[slot] = oldOwners[i];
+                this.boosts[slot] = oldBoosts[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Strategy interface
+ * 
+ * Decides the moves for one player. The GameEngine asks the player's strategy which action to take each turn,
+ * which square to try next when a capture ties, and whether to pay the coins a sabotage costs.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameEngine
+ * @see ComputerStrategy
+ * @see ConsoleStrategy
+ */
+
+public interface Strategy
+{
+    /**
+     * Decides whether to pay for a sabotage, once its cost is known.
+     * 
+     * @param state The current state of the game
+     * @param currentPlayer The player whose turn it is
+     * @param action The sabotage the player has chosen
+     * @param cost The number of coins the sabotage will cost
+     * @return boolean indicating whether the player accepts the cost
+     */
+    boolean acceptCost(GameState state, Player currentPlayer, Action action, int cost);
+
+    /**
+     * Chooses the action to take this turn.
+     * 
+     * @param state The current state of the game
+     * @param currentPlayer The player whose turn it is
+     * @param opponentPlayer The player who is not taking their turn
+     * @return Action The chosen action
+     */
+    Action chooseAction(GameState state, Player currentPlayer, Player opponentPlayer);
+
+    /**
+     * Chooses a square to capture. Called when a capture attempt ties, as the player must then try again.
+     * 
+     * @param state The current state of the game
+     * @param currentPlayer The player whose turn it is
+     * @param opponentPlayer The player who is not taking their turn
+     * @return Action A capture action
+     */
+    Action chooseCapture(GameState state, Player currentPlayer, Player opponentPlayer);
+}
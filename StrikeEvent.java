@@ -0,0 +1,64 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * StrikeEvent class
+ *
+ * A Java Flight Recorder event spanning one heart strike in the GameEngine, including the check for a
+ * complete path that decides it.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameEngine
+ * @see TurnEvent
+ */
+
+@Name("ito4131.Strike")
+@Label("Heart Strike")
+@Category({"ITO4131 Field", "Actions"})
+@Description("A strike at the opponent's heart")
+@StackTrace(false)
+public class StrikeEvent extends jdk.jfr.Event
+{
+    @Label("Opponent Hearts")
+    @Description("The opponent's hearts after the strike")
+    private int opponentHearts;
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("Player")
+    private String player;
+
+    /**
+     * Begins an event.
+     *
+     * @return StrikeEvent The event
+     */
+    public static StrikeEvent start()
+    {
+        StrikeEvent event = new StrikeEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event with the result of the strike, and commits it if it is being recorded.
+     *
+     * @param result The result of the strike
+     */
+    public void end(ActionResult result)
+    {
+        if (!shouldCommit())
+        {
+            return;
+        }
+        this.opponentHearts = result.getOpponentPlayer().getNumHearts();
+        this.outcome = result.getOutcome().name();
+        this.player = result.getPlayer().getName();
+        commit();
+    }
+}
@@ -0,0 +1,263 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Tournament class
+ * 
+ * Plays a large number of computer vs computer games on the GameEngine to measure how often each side wins for a
+ * given grid size and pair of starting stats.
+ * 
+ * The games are split across a ForkJoinPool. Every game gets its own random number stream, derived from the
+ * tournament's seed, and every batch of games its own TournamentStats, so the workers share nothing while they
+ * play and their results are merged as the batches are joined.
+ * 
+ * Run with "java Tournament [games] [grid size] [seed] [roll|table|analytic] [boosts file]". The tournament is
+ * played once untimed to warm up the JIT, then several times for each thread count from 1 up to the number of
+ * available processors, doubling each time, and the fastest run of each is reported to show how it scales.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameEngine
+ * @see TournamentStats
+ */
+
+public class Tournament
+{
+    // Games a batch plays itself rather than splitting in two
+    private static final long BATCH_SIZE = 64;
+    private static final int DEFAULT_GAMES = 10_000;
+    private static final int DEFAULT_GRID_SIZE = 5;
+    private static final int DEFAULT_MAX_TURNS = 1000;
+    private static final long DEFAULT_SEED = 4131;
+    // Times each thread count is played, the fastest of which is reported
+    private static final int TIMED_RUNS = 3;
+
+    private BoostCatalog boostCatalog;
+    private DiceMode diceMode;
+    private int[] firstPlayerStats;
+    private int gridSize;
+    private int maxTurns;
+    private GameMetrics metrics;
+    private int[] secondPlayerStats;
+
+    /**
+     * Constructor for objects of class Tournament
+     * 
+     * Starting stats are given as {damage, defence, coins}.
+     * 
+     * @param gridSize The size of the grid each game is played on
+     * @param firstPlayerStats The starting stats of the player who moves first
+     * @param secondPlayerStats The starting stats of the player who moves second
+     * @param maxTurns The turn limit of each game
+     */
+    public Tournament(int gridSize, int[] firstPlayerStats, int[] secondPlayerStats, int maxTurns)
+    {
+        this.gridSize = gridSize;
+        this.firstPlayerStats = firstPlayerStats;
+        this.secondPlayerStats = secondPlayerStats;
+        this.maxTurns = maxTurns;
+        this.diceMode = DiceMode.ROLL;
+        this.boostCatalog = BoostCatalog.get();
+    }
+
+    /**
+     * Sets the boosts placed on each game's grid.
+     * 
+     * @param boostCatalog The boost catalog
+     */
+    public void setBoostCatalog(BoostCatalog boostCatalog)
+    {
+        this.boostCatalog = boostCatalog;
+    }
+
+    /**
+     * Sets how the games resolve their captures.
+     * 
+     * @param diceMode The dice mode of every game's engine
+     */
+    public void setDiceMode(DiceMode diceMode)
+    {
+        this.diceMode = diceMode;
+    }
+
+    /**
+     * Sets the metrics every game's turns and actions are recorded in, or null to record nothing.
+     * 
+     * @param metrics The metrics
+     */
+    public void setMetrics(GameMetrics metrics)
+    {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Runs a tournament with the human and computer players' usual starting stats and prints how it scales
+     * with the number of threads.
+     * 
+     * @param args The number of games, the grid size, the seed, the dice mode and the boosts file (all optional)
+     */
+    public static void main(String[] args)
+    {
+        int numGames = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        int gridSize = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_GRID_SIZE;
+        long seed = (args.length > 2) ? Long.parseLong(args[2]) : DEFAULT_SEED;
+        HumanPlayer humanPlayer = new HumanPlayer("Human");
+        ComputerPlayer computerPlayer = new ComputerPlayer();
+        Tournament tournament = new Tournament(gridSize,
+            new int[]{humanPlayer.getDamage(), humanPlayer.getDefence(), humanPlayer.getCoins()},
+            new int[]{computerPlayer.getDamage(), computerPlayer.getDefence(), computerPlayer.getCoins()},
+            DEFAULT_MAX_TURNS);
+        if (args.length > 3)
+        {
+            tournament.setDiceMode(DiceMode.valueOf(args[3].toUpperCase()));
+        }
+        if (args.length > 4)
+        {
+            tournament.setBoostCatalog(BoostCatalog.get(args[4]));
+        }
+        System.out.println("Tournament: " + numGames + " games on a " + gridSize + "x" + gridSize + " grid, seed " + seed);
+        System.out.printf("    %8s %12s %12s %10s%n", "threads", "seconds", "games/s", "speedup");
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        // Warm up the JIT, so the single thread rate every speedup is measured against is not taken cold
+        TournamentStats stats = tournament.run(numGames, 1, seed);
+        double singleThreadRate = 0;
+        for (int numThreads = 1; numThreads <= maxThreads; numThreads = (numThreads == maxThreads) ? maxThreads + 1 : Math.min(numThreads * 2, maxThreads))
+        {
+            double seconds = Double.MAX_VALUE;
+            for (int timedRun = 0; timedRun < TIMED_RUNS; timedRun++)
+            {
+                long startTime = System.nanoTime();
+                stats = tournament.run(numGames, numThreads, seed);
+                seconds = Math.min(seconds, (System.nanoTime() - startTime) / 1e9);
+            }
+            double gamesPerSecond = numGames / seconds;
+            if (numThreads == 1)
+            {
+                singleThreadRate = gamesPerSecond;
+            }
+            System.out.printf("    %8d %12.2f %12.0f %9.2fx%n", numThreads, seconds, gamesPerSecond, gamesPerSecond / singleThreadRate);
+        }
+        System.out.print(stats.getReport());
+    }
+
+    /**
+     * Plays the tournament. Every game is played with a random number stream derived from the seed and the game's
+     * number, so the results are the same whatever the number of threads.
+     * 
+     * @param numGames The number of games to play
+     * @param numThreads The number of worker threads
+     * @param seed The seed the random number stream of every game is derived from
+     * @return TournamentStats The merged results of all of the games
+     */
+    public TournamentStats run(long numGames, int numThreads, long seed)
+    {
+        ForkJoinPool pool = new ForkJoinPool(numThreads);
+        try
+        {
+            return pool.invoke(new GameBatch(0, numGames, seed));
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays a single game.
+     * 
+     * @param engine The engine to play the game on
+     * @param random The random number stream for the game
+     * @param stats The results to add the game to
+     * @param recorder The engine's heart strike listener, which is reset for the new game
+     */
+    private void playGame(GameEngine engine, GameRandom random, TournamentStats stats, HeartStrikeRecorder recorder)
+    {
+        Player firstPlayer = new Player("Player 1", this.firstPlayerStats[0], this.firstPlayerStats[1], this.firstPlayerStats[2], 3, false);
+        Player secondPlayer = new Player("Player 2", this.secondPlayerStats[0], this.secondPlayerStats[1], this.secondPlayerStats[2], 3, false);
+        GameState state = new GameState(new Grid(this.gridSize, 4L * this.gridSize, random, this.boostCatalog), firstPlayer, secondPlayer);
+        Strategy strategy = new ComputerStrategy();
+        recorder.firstStrikeTurn = 0;
+        Player winner = engine.playGame(state, strategy, strategy, this.maxTurns);
+        int winnerIndex = (winner == null) ? -1 : (winner == firstPlayer) ? 0 : 1;
+        stats.addGame(winnerIndex, state.getNumTurns(), recorder.firstStrikeTurn);
+    }
+
+    /**
+     * Records the turn of every successful heart strike in a batch's stats.
+     */
+    private static class HeartStrikeRecorder implements GameListener
+    {
+        private int firstStrikeTurn;
+        private TournamentStats stats;
+
+        private HeartStrikeRecorder(TournamentStats stats)
+        {
+            this.stats = stats;
+        }
+
+        @Override
+        public void actionApplied(GameState state, ActionResult result)
+        {
+            if (result.getAction().getType() == ActionType.STRIKE && result.getOutcome() == ActionOutcome.SUCCESS)
+            {
+                this.stats.addHeartStrike(state.getNumTurns());
+                if (this.firstStrikeTurn == 0)
+                {
+                    this.firstStrikeTurn = state.getNumTurns();
+                }
+            }
+        }
+    }
+
+    /**
+     * A range of games, which is played directly if it is small enough or split in two otherwise.
+     * 
+     * Each game's random number stream is derived from the tournament seed and the game's number, so the results
+     * do not depend on how the range happens to be split between threads, and any single game can be replayed.
+     */
+    private class GameBatch extends RecursiveTask<TournamentStats>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private long firstGame;
+        private long numGames;
+        private long seed;
+
+        private GameBatch(long firstGame, long numGames, long seed)
+        {
+            this.firstGame = firstGame;
+            this.numGames = numGames;
+            this.seed = seed;
+        }
+
+        @Override
+        protected TournamentStats compute()
+        {
+            if (this.numGames <= BATCH_SIZE)
+            {
+                TournamentStats stats = new TournamentStats(maxTurns);
+                HeartStrikeRecorder recorder = new HeartStrikeRecorder(stats);
+                GameEngine engine = new GameEngine();
+                engine.setDiceMode(diceMode);
+                engine.addListener(recorder);
+                GameMetrics.Recorder metricsRecorder = (metrics == null) ? null : metrics.attach(engine);
+                for (long game = this.firstGame; game < this.firstGame + this.numGames; game++)
+                {
+                    playGame(engine, GameRandom.forStream(this.seed, game), stats, recorder);
+                }
+                if (metricsRecorder != null)
+                {
+                    metricsRecorder.flush();
+                }
+                return stats;
+            }
+            long half = this.numGames / 2;
+            GameBatch firstHalf = new GameBatch(this.firstGame, half, this.seed);
+            GameBatch secondHalf = new GameBatch(this.firstGame + half, this.numGames - half, this.seed);
+            firstHalf.fork();
+            TournamentStats stats = secondHalf.compute();
+            stats.merge(firstHalf.join());
+            return stats;
+        }
+    }
+}
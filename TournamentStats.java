@@ -0,0 +1,241 @@
+/**
+ * TournamentStats class
+ * 
+ * Aggregate results of a batch of games: how many each player won, how many turns the games took and when hearts
+ * were struck. Each worker in a Tournament fills in its own TournamentStats, and the results are merged once the
+ * workers finish, so no locking is needed while games are being played.
+ * 
+ * @version 1.0
+ * @since 2026-10-17
+ * @see Tournament
+ */
+
+public class TournamentStats
+{
+    // z value for a 95% confidence interval
+    private static final double CONFIDENCE_Z = 1.96;
+
+    private long firstPlayerWins;
+    private long firstStrikeGames;
+    private long firstStrikeTurnTotal;
+    private long games;
+    private long heartStrikes;
+    private long[] heartStrikeTurnCounts;
+    private long secondPlayerWins;
+    private long totalTurns;
+    private long[] turnCounts;
+
+    /**
+     * Constructor for objects of class TournamentStats
+     * 
+     * @param maxTurns The turn limit of the games, which sets the size of the turn histograms
+     */
+    public TournamentStats(int maxTurns)
+    {
+        this.turnCounts = new long[maxTurns + 1];
+        this.heartStrikeTurnCounts = new long[maxTurns + 1];
+    }
+
+    /**
+     * Records the result of one game.
+     * 
+     * @param winnerIndex 0 if the first player won, 1 if the second player won, or -1 if the turn limit was reached
+     * @param turns The number of turns the game took
+     * @param firstStrikeTurn The turn of the first heart strike, or 0 if no heart was struck
+     */
+    public void addGame(int winnerIndex, int turns, int firstStrikeTurn)
+    {
+        this.games++;
+        if (winnerIndex == 0)
+        {
+            this.firstPlayerWins++;
+        }
+        else if (winnerIndex == 1)
+        {
+            this.secondPlayerWins++;
+        }
+        this.totalTurns += turns;
+        this.turnCounts[Math.min(turns, this.turnCounts.length - 1)]++;
+        if (firstStrikeTurn > 0)
+        {
+            this.firstStrikeGames++;
+            this.firstStrikeTurnTotal += firstStrikeTurn;
+        }
+    }
+
+    /**
+     * Records a successful heart strike.
+     * 
+     * @param turn The turn the heart was struck on
+     */
+    public void addHeartStrike(int turn)
+    {
+        this.heartStrikes++;
+        this.heartStrikeTurnCounts[Math.min(turn, this.heartStrikeTurnCounts.length - 1)]++;
+    }
+
+    /**
+     * Adds the results of another batch of games to these results.
+     * 
+     * @param other The results to add
+     */
+    public void merge(TournamentStats other)
+    {
+        this.games += other.games;
+        this.firstPlayerWins += other.firstPlayerWins;
+        this.secondPlayerWins += other.secondPlayerWins;
+        this.totalTurns += other.totalTurns;
+        this.heartStrikes += other.heartStrikes;
+        this.firstStrikeGames += other.firstStrikeGames;
+        this.firstStrikeTurnTotal += other.firstStrikeTurnTotal;
+        for (int i = 0; i < this.turnCounts.length; i++)
+        {
+            this.turnCounts[i] += other.turnCounts[i];
+            this.heartStrikeTurnCounts[i] += other.heartStrikeTurnCounts[i];
+        }
+    }
+
+    public long getGames()
+    {
+        return this.games;
+    }
+
+    public long getFirstPlayerWins()
+    {
+        return this.firstPlayerWins;
+    }
+
+    public long getSecondPlayerWins()
+    {
+        return this.secondPlayerWins;
+    }
+
+    /**
+     * Returns the number of games that reached the turn limit without a winner.
+     * 
+     * @return long The number of unfinished games
+     */
+    public long getUnfinishedGames()
+    {
+        return this.games - this.firstPlayerWins - this.secondPlayerWins;
+    }
+
+    /**
+     * Returns the fraction of all games won by a player.
+     * 
+     * @param playerIndex 0 for the first player, or 1 for the second player
+     * @return double The player's win rate
+     */
+    public double getWinRate(int playerIndex)
+    {
+        long wins = (playerIndex == 0) ? this.firstPlayerWins : this.secondPlayerWins;
+        return (this.games == 0) ? 0 : (double) wins / this.games;
+    }
+
+    /**
+     * Returns a 95% confidence interval for a player's win rate, using the Wilson score interval.
+     * 
+     * @param playerIndex 0 for the first player, or 1 for the second player
+     * @return double[] The lower and upper bounds of the interval
+     */
+    public double[] getWinRateConfidenceInterval(int playerIndex)
+    {
+        if (this.games == 0)
+        {
+            return new double[]{0, 1};
+        }
+        double winRate = getWinRate(playerIndex);
+        double zSquared = CONFIDENCE_Z * CONFIDENCE_Z;
+        double denominator = 1 + zSquared / this.games;
+        double centre = (winRate + zSquared / (2.0 * this.games)) / denominator;
+        double halfWidth = CONFIDENCE_Z * Math.sqrt(winRate * (1 - winRate) / this.games + zSquared / (4.0 * this.games * this.games)) / denominator;
+        return new double[]{centre - halfWidth, centre + halfWidth};
+    }
+
+    /**
+     * Returns the mean number of turns per game.
+     * 
+     * @return double The mean number of turns
+     */
+    public double getMeanTurns()
+    {
+        return (this.games == 0) ? 0 : (double) this.totalTurns / this.games;
+    }
+
+    /**
+     * Returns the mean turn of the first heart strike, over the games that had one.
+     * 
+     * @return double The mean turn of the first heart strike
+     */
+    public double getMeanFirstStrikeTurn()
+    {
+        return (this.firstStrikeGames == 0) ? 0 : (double) this.firstStrikeTurnTotal / this.firstStrikeGames;
+    }
+
+    /**
+     * Returns a percentile of a turn histogram.
+     * 
+     * @param counts The histogram, indexed by turn
+     * @param total The number of entries in the histogram
+     * @param percentile The percentile, between 0 and 100
+     * @return int The turn at the percentile
+     */
+    private static int getPercentile(long[] counts, long total, double percentile)
+    {
+        long target = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int turn = 0; turn < counts.length; turn++)
+        {
+            seen += counts[turn];
+            if (seen >= target && seen > 0)
+            {
+                return turn;
+            }
+        }
+        return counts.length - 1;
+    }
+
+    /**
+     * Returns a percentile of the number of turns per game.
+     * 
+     * @param percentile The percentile, between 0 and 100
+     * @return int The number of turns at the percentile
+     */
+    public int getTurnPercentile(double percentile)
+    {
+        return getPercentile(this.turnCounts, this.games, percentile);
+    }
+
+    /**
+     * Returns a percentile of the turns on which hearts were struck.
+     * 
+     * @param percentile The percentile, between 0 and 100
+     * @return int The turn at the percentile
+     */
+    public int getHeartStrikeTurnPercentile(double percentile)
+    {
+        return getPercentile(this.heartStrikeTurnCounts, this.heartStrikes, percentile);
+    }
+
+    /**
+     * Returns a summary of the results, one statistic per line.
+     * 
+     * @return String The summary
+     */
+    public String getReport()
+    {
+        StringBuilder report = new StringBuilder();
+        for (int playerIndex = 0; playerIndex < 2; playerIndex++)
+        {
+            double[] interval = getWinRateConfidenceInterval(playerIndex);
+            report.append(String.format("Player %d win rate: %.2f%% (95%% CI %.2f%% - %.2f%%)%n", playerIndex + 1,
+                getWinRate(playerIndex) * 100, interval[0] * 100, interval[1] * 100));
+        }
+        report.append(String.format("Unfinished games: %d of %d%n", getUnfinishedGames(), this.games));
+        report.append(String.format("Turns per game: mean %.1f, p50 %d, p90 %d, p99 %d%n", getMeanTurns(),
+            getTurnPercentile(50), getTurnPercentile(90), getTurnPercentile(99)));
+        report.append(String.format("Heart strikes: %d, first strike at turn %.1f on average, strike turn p50 %d, p90 %d%n",
+            this.heartStrikes, getMeanFirstStrikeTurn(), getHeartStrikeTurnPercentile(50), getHeartStrikeTurnPercentile(90)));
+        return report.toString();
+    }
+}
@@ -0,0 +1,267 @@
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * TransportBenchmark class
+ *
+ * Compares the two game server transports, GameServer's virtual thread per connection and NioGameServer's event
+ * loops, when most connections are idle. For each number of connections the benchmark opens that many loopback
+ * connections and starts a game on each, measures the memory and platform threads the server holds while they
+ * all sit idle, and then plays turns on randomly chosen connections one at a time to measure the turn latency
+ * with that many idle connections registered.
+ *
+ * The client and server share one JVM, so the memory per connection includes the client's side of each
+ * connection, which is the same for both transports. Each connection uses two file descriptors and an
+ * ephemeral port, so the operating system's limits may stop a run early; the benchmark then reports how many
+ * connections it reached and measures those. Raise the limits with "ulimit -n" and the kernel's
+ * ip_local_port_range, and give the JVM a large heap, before running with hundreds of thousands.
+ *
+ * Run with "java TransportBenchmark [connections...]", e.g. "java TransportBenchmark 10000 100000 500000".
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameServer
+ * @see NioGameServer
+ */
+
+public class TransportBenchmark
+{
+    private static final int[] DEFAULT_CONNECTION_COUNTS = {10_000, 100_000, 500_000};
+    private static final int GRID_SIZE = 3;
+    private static final int IDLE_TIMEOUT_SECONDS = 600;
+    private static final int NUM_TURNS = 20_000;
+    private static final int SPARE_FILE_DESCRIPTORS = 200;
+    private static final int WARMUP_TURNS = 5_000;
+
+    private final ByteBuffer buffer;
+    private final GameRandom random;
+
+    /**
+     * Constructor for objects of class TransportBenchmark
+     */
+    public TransportBenchmark()
+    {
+        this.buffer = ByteBuffer.allocate(1024);
+        this.random = new GameRandom(4131);
+    }
+
+    /**
+     * Runs the benchmark for each number of connections against both transports.
+     *
+     * @param args The numbers of connections (optional)
+     */
+    public static void main(String[] args)
+    {
+        int[] connectionCounts = (args.length > 0) ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray() : DEFAULT_CONNECTION_COUNTS;
+        TransportBenchmark benchmark = new TransportBenchmark();
+        System.out.printf("%-16s %12s %14s %14s %10s %12s %12s %12s%n", "transport", "connections", "connects/s",
+            "bytes/conn", "threads", "turns/s", "p50 us", "p99 us");
+        for (int numConnections : connectionCounts)
+        {
+            for (String transport : new String[]{"virtual threads", "nio"})
+            {
+                try
+                {
+                    benchmark.run(transport, numConnections);
+                }
+                catch (IOException e)
+                {
+                    System.err.println("Error in transport benchmark: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Measures one transport with a number of connections.
+     *
+     * @param transport "virtual threads" or "nio"
+     * @param numConnections The number of connections to open
+     * @throws IOException if the server cannot be started
+     */
+    public void run(String transport, int numConnections) throws IOException
+    {
+        GameServer threadServer = null;
+        NioGameServer nioServer = null;
+        int port;
+        if (transport.equals("nio"))
+        {
+            nioServer = new NioGameServer(0, IDLE_TIMEOUT_SECONDS, Runtime.getRuntime().availableProcessors());
+            nioServer.start();
+            port = nioServer.getPort();
+        }
+        else
+        {
+            threadServer = new GameServer(0, IDLE_TIMEOUT_SECONDS);
+            threadServer.start();
+            port = threadServer.getPort();
+        }
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        SocketChannel[] channels = new SocketChannel[numConnections];
+        int numOpened = 0;
+        int maxConnections = getMaxConnections();
+        try
+        {
+            long baseHeap = usedHeapAfterGc();
+            int baseThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+            long startTime = System.nanoTime();
+            String failure = (maxConnections < numConnections) ? "the file descriptor limit allows " + maxConnections : null;
+            try
+            {
+                for (; numOpened < Math.min(numConnections, maxConnections); numOpened++)
+                {
+                    SocketChannel channel = SocketChannel.open(address);
+                    channels[numOpened] = channel;
+                    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                    request(channel, "NEW " + GRID_SIZE + " " + numOpened);
+                }
+            }
+            catch (IOException e)
+            {
+                failure = e.getMessage();
+            }
+            long connectTime = System.nanoTime() - startTime;
+            if (numOpened == 0)
+            {
+                System.err.println("Error in transport benchmark: no connections could be opened: " + failure);
+                return;
+            }
+            long heapPerConnection = (usedHeapAfterGc() - baseHeap) / numOpened;
+            int threads = ManagementFactory.getThreadMXBean().getThreadCount() - baseThreads;
+
+            playTurns(channels, numOpened, WARMUP_TURNS);
+            long[] latencies = new long[NUM_TURNS];
+            startTime = System.nanoTime();
+            for (int turn = 0; turn < NUM_TURNS; turn++)
+            {
+                latencies[turn] = playTurns(channels, numOpened, 1);
+            }
+            long turnTime = System.nanoTime() - startTime;
+            Arrays.sort(latencies);
+            System.out.printf("%-16s %12d %14.0f %14d %10d %12.0f %12.1f %12.1f%n", transport, numOpened,
+                numOpened / (connectTime / 1e9), heapPerConnection, threads, NUM_TURNS / (turnTime / 1e9),
+                latencies[NUM_TURNS / 2] / 1e3, latencies[(int) Math.ceil(NUM_TURNS * 0.99) - 1] / 1e3);
+            if (failure != null)
+            {
+                System.out.println("    stopped at " + numOpened + " of " + numConnections + " connections: " + failure);
+            }
+        }
+        finally
+        {
+            for (int i = 0; i < numConnections && channels[i] != null; i++)
+            {
+                channels[i].close();
+            }
+            if (nioServer != null)
+            {
+                nioServer.close();
+            }
+            if (threadServer != null)
+            {
+                threadServer.close();
+            }
+        }
+    }
+
+    /**
+     * Returns how many more loopback connections the process can open, as each one takes a file descriptor for
+     * both the client and the server end. Leaves some descriptors spare for everything else.
+     *
+     * @return int The number of connections, or Integer.MAX_VALUE if the limit is not known
+     */
+    private static int getMaxConnections()
+    {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.UnixOperatingSystemMXBean unix)
+        {
+            long spare = unix.getMaxFileDescriptorCount() - unix.getOpenFileDescriptorCount() - SPARE_FILE_DESCRIPTORS;
+            return (int) Math.max(0, Math.min(Integer.MAX_VALUE, spare / 2));
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Plays turns on randomly chosen connections, starting a new game on any connection whose game ends.
+     *
+     * @param channels The connections
+     * @param numChannels The number of open connections
+     * @param numTurns The number of turns to play
+     * @return long The time taken by the last turn, in nanoseconds
+     * @throws IOException if a connection fails
+     */
+    private long playTurns(SocketChannel[] channels, int numChannels, int numTurns) throws IOException
+    {
+        long latency = 0;
+        for (int turn = 0; turn < numTurns; turn++)
+        {
+            SocketChannel channel = channels[this.random.nextInt(numChannels)];
+            String action = (this.random.nextInt(4) == 0) ? "STRIKE"
+                : "CAPTURE " + (this.random.nextInt(GRID_SIZE) + 1) + " " + (this.random.nextInt(GRID_SIZE) + 1);
+            long startTime = System.nanoTime();
+            String reply = request(channel, action);
+            latency = System.nanoTime() - startTime;
+            if (!reply.endsWith("PLAYING"))
+            {
+                request(channel, "END");
+                request(channel, "NEW " + GRID_SIZE + " " + this.random.nextLong());
+            }
+        }
+        return latency;
+    }
+
+    /**
+     * Sends one request on a blocking channel and waits for its reply.
+     *
+     * @param channel The connection
+     * @param request The request
+     * @return String The reply
+     * @throws IOException if the connection fails or is closed by the server
+     */
+    private String request(SocketChannel channel, String request) throws IOException
+    {
+        this.buffer.clear();
+        this.buffer.put(request.getBytes(StandardCharsets.US_ASCII)).put((byte) '\n').flip();
+        while (this.buffer.hasRemaining())
+        {
+            channel.write(this.buffer);
+        }
+        this.buffer.clear();
+        while (this.buffer.position() == 0 || this.buffer.get(this.buffer.position() - 1) != '\n')
+        {
+            if (channel.read(this.buffer) < 0)
+            {
+                throw new IOException("The server closed the connection.");
+            }
+        }
+        return new String(this.buffer.array(), 0, this.buffer.position() - 1, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the heap in use after a garbage collection.
+     *
+     * @return long The heap in use, in bytes
+     */
+    private static long usedHeapAfterGc()
+    {
+        // Closed sockets and direct buffers are only freed once their cleaners have run after a collection
+        for (int i = 0; i < 3; i++)
+        {
+            System.gc();
+            try
+            {
+                Thread.sleep(100);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,80 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * TurnEvent class
+ *
+ * A Java Flight Recorder event spanning one player's move in GameEngine.takeTurn(), from the player's strategy
+ * choosing an action to the last capture retried after a tie. Turns happen millions of times a second in a
+ * simulation, so no stack trace is taken.
+ *
+ * Like every game event, a TurnEvent costs next to nothing while it is not being recorded. Until the Flight
+ * Recorder is started the engine does not start one at all, so nothing is allocated even before the JIT has
+ * compiled the engine, and the event classes are never loaded. Once it is started, end() only fills in the event
+ * and commits it if shouldCommit() says a recording wants it.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameEngine
+ * @see GameRecordingAnalyzer
+ */
+
+@Name("ito4131.Turn")
+@Label("Turn")
+@Category({"ITO4131 Field", "Game"})
+@Description("One player's move, including any captures retried after a tie")
+@StackTrace(false)
+public class TurnEvent extends jdk.jfr.Event
+{
+    @Label("Action")
+    private String action;
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("Player")
+    private String player;
+
+    @Label("Ties")
+    @Description("Captures that tied and were tried again")
+    private int ties;
+
+    @Label("Turn")
+    private int turn;
+
+    /**
+     * Begins an event.
+     *
+     * @return TurnEvent The event
+     */
+    public static TurnEvent start()
+    {
+        TurnEvent event = new TurnEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event with the result of the move, and commits it if it is being recorded.
+     *
+     * @param state The game
+     * @param result The result of the final action of the move
+     * @param ties The number of captures that tied during the move
+     */
+    public void end(GameState state, ActionResult result, int ties)
+    {
+        if (!shouldCommit())
+        {
+            return;
+        }
+        this.action = result.getAction().getType().name();
+        this.outcome = result.getOutcome().name();
+        this.player = result.getPlayer().getName();
+        this.ties = ties;
+        this.turn = state.getNumTurns();
+        commit();
+    }
+}
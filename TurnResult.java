@@ -0,0 +1,104 @@
+/**
+ * TurnResult class
+ *
+ * Records one turn of a GameSession: the remote player's action and the computer's reply, any boost each of them
+ * picked up, and both players' hearts, damage, defence and coins once the turn was over. The session fills it in
+ * while it holds its lock, so a GameConnection can describe everything the turn changed without reading the game
+ * while another connection plays on it.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameSession
+ * @see GameConnection
+ */
+
+public class TurnResult
+{
+    // Each player's stats are held in this order
+    public static final int HEARTS = 0;
+    public static final int DAMAGE = 1;
+    public static final int DEFENCE = 2;
+    public static final int COINS = 3;
+
+    private final int[] computerBoost;
+    private final ActionResult computerResult;
+    private final int[] computerStats;
+    private final boolean finished;
+    private final int[] humanBoost;
+    private final ActionResult humanResult;
+    private final int[] humanStats;
+    private final int turn;
+    private final Player winner;
+
+    /**
+     * Constructor for objects of class TurnResult
+     *
+     * @param turn The number of the turn
+     * @param humanResult The result of the remote player's action
+     * @param humanBoost The damage, defence and coins of the boost the remote player picked up, or null if none
+     * @param humanStats The remote player's hearts, damage, defence and coins after the turn
+     * @param computerResult The result of the computer's move, or null if the computer did not move
+     * @param computerBoost The damage, defence and coins of the boost the computer picked up, or null if none
+     * @param computerStats The computer's hearts, damage, defence and coins after the turn
+     * @param winner The winner of the game, or null if it has not been won
+     * @param finished Whether the game is over, won or drawn
+     */
+    public TurnResult(int turn, ActionResult humanResult, int[] humanBoost, int[] humanStats, ActionResult computerResult,
+        int[] computerBoost, int[] computerStats, Player winner, boolean finished)
+    {
+        this.turn = turn;
+        this.humanResult = humanResult;
+        this.humanBoost = humanBoost;
+        this.humanStats = humanStats;
+        this.computerResult = computerResult;
+        this.computerBoost = computerBoost;
+        this.computerStats = computerStats;
+        this.winner = winner;
+        this.finished = finished;
+    }
+
+    public int[] getComputerBoost()
+    {
+        return this.computerBoost;
+    }
+
+    public ActionResult getComputerResult()
+    {
+        return this.computerResult;
+    }
+
+    public int[] getComputerStats()
+    {
+        return this.computerStats;
+    }
+
+    public int[] getHumanBoost()
+    {
+        return this.humanBoost;
+    }
+
+    public ActionResult getHumanResult()
+    {
+        return this.humanResult;
+    }
+
+    public int[] getHumanStats()
+    {
+        return this.humanStats;
+    }
+
+    public int getTurn()
+    {
+        return this.turn;
+    }
+
+    public Player getWinner()
+    {
+        return this.winner;
+    }
+
+    public boolean isFinished()
+    {
+        return this.finished;
+    }
+}
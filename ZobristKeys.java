@@ -0,0 +1,209 @@
+/**
+ * ZobristKeys class
+ *
+ * The random 64-bit keys that a Zobrist hash of a game is built from. The hash of a game is the exclusive or of one
+ * key for each fact about it: who owns each square, which boosts are still on the grid, and each player's hearts,
+ * damage, defence and coins. Changing one fact changes the hash by one exclusive or with the old key and one with
+ * the new, and two different games are very unlikely to share a hash.
+ *
+ * Damage and defence are hashed in buckets of one point, clamped to a range no small game leaves. Coins are hashed
+ * in buckets of COIN_BUCKET_SIZE, as a few coins either way rarely changes which sabotages a player can afford, so
+ * games that differ only by a few coins share a hash. Every key is worked out from the seed and what it stands for,
+ * so the same seed always gives the same keys, on any grid size, without storing a table of them.
+ *
+ * A GameState hands its keys to its grid and players, which keep the hash up to date as the game changes, so
+ * GameState.hash() never has to work it out. hash() here works it out from scratch, to check that it matches.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see GameState
+ * @see ExpectimaxStrategy
+ */
+
+public class ZobristKeys
+{
+    public static final int COIN_BUCKET_SIZE = 250;
+    public static final long DEFAULT_SEED = 4131;
+    public static final ZobristKeys DEFAULT = new ZobristKeys(DEFAULT_SEED);
+    public static final int MAX_COIN_BUCKET = 63;
+    public static final int MAX_STAT = 31;
+    public static final int MIN_STAT = -32;
+
+    // What each key stands for, so that keys for different kinds of fact never collide
+    private static final int BOOST = 1;
+    private static final int COINS = 2;
+    private static final int DAMAGE = 3;
+    private static final int DEFENCE = 4;
+    private static final int HEARTS = 5;
+    private static final int OWNER = 6;
+    private static final int TURN = 7;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+
+    /**
+     * Constructor for objects of class ZobristKeys
+     *
+     * @param seed The seed the keys are worked out from
+     */
+    public ZobristKeys(long seed)
+    {
+        this.seed = seed;
+    }
+
+    /**
+     * Works out the key for one fact, by mixing the seed with the kind of fact and its index as SplittableRandom
+     * mixes its seed.
+     *
+     * @param kind The kind of fact
+     * @param index The fact's index within its kind
+     * @return long The key
+     */
+    private long getKey(int kind, long index)
+    {
+        long z = this.seed + (((long) kind << 56) ^ index) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the key for a boost that has not been collected.
+     *
+     * @param squareIndex The index of the boost's square
+     * @param damage The boost's damage
+     * @param defence The boost's defence
+     * @param coins The boost's coins
+     * @return long The key
+     */
+    public long getBoostKey(int squareIndex, int damage, int defence, int coins)
+    {
+        // The boost's values are part of its key, so games on grids with different boosts do not share hashes
+        return getKey(BOOST, ((long) squareIndex << 32) ^ ((long) (damage & 0xFF) << 24) ^ ((defence & 0xFF) << 16) ^ (coins & 0xFFFF));
+    }
+
+    /**
+     * Returns the key for a player's coins.
+     *
+     * @param playerIndex 0 for the player who moves first, or 1 for the player who moves second
+     * @param coins The player's coins
+     * @return long The key for the coins' bucket
+     */
+    public long getCoinsKey(int playerIndex, int coins)
+    {
+        return getKey(COINS, playerIndex * (MAX_COIN_BUCKET + 1) + Math.max(0, Math.min(MAX_COIN_BUCKET, coins / COIN_BUCKET_SIZE)));
+    }
+
+    /**
+     * Returns the key for a player's damage.
+     *
+     * @param playerIndex 0 for the player who moves first, or 1 for the player who moves second
+     * @param damage The player's damage
+     * @return long The key for the damage's bucket
+     */
+    public long getDamageKey(int playerIndex, int damage)
+    {
+        return getKey(DAMAGE, playerIndex * (MAX_STAT - MIN_STAT + 1) + getStatBucket(damage));
+    }
+
+    /**
+     * Returns the key for a player's defence.
+     *
+     * @param playerIndex 0 for the player who moves first, or 1 for the player who moves second
+     * @param defence The player's defence
+     * @return long The key for the defence's bucket
+     */
+    public long getDefenceKey(int playerIndex, int defence)
+    {
+        return getKey(DEFENCE, playerIndex * (MAX_STAT - MIN_STAT + 1) + getStatBucket(defence));
+    }
+
+    /**
+     * Returns the key for a player's hearts.
+     *
+     * @param playerIndex 0 for the player who moves first, or 1 for the player who moves second
+     * @param hearts The player's hearts
+     * @return long The key
+     */
+    public long getHeartsKey(int playerIndex, int hearts)
+    {
+        return getKey(HEARTS, ((long) playerIndex << 32) ^ (hearts & 0xFFFFFFFFL));
+    }
+
+    /**
+     * Returns the key for a player owning a square.
+     *
+     * @param squareIndex The index of the square
+     * @param playerId The owner's player id on the grid, 1 or 2
+     * @return long The key
+     */
+    public long getOwnerKey(int squareIndex, int playerId)
+    {
+        return getKey(OWNER, ((long) squareIndex << 8) | playerId);
+    }
+
+    /**
+     * Returns the key for the player to move, for a search that hashes whose move it is along with the game.
+     *
+     * @param moverIndex The index of the player to move
+     * @param mustCapture Whether the player must capture, after a tie
+     * @return long The key
+     */
+    public long getTurnKey(int moverIndex, boolean mustCapture)
+    {
+        return getKey(TURN, moverIndex * 2 + (mustCapture ? 1 : 0));
+    }
+
+    /**
+     * Returns the bucket a damage or defence is hashed in.
+     *
+     * @param stat The damage or defence
+     * @return int The bucket, from 0
+     */
+    private static int getStatBucket(int stat)
+    {
+        return Math.max(MIN_STAT, Math.min(MAX_STAT, stat)) - MIN_STAT;
+    }
+
+    /**
+     * Works out the hash of a game from scratch, from every square, boost and player stat. GameState.hash()
+     * returns the same value, kept up to date as the game is played.
+     *
+     * @param state The game
+     * @return long The hash
+     */
+    public long hash(GameState state)
+    {
+        Grid grid = state.getGrid();
+        int gridSize = grid.getGridSize();
+        long hash = 0;
+        for (int y = 1; y <= gridSize; y++)
+        {
+            for (int x = 1; x <= gridSize; x++)
+            {
+                int ownerId = grid.getSquareOwnerId(x, y);
+                if (ownerId != 0)
+                {
+                    hash ^= getOwnerKey(grid.getSquareIndex(x, y), ownerId);
+                }
+            }
+        }
+        for (int boostIndex = 0; boostIndex < grid.getNumPlacedBoosts(); boostIndex++)
+        {
+            if (!grid.isPlacedBoostCollected(boostIndex))
+            {
+                int[] boost = grid.getPlacedBoost(boostIndex);
+                hash ^= getBoostKey(grid.getSquareIndex(boost[0], boost[1]), boost[2], boost[3], boost[4]);
+            }
+        }
+        for (int playerIndex = 0; playerIndex < 2; playerIndex++)
+        {
+            Player player = state.getPlayer(playerIndex);
+            hash ^= getHeartsKey(playerIndex, player.getNumHearts());
+            hash ^= getDamageKey(playerIndex, player.getDamage());
+            hash ^= getDefenceKey(playerIndex, player.getDefence());
+            hash ^= getCoinsKey(playerIndex, player.getCoins());
+        }
+        return hash;
+    }
+}